@@ -0,0 +1,182 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms provided by IBM in the LICENSE file that accompanied
+ * this code, including the "Classpath" Exception described therein.
+ */
+
+package com.ibm.crypto.plus.provider;
+
+import com.ibm.crypto.plus.provider.base.GCMCipher;
+import com.ibm.crypto.plus.provider.base.NativeException;
+import java.nio.ByteBuffer;
+import java.security.InvalidAlgorithmParameterException;
+import java.security.InvalidKeyException;
+import java.security.Provider;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import javax.crypto.AEADBadTagException;
+import javax.crypto.SecretKey;
+
+/**
+ * Encrypts or decrypts batches of independent AES/GCM/NoPadding messages, each
+ * with its own key, IV and AAD, in a single native call. This is meant for
+ * workloads such as record protocols or message queues that handle many small
+ * messages, where the per message cost of a {@link javax.crypto.Cipher}
+ * dominates; a {@code Cipher} is better suited for single or large messages.
+ *
+ * <p>Each ciphertext is the encrypted message followed by the tag, as produced
+ * by a {@code Cipher}. An instance may be used by several threads at the same
+ * time.
+ */
+public final class AESGCMBatch implements GCMConstants {
+
+    private final GCMCipher gcmCipher;
+
+    private final int tagLenInBytes;
+
+    /**
+     * Creates a batch cipher using tags of 128 bits.
+     *
+     * @param provider the provider to use, which must be an instance of an
+     *            OpenJCEPlus provider offering AES/GCM/NoPadding
+     */
+    public AESGCMBatch(Provider provider) {
+        this(provider, DEFAULT_TAG_LENGTH);
+    }
+
+    /**
+     * Creates a batch cipher using tags of the given length.
+     *
+     * @param provider the provider to use, which must be an instance of an
+     *            OpenJCEPlus provider offering AES/GCM/NoPadding
+     * @param tagLen the tag length in bits, one of 128, 120, 112, 104 or 96
+     */
+    public AESGCMBatch(Provider provider, int tagLen) {
+        if (!(provider instanceof OpenJCEPlusProvider openJCEPlusProvider)
+                || (provider.getService("Cipher", "AES/GCM/NoPadding") == null)) {
+            throw new IllegalArgumentException("The provider does not support AES/GCM/NoPadding");
+        }
+        if (Arrays.stream(GCM_TAG_LENGTHS).noneMatch(length -> length == tagLen)) {
+            throw new IllegalArgumentException("Unsupported TLen value " + tagLen);
+        }
+        try {
+            this.gcmCipher = new GCMCipher(openJCEPlusProvider);
+        } catch (NativeException e) {
+            throw openJCEPlusProvider.providerException("Failure in creating AESGCMBatch", e);
+        }
+        this.tagLenInBytes = tagLen / 8;
+    }
+
+    /**
+     * Encrypts a batch of messages. The arrays must all have the same length,
+     * and element i of each array belongs to message i. Consecutive messages
+     * using the same key instance share a single copy of the key encoding.
+     *
+     * @param keys the AES keys
+     * @param ivs the IVs, which must not be repeated for the same key
+     * @param aads the additional authenticated data, or null if there is none;
+     *            null elements are treated as empty
+     * @param plaintexts the messages to encrypt
+     * @return the ciphertexts, each followed by its tag
+     * @throws InvalidKeyException if a key is not a valid AES key
+     * @throws InvalidAlgorithmParameterException if a key and IV pair is used
+     *             more than once in the batch
+     */
+    public byte[][] encrypt(SecretKey[] keys, byte[][] ivs, byte[][] aads, byte[][] plaintexts)
+            throws InvalidKeyException, InvalidAlgorithmParameterException {
+        byte[][] keyEncodings = getKeyEncodings(keys);
+        try {
+            // The same key and IV must never be used twice for encryption.
+            if (ivs.length != keyEncodings.length) {
+                throw new IllegalArgumentException("The number of keys and IVs differ");
+            }
+            Set<ByteBuffer> keyIvs = new HashSet<>();
+            for (int i = 0; i < keyEncodings.length; i++) {
+                if (ivs[i] == null) {
+                    throw new IllegalArgumentException("IV is null");
+                }
+                byte[] keyIv = Arrays.copyOf(keyEncodings[i], keyEncodings[i].length + ivs[i].length);
+                System.arraycopy(ivs[i], 0, keyIv, keyEncodings[i].length, ivs[i].length);
+                if (!keyIvs.add(ByteBuffer.wrap(keyIv))) {
+                    throw new InvalidAlgorithmParameterException(
+                            "Cannot reuse iv for AESGCM encryption");
+                }
+            }
+            return gcmCipher.doGCMBatch(true, keyEncodings, ivs, aads, plaintexts, tagLenInBytes);
+        } catch (AEADBadTagException e) {
+            // Not expected when encrypting.
+            throw new IllegalStateException(e);
+        } catch (NativeException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        } finally {
+            clear(keyEncodings);
+        }
+    }
+
+    /**
+     * Decrypts a batch of messages. The arrays must all have the same length,
+     * and element i of each array belongs to message i. If any message fails
+     * to decrypt, no plaintext is returned.
+     *
+     * @param keys the AES keys
+     * @param ivs the IVs
+     * @param aads the additional authenticated data, or null if there is none;
+     *            null elements are treated as empty
+     * @param ciphertexts the ciphertexts, each followed by its tag
+     * @return the plaintexts
+     * @throws InvalidKeyException if a key is not a valid AES key
+     * @throws AEADBadTagException if a message is too short or its tag does not
+     *             match
+     */
+    public byte[][] decrypt(SecretKey[] keys, byte[][] ivs, byte[][] aads, byte[][] ciphertexts)
+            throws InvalidKeyException, AEADBadTagException {
+        byte[][] keyEncodings = getKeyEncodings(keys);
+        try {
+            return gcmCipher.doGCMBatch(false, keyEncodings, ivs, aads, ciphertexts, tagLenInBytes);
+        } catch (NativeException e) {
+            AEADBadTagException abte = new AEADBadTagException(e.getMessage());
+            abte.initCause(e);
+            throw abte;
+        } finally {
+            clear(keyEncodings);
+        }
+    }
+
+    private static byte[][] getKeyEncodings(SecretKey[] keys) throws InvalidKeyException {
+        byte[][] keyEncodings = new byte[keys.length][];
+        for (int i = 0; i < keys.length; i++) {
+            SecretKey key = keys[i];
+            if ((i > 0) && (key == keys[i - 1])) {
+                keyEncodings[i] = keyEncodings[i - 1];
+                continue;
+            }
+            if (key == null) {
+                clear(keyEncodings);
+                throw new InvalidKeyException("Key missing");
+            }
+            if (!"AES".equalsIgnoreCase(key.getAlgorithm())
+                    || !"RAW".equalsIgnoreCase(key.getFormat())) {
+                clear(keyEncodings);
+                throw new InvalidKeyException("Wrong algorithm: AES required");
+            }
+            byte[] encoding = key.getEncoded();
+            if ((encoding == null) || !AESUtils.isKeySizeValid(encoding.length)) {
+                clear(keyEncodings);
+                throw new InvalidKeyException("Invalid AES key length");
+            }
+            keyEncodings[i] = encoding;
+        }
+        return keyEncodings;
+    }
+
+    private static void clear(byte[][] keyEncodings) {
+        for (byte[] encoding : keyEncodings) {
+            if (encoding != null) {
+                Arrays.fill(encoding, (byte) 0);
+            }
+        }
+    }
+}
@@ -10,6 +10,7 @@ package com.ibm.crypto.plus.provider;
 
 import com.ibm.crypto.plus.provider.base.GCMCipher;
 import com.ibm.crypto.plus.provider.base.NativeException;
+import com.ibm.crypto.plus.provider.base.NativeInterface;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.security.AlgorithmParameters;
@@ -54,6 +55,10 @@ public final class AESGCMCipher extends CipherSpi implements AESConstants, GCMCo
     private byte[] authData = null;
     private boolean updateCalled = false;
 
+    // Number of bytes given to engineUpdate since the cipher was initialized
+    // or last finished, for CryptoOperationEvent.
+    private long updateInputLength = 0;
+
     // Java 8 Cipher.class documentation does not require that an cipher.init is
     // called between successive encryption or decryption. However it requires
     // prior IV+ Key cannot be used. Since it is not feasible to maintain a history
@@ -137,13 +142,14 @@ public final class AESGCMCipher extends CipherSpi implements AESConstants, GCMCo
     private byte[] lastEncIv = null;
 
     public AESGCMCipher(OpenJCEPlusProvider provider) {
-        this.provider = provider;
+        this(provider, provider.getNativeInterface("Cipher", "AES/GCM/NoPadding"));
+    }
 
-        try {
-            this.gcmCipher = new GCMCipher(provider);
-        } catch (NativeException ne) {
-            throw provider.providerException("Failure in creating AESGCMCipher", ne);
-        }
+    // Used by OpenJCEPlusService, which passes the native backend it resolved
+    // for the service so that the cipher does not look it up.
+    AESGCMCipher(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
+        this.provider = provider;
+        this.gcmCipher = new GCMCipher(provider, nativeInterface);
 
         buffer = new byte[AES_BLOCK_SIZE * 2];
         this.provider.registerCleanable(this, cleanOCKResources(Key));
@@ -152,6 +158,18 @@ public final class AESGCMCipher extends CipherSpi implements AESConstants, GCMCo
     @Override
     protected byte[] engineDoFinal(byte[] input, int inputOffset, int inputLen)
             throws IllegalBlockSizeException, BadPaddingException, AEADBadTagException {
+        CryptoOperation event = CryptoOperation.start();
+        long inputLength = updateInputLength + inputLen;
+        byte[] output = doFinal(input, inputOffset, inputLen);
+        if (event != null) {
+            event.end(provider, this, encrypting ? "encrypt" : "decrypt",
+                    Key.getValue().length * 8, inputLength);
+        }
+        return output;
+    }
+
+    private byte[] doFinal(byte[] input, int inputOffset, int inputLen)
+            throws IllegalBlockSizeException, BadPaddingException, AEADBadTagException {
         //final String methodName = "byte[] enginedoFinal";
 
         if (!initialized) {
@@ -216,7 +234,7 @@ public final class AESGCMCipher extends CipherSpi implements AESConstants, GCMCo
                 }
             }
 
-            int outputLen = engineDoFinal(input, inputOffset, inputLen, output, 0);
+            int outputLen = doFinal(input, inputOffset, inputLen, output, 0);
             resetVars(false);
             if (outputLen < output.length) {
                 byte[] out = Arrays.copyOfRange(output, 0, outputLen);
@@ -257,6 +275,19 @@ public final class AESGCMCipher extends CipherSpi implements AESConstants, GCMCo
     protected int engineDoFinal(byte[] input, int inputOffset, int inputLen, byte[] output,
             int outputOffset)
             throws ShortBufferException, IllegalBlockSizeException, BadPaddingException {
+        CryptoOperation event = CryptoOperation.start();
+        long inputLength = updateInputLength + inputLen;
+        int outputLen = doFinal(input, inputOffset, inputLen, output, outputOffset);
+        if (event != null) {
+            event.end(provider, this, encrypting ? "encrypt" : "decrypt",
+                    Key.getValue().length * 8, inputLength);
+        }
+        return outputLen;
+    }
+
+    private int doFinal(byte[] input, int inputOffset, int inputLen, byte[] output,
+            int outputOffset)
+            throws ShortBufferException, IllegalBlockSizeException, BadPaddingException {
         //final String methodName = "engineDoFinal";
         if (!initialized) {
             throw new IllegalStateException("Cipher has not been initialized");
@@ -377,6 +408,107 @@ public final class AESGCMCipher extends CipherSpi implements AESConstants, GCMCo
         }
     }
 
+    /*
+     * When both buffers are direct and no data has been buffered by prior update
+     * calls, the native addresses of the buffers are handed to OCK so that neither
+     * the input nor the output is copied through the Java heap. All other cases
+     * are handled by the array based implementation inherited from CipherSpi.
+     */
+    @Override
+    protected int engineDoFinal(ByteBuffer input, ByteBuffer output)
+            throws ShortBufferException, IllegalBlockSizeException, BadPaddingException {
+        if (!initialized) {
+            throw new IllegalStateException("Cipher has not been initialized");
+        }
+        checkReinit();
+
+        if (updateCalled || !input.isDirect() || !output.isDirect() || output.isReadOnly()
+                || !GCMCipher.isDirectBufferEligible(Key.getValue().length, IV.length,
+                        (authData != null) ? authData.length : 0, tagLenInBytes)) {
+            return super.engineDoFinal(input, output);
+        }
+
+        CryptoOperation event = CryptoOperation.start();
+        int inputLen = input.remaining();
+        int outputLen = doFinalDirect(input, output);
+        if (event != null) {
+            event.end(provider, this, encrypting ? "encrypt" : "decrypt",
+                    Key.getValue().length * 8, inputLen);
+        }
+        return outputLen;
+    }
+
+    private int doFinalDirect(ByteBuffer input, ByteBuffer output)
+            throws ShortBufferException, IllegalBlockSizeException, BadPaddingException {
+        int inputLen = input.remaining();
+        try {
+            int ret;
+            if (encrypting) {
+                if (output.remaining() < inputLen + tagLenInBytes) {
+                    throw new ShortBufferException(
+                            "Output buffer is not long enough to contain ciphertext and tag");
+                }
+
+                /*
+                 * switch to the newly generated IV only at this point, need to keep the old IV
+                 * around since getIV() might be called up to this point
+                 */
+                if (generateIV && newIV != null) {
+                    IV = newIV.clone();
+                    newIV = null;
+                }
+                if ((!sbeInLastFinalEncrypt) && encrypting && !initCalledInEncSeq) {
+                    boolean sameKeyIv = checkKeyAndNonce(Key.getValue(), IV, lastEncKey, lastEncIv);
+                    if (sameKeyIv) {
+                        resetVars(true);
+                        throw new IllegalStateException("Cannot reuse iv for AESGCM encryption");
+                    }
+                }
+
+                ret = this.gcmCipher.doGCMFinal_Encrypt(Key.getValue(), IV, tagLenInBytes, input,
+                        output, authData);
+                authData = null; // Before returning from doFinal(), restore AAD to uninitialized state
+
+                if (generateIV) {
+                    /*
+                     * Generate the next internal AES-GCM initialization vector per NIST SP 800-38D
+                     */
+                    newIV = generateInternalIV(false).clone();
+                }
+            } else {
+                // decrypting
+                if (inputLen < tagLenInBytes) {
+                    throw new AEADBadTagException("Input too short - need tag");
+                }
+
+                if (output.remaining() < (inputLen - tagLenInBytes)) {
+                    throw new ShortBufferException("Output buffer too small");
+                }
+
+                ret = this.gcmCipher.doGCMFinal_Decrypt(Key.getValue(), IV, tagLenInBytes, input,
+                        output, authData);
+                authData = null; // Before returning from doFinal(), restore AAD to uninitialized state
+            }
+            input.position(input.limit());
+            output.position(output.position() + ret);
+            return ret;
+        } catch (BadPaddingException | IllegalBlockSizeException bpe) {
+            resetVars(true);
+            throw bpe;
+        } catch (ShortBufferException sbe) {
+            sbeInLastFinalEncrypt = encrypting;
+            throw sbe;
+        } catch (NativeException ock_excp) {
+            resetVars(true);
+            AEADBadTagException tagexcp = new AEADBadTagException(ock_excp.getMessage());
+            provider.setExceptionCause(tagexcp, ock_excp);
+            throw tagexcp;
+        } catch (Exception e) {
+            resetVars(true);
+            throw provider.providerException("Failure in engineDoFinal", e);
+        }
+    }
+
     private byte[] doFinalForUpdates(byte[] input, int inputOffset, int inputLen)
             throws IllegalBlockSizeException, BadPaddingException, AEADBadTagException,
             IllegalStateException, NativeException {
@@ -731,6 +863,7 @@ public final class AESGCMCipher extends CipherSpi implements AESConstants, GCMCo
             this.initCalledInEncSeq = true;
             this.authData = null; // Before returning from internalInit(), restore AAD to uninitialized state
             this.updateCalled = false;
+            this.updateInputLength = 0;
             this.sbeInLastFinalEncrypt = false;
             this.sbeInLastUpdateEncrypt = false;
             this.buffered = 0;
@@ -844,6 +977,7 @@ public final class AESGCMCipher extends CipherSpi implements AESConstants, GCMCo
             throw this.provider.providerException("Unable to perform update", e);
         }
         updateCalled = true;
+        updateInputLength += inputLen;
         return updateBytes;
     }
 
@@ -871,6 +1005,7 @@ public final class AESGCMCipher extends CipherSpi implements AESConstants, GCMCo
                     e);
         }
         updateCalled = true;
+        updateInputLength += inputLen;
         return retcode;
     }
 
@@ -889,7 +1024,9 @@ public final class AESGCMCipher extends CipherSpi implements AESConstants, GCMCo
 
         try {
             //Needs to account for buffered. JIRA-48,  IJ47669
-            byte[] output = new byte[inputLen + buffered];
+            // Allocate exactly what this update produces, decryption holds back
+            // the bytes that may belong to the tag.
+            byte[] output = new byte[getUpdateOutputSize(inputLen)];
 
             // OCKDebug.Msg(debPrefix, methodName, "calling doUpdate after allocating output
             // buffer");
@@ -936,14 +1073,7 @@ public final class AESGCMCipher extends CipherSpi implements AESConstants, GCMCo
         // OCKDebug.Msg(debPrefix, methodName, "buffered = " + buffered + " inoutLen=" +
         // inputLen + " minBytes = " + minBytes + " block size = " + blockSize +
         // "unitBytes=" + unitBytes);
-        int len = Math.addExact(buffered, inputLen);
-
-        if (!encrypting) {
-            len -= blockSize;
-        }
-        // OCKDebug.Msg(debPrefix, methodName, "len = " + len + "len%unitBytes=" + (len
-        // % unitBytes));
-        len = (len > 0 ? (len - (len % unitBytes)) : 0);
+        int len = getUpdateOutputSize(inputLen);
         // OCKDebug.Msg(debPrefix, methodName, "len = " + len);
 
         if ((output == null) || ((output.length - outputOffset) < len)) {
@@ -1127,6 +1257,22 @@ public final class AESGCMCipher extends CipherSpi implements AESConstants, GCMCo
     }
 
 
+    /*
+     * Returns the number of bytes an update with the given input length
+     * produces. Whole units are processed as soon as they are available; when
+     * decrypting, the last block is held back since it may be part of the tag.
+     * Plaintext is therefore returned before the tag is verified by doFinal,
+     * and the memory used does not depend on the length of the ciphertext.
+     */
+    private int getUpdateOutputSize(int inputLen) {
+        int len = Math.addExact(buffered, inputLen);
+
+        if (!encrypting) {
+            len -= blockSize;
+        }
+        return (len > 0 ? (len - (len % unitBytes)) : 0);
+    }
+
 
     /**
      * Returns the key size of the given key object.
@@ -1397,6 +1543,7 @@ public final class AESGCMCipher extends CipherSpi implements AESConstants, GCMCo
         }
         initCalledInEncSeq = false;
         updateCalled = false;
+        updateInputLength = 0;
         sbeInLastUpdateEncrypt = false;
         this.buffered = 0;
         Arrays.fill(buffer, (byte) 0x0);
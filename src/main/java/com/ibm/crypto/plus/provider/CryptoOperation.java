@@ -0,0 +1,68 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms provided by IBM in the LICENSE file that accompanied
+ * this code, including the "Classpath" Exception described therein.
+ */
+
+package com.ibm.crypto.plus.provider;
+
+import java.security.Key;
+
+/**
+ * A cryptographic operation being recorded as a {@link CryptoOperationEvent}.
+ * Engines only refer to this type, so that they do not depend on the optional
+ * {@code jdk.jfr} module:
+ *
+ * <pre>
+ *     CryptoOperation event = CryptoOperation.start();
+ *     ... the operation ...
+ *     if (event != null) {
+ *         event.end(provider, this, "sign", key, inputLength);
+ *     }
+ * </pre>
+ */
+interface CryptoOperation {
+
+    /**
+     * Returns a started operation, or null if nothing is recorded because the
+     * event is not enabled or the {@code jdk.jfr} module is not present.
+     */
+    static CryptoOperation start() {
+        return Recorder.available ? CryptoOperationEvent.start() : null;
+    }
+
+    /**
+     * Ends the operation and records it if it took longer than the threshold of
+     * the event. The size of the key is only determined if it is recorded.
+     */
+    void end(OpenJCEPlusProvider provider, Object engine, String operation, Key key,
+            long inputLength);
+
+    /**
+     * Ends the operation and records it if it took longer than the threshold of
+     * the event.
+     */
+    void end(OpenJCEPlusProvider provider, Object engine, String operation, int keySize,
+            long inputLength);
+
+    /**
+     * Checks once whether {@link CryptoOperationEvent} can be loaded.
+     */
+    static final class Recorder {
+        static final boolean available = isAvailable();
+
+        private Recorder() {
+        }
+
+        private static boolean isAvailable() {
+            try {
+                CryptoOperationEvent.start();
+                return true;
+            } catch (LinkageError e) {
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms provided by IBM in the LICENSE file that accompanied
+ * this code, including the "Classpath" Exception described therein.
+ */
+
+package com.ibm.crypto.plus.provider;
+
+import com.ibm.crypto.plus.provider.base.NativeCryptoSelector;
+import java.security.Key;
+import java.security.Provider.Service;
+import java.security.spec.NamedParameterSpec;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * A JFR event recording a cryptographic operation, such as a digest, a
+ * signature or a key agreement, that took longer than the threshold of the
+ * event. The duration of the event is the duration of the operation.
+ *
+ * <p>Engines only use this class through {@link CryptoOperation#start()}, so
+ * that nothing but a check of whether the event is enabled is done when it is
+ * not, and nothing at all when the {@code jdk.jfr} module is not present.
+ */
+@Name("com.ibm.crypto.plus.CryptoOperation")
+@Label("Cryptographic Operation")
+@Category({"OpenJCEPlus"})
+@Description("A cryptographic operation of the OpenJCEPlus providers")
+@Threshold("20 ms")
+final class CryptoOperationEvent extends Event implements CryptoOperation {
+
+    // Only used to check whether the event is enabled.
+    private static final CryptoOperationEvent probe = new CryptoOperationEvent();
+
+    @Label("Service Type")
+    String type;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Key Size")
+    @Description("Size of the key in bits, 0 if not applicable")
+    int keySize;
+
+    @Label("Input Length")
+    @DataAmount
+    long inputLength;
+
+    @Label("Backend")
+    String backend;
+
+    /**
+     * Returns a started event, or null if the event is not enabled.
+     */
+    static CryptoOperationEvent start() {
+        if (!probe.isEnabled()) {
+            return null;
+        }
+        CryptoOperationEvent event = new CryptoOperationEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void end(OpenJCEPlusProvider provider, Object engine, String operation, Key key,
+            long inputLength) {
+        end();
+        if (shouldCommit()) {
+            this.keySize = getKeySize(key);
+            commit(provider, engine, operation, inputLength);
+        }
+    }
+
+    @Override
+    public void end(OpenJCEPlusProvider provider, Object engine, String operation, int keySize,
+            long inputLength) {
+        end();
+        if (shouldCommit()) {
+            this.keySize = keySize;
+            commit(provider, engine, operation, inputLength);
+        }
+    }
+
+    private void commit(OpenJCEPlusProvider provider, Object engine, String operation,
+            long inputLength) {
+        this.operation = operation;
+        this.inputLength = inputLength;
+        Service service = provider.getServiceOf(engine);
+        if (service != null) {
+            this.type = service.getType();
+            this.algorithm = service.getAlgorithm();
+            try {
+                NativeCryptoSelector.Backend backendType = NativeCryptoSelector.getBackendType(
+                        provider.getNativeInterface(this.type, this.algorithm));
+                this.backend = (backendType == null) ? null : backendType.name();
+            } catch (RuntimeException e) {
+                // The backend is left out of the event.
+            }
+        } else {
+            this.algorithm = engine.getClass().getSimpleName();
+        }
+        commit();
+    }
+
+    private static int getKeySize(Key key) {
+        if (key instanceof java.security.interfaces.RSAKey rsaKey) {
+            return rsaKey.getModulus().bitLength();
+        } else if (key instanceof java.security.interfaces.ECKey ecKey) {
+            return ecKey.getParams().getCurve().getField().getFieldSize();
+        } else if (key instanceof java.security.interfaces.DSAKey dsaKey) {
+            return (dsaKey.getParams() == null) ? 0 : dsaKey.getParams().getP().bitLength();
+        } else if (key instanceof javax.crypto.interfaces.DHKey dhKey) {
+            return dhKey.getParams().getP().bitLength();
+        } else if (key instanceof java.security.interfaces.XECKey xecKey) {
+            return getCurveSize(xecKey.getParams());
+        } else if (key instanceof java.security.interfaces.EdECKey edecKey) {
+            return getCurveSize(edecKey.getParams());
+        }
+        return 0;
+    }
+
+    private static int getCurveSize(Object params) {
+        if (params instanceof NamedParameterSpec namedParams) {
+            String name = namedParams.getName();
+            if (name.endsWith("25519")) {
+                return 255;
+            } else if (name.endsWith("448")) {
+                return 448;
+            }
+        }
+        return 0;
+    }
+}
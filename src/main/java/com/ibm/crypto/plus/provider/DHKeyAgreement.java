@@ -128,6 +128,15 @@ public final class DHKeyAgreement extends KeyAgreementSpi {
             throw new IllegalStateException("Wrong state");
         }
 
+        CryptoOperation event = CryptoOperation.start();
+        byte[] secret = computeSecret();
+        if (event != null) {
+            event.end(provider, this, "generateSecret", init_p.bitLength(), 0);
+        }
+        return secret;
+    }
+
+    private byte[] computeSecret() {
         // Reset the key agreement here (in case anything goes wrong)
         generateSecret = false;
         byte[] secret = null;
@@ -153,8 +162,18 @@ public final class DHKeyAgreement extends KeyAgreementSpi {
             }
             synchronized (locker1) {
                 synchronized (locker2) {
-                    secret = DHKey.computeDHSecret(this.nativeInterface,
-                            ockDHKeyPub.getDHKeyId(), ockDHKeyPriv.getDHKeyId());
+                    ockDHKeyPub.beginUse();
+                    try {
+                        ockDHKeyPriv.beginUse();
+                        try {
+                            secret = DHKey.computeDHSecret(this.nativeInterface,
+                                    ockDHKeyPub.getDHKeyId(), ockDHKeyPriv.getDHKeyId());
+                        } finally {
+                            ockDHKeyPriv.endUse();
+                        }
+                    } finally {
+                        ockDHKeyPub.endUse();
+                    }
                 }
             }
         } catch (NativeException e) {
@@ -109,6 +109,15 @@ public final class DHKeyPairGenerator extends KeyPairGeneratorSpi {
 
     @Override
     public KeyPair generateKeyPair() {
+        CryptoOperation event = CryptoOperation.start();
+        KeyPair keyPair = generateKeyPairImpl();
+        if (event != null) {
+            event.end(provider, this, "generateKeyPair", keyPair.getPublic(), 0);
+        }
+        return keyPair;
+    }
+
+    private KeyPair generateKeyPairImpl() {
         try {
             DHKey dhKey;
 
@@ -93,6 +93,7 @@ final class DHPrivateKey extends PKCS8Key implements javax.crypto.interfaces.DHP
             this.key = new DerValue(DerValue.tag_Integer, this.x.toByteArray()).toByteArray();
             this.encodedKey = getEncoded();
             this.dhKey = DHKey.createPrivateKey(encodedKey, provider);
+            this.dhKey.retain();
         } catch (NativeException e) {
             throw new InvalidKeyException("Failure in DHPrivateKey");
         }
@@ -107,6 +108,7 @@ final class DHPrivateKey extends PKCS8Key implements javax.crypto.interfaces.DHP
             convertOCKPrivateKeyBytes(dhKey.getPrivateKeyBytes());
 
             this.dhKey = dhKey;
+            this.dhKey.retain();
         } catch (Exception exception) {
             throw provider.providerException("Failure in DHPrivateKey", exception);
         }
@@ -122,6 +124,7 @@ final class DHPrivateKey extends PKCS8Key implements javax.crypto.interfaces.DHP
             buildOCKPrivateKeyBytes();
             this.dhKey = DHKey.createPrivateKey(
                     encoded /*privateKeyBytes*/, provider);
+            this.dhKey.retain();
         } catch (Exception e) {
             throw new InvalidKeyException("Failure in DHPrivateKey");
         }
@@ -375,6 +378,7 @@ final class DHPrivateKey extends PKCS8Key implements javax.crypto.interfaces.DHP
             if (this.key != null) {
                 Arrays.fill(this.key, (byte) 0x00);
             }
+            this.dhKey.release();
             this.dhKey = null;
             this.x = null;
             dhParams = null;
@@ -98,6 +98,7 @@ final class DHPublicKey extends X509Key
             this.provider = provider;
             convertOCKPublicKeyBytes(dhKey.getPublicKeyBytes());
             this.dhKey = dhKey;
+            this.dhKey.retain();
             parseKeyBits();
         } catch (Exception exception) {
             throw provider.providerException("Failure in DHPublicKey", exception);
@@ -121,6 +122,7 @@ final class DHPublicKey extends X509Key
 
             this.dhKey = DHKey.createPublicKey(
                     /* publicKeyBytes */ this.encodedKey, provider);
+            this.dhKey.retain();
 
             // System.err.println("Afte OCK: " + ECUtils.bytesToHex(this.key));
 
@@ -364,6 +366,7 @@ final class DHPublicKey extends X509Key
         if (!destroyed) {
             destroyed = true;
             setKey(new BitArray(0));
+            this.dhKey.release();
             this.dhKey = null;
             this.y = null;
             this.dhParams = null;
@@ -131,6 +131,15 @@ public final class DSAKeyPairGenerator extends KeyPairGenerator
     }
 
     public KeyPair generateKeyPair() {
+        CryptoOperation event = CryptoOperation.start();
+        KeyPair keyPair = generateKeyPairImpl();
+        if (event != null) {
+            event.end(provider, this, "generateKeyPair", keyPair.getPublic(), 0);
+        }
+        return keyPair;
+    }
+
+    private KeyPair generateKeyPairImpl() {
         try {
             DSAKey dsaKey;
 
@@ -65,6 +65,7 @@ final class DSAPrivateKey extends PKCS8Key
         try {
             byte[] privateKeyBytes = buildOCKPrivateKeyBytes();
             this.dsaKey = DSAKey.createPrivateKey(privateKeyBytes, provider);
+            this.dsaKey.retain();
         } catch (Exception exception) {
             throw new InvalidKeyException("Failed to create DSA private key",
                     exception);
@@ -85,6 +86,7 @@ final class DSAPrivateKey extends PKCS8Key
             parseKeyBits();
             byte[] privateKeyBytes = buildOCKPrivateKeyBytes();
             this.dsaKey = DSAKey.createPrivateKey(privateKeyBytes, provider);
+            this.dsaKey.retain();
         } catch (Exception exception) {
             throw new InvalidKeyException("Failed to create DSA private key",
                     exception);
@@ -98,6 +100,7 @@ final class DSAPrivateKey extends PKCS8Key
             this.privKeyMaterial = convertOCKPrivateKeyBytes(dsaKey.getPrivateKeyBytes());
 
             this.dsaKey = dsaKey;
+            this.dsaKey.retain();
             parseKeyBits();
         } catch (Exception exception) {
             throw new InvalidKeyException("Failed to create DSA private key",
@@ -224,6 +227,7 @@ final class DSAPrivateKey extends PKCS8Key
             if (this.privKeyMaterial != null) {
                 Arrays.fill(this.privKeyMaterial, (byte) 0x00);
             }
+            this.dsaKey.release();
             this.dsaKey = null;
             this.x = null;
         }
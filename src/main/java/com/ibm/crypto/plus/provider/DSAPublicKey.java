@@ -67,6 +67,7 @@ final class DSAPublicKey extends X509Key
         try {
             byte[] publicKeyBytes = buildOCKPublicKeyBytes();
             this.dsaKey = DSAKey.createPublicKey(publicKeyBytes, provider);
+            this.dsaKey.retain();
         } catch (Exception exception) {
             throw new InvalidKeyException("Failed to create DSA public key", exception);
         }
@@ -86,6 +87,7 @@ final class DSAPublicKey extends X509Key
         try {
             byte[] publicKeyBytes = buildOCKPublicKeyBytes();
             this.dsaKey = DSAKey.createPublicKey(publicKeyBytes, provider);
+            this.dsaKey.retain();
         } catch (Exception exception) {
             throw new InvalidKeyException("Failed to create DSA public key", exception);
         }
@@ -100,6 +102,7 @@ final class DSAPublicKey extends X509Key
             byte[] keyArray = convertOCKPublicKeyBytes(dsaKey.getPublicKeyBytes());
             setKey(new BitArray(keyArray.length * 8, keyArray));
             this.dsaKey = dsaKey;
+            this.dsaKey.retain();
             parseKeyBits();
         } catch (Exception exception) {
             throw new InvalidKeyException("Failed to create DSA public key",
@@ -237,6 +240,7 @@ final class DSAPublicKey extends X509Key
         if (!destroyed) {
             destroyed = true;
             setKey(new BitArray(0));
+            this.dsaKey.release();
             this.dsaKey = null;
             this.y = null;
         }
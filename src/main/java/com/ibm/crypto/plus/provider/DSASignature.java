@@ -14,6 +14,7 @@ import java.security.AlgorithmParameters;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.InvalidParameterException;
+import java.security.Key;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.SignatureException;
@@ -24,6 +25,10 @@ abstract class DSASignature extends SignatureSpi {
 
     private OpenJCEPlusProvider provider = null;
     private Signature signature = null;
+    // The key and the number of bytes processed since initialization, for
+    // CryptoOperationEvent.
+    private Key key = null;
+    private long inputLength = 0;
 
     DSASignature(OpenJCEPlusProvider provider, String ockDigestAlgo) {
         try {
@@ -43,6 +48,8 @@ abstract class DSASignature extends SignatureSpi {
 
         try {
             this.signature.initialize(dsaPublic.getOCKKey(), false);
+            this.key = dsaPublic;
+            this.inputLength = 0;
         } catch (Exception e) {
             throw provider.providerException("Failure in engineInitVerify", e);
         }
@@ -60,6 +67,8 @@ abstract class DSASignature extends SignatureSpi {
         }
         try {
             this.signature.initialize(dsaPrivate.getOCKKey(), false);
+            this.key = dsaPrivate;
+            this.inputLength = 0;
         } catch (Exception e) {
             throw provider.providerException("Failure in engineInitSign", e);
         }
@@ -75,6 +84,7 @@ abstract class DSASignature extends SignatureSpi {
     protected void engineUpdate(byte[] b, int off, int len) throws SignatureException {
         try {
             this.signature.update(b, off, len);
+            this.inputLength += len;
         } catch (Exception e) {
             throw new SignatureException("Failure in engineUpdate", e);
         }
@@ -82,24 +92,40 @@ abstract class DSASignature extends SignatureSpi {
 
     @Override
     protected byte[] engineSign() throws SignatureException {
+        CryptoOperation event = CryptoOperation.start();
+        byte[] sigBytes;
         try {
-            return this.signature.sign();
+            sigBytes = this.signature.sign();
         } catch (Exception e) {
+            inputLength = 0;
             throw new SignatureException("Could not sign data", e);
         }
+        if (event != null) {
+            event.end(provider, this, "sign", key, inputLength);
+        }
+        inputLength = 0;
+        return sigBytes;
     }
 
     @Override
     protected boolean engineVerify(byte[] sigBytes) throws SignatureException {
+        CryptoOperation event = CryptoOperation.start();
+        boolean verified;
         try {
-            return this.signature.verify(sigBytes);
+            verified = this.signature.verify(sigBytes);
         } catch (Exception e) {
             if (e.getMessage().equals("nested asn1 error")) {
+                inputLength = 0;
                 throw new SignatureException(new EOFException(e.getMessage()));
             }
             // return false rather than throwing exception
-            return false;
+            verified = false;
+        }
+        if (event != null) {
+            event.end(provider, this, "verify", key, inputLength);
         }
+        inputLength = 0;
+        return verified;
     }
 
     @Deprecated
@@ -9,6 +9,7 @@
 package com.ibm.crypto.plus.provider;
 
 import com.ibm.crypto.plus.provider.base.ECKey;
+import com.ibm.crypto.plus.provider.base.NativeInterface;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.security.InvalidKeyException;
@@ -33,10 +34,17 @@ public final class DatawithECDSA extends SignatureSpi {
     private int dataSize = 0;
     private int maxDigestLength = 0;
     private ECKey ecKey = null;
+    // Native backend of the NONEwithECDSA service
+    private final NativeInterface nativeInterface;
 
     public DatawithECDSA(OpenJCEPlusProvider provider)
             throws NoSuchAlgorithmException, NoSuchProviderException {
+        this(provider, provider.getNativeInterface("Signature", "NONEwithECDSA"));
+    }
+
+    DatawithECDSA(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
         this.provider = provider;
+        this.nativeInterface = nativeInterface;
     }
 
     @Deprecated
@@ -97,7 +105,7 @@ public final class DatawithECDSA extends SignatureSpi {
             }
 
             byte[] signature = ECKey.signDatawithECDSA(this.data,
-                    this.dataSize, this.ecKey, provider);
+                    this.dataSize, this.ecKey, nativeInterface);
 
             // System.out.println ("signature " + data.length + " dataSize =" +
             // dataSize );
@@ -159,7 +167,7 @@ public final class DatawithECDSA extends SignatureSpi {
     protected boolean engineVerify(byte[] sigBytes) throws SignatureException {
         try {
             return ECKey.verifyDatawithECDSA(this.data, this.dataSize,
-                    sigBytes, sigBytes.length, this.ecKey, provider);
+                    sigBytes, sigBytes.length, this.ecKey, nativeInterface);
         } catch (Exception e) {
             // return false rather than throwing exception
             return false;
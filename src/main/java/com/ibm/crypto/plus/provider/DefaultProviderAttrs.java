@@ -453,7 +453,13 @@ class DefaultProviderAttrs {
         + "Signature.ML-DSA-65.alias.add = ML-DSA, ML_DSA_65, MLDSA65, OID.2.16.840.1.101.3.4.3.18, 2.16.840.1.101.3.4.3.18\n"
         + "Service.Signature.ML-DSA-65 = com.ibm.crypto.plus.provider.PQCSignatureImpl$MLDSA65\n"
         + "Signature.ML-DSA-87.alias.add = ML_DSA_87, MLDSA87, OID.2.16.840.1.101.3.4.3.19, 2.16.840.1.101.3.4.3.19\n"
-        + "Service.Signature.ML-DSA-87 = com.ibm.crypto.plus.provider.PQCSignatureImpl$MLDSA87\n";
+        + "Service.Signature.ML-DSA-87 = com.ibm.crypto.plus.provider.PQCSignatureImpl$MLDSA87\n"
+        + "Signature.HashML-DSA-44-with-SHA512.alias.add = OID.2.16.840.1.101.3.4.3.32, 2.16.840.1.101.3.4.3.32\n"
+        + "Service.Signature.HashML-DSA-44-with-SHA512 = com.ibm.crypto.plus.provider.PQCSignatureImpl$HashMLDSA44withSHA512\n"
+        + "Signature.HashML-DSA-65-with-SHA512.alias.add = OID.2.16.840.1.101.3.4.3.33, 2.16.840.1.101.3.4.3.33\n"
+        + "Service.Signature.HashML-DSA-65-with-SHA512 = com.ibm.crypto.plus.provider.PQCSignatureImpl$HashMLDSA65withSHA512\n"
+        + "Signature.HashML-DSA-87-with-SHA512.alias.add = OID.2.16.840.1.101.3.4.3.34, 2.16.840.1.101.3.4.3.34\n"
+        + "Service.Signature.HashML-DSA-87-with-SHA512 = com.ibm.crypto.plus.provider.PQCSignatureImpl$HashMLDSA87withSHA512\n";
         
     public DefaultProviderAttrs() {
     }
@@ -191,6 +191,7 @@ public final class ECDHKeyAgreement extends KeyAgreementSpi { // implements
             }
         }
 
+        CryptoOperation event = CryptoOperation.start();
         // Reset the key agreement here (in case anything goes wrong)
         generateSecret = false;
         byte[] secret = null;
@@ -208,8 +209,18 @@ public final class ECDHKeyAgreement extends KeyAgreementSpi { // implements
             }
             synchronized (locker1) {
                 synchronized (locker2) {
-                    secret = ECKey.computeECDHSecret(
-                            ockEcKeyPub.getEcKeyId(), ockEcKeyPriv.getEcKeyId(), provider);
+                    ockEcKeyPub.beginUse();
+                    try {
+                        ockEcKeyPriv.beginUse();
+                        try {
+                            secret = ECKey.computeECDHSecret(
+                                    ockEcKeyPub.getEcKeyId(), ockEcKeyPriv.getEcKeyId(), provider);
+                        } finally {
+                            ockEcKeyPriv.endUse();
+                        }
+                    } finally {
+                        ockEcKeyPub.endUse();
+                    }
                 }
             }
         } catch (NativeException e) {
@@ -218,6 +229,9 @@ public final class ECDHKeyAgreement extends KeyAgreementSpi { // implements
             throw provider.providerException("Failed to generate secret", e);
         }
         // );
+        if (event != null) {
+            event.end(provider, this, "generateSecret", ecPrivateKey, 0);
+        }
 
         return secret;
 
@@ -8,11 +8,14 @@
 
 package com.ibm.crypto.plus.provider;
 
+import com.ibm.crypto.plus.provider.base.ECKey;
+import com.ibm.crypto.plus.provider.base.NativeInterface;
 import com.ibm.crypto.plus.provider.base.Signature;
 import java.security.AlgorithmParameters;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.InvalidParameterException;
+import java.security.Key;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.SignatureException;
@@ -29,6 +32,10 @@ abstract class ECDSASignature extends SignatureSpi {
     private Signature signature = null;
     private ECPrivateKey privateKey = null;
     private ECPublicKey publicKey = null;
+    // The key and the number of bytes processed since initialization, for
+    // CryptoOperationEvent.
+    private Key key = null;
+    private long inputLength = 0;
 
     ECDSASignature(OpenJCEPlusProvider provider, String ockDigestAlgo) {
         try {
@@ -39,12 +46,26 @@ abstract class ECDSASignature extends SignatureSpi {
         }
     }
 
+    // Used by OpenJCEPlusService, which passes the native backend it resolved
+    // for the service so that the signature does not look it up.
+    ECDSASignature(OpenJCEPlusProvider provider, String ockDigestAlgo, NativeInterface nativeInterface) {
+        try {
+            this.provider = provider;
+            this.signature = Signature.getInstance(ockDigestAlgo, provider, nativeInterface);
+        } catch (Exception e) {
+            throw provider.providerException("Failed to initialize ECDSA signature", e);
+        }
+    }
+
     @Override
     protected void engineInitVerify(PublicKey publicKey) throws InvalidKeyException {
         this.publicKey = (ECPublicKey) ECKeyFactory.toECKey(provider, publicKey);
+        ECKey ockKey = this.publicKey.getOCKKey();
 
         try {
-            this.signature.initialize(this.publicKey.getOCKKey(), false);
+            this.signature.initialize(ockKey, false);
+            this.key = this.publicKey;
+            this.inputLength = 0;
         } catch (Exception e) {
             throw provider.providerException("Failure in engineInitVerify", e);
         }
@@ -71,6 +92,8 @@ abstract class ECDSASignature extends SignatureSpi {
 
         try {
             this.signature.initialize(this.privateKey.getOCKKey(), false);
+            this.key = this.privateKey;
+            this.inputLength = 0;
         } catch (Exception e) {
             throw provider.providerException("Failure in engineInitSign", e);
         }
@@ -86,6 +109,7 @@ abstract class ECDSASignature extends SignatureSpi {
     protected void engineUpdate(byte[] b, int off, int len) throws SignatureException {
         try {
             this.signature.update(b, off, len);
+            this.inputLength += len;
         } catch (Exception e) {
             throw new SignatureException("Could not update", e);
         }
@@ -93,21 +117,36 @@ abstract class ECDSASignature extends SignatureSpi {
 
     @Override
     protected byte[] engineSign() throws SignatureException {
+        CryptoOperation event = CryptoOperation.start();
+        byte[] sigBytes;
         try {
-            return this.signature.sign();
+            sigBytes = this.signature.sign();
         } catch (Exception e) {
+            inputLength = 0;
             throw new SignatureException("Could not sign data", e);
         }
+        if (event != null) {
+            event.end(provider, this, "sign", key, inputLength);
+        }
+        inputLength = 0;
+        return sigBytes;
     }
 
     @Override
     protected boolean engineVerify(byte[] sigBytes) throws SignatureException {
+        CryptoOperation event = CryptoOperation.start();
+        boolean verified;
         try {
-            return this.signature.verify(sigBytes);
+            verified = this.signature.verify(sigBytes);
         } catch (Exception e) {
             // return false rather than throwing exception
-            return false;
+            verified = false;
+        }
+        if (event != null) {
+            event.end(provider, this, "verify", key, inputLength);
         }
+        inputLength = 0;
+        return verified;
     }
 
     @Deprecated
@@ -152,6 +191,10 @@ abstract class ECDSASignature extends SignatureSpi {
         public SHA1withECDSA(OpenJCEPlusProvider provider) {
             super(provider, "SHA1");
         }
+
+        SHA1withECDSA(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
+            super(provider, "SHA1", nativeInterface);
+        }
     }
 
     // nested static class for the SHA224withECDSA implementation
@@ -159,6 +202,10 @@ abstract class ECDSASignature extends SignatureSpi {
         public SHA224withECDSA(OpenJCEPlusProvider provider) {
             super(provider, "SHA224");
         }
+
+        SHA224withECDSA(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
+            super(provider, "SHA224", nativeInterface);
+        }
     }
 
     // nested static class for the SHA256withECDSA implementation
@@ -166,6 +213,10 @@ abstract class ECDSASignature extends SignatureSpi {
         public SHA256withECDSA(OpenJCEPlusProvider provider) {
             super(provider, "SHA256");
         }
+
+        SHA256withECDSA(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
+            super(provider, "SHA256", nativeInterface);
+        }
     }
 
     // nested static class for the SHA384withECDSA implementation
@@ -173,6 +224,10 @@ abstract class ECDSASignature extends SignatureSpi {
         public SHA384withECDSA(OpenJCEPlusProvider provider) {
             super(provider, "SHA384");
         }
+
+        SHA384withECDSA(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
+            super(provider, "SHA384", nativeInterface);
+        }
     }
 
     // nested static class for the SHA512withECDSA implementation
@@ -180,6 +235,10 @@ abstract class ECDSASignature extends SignatureSpi {
         public SHA512withECDSA(OpenJCEPlusProvider provider) {
             super(provider, "SHA512");
         }
+
+        SHA512withECDSA(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
+            super(provider, "SHA512", nativeInterface);
+        }
     }
 
     // nested static class for the SHA3_224withECDSA implementation
@@ -187,6 +246,10 @@ abstract class ECDSASignature extends SignatureSpi {
         public SHA3_224withECDSA(OpenJCEPlusProvider provider) {
             super(provider, "SHA3-224");
         }
+
+        SHA3_224withECDSA(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
+            super(provider, "SHA3-224", nativeInterface);
+        }
     }
 
     // nested static class for the SHA3_256withECDSA implementation
@@ -194,6 +257,10 @@ abstract class ECDSASignature extends SignatureSpi {
         public SHA3_256withECDSA(OpenJCEPlusProvider provider) {
             super(provider, "SHA3-256");
         }
+
+        SHA3_256withECDSA(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
+            super(provider, "SHA3-256", nativeInterface);
+        }
     }
 
     // nested static class for the SHA3_384withECDSA implementation
@@ -201,6 +268,10 @@ abstract class ECDSASignature extends SignatureSpi {
         public SHA3_384withECDSA(OpenJCEPlusProvider provider) {
             super(provider, "SHA3-384");
         }
+
+        SHA3_384withECDSA(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
+            super(provider, "SHA3-384", nativeInterface);
+        }
     }
 
     // nested static class for the SHA3_512withECDSA implementation
@@ -208,5 +279,9 @@ abstract class ECDSASignature extends SignatureSpi {
         public SHA3_512withECDSA(OpenJCEPlusProvider provider) {
             super(provider, "SHA3-512");
         }
+
+        SHA3_512withECDSA(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
+            super(provider, "SHA3-512", nativeInterface);
+        }
     }
 }
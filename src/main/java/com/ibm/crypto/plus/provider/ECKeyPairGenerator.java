@@ -17,6 +17,7 @@ import java.security.SecureRandom;
 import java.security.spec.AlgorithmParameterSpec;
 import java.security.spec.ECGenParameterSpec;
 import java.security.spec.ECParameterSpec;
+import java.util.function.Supplier;
 import sun.security.util.ObjectIdentifier;
 
 public final class ECKeyPairGenerator extends KeyPairGeneratorSpi {
@@ -28,6 +29,7 @@ public final class ECKeyPairGenerator extends KeyPairGeneratorSpi {
     private OpenJCEPlusProvider provider = null;
     private int keysize = legacyECdefault ? 256 : 384;
     private SecureRandom cryptoRandom = null;
+    private boolean randomSupplied = false;
     ECParameterSpec ecSpec;
     private ObjectIdentifier oid = null;
 
@@ -42,6 +44,7 @@ public final class ECKeyPairGenerator extends KeyPairGeneratorSpi {
         this.oid = null;
         if (cryptoRandom == null) {
             cryptoRandom = provider.getSecureRandom(random);
+            randomSupplied = EphemeralKeyPairPool.isSupplied(random);
         }
         if (provider.isFIPS()) {
             if (keysize < 224 || keysize > 521) {
@@ -56,6 +59,7 @@ public final class ECKeyPairGenerator extends KeyPairGeneratorSpi {
      */
     public void initialize(AlgorithmParameterSpec params, SecureRandom random)
             throws InvalidAlgorithmParameterException {
+        randomSupplied = EphemeralKeyPairPool.isSupplied(random);
         if (!(params instanceof ECParameterSpec)) {
             if (params instanceof ECGenParameterSpec) {
                 this.oid = ECNamedCurve.getOIDFromName(((ECGenParameterSpec) params).getName());
@@ -102,6 +106,15 @@ public final class ECKeyPairGenerator extends KeyPairGeneratorSpi {
 
     @Override
     public KeyPair generateKeyPair() {
+        CryptoOperation event = CryptoOperation.start();
+        KeyPair keyPair = generateKeyPairImpl();
+        if (event != null) {
+            event.end(provider, this, "generateKeyPair", keyPair.getPublic(), 0);
+        }
+        return keyPair;
+    }
+
+    private KeyPair generateKeyPairImpl() {
 
         ECKey ecKey = null;
         // set cryptoRandom if initialize() method has been skipped
@@ -109,6 +122,18 @@ public final class ECKeyPairGenerator extends KeyPairGeneratorSpi {
             cryptoRandom = provider.getSecureRandom(null);
         }
 
+        // Key pairs generated ahead of time only come from the default source
+        // of randomness.
+        if ((this.oid != null) && !randomSupplied
+                && EphemeralKeyPairPool.isPooled(this.oid.toString())) {
+            String curveOid = this.oid.toString();
+            KeyPair keyPair = provider.getEphemeralKeyPairPool("EC." + curveOid,
+                    namedCurveKeyPairs(provider, curveOid)).take();
+            if (keyPair != null) {
+                return keyPair;
+            }
+        }
+
         try {
 
             if (this.oid != null) {
@@ -136,6 +161,25 @@ public final class ECKeyPairGenerator extends KeyPairGeneratorSpi {
 
     }
 
+    /*
+     * Returns a generator of key pairs on a named curve for a pool of key pairs.
+     * It does not refer to this instance, so the pool does not keep it alive.
+     */
+    private static Supplier<KeyPair> namedCurveKeyPairs(OpenJCEPlusProvider provider,
+            String curveOid) {
+        return () -> {
+            try {
+                ECKey ecKey = ECKey.generateKeyPair(curveOid, provider.getSecureRandom(null),
+                        provider);
+                java.security.interfaces.ECPrivateKey privKey = new ECPrivateKey(provider, ecKey);
+                java.security.interfaces.ECPublicKey pubKey = new ECPublicKey(provider, ecKey);
+                return new KeyPair(pubKey, privKey);
+            } catch (Exception e) {
+                throw provider.providerException("Failure in generateKeyPair", e);
+            }
+        };
+    }
+
     /**
      *
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright IBM Corp. 2023, 2025
+ * Copyright IBM Corp. 2023, 2026
  *
  * This code is free software; you can redistribute it and/or modify it
  * under the terms provided by IBM in the LICENSE file that accompanied
@@ -17,6 +17,7 @@ import java.security.InvalidKeyException;
 import java.security.ProviderException;
 import java.security.spec.AlgorithmParameterSpec;
 import java.security.spec.ECField;
+import java.security.spec.ECFieldF2m;
 import java.security.spec.ECFieldFp;
 import java.security.spec.ECGenParameterSpec;
 import java.security.spec.ECParameterSpec;
@@ -249,6 +250,38 @@ public final class ECParameters extends AlgorithmParametersSpi {
         return new ECPoint(new BigInteger(1, xb), new BigInteger(1, yb));
     }
 
+    /**
+     * Checks that a public point is a finite point of the curve. Only the
+     * range of the coordinates is checked for binary fields.
+     */
+    static void checkPointOnCurve(ECPoint point, EllipticCurve curve) throws InvalidKeyException {
+        if (ECPoint.POINT_INFINITY.equals(point)) {
+            throw new InvalidKeyException("Public point is the point at infinity");
+        }
+        BigInteger x = point.getAffineX();
+        BigInteger y = point.getAffineY();
+        ECField field = curve.getField();
+        if (field instanceof ECFieldFp fieldFp) {
+            BigInteger p = fieldFp.getP();
+            if ((x.signum() < 0) || (x.compareTo(p) >= 0) || (y.signum() < 0)
+                    || (y.compareTo(p) >= 0)) {
+                throw new InvalidKeyException("Public point coordinates are out of range");
+            }
+            // y^2 = x^3 + ax + b (mod p)
+            BigInteger left = y.multiply(y).mod(p);
+            BigInteger right = x.multiply(x).add(curve.getA()).multiply(x).add(curve.getB()).mod(p);
+            if (!left.equals(right)) {
+                throw new InvalidKeyException("Public point is not on the curve");
+            }
+        } else if (field instanceof ECFieldF2m) {
+            int m = field.getFieldSize();
+            if ((x.signum() < 0) || (x.bitLength() > m) || (y.signum() < 0)
+                    || (y.bitLength() > m)) {
+                throw new InvalidKeyException("Public point coordinates are out of range");
+            }
+        }
+    }
+
     // COPIED FROM PKCS60 ECParameters.java
     // Trims the leading (most significant) zeroes from the result.
     static byte[] trimZeroes(byte[] b) {
@@ -86,6 +86,7 @@ final class ECPrivateKey extends PKCS8Key implements java.security.interfaces.EC
             byte[] paramBytes = ECParameters.encodeECParameters(this.params);
             this.ecKey = ECKey.createPrivateKey(privateKeyBytes,
                     paramBytes, provider);
+            this.ecKey.retain();
         } catch (Exception exception) {
             throw new InvalidKeyException("Failed to create EC private key, " + exception.getMessage(), exception);
         }
@@ -114,6 +115,7 @@ final class ECPrivateKey extends PKCS8Key implements java.security.interfaces.EC
             byte[] paramBytes = ECParameters.encodeECParameters(params);
             this.ecKey = ECKey.createPrivateKey(privateKeyBytes,
                     paramBytes, provider);
+            this.ecKey.retain();
         } catch (Exception exception) {
             throw new InvalidKeyException("Failed to create EC private key, " + exception.getMessage(), exception);
         }
@@ -124,6 +126,7 @@ final class ECPrivateKey extends PKCS8Key implements java.security.interfaces.EC
         // System.out.println("ECPrivateKey=" + ecKey.toString());
         this.provider = provider;
         this.ecKey = ecKey;
+        this.ecKey.retain();
 
         // Set algid and params.
         DerOutputStream algidOut = null;
@@ -318,6 +321,7 @@ final class ECPrivateKey extends PKCS8Key implements java.security.interfaces.EC
             if (this.privKeyMaterial != null) {
                 Arrays.fill(this.privKeyMaterial, (byte) 0x00);
             }
+            this.ecKey.release();
             this.ecKey = null;
             this.s = null;
         }
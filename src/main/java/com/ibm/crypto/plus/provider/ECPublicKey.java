@@ -37,7 +37,8 @@ final class ECPublicKey extends X509Key
     protected byte[] publicKeyBytes;
 
     private transient boolean destroyed = false;
-    private transient ECKey ecKey = null;
+    // Created on first use, see getOCKKey()
+    private transient volatile ECKey ecKey = null;
 
     /**
      * Make a EC public key from its components
@@ -52,24 +53,12 @@ final class ECPublicKey extends X509Key
         this.provider = provider;
         this.w = w;
         this.params = ecParams;
+        ECParameters.checkPointOnCurve(w, ecParams.getCurve());
 
         algid = new AlgorithmId(AlgorithmId.EC_oid,
                 ECParameters.getAlgorithmParameters(provider, ecParams));
         byte[] keyArray = ECParameters.encodePoint(w, this.params.getCurve());
         setKey(new BitArray(keyArray.length * 8, keyArray));
-
-        try {
-            byte[] parameterBytes = ECParameters.encodeECParameters(ecParams);
-            byte[] publicKeyBytes = buildOCKPublicKeyBytes();
-            // System.out.println ("publicKeyBytes.length=" +
-            // publicKeyBytes.length);
-            // this.ecKey = ECKey.createPublicKey(IBMJCEPlus.getOCKContext(), w,
-            // ecParams);
-            this.ecKey = ECKey.createPublicKey(publicKeyBytes,
-                    parameterBytes, provider);
-        } catch (Exception exception) {
-            throw new InvalidKeyException("Failed to create EC public key", exception);
-        }
     }
 
     /**
@@ -82,16 +71,6 @@ final class ECPublicKey extends X509Key
         this.provider = provider;
 
         decode(encoded);
-
-        try {
-            byte[] publicKeyBytes = buildOCKPublicKeyBytes();
-            byte[] parameterBytes = ECParameters.encodeECParameters(this.params);
-            // System.out.println ("Calling ECKey createPublicKey");
-            this.ecKey = ECKey.createPublicKey(publicKeyBytes,
-                    parameterBytes, provider);
-        } catch (Exception exception) {
-            throw new InvalidKeyException("Failed to create EC public key", exception);
-        }
     }
 
     ECPublicKey(OpenJCEPlusProvider provider, ECKey ecKey) throws InvalidKeyException {
@@ -109,6 +88,7 @@ final class ECPublicKey extends X509Key
             byte[] keyArray = convertOCKPublicKeyBytes(ecKey.getPublicKeyBytes());
             setKey(new BitArray(keyArray.length * 8, keyArray));
             this.ecKey = ecKey;
+            this.ecKey.retain();
             parseKeyBits();
 
         } catch (Exception exception) {
@@ -162,6 +142,9 @@ final class ECPublicKey extends X509Key
             // + " this.algid="+this.algid);
             params = algParams.getParameterSpec(ECParameterSpec.class);
             w = ECParameters.decodePoint(getKey().toByteArray(), params.getCurve());
+            // The native key is only created on first use, so the point is
+            // checked here for decoding to reject it as before.
+            ECParameters.checkPointOnCurve(w, params.getCurve());
 
         } catch (IOException e) {
             throw new InvalidKeyException("Invalid EC key", e);
@@ -170,8 +153,33 @@ final class ECPublicKey extends X509Key
         }
     }
 
-    ECKey getOCKKey() {
-        return this.ecKey;
+    /**
+     * Returns the native key, creating it on first use. Many public keys, such
+     * as those of certificates in a trust store, are decoded but never used for
+     * a cryptographic operation and so never need a native key.
+     */
+    ECKey getOCKKey() throws InvalidKeyException {
+        ECKey key = this.ecKey;
+        if (key == null) {
+            synchronized (this) {
+                key = this.ecKey;
+                if (key == null) {
+                    if (destroyed) {
+                        throw new InvalidKeyException("This key is no longer valid");
+                    }
+                    try {
+                        byte[] publicKeyBytes = buildOCKPublicKeyBytes();
+                        byte[] parameterBytes = ECParameters.encodeECParameters(this.params);
+                        key = ECKey.createPublicKey(publicKeyBytes, parameterBytes, provider);
+                    } catch (Exception exception) {
+                        throw new InvalidKeyException("Failed to create EC public key", exception);
+                    }
+                    key.retain();
+                    this.ecKey = key;
+                }
+            }
+        }
+        return key;
     }
 
     /**
@@ -244,10 +252,13 @@ final class ECPublicKey extends X509Key
      *             if some error occurs while destroying this key.
      */
     @Override
-    public void destroy() throws DestroyFailedException {
+    public synchronized void destroy() throws DestroyFailedException {
         if (!destroyed) {
             destroyed = true;
             setKey(new BitArray(0));
+            if (this.ecKey != null) {
+                this.ecKey.release();
+            }
             this.ecKey = null;
             this.w = null;
             this.params = null;
@@ -99,6 +99,15 @@ abstract class EdDSAKeyPairGenerator extends KeyPairGeneratorSpi {
 
     @Override
     public KeyPair generateKeyPair() {
+        CryptoOperation event = CryptoOperation.start();
+        KeyPair keyPair = generateKeyPairImpl();
+        if (event != null) {
+            event.end(provider, this, "generateKeyPair", keyPair.getPublic(), 0);
+        }
+        return keyPair;
+    }
+
+    private KeyPair generateKeyPairImpl() {
         try {
             int keySize = CurveUtil.getCurveSize(curve);
 
@@ -71,6 +71,7 @@ final class EdDSAPrivateKeyImpl extends PKCS8Key implements EdECPrivateKey {
         if (xecKey == null)
             throw new InvalidKeyException("xecKey cannot be null");
         this.xecKey = xecKey;
+        this.xecKey.retain();
         this.provider = provider;
         try {
             setFieldsFromXeckey();
@@ -108,6 +109,7 @@ final class EdDSAPrivateKeyImpl extends PKCS8Key implements EdECPrivateKey {
                     int keySize = CurveUtil.getCurveSize(curve);
                     this.xecKey = XECKey.generateKeyPair(
                             this.curve.ordinal(), keySize, provider, configAlgName);
+                    this.xecKey.retain();
                 } else {
                     throw new InvalidParameterException(
                         "Cannot create EdDSA private key without key bytes parameter.");
@@ -118,6 +120,7 @@ final class EdDSAPrivateKeyImpl extends PKCS8Key implements EdECPrivateKey {
                 int encodingSize = CurveUtil.getDEREncodingSize(curve);
                 this.xecKey = XECKey.createPrivateKey(der,
                         encodingSize, provider, configAlgName);
+                this.xecKey.retain();
             }
         } catch (Exception exception) {
             InvalidParameterException ike = new InvalidParameterException(
@@ -140,6 +143,7 @@ final class EdDSAPrivateKeyImpl extends PKCS8Key implements EdECPrivateKey {
             int encodingSize = CurveUtil.getDEREncodingSize(curve);
             this.xecKey = XECKey.createPrivateKey(alteredEncoded,
                     encodingSize, provider, configAlgName);
+            this.xecKey.retain();
 
         } catch (Exception exception) {
             throw new InvalidKeyException("Failed to create XEC private key", exception);
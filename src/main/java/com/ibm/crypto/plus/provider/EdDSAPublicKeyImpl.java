@@ -69,6 +69,7 @@ final class EdDSAPublicKeyImpl extends X509Key implements EdECPublicKey {
 
         this.provider = provider;
         this.xecKey = xecKey;
+        this.xecKey.retain();
         this.curve = curve;
         try {
             this.algid = CurveUtil.getAlgId(curve);
@@ -112,6 +113,7 @@ final class EdDSAPublicKeyImpl extends X509Key implements EdECPublicKey {
             byte[] alteredEncoded = alterEncodedPublicKey(der); // Alters encoded to fit GSKit, and sets params
 
             this.xecKey = XECKey.createPublicKey(alteredEncoded, provider, configAlgName);
+            this.xecKey.retain();
 
         } catch (Exception exception) {
             throw new InvalidKeyException("Failed to create EdDSA public key", exception);
@@ -142,6 +144,7 @@ final class EdDSAPublicKeyImpl extends X509Key implements EdECPublicKey {
 
             byte[] der = buildOCKPublicKeyBytes();
             this.xecKey = XECKey.createPublicKey(der, provider, configAlgName);
+            this.xecKey.retain();
 
         } catch (Exception exception) {
             throw new InvalidKeyException("Failed to create EdDSA public key", exception);
@@ -9,11 +9,11 @@
 package com.ibm.crypto.plus.provider;
 
 import com.ibm.crypto.plus.provider.base.SignatureEdDSA;
-import java.io.ByteArrayOutputStream;
 import java.security.AlgorithmParameters;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.InvalidParameterException;
+import java.security.Key;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.SignatureException;
@@ -25,10 +25,19 @@ abstract class EdDSASignature extends SignatureSpi {
 
     private OpenJCEPlusProvider provider = null;
     private SignatureEdDSA signature = null;
-    private ByteArrayOutputStream message = null;
+    // Whether a message is being signed or verified
+    private boolean inProgress = false;
+    // Whether the prehash variant (Ed25519ph or Ed448ph) is used
+    private boolean prehash = false;
+    // Algorithm of the key the signature was initialized with
+    private String keyAlg = null;
     private String alg = null;
     private boolean privateKeyInit = false;
     private boolean publicKeyInit = false;
+    // The key and the number of bytes processed since initialization, for
+    // CryptoOperationEvent.
+    private Key key = null;
+    private long inputLength = 0;
 
     EdDSASignature(OpenJCEPlusProvider provider) {
         try {
@@ -69,19 +78,24 @@ abstract class EdDSASignature extends SignatureSpi {
         }
         // engineSet is added to resolve iterop issue with JCK case 569 and maintain compatibility with Sun
         // input params and operation are checked.
-        // This edDSA singature is using default mode (Ed25519 or Ed448)
-        // for edDSAParameterSpec (context = null, prehash = false)
+        // This edDSA singature supports the default mode (Ed25519 or Ed448) and the
+        // prehash mode (Ed25519ph or Ed448ph), both without a context.
         if (params instanceof EdDSAParameterSpec edParams) {
-            if (edParams.isPrehash() || !edParams.getContext().isEmpty()) {
+            if (!edParams.getContext().isEmpty()) {
                 throw new InvalidAlgorithmParameterException(
-                        "The EdDSA signature only supports the default mode (Ed25519 or Ed448),"
-                        + " where the EdDSAParameterSpec context is null and prehash is set to false");
+                        "The EdDSA signature only supports the default mode (Ed25519 or Ed448)"
+                        + " and the prehash mode (Ed25519ph or Ed448ph),"
+                        + " where the EdDSAParameterSpec context is null");
             }
-            if (message != null) {
+            if (inProgress) {
                 // Sign/Verify is in progress
                 throw new InvalidParameterException(
                         "Cannot change signature parameters during operation");
             }
+            this.prehash = edParams.isPrehash();
+            if (keyAlg != null) {
+                this.signature.setPrehash(prehash, keyAlg);
+            }
         } else {
             throw new InvalidAlgorithmParameterException("Only EdDSAParameterSpec supported");
         }
@@ -93,12 +107,10 @@ abstract class EdDSASignature extends SignatureSpi {
     }
 
     private void ensureMessageInit() throws SignatureException {
-        if (message == null) {
-            if (this.signature == null) {
-                throw new SignatureException("Not initialized");
-            }
-            message = new ByteArrayOutputStream();
+        if (this.signature == null) {
+            throw new SignatureException("Not initialized");
         }
+        inProgress = true;
     }
 
     @Override
@@ -118,23 +130,38 @@ abstract class EdDSASignature extends SignatureSpi {
 
         try {
             this.signature.initialize(edDSAPrivate.getOCKKey());
+            this.keyAlg = edDSAPrivate.getParams().getName();
+            this.signature.setPrehash(prehash, keyAlg);
         } catch (Exception e) {
             throw provider.providerException("Failure in engineInitSign", e);
         }
         // Set to sign mode and reset message
         this.privateKeyInit = true;
         this.publicKeyInit = false;
-        this.message = null;
+        this.inProgress = false;
+        this.key = edDSAPrivate;
+        this.inputLength = 0;
     }
 
     @Override
     protected void engineInitVerify(PublicKey publicKey) throws InvalidKeyException {
         EdDSAPublicKeyImpl edDSAPublic = null;
-        try {
-            edDSAPublic = (EdDSAPublicKeyImpl) new EdDSAKeyFactory(provider)
-                    .engineTranslateKey(publicKey);
-        } catch (Exception e) {
-            throw new InvalidKeyException("Unsupported key type: " + e.getMessage());
+        if (publicKey instanceof EdDSAPublicKeyImpl ownKey) {
+            edDSAPublic = ownKey;
+        } else {
+            // Public keys of other providers are translated once and then reused.
+            TranslatedKeyCache translatedKeys = provider.getTranslatedKeyCache("Signature.EdDSA");
+            if (translatedKeys.get(publicKey) instanceof EdDSAPublicKeyImpl cachedKey) {
+                edDSAPublic = cachedKey;
+            } else {
+                try {
+                    edDSAPublic = (EdDSAPublicKeyImpl) new EdDSAKeyFactory(provider)
+                            .engineTranslateKey(publicKey);
+                } catch (Exception e) {
+                    throw new InvalidKeyException("Unsupported key type: " + e.getMessage());
+                }
+                translatedKeys.put(publicKey, edDSAPublic);
+            }
         }
         //Validate that the alg of the key matchs the alg specified on creation of this object
         if (this.alg != null && !((edDSAPublic.getParams().getName()).equals(this.alg))) {
@@ -142,6 +169,8 @@ abstract class EdDSASignature extends SignatureSpi {
         }
         try {
             this.signature.initialize(edDSAPublic.getOCKKey());
+            this.keyAlg = edDSAPublic.getParams().getName();
+            this.signature.setPrehash(prehash, keyAlg);
         } catch (Exception e) {
             throw provider.providerException("Failure in engineInitVerify", e);
         }
@@ -149,7 +178,9 @@ abstract class EdDSASignature extends SignatureSpi {
         // Set to verify mode and reset message
         this.privateKeyInit = false;
         this.publicKeyInit = true;
-        this.message = null;
+        this.inProgress = false;
+        this.key = edDSAPublic;
+        this.inputLength = 0;
     }
 
     @Override
@@ -158,13 +189,20 @@ abstract class EdDSASignature extends SignatureSpi {
             throw new SignatureException("Missing private key");
         }
         ensureMessageInit();
+        CryptoOperation event = CryptoOperation.start();
+        byte[] sigBytes;
         try {
-            byte[] dataBytes = message.toByteArray();
-            message = null;
-            return this.signature.sign(dataBytes);
+            inProgress = false;
+            sigBytes = this.signature.sign();
         } catch (Exception e) {
+            inputLength = 0;
             throw new SignatureException("Could not sign data", e);
         }
+        if (event != null) {
+            event.end(provider, this, "sign", key, inputLength);
+        }
+        inputLength = 0;
+        return sigBytes;
     }
 
 
@@ -177,8 +215,14 @@ abstract class EdDSASignature extends SignatureSpi {
     @Override
     protected void engineUpdate(byte[] b, int off, int len) throws SignatureException {
         ensureMessageInit();
-        // update can be called several times, as this is required by JCK 569 to maintain interop with Sun
-        message.write(b, off, len);
+        // update can be called several times, as this is required by JCK 569 to maintain interop with Sun.
+        // The message is kept in native memory by the underlying signature.
+        try {
+            this.signature.update(b, off, len);
+            this.inputLength += len;
+        } catch (IllegalStateException e) {
+            throw new SignatureException(e.getMessage(), e);
+        }
     }
 
     @Override
@@ -187,15 +231,21 @@ abstract class EdDSASignature extends SignatureSpi {
             throw new SignatureException("Missing public key");
         }
 
+        CryptoOperation event = CryptoOperation.start();
+        boolean verified;
         try {
             ensureMessageInit();
-            byte[] messageBytes = message.toByteArray();
-            message = null;
-            return this.signature.verify(sigBytes, messageBytes);
+            inProgress = false;
+            verified = this.signature.verify(sigBytes);
         } catch (Exception e) {
             // return false rather than throwing exception
-            return false;
+            verified = false;
+        }
+        if (event != null) {
+            event.end(provider, this, "verify", key, inputLength);
         }
+        inputLength = 0;
+        return verified;
     }
 
     // nested static class for the Ed25519 implementation
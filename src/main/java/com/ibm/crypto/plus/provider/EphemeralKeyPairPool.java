@@ -0,0 +1,213 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms provided by IBM in the LICENSE file that accompanied
+ * this code, including the "Classpath" Exception described therein.
+ */
+
+package com.ibm.crypto.plus.provider;
+
+import com.ibm.crypto.plus.provider.base.NativePoolStatistics;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.SecureRandom;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import sun.security.util.ObjectIdentifier;
+
+/**
+ * A bounded pool of key pairs generated ahead of time by a background thread.
+ * Protocols such as TLS generate a new ephemeral key pair for every handshake,
+ * and taking a ready key pair from the pool moves the cost of the generation
+ * off the thread doing the handshake.
+ *
+ * The pools are disabled unless the {@code openjceplus.ephemeralKeyPool.size}
+ * system property is set to a positive number of key pairs to keep ready for
+ * each algorithm. Only the algorithms listed by the
+ * {@code openjceplus.ephemeralKeyPool.algorithms} system property are pooled,
+ * and only when the key pair generator does not use a caller supplied source
+ * of randomness. A key pair is handed out at most once; when a pool is empty
+ * the key pair is generated by the calling thread.
+ *
+ * The properties are read when a provider is created, and the first provider
+ * created with a positive pool size enables the pools of all providers.
+ */
+final class EphemeralKeyPairPool {
+
+    private static final String POOL_SIZE = "openjceplus.ephemeralKeyPool.size";
+
+    private static final String POOL_ALGORITHMS = "openjceplus.ephemeralKeyPool.algorithms";
+
+    private static final String DEFAULT_ALGORITHMS = "secp256r1,secp384r1,X25519,X448,ML-KEM-768";
+
+    // Name of the pools in NativePoolStatistics.
+    static final String POOL_NAME = "Ephemeral key pair";
+
+    // Number of key pairs kept ready for each algorithm, 0 disables the pools.
+    // It is set last by configure(), after the fields below.
+    private static volatile int poolSize;
+
+    // Upper case names of the pooled algorithms, and the OIDs of pooled curves.
+    private static Set<String> algorithms = Set.of();
+
+    // A single daemon thread refills the pools of all providers.
+    private static ExecutorService producer;
+
+    private final Supplier<KeyPair> generator;
+
+    private final Queue<KeyPair> keyPairs = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger available = new AtomicInteger();
+
+    private final AtomicBoolean refilling = new AtomicBoolean();
+
+    EphemeralKeyPairPool(Supplier<KeyPair> generator) {
+        this.generator = generator;
+    }
+
+    /**
+     * Enables the pools as given by the {@code openjceplus.ephemeralKeyPool.size}
+     * and {@code openjceplus.ephemeralKeyPool.algorithms} system properties, if
+     * the size is set and the pools are not enabled yet. Called when a provider
+     * is created.
+     */
+    static synchronized void configure() {
+        if (poolSize > 0) {
+            return;
+        }
+        int size;
+        try {
+            size = Integer.parseInt(SystemAccessUtils.getSystemProperty(POOL_SIZE, "0"));
+        } catch (NumberFormatException e) {
+            size = 0;
+        }
+        if (size <= 0) {
+            return;
+        }
+
+        Set<String> names = new HashSet<>();
+        for (String name : SystemAccessUtils.getSystemProperty(POOL_ALGORITHMS, DEFAULT_ALGORITHMS)
+                .split(",")) {
+            name = name.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            names.add(name.toUpperCase(Locale.ROOT));
+            ObjectIdentifier oid = ECNamedCurve.getOIDFromName(name);
+            if (oid != null) {
+                names.add(oid.toString());
+            }
+        }
+
+        algorithms = names;
+        producer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "OpenJCEPlus ephemeral key pair generator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        poolSize = size;
+    }
+
+    /**
+     * Returns true if key pairs of the given algorithm, curve name or curve OID
+     * are to be pooled.
+     */
+    static boolean isPooled(String algorithm) {
+        return (poolSize > 0) && algorithms.contains(algorithm.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns true if the given source of randomness was supplied by the
+     * application, rather than being null or the default source that
+     * {@link KeyPairGenerator} passes on when none is given.
+     */
+    static boolean isSupplied(SecureRandom random) {
+        return (random != null) && (random != DefaultRandom.instance);
+    }
+
+    /**
+     * Returns a key pair generated ahead of time, or null if none is ready. The
+     * pool is refilled in the background either way.
+     */
+    KeyPair take() {
+        KeyPair keyPair = keyPairs.poll();
+        if (keyPair != null) {
+            available.decrementAndGet();
+            NativePoolStatistics.recordHit(POOL_NAME);
+            NativePoolStatistics.addIdle(POOL_NAME, -1);
+        } else {
+            NativePoolStatistics.recordMiss(POOL_NAME);
+        }
+        refill();
+        return keyPair;
+    }
+
+    private void refill() {
+        if ((available.get() < poolSize) && refilling.compareAndSet(false, true)) {
+            try {
+                producer.execute(this::produce);
+            } catch (RejectedExecutionException e) {
+                refilling.set(false);
+            }
+        }
+    }
+
+    private void produce() {
+        try {
+            while (available.get() < poolSize) {
+                keyPairs.offer(generator.get());
+                available.incrementAndGet();
+                NativePoolStatistics.addIdle(POOL_NAME, 1);
+            }
+        } catch (RuntimeException e) {
+            // Failures are left to be reported by the callers, which generate
+            // their key pairs themselves while the pool is empty.
+            if (OpenJCEPlusProvider.getDebug() != null) {
+                OpenJCEPlusProvider.getDebug()
+                        .println("Failure generating ephemeral key pair: " + e.getMessage());
+            }
+            refilling.set(false);
+            return;
+        }
+        refilling.set(false);
+        // Key pairs may have been taken after the loop ended.
+        refill();
+    }
+
+    /**
+     * Captures the default source of randomness that KeyPairGenerator.initialize
+     * passes on when the application gives none.
+     */
+    private static final class DefaultRandom {
+        static final SecureRandom instance = capture();
+
+        private DefaultRandom() {
+        }
+
+        private static SecureRandom capture() {
+            SecureRandom[] captured = new SecureRandom[1];
+            new KeyPairGenerator("") {
+                @Override
+                public void initialize(int keysize, SecureRandom random) {
+                    captured[0] = random;
+                }
+
+                @Override
+                public KeyPair generateKeyPair() {
+                    return null;
+                }
+            }.initialize(0);
+            return captured[0];
+        }
+    }
+}
@@ -12,6 +12,7 @@ import com.ibm.crypto.plus.provider.base.BasicRandom;
 import com.ibm.crypto.plus.provider.base.ExtendedRandom;
 import com.ibm.crypto.plus.provider.base.NativeException;
 import java.security.SecureRandomSpi;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 abstract class HASHDRBG extends SecureRandomSpi {
 
@@ -21,12 +22,32 @@ abstract class HASHDRBG extends SecureRandomSpi {
 
     private static final long serialVersionUID = 5913440825148411814L;
 
+    private static final String DRBG_INSTANCES = "openjceplus.securerandom.drbgInstances";
+
+    // Number of independently seeded native DRBG instances behind each SecureRandom.
+    // Threads are spread over the instances by thread id, so that threads sharing a
+    // SecureRandom do not all wait for the same instance. Setting this to the number
+    // of cores suits servers that share one SecureRandom across many threads.
+    private static final int drbgInstances;
+
+    static {
+        int instances;
+        try {
+            instances = Integer.parseInt(SystemAccessUtils.getSystemProperty(DRBG_INSTANCES, "1"));
+        } catch (NumberFormatException e) {
+            instances = 1;
+        }
+        drbgInstances = Math.max(instances, 1);
+    }
+
     private transient OpenJCEPlusProvider provider;
     private ProviderContext providerContext; // Keep track of which provider was used to create so can use for deserialization
     private String randomAlgo;
 
     private transient BasicRandom basicRandom;
-    private transient ExtendedRandom extendedRandom;
+    // The first instance is created with the SecureRandom, the others when a
+    // thread first needs them.
+    private transient AtomicReferenceArray<ExtendedRandom> extendedRandoms;
 
     protected HASHDRBG(OpenJCEPlusProvider provider, String ockRandomAlgo) throws NativeException {
         this.provider = provider;
@@ -34,7 +55,7 @@ abstract class HASHDRBG extends SecureRandomSpi {
         this.randomAlgo = ockRandomAlgo;
         basicRandom = BasicRandom.getInstance(provider, ockRandomAlgo);
         try {
-            extendedRandom = ExtendedRandom.getInstance(ockRandomAlgo, provider);
+            initExtendedRandoms();
         } catch (Exception e) {
             throw provider.providerException("Failed to get HASHDRBG algorithm", e);
         }
@@ -43,7 +64,13 @@ abstract class HASHDRBG extends SecureRandomSpi {
     @Override
     protected void engineSetSeed(byte[] seed) {
         try {
-            extendedRandom.setSeed(seed);
+            // Supplement the seed of every instance created so far.
+            for (int i = 0; i < extendedRandoms.length(); i++) {
+                ExtendedRandom extendedRandom = extendedRandoms.get(i);
+                if (extendedRandom != null) {
+                    extendedRandom.setSeed(seed);
+                }
+            }
         } catch (Exception e) {
             throw provider.providerException("Failed to set seed", e);
         }
@@ -55,7 +82,7 @@ abstract class HASHDRBG extends SecureRandomSpi {
             throw new NullPointerException("bytes is null"); // Required by JCK test NextBytes
         }
         try {
-            extendedRandom.nextBytes(bytes);
+            getExtendedRandom().nextBytes(bytes);
         } catch (Exception e) {
             throw provider.providerException("Failed to get next bytes", e);
         }
@@ -70,6 +97,31 @@ abstract class HASHDRBG extends SecureRandomSpi {
         }
     }
 
+    private void initExtendedRandoms() throws NativeException {
+        extendedRandoms = new AtomicReferenceArray<>(drbgInstances);
+        extendedRandoms.set(0, ExtendedRandom.getInstance(randomAlgo, provider));
+    }
+
+    // Returns the DRBG instance assigned to the current thread, creating it if needed.
+    private ExtendedRandom getExtendedRandom() throws NativeException {
+        int length = extendedRandoms.length();
+        if (length == 1) {
+            return extendedRandoms.get(0);
+        }
+
+        int index = (int) (Thread.currentThread().threadId() % length);
+        ExtendedRandom extendedRandom = extendedRandoms.get(index);
+        if (extendedRandom == null) {
+            extendedRandom = ExtendedRandom.getInstance(randomAlgo, provider);
+            if (!extendedRandoms.compareAndSet(index, null, extendedRandom)) {
+                // Another thread won the race, its instance is used and this
+                // one is released by the cleaner.
+                extendedRandom = extendedRandoms.get(index);
+            }
+        }
+        return extendedRandom;
+    }
+
     /**
      * readObject is called to restore the state of this SecureRandom from a
      * stream.
@@ -91,7 +143,7 @@ abstract class HASHDRBG extends SecureRandomSpi {
             basicRandom = BasicRandom.getInstance(provider, randomAlgo);
 
             // Recreate OCK object per tag [SERIALIZATION] in DesignNotes.txt
-            extendedRandom = ExtendedRandom.getInstance(randomAlgo, provider);
+            initExtendedRandoms();
         } catch (Exception e) {
             throw provider.providerException("Failed to get HASHDRBG algorithm", e);
         }
@@ -9,6 +9,7 @@
 package com.ibm.crypto.plus.provider;
 
 import com.ibm.crypto.plus.provider.base.HMAC;
+import com.ibm.crypto.plus.provider.base.NativeInterface;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.Key;
@@ -31,6 +32,18 @@ abstract class HmacCore extends MacSpi {
         }
     }
 
+    // Used by OpenJCEPlusService, which passes the native backend it resolved
+    // for the service so that the HMAC does not look it up.
+    HmacCore(OpenJCEPlusProvider provider, String ockDigestAlgo, int blockLength,
+            NativeInterface nativeInterface) {
+        try {
+            this.provider = provider;
+            this.hmac = HMAC.getInstance(ockDigestAlgo, provider, nativeInterface);
+        } catch (Exception e) {
+            throw provider.providerException("Failure in HmacCore", e);
+        }
+    }
+
     HmacCore(OpenJCEPlusProvider provider, String ockDigestAlgo, String hashAlgo, int blockLength) {
         try {
             this.provider = provider;
@@ -113,6 +126,10 @@ abstract class HmacCore extends MacSpi {
         public HmacMD5(OpenJCEPlusProvider provider) {
             super(provider, "MD5", 64); // OCK digest name
         }
+
+        HmacMD5(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
+            super(provider, "MD5", 64, nativeInterface); // OCK digest name
+        }
     }
 
     // nested static class for the HmacSHA1 implementation
@@ -120,6 +137,10 @@ abstract class HmacCore extends MacSpi {
         public HmacSHA1(OpenJCEPlusProvider provider) {
             super(provider, "SHA1", 64); // OCK digest name
         }
+
+        HmacSHA1(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
+            super(provider, "SHA1", 64, nativeInterface); // OCK digest name
+        }
     }
 
     // nested static class for the HmacSHA224 implementation
@@ -127,6 +148,10 @@ abstract class HmacCore extends MacSpi {
         public HmacSHA224(OpenJCEPlusProvider provider) {
             super(provider, "SHA224", 64); // OCK digest name
         }
+
+        HmacSHA224(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
+            super(provider, "SHA224", 64, nativeInterface); // OCK digest name
+        }
     }
 
     // nested static class for the HmacSHA256 implementation
@@ -134,6 +159,10 @@ abstract class HmacCore extends MacSpi {
         public HmacSHA256(OpenJCEPlusProvider provider) {
             super(provider, "SHA256", 64); // OCK digest name
         }
+
+        HmacSHA256(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
+            super(provider, "SHA256", 64, nativeInterface); // OCK digest name
+        }
     }
 
     // nested static class for the HmacSHA384 implementation
@@ -141,6 +170,10 @@ abstract class HmacCore extends MacSpi {
         public HmacSHA384(OpenJCEPlusProvider provider) {
             super(provider, "SHA384", 128); // OCK digest name
         }
+
+        HmacSHA384(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
+            super(provider, "SHA384", 128, nativeInterface); // OCK digest name
+        }
     }
 
     // nested static class for the HmacSHA512 implementation
@@ -148,6 +181,10 @@ abstract class HmacCore extends MacSpi {
         public HmacSHA512(OpenJCEPlusProvider provider) {
             super(provider, "SHA512", 128); // OCK digest name
         }
+
+        HmacSHA512(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
+            super(provider, "SHA512", 128, nativeInterface); // OCK digest name
+        }
     }
 
     // nested static class for the HmacSHA3_224 implementation
@@ -155,6 +192,10 @@ abstract class HmacCore extends MacSpi {
         public HmacSHA3_224(OpenJCEPlusProvider provider) {
             super(provider, "SHA3-224", 64); // OCK digest name
         }
+
+        HmacSHA3_224(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
+            super(provider, "SHA3-224", 64, nativeInterface); // OCK digest name
+        }
     }
 
     // nested static class for the HmacSHA3_256 implementation
@@ -162,6 +203,10 @@ abstract class HmacCore extends MacSpi {
         public HmacSHA3_256(OpenJCEPlusProvider provider) {
             super(provider, "SHA3-256", 64); // OCK digest name
         }
+
+        HmacSHA3_256(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
+            super(provider, "SHA3-256", 64, nativeInterface); // OCK digest name
+        }
     }
 
     // nested static class for the HmacSHA3_384 implementation
@@ -169,6 +214,10 @@ abstract class HmacCore extends MacSpi {
         public HmacSHA3_384(OpenJCEPlusProvider provider) {
             super(provider, "SHA3-384", 128); // OCK digest name
         }
+
+        HmacSHA3_384(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
+            super(provider, "SHA3-384", 128, nativeInterface); // OCK digest name
+        }
     }
 
     // nested static class for the HmacSHA512 implementation
@@ -176,5 +225,9 @@ abstract class HmacCore extends MacSpi {
         public HmacSHA3_512(OpenJCEPlusProvider provider) {
             super(provider, "SHA3-512", 128); // OCK digest name
         }
+
+        HmacSHA3_512(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
+            super(provider, "SHA3-512", 128, nativeInterface); // OCK digest name
+        }
     }
 }
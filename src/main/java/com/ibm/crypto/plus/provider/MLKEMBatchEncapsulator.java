@@ -0,0 +1,94 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms provided by IBM in the LICENSE file that accompanied
+ * this code, including the "Classpath" Exception described therein.
+ */
+
+package com.ibm.crypto.plus.provider;
+
+import java.security.InvalidAlgorithmParameterException;
+import java.security.InvalidKeyException;
+import java.security.Provider;
+import java.security.ProviderException;
+import java.security.PublicKey;
+import javax.crypto.KEM;
+
+/**
+ * Performs batches of ML-KEM encapsulations with the same public key, each
+ * batch in a single native call. This is meant for workloads, such as load
+ * testing or key rotation, that need many encapsulations for one key; a
+ * {@link KEM.Encapsulator} is better suited for single encapsulations.
+ *
+ * <p>An instance holds on to the native form of the public key and may be
+ * used by several threads at the same time.
+ */
+public final class MLKEMBatchEncapsulator {
+
+    private final MLKEMImpl.MLKEMEncapsulator encapsulator;
+
+    /**
+     * Creates a batch encapsulator for the given ML-KEM public key.
+     *
+     * @param provider the provider to use, which must be an instance of an
+     *            OpenJCEPlus provider offering ML-KEM
+     * @param publicKey the ML-KEM public key of the receiver
+     * @throws InvalidKeyException if the key is not a valid ML-KEM public key
+     */
+    public MLKEMBatchEncapsulator(Provider provider, PublicKey publicKey)
+            throws InvalidKeyException {
+        if (!(provider instanceof OpenJCEPlusProvider openJCEPlusProvider)
+                || (provider.getService("KEM", "ML-KEM") == null)) {
+            throw new IllegalArgumentException("The provider does not support ML-KEM");
+        }
+        try {
+            this.encapsulator = (MLKEMImpl.MLKEMEncapsulator) new MLKEMImpl(openJCEPlusProvider,
+                    "ML-KEM").engineNewEncapsulator(publicKey, null, null);
+        } catch (InvalidAlgorithmParameterException e) {
+            // Not expected, no parameters are passed.
+            throw new ProviderException(e);
+        }
+    }
+
+    /**
+     * Performs count encapsulations, each returning the whole shared secret
+     * as a key of algorithm "Generic".
+     *
+     * @param count the number of encapsulations
+     * @return the results of the encapsulations
+     */
+    public KEM.Encapsulated[] encapsulate(int count) {
+        return encapsulate(count, 0, secretSize(), "Generic");
+    }
+
+    /**
+     * Performs count encapsulations. The from, to and algorithm arguments have
+     * the same meaning as for {@link KEM.Encapsulator#encapsulate(int, int, String)}.
+     *
+     * @param count the number of encapsulations
+     * @param from the initial index of the shared secret byte array to be
+     *            returned, inclusive
+     * @param to the final index of the shared secret byte array to be returned,
+     *            exclusive
+     * @param algorithm the algorithm name for the secret keys returned
+     * @return the results of the encapsulations
+     */
+    public KEM.Encapsulated[] encapsulate(int count, int from, int to, String algorithm) {
+        return encapsulator.engineEncapsulate(count, from, to, algorithm);
+    }
+
+    /**
+     * Returns the size of each encapsulation in bytes.
+     */
+    public int encapsulationSize() {
+        return encapsulator.engineEncapsulationSize();
+    }
+
+    /**
+     * Returns the size of each shared secret in bytes.
+     */
+    public int secretSize() {
+        return encapsulator.engineSecretSize();
+    }
+}
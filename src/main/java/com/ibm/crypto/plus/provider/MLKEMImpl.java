@@ -10,17 +10,14 @@ package com.ibm.crypto.plus.provider;
 
 import com.ibm.crypto.plus.provider.base.NativeException;
 import com.ibm.crypto.plus.provider.base.OJPKEM;
+import com.ibm.crypto.plus.provider.base.PQCKey;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
-import java.security.KeyFactory;
 import java.security.PrivateKey;
 import java.security.ProviderException;
 import java.security.PublicKey;
 import java.security.SecureRandom;
 import java.security.spec.AlgorithmParameterSpec;
-import java.security.spec.EncodedKeySpec;
-import java.security.spec.PKCS8EncodedKeySpec;
-import java.security.spec.X509EncodedKeySpec;
 import java.util.Arrays;
 import javax.crypto.DecapsulateException;
 import javax.crypto.KEM;
@@ -108,14 +105,19 @@ public class MLKEMImpl implements KEMSpi {
             // Validate algorithm match (unless this is the generic ML-KEM instance)
             validateKeyAlgorithm(keyAlgorithm);
             
-            // Use the key's actual algorithm, not the generic "ML-KEM"
-            try {
-                KeyFactory kf = KeyFactory.getInstance(keyAlgorithm, this.provider.getName());
-                EncodedKeySpec publicKeySpec = new X509EncodedKeySpec(publicKey.getEncoded());
-                pubKey = kf.generatePublic(publicKeySpec);
-       
-            } catch (Exception e) {
-                throw new InvalidKeyException("unsupported key", e);
+            // Keys of other providers are decoded once and then reused.
+            TranslatedKeyCache translatedKeys = provider.getTranslatedKeyCache("KEM.ML-KEM");
+            pubKey = (PublicKey) translatedKeys.get(publicKey);
+            if (pubKey == null) {
+                try {
+                    pubKey = new PQCPublicKey(this.provider, publicKey.getEncoded());
+                } catch (Exception e) {
+                    throw new InvalidKeyException("unsupported key", e);
+                }
+                if (!keyAlgorithm.equals("ML-KEM") && !keyAlgorithm.equals(pubKey.getAlgorithm())) {
+                    throw new InvalidKeyException("unsupported key");
+                }
+                translatedKeys.put(publicKey, pubKey);
             }
         } else {
             // Key is already a PQCPublicKey, validate algorithm match
@@ -128,11 +130,20 @@ public class MLKEMImpl implements KEMSpi {
         return new MLKEMEncapsulator(pubKey, spec, null);
     }
 
+    /*
+     * An encapsulator holds on to the native key of the peer and can be used for
+     * any number of encapsulations, including batches of encapsulations that
+     * are computed in a single native call. Each encapsulation uses the native
+     * key between beginUse and endUse, so that the key is not freed under it
+     * if it is destroyed meanwhile.
+     */
     class MLKEMEncapsulator implements KEMSpi.EncapsulatorSpi {
 
-        PublicKey publicKey;
-        int size = SECRETSIZE;
-        String algName = null;
+        final PublicKey publicKey;
+        final int size = SECRETSIZE;
+        final String algName;
+        final int encapsulationSize;
+        final PQCKey pqcKey;
 
         /*
          * spec - The AlgorithmParameterSpec is not used and should be null. 
@@ -140,42 +151,84 @@ public class MLKEMImpl implements KEMSpi {
          * will be ignored.
          */
         MLKEMEncapsulator(PublicKey publicKey, AlgorithmParameterSpec spec,
-                SecureRandom secureRandom) {
+                SecureRandom secureRandom) throws InvalidKeyException {
             this.publicKey = publicKey;
             this.algName = ((PQCPublicKey) publicKey).getAlgorithm().replace('_', '-');
+            this.encapsulationSize = getEncapsulationLength(publicKey.getAlgorithm());
+            this.pqcKey = ((PQCPublicKey) publicKey).getPQCKey();
+            try {
+                // Obtain the native key now so that an unusable key is rejected here.
+                this.pqcKey.getPKeyId();
+            } catch (NativeException e) {
+                throw new InvalidKeyException("unsupported key", e);
+            }
         }
 
         @Override
         public KEM.Encapsulated engineEncapsulate(int from, int to, String algorithm) {
-            // Get the actual algorithm from the public key
-            String keyAlgorithm = publicKey.getAlgorithm();
-            int encapLen = getEncapsulationLength(keyAlgorithm);
-            byte[] encapsulation = new byte[encapLen];
-            byte[] secret = new byte[SECRETSIZE];
+            checkSecretRange(from, to, algorithm);
 
-            if (from < 0 || to > SECRETSIZE || ((to - from) < 0) || (from >= SECRETSIZE)) {
-                throw new IndexOutOfBoundsException();
+            byte[] encapsulation = new byte[encapsulationSize];
+            byte[] secret = new byte[SECRETSIZE];
+            pqcKey.beginUse();
+            try {
+                OJPKEM.KEM_encapsulate(pqcKey.getPKeyId(), encapsulation, secret, provider, algName);
+                return new KEM.Encapsulated(
+                        new SecretKeySpec(secret, from, to - from, algorithm),
+                        encapsulation, null);
+            } catch (NativeException e) {
+                throw new ProviderException("OCK Exception: ", e);
+            } finally {
+                pqcKey.endUse();
+                Arrays.fill(secret, (byte) 0);
             }
-            if (algorithm == null) {
-                throw new NullPointerException();
+        }
+
+        /**
+         * Performs count encapsulations in a single native call.
+         */
+        KEM.Encapsulated[] engineEncapsulate(int count, int from, int to, String algorithm) {
+            if (count <= 0) {
+                throw new IllegalArgumentException("count must be positive");
             }
+            checkSecretRange(from, to, algorithm);
 
+            byte[] encapsulations = new byte[Math.multiplyExact(count, encapsulationSize)];
+            byte[] secrets = new byte[Math.multiplyExact(count, SECRETSIZE)];
+            pqcKey.beginUse();
             try {
-                OJPKEM.KEM_encapsulate(((PQCPublicKey) publicKey).getPQCKey().getPKeyId(),
-                        encapsulation, secret, provider, algName);
+                OJPKEM.KEM_encapsulateBatch(pqcKey.getPKeyId(), count, encapsulations, secrets,
+                        provider, algName);
+
+                KEM.Encapsulated[] result = new KEM.Encapsulated[count];
+                for (int i = 0; i < count; i++) {
+                    result[i] = new KEM.Encapsulated(
+                            new SecretKeySpec(secrets, (i * SECRETSIZE) + from, to - from, algorithm),
+                            Arrays.copyOfRange(encapsulations, i * encapsulationSize,
+                                    (i + 1) * encapsulationSize),
+                            null);
+                }
+                return result;
             } catch (NativeException e) {
                 throw new ProviderException("OCK Exception: ", e);
+            } finally {
+                pqcKey.endUse();
+                Arrays.fill(secrets, (byte) 0);
             }
+        }
 
-            return new KEM.Encapsulated(
-                    new SecretKeySpec(secret, from, to - from, algorithm),
-                    encapsulation, null);
+        private void checkSecretRange(int from, int to, String algorithm) {
+            if (from < 0 || to > SECRETSIZE || ((to - from) < 0) || (from >= SECRETSIZE)) {
+                throw new IndexOutOfBoundsException();
+            }
+            if (algorithm == null) {
+                throw new NullPointerException();
+            }
         }
 
         @Override
         public int engineEncapsulationSize() {
-            String keyAlgorithm = publicKey.getAlgorithm();
-            return getEncapsulationLength(keyAlgorithm);
+            return this.encapsulationSize;
         }
 
         @Override
@@ -212,14 +265,17 @@ public class MLKEMImpl implements KEMSpi {
             // Use the key's actual algorithm, not the generic "ML-KEM"
             byte[] encoding = null;
             try {
-                KeyFactory kf = KeyFactory.getInstance(keyAlgorithm, this.provider.getName());
                 encoding = privateKey.getEncoded();
-                PKCS8EncodedKeySpec privateKeySpec = new PKCS8EncodedKeySpec(encoding);
-                privKey = kf.generatePrivate(privateKeySpec);
+                privKey = new PQCPrivateKey(this.provider, encoding);
             } catch (Exception e) {
                 throw new InvalidKeyException("unsupported key", e);
             } finally {
-                Arrays.fill(encoding, (byte) 0);
+                if (encoding != null) {
+                    Arrays.fill(encoding, (byte) 0);
+                }
+            }
+            if (!keyAlgorithm.equals("ML-KEM") && !keyAlgorithm.equals(privKey.getAlgorithm())) {
+                throw new InvalidKeyException("unsupported key");
             }
 
         } else {
@@ -268,12 +324,14 @@ public class MLKEMImpl implements KEMSpi {
                     ", but got " + cipherText.length + " bytes");
             }
 
+            PQCKey pqcKey = ((PQCPrivateKey) this.privateKey).getPQCKey();
+            pqcKey.beginUse();
             try {
-                secret = OJPKEM.KEM_decapsulate(((PQCPrivateKey) this.privateKey).getPQCKey().getPKeyId(),
-                        cipherText, provider, algName);
-
+                secret = OJPKEM.KEM_decapsulate(pqcKey.getPKeyId(), cipherText, provider, algName);
             } catch (NativeException e) {
                 throw new DecapsulateException("Decapsulation Error: ", e);
+            } finally {
+                pqcKey.endUse();
             }
 
             return new SecretKeySpec(secret, from, to - from, algorithm);
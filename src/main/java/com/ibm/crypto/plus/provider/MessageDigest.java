@@ -9,6 +9,8 @@
 package com.ibm.crypto.plus.provider;
 
 import com.ibm.crypto.plus.provider.base.Digest;
+import com.ibm.crypto.plus.provider.base.NativeInterface;
+import java.nio.ByteBuffer;
 import java.security.MessageDigestSpi;
 
 abstract class MessageDigest extends MessageDigestSpi implements Cloneable {
@@ -16,6 +18,9 @@ abstract class MessageDigest extends MessageDigestSpi implements Cloneable {
     private OpenJCEPlusProvider provider = null;
     private Digest digest = null;
 
+    // Number of bytes digested since the last reset, for CryptoOperationEvent.
+    private long inputLength = 0;
+
     MessageDigest(OpenJCEPlusProvider provider, String ockDigestAlgo, String configAlgName) {
         try {
             this.provider = provider;
@@ -25,6 +30,17 @@ abstract class MessageDigest extends MessageDigestSpi implements Cloneable {
         }
     }
 
+    // Used by OpenJCEPlusService, which passes the native backend it resolved
+    // for the service so that the digest does not look it up.
+    MessageDigest(OpenJCEPlusProvider provider, String ockDigestAlgo, NativeInterface nativeInterface) {
+        try {
+            this.provider = provider;
+            this.digest = Digest.getInstance(ockDigestAlgo, provider, nativeInterface);
+        } catch (Exception e) {
+            throw provider.providerException("Failure in MessageDigest", e);
+        }
+    }
+
     MessageDigest(OpenJCEPlusProvider provider, String ockDigestAlgo, String configType, String configAlgName) {
         try {
             this.provider = provider;
@@ -51,6 +67,22 @@ abstract class MessageDigest extends MessageDigestSpi implements Cloneable {
         }
         try {
             this.digest.update(input, offset, length);
+            this.inputLength += length;
+        } catch (Exception e) {
+            throw provider.providerException("Failure in engineUpdate", e);
+        }
+    }
+
+    @Override
+    protected void engineUpdate(ByteBuffer input) {
+        if (!input.isDirect()) {
+            super.engineUpdate(input);
+            return;
+        }
+        try {
+            int length = input.remaining();
+            this.digest.update(input);
+            this.inputLength += length;
         } catch (Exception e) {
             throw provider.providerException("Failure in engineUpdate", e);
         }
@@ -58,11 +90,19 @@ abstract class MessageDigest extends MessageDigestSpi implements Cloneable {
 
     @Override
     protected byte[] engineDigest() {
+        CryptoOperation event = CryptoOperation.start();
+        byte[] result;
         try {
-            return this.digest.digest();
+            result = this.digest.digest();
         } catch (Exception e) {
+            inputLength = 0;
             throw provider.providerException("Failure in engineDigest", e);
         }
+        if (event != null) {
+            event.end(provider, this, "digest", 0, inputLength);
+        }
+        inputLength = 0;
+        return result;
     }
 
     @Override
@@ -122,6 +162,7 @@ abstract class MessageDigest extends MessageDigestSpi implements Cloneable {
     protected void engineReset() {
         try {
             this.digest.reset();
+            this.inputLength = 0;
         } catch (Exception e) {
             throw provider.providerException("Failure in engineReset", e);
         }
@@ -131,6 +172,10 @@ abstract class MessageDigest extends MessageDigestSpi implements Cloneable {
         public MD5(OpenJCEPlusProvider provider) {
             super(provider, "MD5", "MD5"); // OCK digest name
         }
+
+        MD5(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
+            super(provider, "MD5", nativeInterface); // OCK digest name
+        }
     }
 
     public static final class SHA1 extends MessageDigest {
@@ -138,6 +183,10 @@ abstract class MessageDigest extends MessageDigestSpi implements Cloneable {
             super(provider, "SHA1", "SHA1"); // OCK digest name
         }
 
+        SHA1(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
+            super(provider, "SHA1", nativeInterface); // OCK digest name
+        }
+
         public SHA1(OpenJCEPlusProvider provider, String ConfigType, String configAlgName) {
             super(provider, "SHA1", ConfigType, configAlgName); // OCK digest name
         }
@@ -147,30 +196,50 @@ abstract class MessageDigest extends MessageDigestSpi implements Cloneable {
         public SHA224(OpenJCEPlusProvider provider) {
             super(provider, "SHA224", "SHA224"); // OCK digest name
         }
+
+        SHA224(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
+            super(provider, "SHA224", nativeInterface); // OCK digest name
+        }
     }
 
     public static final class SHA256 extends MessageDigest {
         public SHA256(OpenJCEPlusProvider provider) {
             super(provider, "SHA256", "SHA256"); // OCK digest name
         }
+
+        SHA256(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
+            super(provider, "SHA256", nativeInterface); // OCK digest name
+        }
     }
 
     public static final class SHA384 extends MessageDigest {
         public SHA384(OpenJCEPlusProvider provider) {
             super(provider, "SHA384", "SHA384"); // OCK digest name
         }
+
+        SHA384(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
+            super(provider, "SHA384", nativeInterface); // OCK digest name
+        }
     }
 
     public static final class SHA512 extends MessageDigest {
         public SHA512(OpenJCEPlusProvider provider) {
             super(provider, "SHA512", "SHA512"); // OCK digest name
         }
+
+        SHA512(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
+            super(provider, "SHA512", nativeInterface); // OCK digest name
+        }
     }
 
     public static final class SHA512_224 extends MessageDigest {
         public SHA512_224(OpenJCEPlusProvider provider) {
             super(provider, "SHA512-224", "SHA-512/224"); // OCK digest name
         }
+
+        SHA512_224(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
+            super(provider, "SHA512-224", nativeInterface); // OCK digest name
+        }
     }
 
 
@@ -178,30 +247,50 @@ abstract class MessageDigest extends MessageDigestSpi implements Cloneable {
         public SHA512_256(OpenJCEPlusProvider provider) {
             super(provider, "SHA512-256", "SHA-512/256"); // OCK digest name
         }
+
+        SHA512_256(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
+            super(provider, "SHA512-256", nativeInterface); // OCK digest name
+        }
     }
 
     public static final class SHA3_224 extends MessageDigest {
         public SHA3_224(OpenJCEPlusProvider provider) {
             super(provider, "SHA3-224", "SHA3-224"); // OCK digest name
         }
+
+        SHA3_224(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
+            super(provider, "SHA3-224", nativeInterface); // OCK digest name
+        }
     }
 
     public static final class SHA3_256 extends MessageDigest {
         public SHA3_256(OpenJCEPlusProvider provider) {
             super(provider, "SHA3-256", "SHA3-256"); // OCK digest name
         }
+
+        SHA3_256(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
+            super(provider, "SHA3-256", nativeInterface); // OCK digest name
+        }
     }
 
     public static final class SHA3_384 extends MessageDigest {
         public SHA3_384(OpenJCEPlusProvider provider) {
             super(provider, "SHA3-384", "SHA3-384"); // OCK digest name
         }
+
+        SHA3_384(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
+            super(provider, "SHA3-384", nativeInterface); // OCK digest name
+        }
     }
 
     public static final class SHA3_512 extends MessageDigest {
         public SHA3_512(OpenJCEPlusProvider provider) {
             super(provider, "SHA3-512", "SHA3-512"); // OCK digest name
         }
+
+        SHA3_512(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
+            super(provider, "SHA3-512", nativeInterface); // OCK digest name
+        }
     }
 
     /*public static final class SHAKE128 extends MessageDigest {
@@ -0,0 +1,216 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms provided by IBM in the LICENSE file that accompanied
+ * this code, including the "Classpath" Exception described therein.
+ */
+
+package com.ibm.crypto.plus.provider;
+
+import java.lang.ref.Cleaner;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the objects holding native resources, such as keys and cipher
+ * contexts, that have been registered for cleaning by the OpenJCEPlus
+ * providers, and how their resources were released: explicitly, for instance
+ * by destroying a key, or by a cleaner thread once the object was found to be
+ * unreachable. The counts cover all providers and are also kept per class of
+ * object.
+ *
+ * <p>Objects are only counted once the native resources are monitored, as
+ * enabled by the {@code openjceplus.nativeResources.monitor} system property.
+ * Objects registered before are neither counted nor their releases.
+ */
+public final class NativeResourceCounters {
+
+    // Counts per class of object, created on first registration.
+    private static final ClassValue<Counts> countsByType = new ClassValue<Counts>() {
+        @Override
+        protected Counts computeValue(Class<?> type) {
+            Counts counts = new Counts(type.getSimpleName());
+            allCounts.add(counts);
+            return counts;
+        }
+    };
+
+    private static final Queue<Counts> allCounts = new ConcurrentLinkedQueue<>();
+
+    // Time spent by the cleaner threads releasing native resources.
+    private static final LongAdder cleanerNanos = new LongAdder();
+
+    private static final AtomicInteger cleanerThreads = new AtomicInteger();
+
+    private static volatile boolean enabled;
+
+    private NativeResourceCounters() {
+    }
+
+    /**
+     * Registers the action releasing the native resources of owner with the
+     * given cleaner. Cleaning the returned instance runs the action at once and
+     * counts it as an explicit release.
+     */
+    static Cleaner.Cleanable register(Cleaner cleaner, Object owner, Runnable cleanAction) {
+        if (!enabled) {
+            return cleaner.register(owner, cleanAction);
+        }
+        Counts counts = countsByType.get(owner.getClass());
+        CountedCleanAction action = new CountedCleanAction(cleanAction, counts);
+        action.cleanable = cleaner.register(owner, action);
+        counts.registered.increment();
+        return action;
+    }
+
+    /**
+     * Starts counting the objects registered from now on.
+     */
+    static void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Returns whether the objects holding native resources are counted.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Records that a provider has created the given number of cleaner threads.
+     */
+    static void addCleanerThreads(int count) {
+        cleanerThreads.addAndGet(count);
+    }
+
+    /**
+     * Returns the number of cleaner threads created by all providers.
+     */
+    public static int getCleanerThreadCount() {
+        return cleanerThreads.get();
+    }
+
+    /**
+     * Returns the number of objects registered since the providers were loaded.
+     */
+    public static long getRegisteredCount() {
+        long count = 0;
+        for (Counts counts : allCounts) {
+            count += counts.registered.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of objects whose native resources were released
+     * explicitly.
+     */
+    public static long getExplicitReleaseCount() {
+        long count = 0;
+        for (Counts counts : allCounts) {
+            count += counts.explicitReleases.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of objects whose native resources were released by a
+     * cleaner thread.
+     */
+    public static long getCleanerReleaseCount() {
+        long count = 0;
+        for (Counts counts : allCounts) {
+            count += counts.cleanerReleases.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the time, in nanoseconds, that the cleaner threads of all
+     * providers have spent releasing native resources.
+     */
+    public static long getCleanerTime() {
+        return cleanerNanos.sum();
+    }
+
+    /**
+     * Returns the number of registered objects whose native resources have not
+     * been released yet.
+     */
+    public static long getLiveCount() {
+        long count = 0;
+        for (Counts counts : allCounts) {
+            count += counts.live();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of registered objects whose native resources have not
+     * been released yet, keyed by the simple name of their class.
+     */
+    public static Map<String, Long> getLiveCounts() {
+        Map<String, Long> liveCounts = new TreeMap<>();
+        for (Counts counts : allCounts) {
+            liveCounts.merge(counts.type, counts.live(), Long::sum);
+        }
+        return liveCounts;
+    }
+
+    private static final class Counts {
+        final String type;
+        final LongAdder registered = new LongAdder();
+        final LongAdder explicitReleases = new LongAdder();
+        final LongAdder cleanerReleases = new LongAdder();
+
+        Counts(String type) {
+            this.type = type;
+        }
+
+        long live() {
+            // Read the releases first, so that a concurrent registration and
+            // release cannot make the result negative.
+            long released = explicitReleases.sum() + cleanerReleases.sum();
+            return registered.sum() - released;
+        }
+    }
+
+    // The action registered with the cleaner. It must not refer to the owner,
+    // or the owner would never become unreachable.
+    private static final class CountedCleanAction implements Runnable, Cleaner.Cleanable {
+        private final Runnable cleanAction;
+        private final Counts counts;
+        private Cleaner.Cleanable cleanable;
+        private volatile boolean explicit;
+
+        CountedCleanAction(Runnable cleanAction, Counts counts) {
+            this.cleanAction = cleanAction;
+            this.counts = counts;
+        }
+
+        @Override
+        public void run() {
+            if (explicit) {
+                counts.explicitReleases.increment();
+                cleanAction.run();
+            } else {
+                counts.cleanerReleases.increment();
+                long start = System.nanoTime();
+                cleanAction.run();
+                cleanerNanos.add(System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public void clean() {
+            explicit = true;
+            cleanable.clean();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms provided by IBM in the LICENSE file that accompanied
+ * this code, including the "Classpath" Exception described therein.
+ */
+
+package com.ibm.crypto.plus.provider;
+
+import com.ibm.crypto.plus.provider.base.NativePoolStatistics;
+import com.ibm.crypto.plus.provider.base.PublicKeyCache;
+import java.util.Map;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Percentage;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+
+/**
+ * The periodic JFR events reporting the native resources held by the
+ * providers. They carry the same values as the {@link NativeResourcesMXBean},
+ * with rates measured over the period of the events.
+ */
+final class NativeResourceEvents {
+
+    private NativeResourceEvents() {
+    }
+
+    static void register() {
+        NativeResources.Rates rates = new NativeResources.Rates();
+        FlightRecorder.addPeriodicEvent(NativeResourcesEvent.class, () -> {
+            NativeResourcesEvent event = new NativeResourcesEvent();
+            if (!event.isEnabled()) {
+                return;
+            }
+            rates.sample(0);
+            event.liveCount = NativeResourceCounters.getLiveCount();
+            event.registeredCount = NativeResourceCounters.getRegisteredCount();
+            event.explicitReleaseCount = NativeResourceCounters.getExplicitReleaseCount();
+            event.cleanerReleaseCount = NativeResourceCounters.getCleanerReleaseCount();
+            event.allocationRate = rates.allocationRate;
+            event.releaseRate = rates.releaseRate;
+            event.cleanerThreadCount = NativeResourceCounters.getCleanerThreadCount();
+            event.cleanerLoad = rates.cleanerLoad;
+            event.commit();
+        });
+        FlightRecorder.addPeriodicEvent(NativeObjectCountEvent.class, () -> {
+            for (Map.Entry<String, Long> entry : NativeResourceCounters.getLiveCounts().entrySet()) {
+                NativeObjectCountEvent event = new NativeObjectCountEvent();
+                event.type = entry.getKey();
+                event.liveCount = entry.getValue();
+                event.commit();
+            }
+        });
+        FlightRecorder.addPeriodicEvent(NativePoolEvent.class, () -> {
+            for (String name : NativePoolStatistics.getPoolNames()) {
+                commitPoolEvent(name, NativePoolStatistics.getHitCount(name),
+                        NativePoolStatistics.getMissCount(name),
+                        NativePoolStatistics.getIdleCount(name));
+            }
+            commitPoolEvent(NativeResources.PUBLIC_KEY_CACHE, PublicKeyCache.getHitCount(),
+                    PublicKeyCache.getMissCount(), PublicKeyCache.size());
+        });
+    }
+
+    private static void commitPoolEvent(String name, long hits, long misses, long idle) {
+        NativePoolEvent event = new NativePoolEvent();
+        event.pool = name;
+        event.hitCount = hits;
+        event.missCount = misses;
+        event.hitRate = NativeResources.hitRate(hits, misses);
+        event.idleCount = idle;
+        event.commit();
+    }
+
+    @Name("com.ibm.crypto.plus.NativeResources")
+    @Label("Native Resources")
+    @Category({"OpenJCEPlus"})
+    @Description("Objects holding native resources of the OpenJCEPlus providers")
+    @Period("10 s")
+    @StackTrace(false)
+    static final class NativeResourcesEvent extends Event {
+        @Label("Live Objects")
+        long liveCount;
+
+        @Label("Registered Objects")
+        long registeredCount;
+
+        @Label("Explicit Releases")
+        long explicitReleaseCount;
+
+        @Label("Cleaner Releases")
+        long cleanerReleaseCount;
+
+        @Label("Allocations per Second")
+        double allocationRate;
+
+        @Label("Releases per Second")
+        double releaseRate;
+
+        @Label("Cleaner Threads")
+        int cleanerThreadCount;
+
+        @Label("Cleaner Load")
+        @Description("Average number of cleaner threads busy releasing native resources")
+        double cleanerLoad;
+    }
+
+    @Name("com.ibm.crypto.plus.NativeObjectCount")
+    @Label("Native Object Count")
+    @Category({"OpenJCEPlus"})
+    @Description("Objects holding native resources of one type")
+    @Period("10 s")
+    @StackTrace(false)
+    static final class NativeObjectCountEvent extends Event {
+        @Label("Type")
+        String type;
+
+        @Label("Live Objects")
+        long liveCount;
+    }
+
+    @Name("com.ibm.crypto.plus.NativePool")
+    @Label("Native Pool")
+    @Category({"OpenJCEPlus"})
+    @Description("Use of one kind of pool of native contexts or keys")
+    @Period("10 s")
+    @StackTrace(false)
+    static final class NativePoolEvent extends Event {
+        @Label("Pool")
+        String pool;
+
+        @Label("Hits")
+        long hitCount;
+
+        @Label("Misses")
+        long missCount;
+
+        @Label("Hit Rate")
+        @Percentage
+        double hitRate;
+
+        @Label("Idle Objects")
+        long idleCount;
+    }
+}
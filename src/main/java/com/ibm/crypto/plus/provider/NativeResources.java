@@ -0,0 +1,190 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms provided by IBM in the LICENSE file that accompanied
+ * this code, including the "Classpath" Exception described therein.
+ */
+
+package com.ibm.crypto.plus.provider;
+
+import com.ibm.crypto.plus.provider.base.NativePoolStatistics;
+import com.ibm.crypto.plus.provider.base.PublicKeyCache;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.management.ObjectName;
+
+/**
+ * Reports the native resources held by the providers through JMX and JFR. The
+ * counts themselves are kept by {@link NativeResourceCounters} and
+ * {@link NativePoolStatistics}.
+ *
+ * <p>The {@code java.management} and {@code jdk.jfr} modules are optional. They
+ * are only used once monitoring is enabled, and monitoring is left out when
+ * they are not present.
+ */
+final class NativeResources implements NativeResourcesMXBean {
+
+    private static final String MONITOR = "openjceplus.nativeResources.monitor";
+
+    static final String OBJECT_NAME = "com.ibm.crypto.plus.provider:type=NativeResources";
+
+    static final String PUBLIC_KEY_CACHE = "Public key cache";
+
+    private static final AtomicBoolean registered = new AtomicBoolean();
+
+    private final Rates rates = new Rates();
+
+    /**
+     * Starts counting the objects holding native resources and registers the
+     * MBean and the JFR events, once, if enabled by the
+     * {@code openjceplus.nativeResources.monitor} system property.
+     */
+    static void register() {
+        if (!Boolean.parseBoolean(SystemAccessUtils.getSystemProperty(MONITOR, "false"))
+                || !registered.compareAndSet(false, true)) {
+            return;
+        }
+        NativeResourceCounters.enable();
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new NativeResources(),
+                    new ObjectName(OBJECT_NAME));
+        } catch (Exception | LinkageError e) {
+            debug("MBean", e);
+        }
+        try {
+            NativeResourceEvents.register();
+        } catch (Exception | LinkageError e) {
+            debug("JFR events", e);
+        }
+    }
+
+    // Monitoring is not essential to the providers, and a missing
+    // java.management or jdk.jfr module ends up here as a LinkageError.
+    private static void debug(String what, Throwable e) {
+        if (OpenJCEPlusProvider.getDebug() != null) {
+            OpenJCEPlusProvider.getDebug()
+                    .println("Failure registering native resource monitoring " + what + ": " + e);
+        }
+    }
+
+    @Override
+    public long getLiveCount() {
+        return NativeResourceCounters.getLiveCount();
+    }
+
+    @Override
+    public Map<String, Long> getLiveCounts() {
+        return NativeResourceCounters.getLiveCounts();
+    }
+
+    @Override
+    public long getRegisteredCount() {
+        return NativeResourceCounters.getRegisteredCount();
+    }
+
+    @Override
+    public long getExplicitReleaseCount() {
+        return NativeResourceCounters.getExplicitReleaseCount();
+    }
+
+    @Override
+    public long getCleanerReleaseCount() {
+        return NativeResourceCounters.getCleanerReleaseCount();
+    }
+
+    @Override
+    public double getAllocationRate() {
+        return rates.sample(TimeUnit.SECONDS.toNanos(1)).allocationRate;
+    }
+
+    @Override
+    public double getReleaseRate() {
+        return rates.sample(TimeUnit.SECONDS.toNanos(1)).releaseRate;
+    }
+
+    @Override
+    public int getCleanerThreadCount() {
+        return NativeResourceCounters.getCleanerThreadCount();
+    }
+
+    @Override
+    public double getCleanerLoad() {
+        return rates.sample(TimeUnit.SECONDS.toNanos(1)).cleanerLoad;
+    }
+
+    @Override
+    public Map<String, Double> getPoolHitRates() {
+        Map<String, Double> hitRates = new TreeMap<>();
+        for (String name : NativePoolStatistics.getPoolNames()) {
+            hitRates.put(name, hitRate(NativePoolStatistics.getHitCount(name),
+                    NativePoolStatistics.getMissCount(name)));
+        }
+        hitRates.put(PUBLIC_KEY_CACHE,
+                hitRate(PublicKeyCache.getHitCount(), PublicKeyCache.getMissCount()));
+        return hitRates;
+    }
+
+    @Override
+    public Map<String, Long> getPoolIdleCounts() {
+        Map<String, Long> idleCounts = new TreeMap<>();
+        for (String name : NativePoolStatistics.getPoolNames()) {
+            idleCounts.put(name, NativePoolStatistics.getIdleCount(name));
+        }
+        idleCounts.put(PUBLIC_KEY_CACHE, (long) PublicKeyCache.size());
+        return idleCounts;
+    }
+
+    static double hitRate(long hits, long misses) {
+        long requests = hits + misses;
+        return (requests == 0) ? 0.0 : (double) hits / requests;
+    }
+
+    /**
+     * Measures the rates of allocation and release of native resources, and the
+     * load of the cleaner threads, between successive samples.
+     */
+    static final class Rates {
+        private long time = System.nanoTime();
+        private long registered = NativeResourceCounters.getRegisteredCount();
+        private long released = releasedCount();
+        private long cleanerTime = NativeResourceCounters.getCleanerTime();
+
+        volatile double allocationRate;
+        volatile double releaseRate;
+        volatile double cleanerLoad;
+
+        /**
+         * Updates the rates if at least the given number of nanoseconds have
+         * passed since they were last updated.
+         */
+        synchronized Rates sample(long minimumInterval) {
+            long now = System.nanoTime();
+            long elapsed = now - time;
+            if ((elapsed > 0) && (elapsed >= minimumInterval)) {
+                long newRegistered = NativeResourceCounters.getRegisteredCount();
+                long newReleased = releasedCount();
+                long newCleanerTime = NativeResourceCounters.getCleanerTime();
+                double seconds = elapsed / 1e9;
+
+                allocationRate = (newRegistered - registered) / seconds;
+                releaseRate = (newReleased - released) / seconds;
+                cleanerLoad = (double) (newCleanerTime - cleanerTime) / elapsed;
+
+                time = now;
+                registered = newRegistered;
+                released = newReleased;
+                cleanerTime = newCleanerTime;
+            }
+            return this;
+        }
+
+        private static long releasedCount() {
+            return NativeResourceCounters.getExplicitReleaseCount()
+                    + NativeResourceCounters.getCleanerReleaseCount();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms provided by IBM in the LICENSE file that accompanied
+ * this code, including the "Classpath" Exception described therein.
+ */
+
+package com.ibm.crypto.plus.provider;
+
+import java.util.Map;
+
+/**
+ * The management interface reporting the native resources held by the
+ * OpenJCEPlus providers. It is registered with the platform MBean server as
+ * {@code com.ibm.crypto.plus.provider:type=NativeResources} when the
+ * {@code openjceplus.nativeResources.monitor} system property is set to
+ * {@code true}.
+ *
+ * <p>Rates are measured over the last period of at least one second that ended
+ * before they were read.
+ */
+public interface NativeResourcesMXBean {
+
+    /**
+     * Returns the number of objects holding native resources that have not been
+     * released yet.
+     */
+    long getLiveCount();
+
+    /**
+     * Returns the number of objects holding native resources that have not been
+     * released yet, keyed by the simple name of their class.
+     */
+    Map<String, Long> getLiveCounts();
+
+    /**
+     * Returns the number of objects holding native resources created since the
+     * providers were loaded.
+     */
+    long getRegisteredCount();
+
+    /**
+     * Returns the number of objects whose native resources were released
+     * explicitly, for instance by destroying a key.
+     */
+    long getExplicitReleaseCount();
+
+    /**
+     * Returns the number of objects whose native resources were released by a
+     * cleaner thread.
+     */
+    long getCleanerReleaseCount();
+
+    /**
+     * Returns the number of objects holding native resources created per second.
+     */
+    double getAllocationRate();
+
+    /**
+     * Returns the number of objects whose native resources were released per
+     * second, explicitly or by a cleaner thread.
+     */
+    double getReleaseRate();
+
+    /**
+     * Returns the number of cleaner threads created by the providers.
+     */
+    int getCleanerThreadCount();
+
+    /**
+     * Returns the average number of cleaner threads busy releasing native
+     * resources. A value close to the number of cleaner threads means that the
+     * cleaners are falling behind.
+     */
+    double getCleanerLoad();
+
+    /**
+     * Returns the fraction of the requests to each kind of pool that found an
+     * idle object ready, keyed by the name of the kind of pool.
+     */
+    Map<String, Double> getPoolHitRates();
+
+    /**
+     * Returns the number of idle objects held by each kind of pool, keyed by
+     * the name of the kind of pool.
+     */
+    Map<String, Long> getPoolIdleCounts();
+}
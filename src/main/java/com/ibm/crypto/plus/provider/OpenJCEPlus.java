@@ -66,7 +66,9 @@ public final class OpenJCEPlus extends OpenJCEPlusProvider {
             + "                                       NONEwithRSA, SHA1withRSA, SHA224withRSA,\n"
             + "                                       SHA256withRSA, SHA384withRSA, SHA512withRSA, RSAPSS, Ed25519, Ed448,\n"
             + "                                       SHA3-224withRSA, SHA3-256withRSA, SHA3-384withRSA, SHA3-512withRSA,\n"
-            + "                                       ML_DSA_44, ML_DSA_65, ML_DSA_87\n";
+            + "                                       ML_DSA_44, ML_DSA_65, ML_DSA_87,\n"
+            + "                                       HashML-DSA-44-with-SHA512, HashML-DSA-65-with-SHA512,\n"
+            + "                                       HashML-DSA-87-with-SHA512\n";
 
 
     private static final String OID_PKCS3 = "1.2.840.113549.1.3.1";
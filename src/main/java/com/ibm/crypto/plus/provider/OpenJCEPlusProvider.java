@@ -8,6 +8,10 @@
 
 package com.ibm.crypto.plus.provider;
 
+import com.ibm.crypto.plus.provider.base.ConfigurationException;
+import com.ibm.crypto.plus.provider.base.NativeCryptoSelector;
+import com.ibm.crypto.plus.provider.base.NativeInterface;
+import com.ibm.crypto.plus.provider.base.PublicKeyCache;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.StringReader;
@@ -16,6 +20,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.security.InvalidParameterException;
 import java.security.Key;
+import java.security.KeyPair;
 import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.Provider;
@@ -24,7 +29,9 @@ import java.security.PublicKey;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import javax.crypto.KDFParameters;
 import javax.crypto.SecretKey;
 import sun.security.util.Debug;
@@ -55,6 +62,21 @@ public abstract class OpenJCEPlusProvider extends java.security.Provider {
 
     private AtomicInteger count = new AtomicInteger(0);
 
+    // Native backends already resolved, keyed by the service type and the
+    // algorithm name used to look up the service.
+    private final transient Map<ServiceName, NativeInterface> nativeBackends = new ConcurrentHashMap<>();
+
+    // Caches of keys of other providers translated to keys of this provider,
+    // keyed by the engine that translates them.
+    private final transient Map<String, TranslatedKeyCache> translatedKeyCaches = new ConcurrentHashMap<>();
+
+    // Pools of key pairs generated ahead of time, keyed by algorithm.
+    private final transient Map<String, EphemeralKeyPairPool> ephemeralKeyPairPools = new ConcurrentHashMap<>();
+
+    // Services keyed by the name of their implementation class, for the events
+    // reporting the operations of an engine.
+    private final transient Map<String, Service> servicesByClassName = new ConcurrentHashMap<>();
+
     @SuppressWarnings("exports")
     protected static final Debug debug = Debug.getInstance(DEBUG_VALUE); 
 
@@ -73,6 +95,10 @@ public abstract class OpenJCEPlusProvider extends java.security.Provider {
             final Cleaner cleaner = Cleaner.create();
             cleaners[i] = cleaner;
         }
+        NativeResourceCounters.addCleanerThreads(numCleaners);
+        NativeResources.register();
+        PublicKeyCache.configure();
+        EphemeralKeyPairPool.configure();
     }
 
     /**
@@ -80,10 +106,95 @@ public abstract class OpenJCEPlusProvider extends java.security.Provider {
      * in the constructor must be changed to the PrimitiveWrapper type if the variable is passed
      * as a parameter to the Runnable cleaning method. This is to ensure the variable is passed by
      * reference instead of by value.
+     *
+     * The returned Cleanable may be used to run the cleaning method as soon as the
+     * native resources of the owner are no longer needed, instead of waiting for
+     * the owner to become unreachable; the cleaning method is run at most once.
      */
-    public void registerCleanable(Object owner, Runnable cleanAction) {
+    public Cleaner.Cleanable registerCleanable(Object owner, Runnable cleanAction) {
         Cleaner cleaner = cleaners[Math.abs(count.getAndIncrement() % numCleaners)];
-        cleaner.register(owner, cleanAction);
+        return NativeResourceCounters.register(cleaner, owner, cleanAction);
+    }
+
+    /**
+     * Returns the native backend configured for the service of the given type
+     * and algorithm. The first request for a service looks it up and resolves its
+     * NativeProvider attribute, later requests are answered from a cache with a
+     * single lookup.
+     *
+     * <p>This method is only public for the classes of the base package.
+     */
+    @SuppressWarnings("exports")
+    public NativeInterface getNativeInterface(String type, String algorithm) {
+        ServiceName name = new ServiceName(type, algorithm);
+        NativeInterface nativeInterface = nativeBackends.get(name);
+        if (nativeInterface == null) {
+            Service service = getService(type, algorithm);
+            if (service == null) {
+                throw new ConfigurationException("Service not found for type " + type + " and algorithm " + algorithm);
+            }
+
+            if (service instanceof OpenJCEPlusService) {
+                nativeInterface = ((OpenJCEPlusService) service).getNativeInterface();
+            } else {
+                nativeInterface = NativeCryptoSelector.selectBackend(service, isFIPS());
+            }
+
+            // Backends that are not available are not cached.
+            if (nativeInterface != null) {
+                nativeBackends.put(name, nativeInterface);
+            }
+        }
+        return nativeInterface;
+    }
+
+    private record ServiceName(String type, String algorithm) {
+    }
+
+    /**
+     * Returns the cache of public keys translated by the given engine, such as
+     * "KeyAgreement.X25519". Keys translated for different engines may be backed
+     * by different native backends, so they are not shared.
+     */
+    TranslatedKeyCache getTranslatedKeyCache(String engine) {
+        TranslatedKeyCache cache = translatedKeyCaches.get(engine);
+        if (cache == null) {
+            cache = translatedKeyCaches.computeIfAbsent(engine, e -> new TranslatedKeyCache());
+        }
+        return cache;
+    }
+
+    /**
+     * Returns the pool of key pairs generated ahead of time for the given
+     * algorithm, creating it with the given generator if needed. The generator
+     * is run on a background thread.
+     */
+    EphemeralKeyPairPool getEphemeralKeyPairPool(String algorithm, Supplier<KeyPair> generator) {
+        EphemeralKeyPairPool pool = ephemeralKeyPairPools.get(algorithm);
+        if (pool == null) {
+            pool = ephemeralKeyPairPools.computeIfAbsent(algorithm,
+                    a -> new EphemeralKeyPairPool(generator));
+        }
+        return pool;
+    }
+
+    /**
+     * Returns the service implemented by the class of the given engine, or null
+     * if there is none.
+     */
+    Service getServiceOf(Object engine) {
+        String className = engine.getClass().getName();
+        Service service = servicesByClassName.get(className);
+        if (service == null) {
+            for (Service candidate : getServices()) {
+                if (className.equals(candidate.getClassName())) {
+                    service = candidate;
+                    servicesByClassName.put(className, service);
+                    break;
+                }
+            }
+        }
+        return service;
     }
 
     @SuppressWarnings("exports")
@@ -161,6 +272,14 @@ public abstract class OpenJCEPlusProvider extends java.security.Provider {
     protected static class OpenJCEPlusService extends Service {
         private static Class<?> openjceplusClass;
 
+        // Native backend selected by the NativeProvider attribute, resolved on first use.
+        private volatile NativeInterface nativeInterface;
+
+        // Implementation class and its constructors, resolved on first use.
+        private volatile Class<?> implClass;
+        private volatile Constructor<?> constructor;
+        private volatile Constructor<?> parameterConstructor;
+
         OpenJCEPlusService(Provider provider, String type, String algorithm, String className,
                 String[] aliases) {
             this(provider, type, algorithm, className, aliases, null);
@@ -176,6 +295,16 @@ public abstract class OpenJCEPlusProvider extends java.security.Provider {
             }
         }
 
+        NativeInterface getNativeInterface() {
+            NativeInterface nativeInterface = this.nativeInterface;
+            if (nativeInterface == null) {
+                nativeInterface = NativeCryptoSelector.selectBackend(this,
+                        ((OpenJCEPlusProvider) getProvider()).isFIPS());
+                this.nativeInterface = nativeInterface;
+            }
+            return nativeInterface;
+        }
+
         private static List<String> toList(String[] aliases) {
             return (aliases == null) ? null : Arrays.asList(aliases);
         }
@@ -190,10 +319,7 @@ public abstract class OpenJCEPlusProvider extends java.security.Provider {
 
         @Override
         public Object newInstance(Object constructorParameter) throws NoSuchAlgorithmException {
-            Provider provider = getProvider();
-            String className = getClassName();
             String type = getType();
-            String algorithm = getAlgorithm();
 
             // AlgorithmParameters instances don't need the provider as a parameter,
             // so the superclass constructor can be used.
@@ -201,62 +327,85 @@ public abstract class OpenJCEPlusProvider extends java.security.Provider {
                 return super.newInstance(constructorParameter);
             }
 
-            Class<?> cls;
-            try {
-                cls = SystemAccessUtils.forName(className);
-            } catch (ClassNotFoundException e) {
-                throw new NoSuchAlgorithmException("class configured for " + type + " (provider: "
-                        + provider.getName() + ") cannot be found.", e);
-            }
+            Provider provider = getProvider();
 
             // Call the constructor that takes an OpenJCEPlusProvider if
             // available
             //
             try {
-                Class<?>[] parameters;
                 Class<?> ctrParamClz = null;
                 if (constructorParameter != null) {
                     ctrParamClz = getParameterClass(type);
                 }
                 if (ctrParamClz != null) {
-                    parameters = new Class<?>[2];
-                    
-                    Class<?> argClass = constructorParameter.getClass();
-                    if (!ctrParamClz.isAssignableFrom(argClass)) {
+                    if (!ctrParamClz.isInstance(constructorParameter)) {
                         throw new InvalidParameterException("constructorParameter must be "
                             + "instanceof " + ctrParamClz.getName().replace('$', '.')
                             + " for type " + type);
                     }
 
-                    parameters[1] = ctrParamClz;
-                } else {
-                    parameters = new Class<?>[1];
-                }
-                if (openjceplusClass == null) {
-                    openjceplusClass = SystemAccessUtils.forName(
-                            "com.ibm.crypto.plus.provider.OpenJCEPlusProvider");
-                }
-                parameters[0] = openjceplusClass;
-                Constructor<?> constr = cls.getConstructor(parameters);
-
-                Object[] ctrParams;
-                if ((constructorParameter != null) && (ctrParamClz != null)) {
-                    ctrParams = new Object[2];
-                    ctrParams[1] = constructorParameter;
+                    Constructor<?> constr = parameterConstructor;
+                    if (constr == null) {
+                        constr = lookupConstructor(ctrParamClz);
+                        parameterConstructor = constr;
+                    }
+                    return constr.newInstance(provider, constructorParameter);
                 } else {
-                    ctrParams = new Object[1];
+                    Constructor<?> constr = constructor;
+                    if (constr == null) {
+                        constr = lookupConstructor(null);
+                        constructor = constr;
+                    }
+                    if (constr.getParameterCount() == 2) {
+                        return constr.newInstance(provider, getNativeInterface());
+                    }
+                    return constr.newInstance(provider);
                 }
-                ctrParams[0] = provider;
-
-                return constr.newInstance(ctrParams);
+            } catch (NoSuchAlgorithmException e) {
+                throw e;
             } catch (InvocationTargetException e) {
                 throw new NoSuchAlgorithmException("Error constructing implementation (algorithm: "
-                    + algorithm + ", provider: " + provider.getName()
-                    + ", class: " + className + ")", e.getCause());
+                    + getAlgorithm() + ", provider: " + provider.getName()
+                    + ", class: " + getClassName() + ")", e.getCause());
             } catch (Exception e) {
                 throw new NoSuchAlgorithmException("Error constructing implementation (algorithm: "
-                    + algorithm + ", provider: " + provider.getName()
-                    + ", class: " + className + ")", e);
+                    + getAlgorithm() + ", provider: " + provider.getName()
+                    + ", class: " + getClassName() + ")", e);
+            }
+        }
+
+        // Finds the public constructor of the implementation class that takes an
+        // OpenJCEPlusProvider and, if ctrParamClz is not null, a parameter of that
+        // class. Implementations that also declare a constructor taking the
+        // NativeInterface get the backend resolved for this service instead of
+        // looking it up on each construction. The result is cached by newInstance
+        // so that the reflective lookup is only done once per service.
+        private Constructor<?> lookupConstructor(Class<?> ctrParamClz)
+                throws NoSuchAlgorithmException, ReflectiveOperationException {
+            Class<?> cls = implClass;
+            if (cls == null) {
+                try {
+                    cls = SystemAccessUtils.forName(getClassName());
+                } catch (ClassNotFoundException e) {
+                    throw new NoSuchAlgorithmException("class configured for " + getType()
+                            + " (provider: " + getProvider().getName() + ") cannot be found.", e);
+                }
+                implClass = cls;
+            }
+
+            if (openjceplusClass == null) {
+                openjceplusClass = SystemAccessUtils.forName(
+                        "com.ibm.crypto.plus.provider.OpenJCEPlusProvider");
+            }
+
+            if (ctrParamClz != null) {
+                return cls.getConstructor(openjceplusClass, ctrParamClz);
+            } else {
+                try {
+                    return cls.getDeclaredConstructor(openjceplusClass, NativeInterface.class);
+                } catch (NoSuchMethodException e) {
+                    return cls.getConstructor(openjceplusClass);
+                }
             }
         }
 
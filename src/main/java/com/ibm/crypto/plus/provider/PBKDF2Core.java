@@ -1,5 +1,5 @@
 /*
- * Copyright IBM Corp. 2025
+ * Copyright IBM Corp. 2025, 2026
  *
  * This code is free software; you can redistribute it and/or modify it
  * under the terms provided by IBM in the LICENSE file that accompanied
@@ -64,7 +64,12 @@ abstract class PBKDF2Core extends SecretKeyFactorySpi {
      */
     protected SecretKey engineGenerateSecret(KeySpec keySpec) throws InvalidKeySpecException {
         if (keySpec instanceof PBEKeySpec ks) {
-            return new PBKDF2KeyImpl(this.provider, ks, prfAlgo, beType, beAlg);
+            CryptoOperation event = CryptoOperation.start();
+            SecretKey key = new PBKDF2KeyImpl(this.provider, ks, prfAlgo, beType, beAlg);
+            if (event != null) {
+                event.end(provider, this, "generateSecret", ks.getKeyLength(), 0);
+            }
+            return key;
         } else {
             throw new InvalidKeySpecException("Only PBEKeySpec is accepted");
         }
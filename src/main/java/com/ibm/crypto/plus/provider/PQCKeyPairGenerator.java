@@ -16,6 +16,7 @@ import java.security.KeyPairGeneratorSpi;
 import java.security.SecureRandom;
 import java.security.spec.AlgorithmParameterSpec;
 import java.security.spec.NamedParameterSpec;
+import java.util.function.Supplier;
 
 abstract class PQCKeyPairGenerator extends KeyPairGeneratorSpi {
 
@@ -80,6 +81,15 @@ abstract class PQCKeyPairGenerator extends KeyPairGeneratorSpi {
 
     @Override
     public KeyPair generateKeyPair() {
+        CryptoOperation event = CryptoOperation.start();
+        KeyPair keyPair = generateKeyPairImpl();
+        if (event != null) {
+            event.end(provider, this, "generateKeyPair", keyPair.getPublic(), 0);
+        }
+        return keyPair;
+    }
+
+    private KeyPair generateKeyPairImpl() {
         try {
             // Set default if necessary
             switch (pqcAlg) {
@@ -94,19 +104,47 @@ abstract class PQCKeyPairGenerator extends KeyPairGeneratorSpi {
                     break;
             }
 
-            PQCKey mlkemKey = PQCKey.generateKeyPair(pqcAlg, provider);
-            byte[] privKeyBytes = mlkemKey.getPrivateKeyBytes();
-            PQCPrivateKey privKey = new PQCPrivateKey(provider, PQCKey.createPrivateKey(
-                                                        pqcAlg, privKeyBytes, provider, "KeyPairGenerator"));
-            byte[] pubKeyBytes = mlkemKey.getPublicKeyBytes();
-            PQCPublicKey pubKey = new PQCPublicKey(provider, PQCKey.createPublicKey(
-                                                        pqcAlg, pubKeyBytes, provider, "KeyPairGenerator"));
-            return new KeyPair(pubKey, privKey);
+            // Only key encapsulation key pairs are ephemeral.
+            if (pqcAlg.startsWith("ML-KEM") && EphemeralKeyPairPool.isPooled(pqcAlg)) {
+                KeyPair keyPair = provider.getEphemeralKeyPairPool(pqcAlg,
+                        keyPairs(provider, pqcAlg)).take();
+                if (keyPair != null) {
+                    return keyPair;
+                }
+            }
+
+            return generateKeyPair(provider, pqcAlg);
         } catch (Exception e) {
             throw provider.providerException("Failure in generateKeyPair - " + e.getCause(), e);
         }
     }
 
+    private static KeyPair generateKeyPair(OpenJCEPlusProvider provider, String pqcAlg)
+            throws Exception {
+        PQCKey mlkemKey = PQCKey.generateKeyPair(pqcAlg, provider);
+        byte[] privKeyBytes = mlkemKey.getPrivateKeyBytes();
+        PQCPrivateKey privKey = new PQCPrivateKey(provider, PQCKey.createPrivateKey(
+                                                    pqcAlg, privKeyBytes, provider, "KeyPairGenerator"));
+        byte[] pubKeyBytes = mlkemKey.getPublicKeyBytes();
+        PQCPublicKey pubKey = new PQCPublicKey(provider, PQCKey.createPublicKey(
+                                                    pqcAlg, pubKeyBytes, provider, "KeyPairGenerator"));
+        return new KeyPair(pubKey, privKey);
+    }
+
+    /*
+     * Returns a generator of key pairs for a pool of key pairs. It does not
+     * refer to this instance, so the pool does not keep it alive.
+     */
+    private static Supplier<KeyPair> keyPairs(OpenJCEPlusProvider provider, String pqcAlg) {
+        return () -> {
+            try {
+                return generateKeyPair(provider, pqcAlg);
+            } catch (Exception e) {
+                throw provider.providerException("Failure in generateKeyPair - " + e.getCause(), e);
+            }
+        };
+    }
+
     public static final class MLKEM512 extends PQCKeyPairGenerator {
 
         public MLKEM512(OpenJCEPlusProvider provider) {
@@ -62,6 +62,7 @@ final class PQCPrivateKey extends PKCS8Key {
                 pkOct = new DerValue(DerValue.tag_OctetString, key);
                 this.pqcKey = PQCKey.createPrivateKey(
                                 this.name, pkOct.toByteArray(), provider, "KeyFactory");
+                this.pqcKey.retain();
                 this.privKeyMaterial = pkOct.toByteArray();
             } finally {
                 pkOct.clear();
@@ -80,6 +81,7 @@ final class PQCPrivateKey extends PKCS8Key {
         try {
             this.provider = provider;
             this.pqcKey = pqcKey;
+            this.pqcKey.retain();
             this.name = PQCKnownOIDs.findMatch(pqcKey.getAlgorithm()).stdName();
             this.algid = new AlgorithmId(PQCAlgorithmId.getOID(name));
 
@@ -133,6 +135,7 @@ final class PQCPrivateKey extends PKCS8Key {
         try {
             this.pqcKey = PQCKey.createPrivateKey(
                                 this.name, this.privKeyMaterial, provider, "KeyFactory");
+            this.pqcKey.retain();
         } catch (Exception e) {
             throw new InvalidKeyException("Invalid key " + e.getMessage(), e);
         }
@@ -204,6 +207,7 @@ final class PQCPrivateKey extends PKCS8Key {
             Arrays.fill(this.privKeyMaterial, 0, this.privKeyMaterial.length, (byte) 0x00);
             this.privKeyMaterial = null;
             this.encodedKey = null;
+            this.pqcKey.release();
             this.pqcKey = null;
         }
     }
@@ -50,6 +50,7 @@ final class PQCPublicKey extends X509Key
             tmp.close();
 
             this.pqcKey = PQCKey.createPublicKey(algName, b, provider, "KeyFactory");
+            this.pqcKey.retain();
         } catch (Exception exception) {
             throw new InvalidKeyException("Failed to create public key", exception);
         }
@@ -67,6 +68,7 @@ final class PQCPublicKey extends X509Key
             setKey(new BitArray((rawKey.length - 5) * 8, rawKey, 5));
 
             this.pqcKey = pqcKey;
+            this.pqcKey.retain();
         } catch (Exception exception) {
             throw provider.providerException("Failure in PublicKey + " + exception.getMessage(), exception);
         }
@@ -85,6 +87,7 @@ final class PQCPublicKey extends X509Key
             tmp.close();
             
             this.pqcKey = PQCKey.createPublicKey(name, b, provider, "KeyFactory");
+            this.pqcKey.retain();
         } catch (Exception e) {
             throw new InvalidKeyException("Failure in PublicKey -" + e.getMessage(), e);
         }
@@ -153,6 +156,8 @@ final class PQCPublicKey extends X509Key
         if (!destroyed) {
             destroyed = true;
             setKey(new BitArray(0));
+            this.pqcKey.release();
+            this.pqcKey = null;
         }
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright IBM Corp. 2025
+ * Copyright IBM Corp. 2025, 2026
  *
  * This code is free software; you can redistribute it and/or modify it
  * under the terms provided by IBM in the LICENSE file that accompanied
@@ -8,6 +8,8 @@
 
 package com.ibm.crypto.plus.provider;
 
+import com.ibm.crypto.plus.provider.base.Digest;
+import com.ibm.crypto.plus.provider.base.PQCKey;
 import com.ibm.crypto.plus.provider.base.PQCSignature;
 import java.io.ByteArrayOutputStream;
 import java.security.AlgorithmParameters;
@@ -22,12 +24,34 @@ import java.security.spec.AlgorithmParameterSpec;
 
 abstract class PQCSignatureImpl extends SignatureSpi {
 
+    // Whether ML-DSA signatures compute mu incrementally as data is updated,
+    // instead of keeping the whole message until the signature is computed.
+    // It is read for each new signature, so that it can be changed at run time.
+    private static final String MLDSA_STREAMING = "openjceplus.mldsa.streaming";
+
+    // Bytes preceding the message in mu for pure ML-DSA with an empty context:
+    // the domain separator 0 followed by the context length.
+    private static final byte[] PURE_MU_PREFIX = {0x00, 0x00};
+
+    // Bytes preceding the hash of the message in mu for HashML-DSA with SHA-512
+    // and an empty context: the domain separator 1, the context length and the
+    // DER encoding of the SHA-512 OID (2.16.840.1.101.3.4.2.3).
+    private static final byte[] SHA512_MU_PREFIX = {0x01, 0x00, 0x06, 0x09, 0x60, (byte) 0x86,
+            0x48, 0x01, 0x65, 0x03, 0x04, 0x02, 0x03};
+
     private OpenJCEPlusProvider provider = null;
     private PQCSignature signature = null;
     private final ByteArrayOutputStream message = new ByteArrayOutputStream();
     private String alg = null;
+    // Name of the HashML-DSA algorithm, null for pure signatures
+    private String hashAlg = null;
+    // Hash of the message for HashML-DSA, null for pure signatures
+    private Digest preHash = null;
+    private boolean streaming = false;
     private boolean privateKeyInit = false;
     private boolean publicKeyInit = false;
+    // Number of bytes processed since initialization, for CryptoOperationEvent.
+    private long inputLength = 0;
     private final static String debPrefix = "PQCSIGNATUREImpl";
 
 
@@ -48,6 +72,19 @@ abstract class PQCSignatureImpl extends SignatureSpi {
             throw provider.providerException("Failed to initialize PQC signature", e);
         }
         this.alg = Alg; // Added to know difference between algorithms.
+        this.streaming = Alg.startsWith("ML-DSA") && Boolean.parseBoolean(
+                SystemAccessUtils.getSystemProperty(MLDSA_STREAMING, "false"));
+    }
+
+    PQCSignatureImpl(OpenJCEPlusProvider provider, String keyAlg, String hashAlg) {
+        this(provider, keyAlg);
+        this.hashAlg = hashAlg;
+        this.streaming = true;
+        try {
+            this.preHash = Digest.getInstance("SHA512", provider, "Signature", hashAlg);
+        } catch (Exception e) {
+            throw provider.providerException("Failed to initialize PQC signature", e);
+        }
     }
 
     @Deprecated
@@ -92,7 +129,7 @@ abstract class PQCSignatureImpl extends SignatureSpi {
         }
 
         try {
-            this.signature.initialize(keyPrivate.getPQCKey(), keyPrivate.getAlgorithm().replace('_', '-'));
+            initializeSignature(keyPrivate.getPQCKey(), keyPrivate.getAlgorithm().replace('_', '-'));
         } catch (Exception e) {
             throw provider.providerException("Failure in engineInitSign", e);
         }
@@ -100,6 +137,7 @@ abstract class PQCSignatureImpl extends SignatureSpi {
         this.privateKeyInit = true;
         this.publicKeyInit = false;
         this.message.reset();
+        this.inputLength = 0;
     }
 
     @Override
@@ -115,7 +153,7 @@ abstract class PQCSignatureImpl extends SignatureSpi {
             throw new InvalidKeyException("Expected algorithm " + this.alg + ", but got " + keyPublic.getAlgorithm());
         }
         try {
-            this.signature.initialize(keyPublic.getPQCKey(), keyPublic.getAlgorithm().replace('_', '-'));
+            initializeSignature(keyPublic.getPQCKey(), keyPublic.getAlgorithm().replace('_', '-'));
         } catch (Exception e) {
             throw provider.providerException("Failure in engineInitVerify", e);
         }
@@ -124,6 +162,27 @@ abstract class PQCSignatureImpl extends SignatureSpi {
         this.privateKeyInit = false;
         this.publicKeyInit = true;
         this.message.reset();
+        this.inputLength = 0;
+    }
+
+    private void initializeSignature(PQCKey key, String keyAlg)
+            throws Exception {
+        if (!streaming) {
+            this.signature.initialize(key, keyAlg);
+        } else if (preHash != null) {
+            this.preHash.reset();
+            this.signature.initializeStreaming(key, keyAlg, SHA512_MU_PREFIX);
+        } else {
+            this.signature.initializeStreaming(key, keyAlg, PURE_MU_PREFIX);
+        }
+    }
+
+    // Adds the hash of the message to mu for HashML-DSA.
+    private void finishPreHash() throws Exception {
+        if (preHash != null) {
+            byte[] hash = preHash.digest();
+            this.signature.update(hash, 0, hash.length);
+        }
     }
 
     @Override
@@ -132,6 +191,32 @@ abstract class PQCSignatureImpl extends SignatureSpi {
             throw new SignatureException("Missing private key");
         }
 
+        CryptoOperation event = CryptoOperation.start();
+        byte[] sigBytes;
+        try {
+            sigBytes = sign();
+        } catch (SignatureException e) {
+            inputLength = 0;
+            throw e;
+        }
+        if (event != null) {
+            event.end(provider, this, "sign", 0, inputLength);
+        }
+        inputLength = 0;
+        return sigBytes;
+    }
+
+    private byte[] sign() throws SignatureException {
+
+        if (streaming) {
+            try {
+                finishPreHash();
+                return this.signature.sign();
+            } catch (Exception e) {
+                throw new SignatureException("Could not sign data", e);
+            }
+        }
+
         try {
             byte[] dataBytes = message.toByteArray();
             message.reset();
@@ -145,13 +230,34 @@ abstract class PQCSignatureImpl extends SignatureSpi {
 
     @Override
     protected void engineUpdate(byte b) throws SignatureException {
-        message.write(b);
+        if (streaming) {
+            engineUpdate(new byte[] {b}, 0, 1);
+        } else {
+            message.write(b);
+            inputLength++;
+        }
     }
 
     @Override
     protected void engineUpdate(byte[] b, int off, int len) throws SignatureException {
         // Update can be called several times, as this is required by JCK 569 to maintain interop with Sun.
-        message.write(b, off, len);
+        if (!streaming) {
+            message.write(b, off, len);
+            inputLength += len;
+            return;
+        }
+        try {
+            if (preHash != null) {
+                preHash.update(b, off, len);
+            } else {
+                this.signature.update(b, off, len);
+            }
+            inputLength += len;
+        } catch (IllegalStateException e) {
+            throw new SignatureException("Not initialized", e);
+        } catch (Exception e) {
+            throw new SignatureException("Could not update data", e);
+        }
     }
 
     @Override
@@ -159,10 +265,31 @@ abstract class PQCSignatureImpl extends SignatureSpi {
         if (!publicKeyInit) {
             throw new SignatureException("Missing public key");
         }
+
+        CryptoOperation event = CryptoOperation.start();
+        boolean verified = verify(sigBytes);
+        if (event != null) {
+            event.end(provider, this, "verify", 0, inputLength);
+        }
+        inputLength = 0;
+        return verified;
+    }
+
+    private boolean verify(byte[] sigBytes) {
         if (message == null) {
             return false;
         }
 
+        if (streaming) {
+            try {
+                finishPreHash();
+                return this.signature.verify(sigBytes);
+            } catch (Exception e) {
+                // Return false rather than throwing exception.
+                return false;
+            }
+        }
+
         try {
             byte[] messageBytes = message.toByteArray();
             message.reset();
@@ -194,6 +321,27 @@ abstract class PQCSignatureImpl extends SignatureSpi {
         }
     }
 
+    public static final class HashMLDSA44withSHA512 extends PQCSignatureImpl {
+
+        public HashMLDSA44withSHA512(OpenJCEPlusProvider provider) {
+            super(provider, "ML-DSA-44", "HashML-DSA-44-with-SHA512");
+        }
+    }
+
+    public static final class HashMLDSA65withSHA512 extends PQCSignatureImpl {
+
+        public HashMLDSA65withSHA512(OpenJCEPlusProvider provider) {
+            super(provider, "ML-DSA-65", "HashML-DSA-65-with-SHA512");
+        }
+    }
+
+    public static final class HashMLDSA87withSHA512 extends PQCSignatureImpl {
+
+        public HashMLDSA87withSHA512(OpenJCEPlusProvider provider) {
+            super(provider, "ML-DSA-87", "HashML-DSA-87-with-SHA512");
+        }
+    }
+
     public static final class SLHDSASHA2128s extends PQCSignatureImpl {
 
         public SLHDSASHA2128s(OpenJCEPlusProvider provider) {
@@ -296,9 +296,10 @@ public final class RSA extends CipherSpi {
                     throw new InvalidKeyException("Public Key cannot be used to decrypt.");
                 }
             }
+            this.rsaPub = (RSAPublicKey) rsaKey;
+            com.ibm.crypto.plus.provider.base.RSAKey ockKey = rsaPub.getOCKKey();
             try {
-                this.rsaPub = (RSAPublicKey) rsaKey;
-                rsaCipher.initialize(rsaPub.getOCKKey(), false);
+                rsaCipher.initialize(ockKey, false);
                 this.keyType = Cipher.PUBLIC_KEY;
             } catch (Exception e) {
                 throw provider.providerException("Failure in internalInit", e);
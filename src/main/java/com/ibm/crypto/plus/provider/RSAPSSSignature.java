@@ -71,6 +71,8 @@ public final class RSAPSSSignature extends SignatureSpi {
     private java.security.interfaces.RSAPrivateKey privateKey;
     // public key, if initialized for verifying
     private java.security.interfaces.RSAPublicKey publicKey;
+    // number of bytes processed since initialization, for CryptoOperationEvent
+    private long inputLength = 0;
 
     public RSAPSSSignature(OpenJCEPlusProvider provider, PSSParameterSpec pssParameterSpec) {
         this.provider = provider;
@@ -234,6 +236,7 @@ public final class RSAPSSSignature extends SignatureSpi {
         }
         this.privateKey = (java.security.interfaces.RSAPrivateKey) rsaPrivate;
         this.publicKey = null;
+        this.inputLength = 0;
     }
 
     @Override
@@ -273,14 +276,16 @@ public final class RSAPSSSignature extends SignatureSpi {
             rsaPublic = rsaPublicClone;
         }
 
+        com.ibm.crypto.plus.provider.base.RSAKey ockKey = rsaPublic.getOCKKey();
         try {
-            this.signature.initialize(rsaPublic.getOCKKey(), InitOp.INITVERIFY, false);
+            this.signature.initialize(ockKey, InitOp.INITVERIFY, false);
         } catch (Exception e) {
             throw provider.providerException("Failure in engineInitVerify", e);
         }
 
         this.publicKey = rsaPublic;
         this.privateKey = null;
+        this.inputLength = 0;
     }
 
     @Override
@@ -294,6 +299,7 @@ public final class RSAPSSSignature extends SignatureSpi {
         ensureInit();
         try {
             this.signature.update(b, off, len);
+            this.inputLength += len;
         } catch (Exception e) {
             throw new SignatureException("Failure in engineUpdate", e);
         }
@@ -301,23 +307,37 @@ public final class RSAPSSSignature extends SignatureSpi {
 
     @Override
     protected byte[] engineSign() throws SignatureException {
+        CryptoOperation event = CryptoOperation.start();
+        byte[] sigBytes;
         try {
-            return this.signature.signFinal();
+            sigBytes = this.signature.signFinal();
         } catch (Exception e) {
+            inputLength = 0;
             throw new SignatureException("Could not sign data", e);
         }
+        if (event != null) {
+            event.end(provider, this, "sign", privateKey, inputLength);
+        }
+        inputLength = 0;
+        return sigBytes;
     }
 
 
     @Override
     protected boolean engineVerify(byte[] sigBytes) throws SignatureException {
+        CryptoOperation event = CryptoOperation.start();
+        boolean result;
         try {
-            boolean result = this.signature.verifyFinal(sigBytes);
-            return result;
+            result = this.signature.verifyFinal(sigBytes);
         } catch (Exception e) {
             // return false rather than throwing exception
-            return false;
+            result = false;
+        }
+        if (event != null) {
+            event.end(provider, this, "verify", publicKey, inputLength);
         }
+        inputLength = 0;
+        return result;
     }
 
     // set parameter, not supported. See JCA doc
@@ -112,6 +112,7 @@ final class RSAPrivateCrtKey extends PKCS8Key
 
         try {
             this.rsaKey = RSAKey.createPrivateKey(this.privKeyMaterial, provider);
+            this.rsaKey.retain();
         } catch (Exception exception) {
             throw new InvalidKeyException("Failed to create RSA private key", exception);
         }
@@ -133,6 +134,7 @@ final class RSAPrivateCrtKey extends PKCS8Key
 
         try {
             this.rsaKey = RSAKey.createPrivateKey(this.privKeyMaterial, provider);
+            this.rsaKey.retain();
         } catch (Exception exception) {
             throw new InvalidKeyException("Failed to create RSA private key", exception);
         }
@@ -156,6 +158,7 @@ final class RSAPrivateCrtKey extends PKCS8Key
             this.algid = algId;
             this.privKeyMaterial = rsaKey.getPrivateKeyBytes();
             this.rsaKey = rsaKey;
+            this.rsaKey.retain();
             this.keyParams = RSAUtil.getParamSpec(algid);
             parseKeyBits();
         } catch (Exception exception) {
@@ -304,6 +307,7 @@ final class RSAPrivateCrtKey extends PKCS8Key
             if (this.privKeyMaterial != null) {
                 Arrays.fill(this.privKeyMaterial, (byte) 0x00);
             }
+            this.rsaKey.release();
             this.rsaKey = null;
             this.modulus = null;
             this.publicExponent = null;
@@ -70,6 +70,7 @@ final class RSAPrivateKey extends PKCS8Key
 
         try {
             this.rsaKey = RSAKey.createPrivateKey(this.privKeyMaterial, provider);
+            this.rsaKey.retain();
         } catch (Exception exception) {
             throw new InvalidKeyException("Failed to create RSA private key", exception);
         }
@@ -89,6 +90,7 @@ final class RSAPrivateKey extends PKCS8Key
 
         try {
             this.rsaKey = RSAKey.createPrivateKey(this.privKeyMaterial, provider);
+            this.rsaKey.retain();
         } catch (Exception exception) {
             throw new InvalidKeyException("Failed to create RSA private key", exception);
         }
@@ -114,6 +116,7 @@ final class RSAPrivateKey extends PKCS8Key
             this.algid = algId;
             this.privKeyMaterial = rsaKey.getPrivateKeyBytes();
             this.rsaKey = rsaKey;
+            this.rsaKey.retain();
             this.keyParams = RSAUtil.getParamSpec(algId);
             parseKeyBits();
         } catch (Exception exception) {
@@ -239,6 +242,7 @@ final class RSAPrivateKey extends PKCS8Key
             if (this.privKeyMaterial != null) {
                 Arrays.fill(this.privKeyMaterial, (byte) 0x00);
             }
+            this.rsaKey.release();
             this.rsaKey = null;
             this.modulus = null;
             this.publicExponent = null;
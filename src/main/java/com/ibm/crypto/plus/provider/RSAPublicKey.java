@@ -37,7 +37,8 @@ final class RSAPublicKey extends X509Key
     private BigInteger modulus = null;
     private BigInteger publicExponent = null;
 
-    private transient RSAKey rsaKey = null; // Transient per tag [SERIALIZATION] in DesignNotes.txt
+    // Created on first use, see getOCKKey()
+    private transient volatile RSAKey rsaKey = null; // Transient per tag [SERIALIZATION] in DesignNotes.txt
     private transient boolean destroyed = false;
     private transient AlgorithmParameterSpec keyParams;
 
@@ -71,12 +72,6 @@ final class RSAPublicKey extends X509Key
         } catch (IOException ioe) {
             throw new InvalidKeyException("Could not DER encode: " + ioe.getMessage());
         }
-
-        try {
-            this.rsaKey = RSAKey.createPublicKey(getKey().toByteArray(), provider);
-        } catch (Exception exception) {
-            throw new InvalidKeyException("Failed to create RSA public key", exception);
-        }
     }
 
     public RSAPublicKey(OpenJCEPlusProvider provider, byte[] encoded) throws InvalidKeyException {
@@ -88,11 +83,6 @@ final class RSAPublicKey extends X509Key
                 this.publicExponent);
         checkExponentRange();
 
-        try {
-            this.rsaKey = RSAKey.createPublicKey(getKey().toByteArray(), provider);
-        } catch (Exception exception) {
-            throw new InvalidKeyException("Failed to create RSA public key", exception);
-        }
         try {
             // this will check the validity of params
             this.keyParams = RSAUtil.getParamSpec(algid);
@@ -144,6 +134,7 @@ final class RSAPublicKey extends X509Key
             byte[] keyArray = rsaKey.getPublicKeyBytes();
             setKey(new BitArray(keyArray.length * 8, keyArray));
             this.rsaKey = rsaKey;
+            this.rsaKey.retain();
             parseKeyBits();
         } catch (Exception exception) {
             throw new InvalidKeyException("Failed to create RSA public key", exception);
@@ -193,8 +184,35 @@ final class RSAPublicKey extends X509Key
         return keyParams;
     }
 
-    RSAKey getOCKKey() {
-        return this.rsaKey;
+    /**
+     * Returns the native key, creating it on first use. Many public keys, such
+     * as those of certificates in a trust store, are decoded but never used for
+     * a cryptographic operation and so never need a native key.
+     *
+     * <p>The lengths of the modulus and exponent are checked when the key is
+     * constructed. Any other problem found by the native library is only
+     * reported here, when the key is first used by a signature or cipher.
+     */
+    RSAKey getOCKKey() throws InvalidKeyException {
+        RSAKey key = this.rsaKey;
+        if (key == null) {
+            synchronized (this) {
+                key = this.rsaKey;
+                if (key == null) {
+                    if (destroyed) {
+                        throw new InvalidKeyException("This key is no longer valid");
+                    }
+                    try {
+                        key = RSAKey.createPublicKey(getKey().toByteArray(), provider);
+                    } catch (Exception exception) {
+                        throw new InvalidKeyException("Failed to create RSA public key", exception);
+                    }
+                    key.retain();
+                    this.rsaKey = key;
+                }
+            }
+        }
+        return key;
     }
 
     private static byte[] buildPublicKeyBytes(BigInteger modulus, BigInteger publicExponent)
@@ -248,10 +266,13 @@ final class RSAPublicKey extends X509Key
      *             if some error occurs while destroying this key.
      */
     @Override
-    public void destroy() throws DestroyFailedException {
+    public synchronized void destroy() throws DestroyFailedException {
         if (!destroyed) {
             destroyed = true;
             setKey(new BitArray(0));
+            if (this.rsaKey != null) {
+                this.rsaKey.release();
+            }
             this.rsaKey = null;
             this.modulus = null;
             this.publicExponent = null;
@@ -9,6 +9,7 @@
 package com.ibm.crypto.plus.provider;
 
 import com.ibm.crypto.plus.provider.RSAUtil.KeyType;
+import com.ibm.crypto.plus.provider.base.RSAKey;
 import com.ibm.crypto.plus.provider.base.Signature;
 import java.security.AlgorithmParameters;
 import java.security.InvalidAlgorithmParameterException;
@@ -30,6 +31,9 @@ abstract class RSASignature extends SignatureSpi {
     private String ockDigestAlgo = null;
     java.security.PublicKey publicKey = null;
     java.security.PrivateKey privateKey = null;
+    // The number of bytes processed since initialization, for
+    // CryptoOperationEvent.
+    private long inputLength = 0;
 
     RSASignature(OpenJCEPlusProvider provider, String ockDigestAlgo) {
         try {
@@ -83,8 +87,10 @@ abstract class RSASignature extends SignatureSpi {
             rsaPublic = rsaPublicClone;
         }
 
+        RSAKey ockKey = rsaPublic.getOCKKey();
         try {
-            this.signature.initialize(rsaPublic.getOCKKey(), false);
+            this.signature.initialize(ockKey, false);
+            this.inputLength = 0;
         } catch (Exception e) {
             throw provider.providerException("Failure in engineInitVerify", e);
         }
@@ -152,6 +158,7 @@ abstract class RSASignature extends SignatureSpi {
             } else if (rsaPrivate instanceof RSAPrivateKey) {
                 this.signature.initialize(((RSAPrivateKey) rsaPrivate).getOCKKey(), true);
             }
+            this.inputLength = 0;
         } catch (Exception e) {
             throw provider.providerException("Failure in engineInitSign", e);
         }
@@ -167,6 +174,7 @@ abstract class RSASignature extends SignatureSpi {
     protected void engineUpdate(byte[] b, int off, int len) throws SignatureException {
         try {
             this.signature.update(b, off, len);
+            this.inputLength += len;
         } catch (Exception e) {
             throw new SignatureException("Failure in engineUpdate", e);
         }
@@ -191,14 +199,22 @@ abstract class RSASignature extends SignatureSpi {
         if (this.privateKey == null) {
             throw new SignatureException("Missing private key");
         }
+        CryptoOperation event = CryptoOperation.start();
+        byte[] sigBytes;
         try {
             if (this.provider.toString().contains("FIPS") && this.ockDigestAlgo.contains("SHA1")) {
                 throw new SignatureException("FIPS does not support signing SHA1WithRSA");
             }
-            return this.signature.sign();
+            sigBytes = this.signature.sign();
         } catch (Exception e) {
+            inputLength = 0;
             throw new SignatureException("Could not sign data", e);
         }
+        if (event != null) {
+            event.end(provider, this, "sign", privateKey, inputLength);
+        }
+        inputLength = 0;
+        return sigBytes;
     }
 
     @Override
@@ -206,12 +222,19 @@ abstract class RSASignature extends SignatureSpi {
         if (publicKey == null) {
             throw new SignatureException("Missing public key");
         }
+        CryptoOperation event = CryptoOperation.start();
+        boolean verified;
         try {
-            return this.signature.verify(sigBytes);
+            verified = this.signature.verify(sigBytes);
         } catch (Exception e) {
             // return false rather than throwing exception
-            return false;
+            verified = false;
+        }
+        if (event != null) {
+            event.end(provider, this, "verify", publicKey, inputLength);
         }
+        inputLength = 0;
+        return verified;
     }
 
     @Deprecated
@@ -24,6 +24,7 @@
 package com.ibm.crypto.plus.provider;
 
 import com.ibm.crypto.plus.provider.base.RSACipher;
+import com.ibm.crypto.plus.provider.base.RSAKey;
 import com.ibm.crypto.plus.provider.base.RSAPadding;
 import java.io.ByteArrayOutputStream;
 import java.security.InvalidKeyException;
@@ -92,8 +93,9 @@ public final class RSASignatureNONE extends SignatureSpi {
             rsaPublic = rsaPublicClone;
         }
 
+        RSAKey ockKey = rsaPublic.getOCKKey();
         try {
-            rsaCipher.initialize(rsaPublic.getOCKKey(), false);
+            rsaCipher.initialize(ockKey, false);
         } catch (Exception e) {
             throw provider.providerException("Failure in engineInitVerify", e);
         }
@@ -30,6 +30,7 @@
 
 package com.ibm.crypto.plus.provider;
 
+import com.ibm.crypto.plus.provider.base.RSAKey;
 import com.ibm.crypto.plus.provider.base.SignatureRSASSL;
 import java.io.ByteArrayOutputStream;
 import java.security.InvalidKeyException;
@@ -94,8 +95,9 @@ public final class RSASignatureSSL_I2 extends SignatureSpi {
             rsaPublic = rsaPublicClone;
         }
 
+        RSAKey ockKey = rsaPublic.getOCKKey();
         try {
-            this.signature.initialize(rsaPublic.getOCKKey(), false);
+            this.signature.initialize(ockKey, false);
         } catch (Exception e) {
             throw provider.providerException("Failure in engineInitVerify", e);
         }
@@ -1,5 +1,5 @@
 /*
- * Copyright IBM Corp. 2023, 2025
+ * Copyright IBM Corp. 2023, 2026
  *
  * This code is free software; you can redistribute it and/or modify it
  * under the terms provided by IBM in the LICENSE file that accompanied
@@ -8,6 +8,8 @@
 
 package com.ibm.crypto.plus.provider;
 
+import com.ibm.crypto.plus.provider.base.NativeException;
+import com.ibm.crypto.plus.provider.base.TlsPrf;
 import java.security.DigestException;
 import java.security.GeneralSecurityException;
 import java.security.InvalidAlgorithmParameterException;
@@ -173,11 +175,41 @@ abstract class TlsPrfGenerator extends KeyGeneratorSpi {
         if (prfHash == null) {
             throw new NoSuchAlgorithmException("Unspecified PRF algorithm");
         }
+
+        // Derive the whole output natively when the PRF hash is one OCK knows.
+        String ockPrfHash = getOCKPrfHash(prfHash);
+        if (ockPrfHash != null) {
+            try {
+                return TlsPrf.doTLS12PRF(provider, ockPrfHash, secret, labelBytes, seed,
+                        outputLength);
+            } catch (NativeException e) {
+                throw provider.providerException("Failed to compute TLS PRF", e);
+            }
+        }
+
         MessageDigest prfMD = MessageDigest.getInstance(prfHash, provider);
         return doTLS12PRF(secret, labelBytes, seed, outputLength, prfMD, prfHashLength,
                 prfBlockSize);
     }
 
+    // Returns the native name of a TLS 1.2 PRF hash, or null if the PRF must be
+    // computed using a MessageDigest.
+    private static String getOCKPrfHash(String prfHash) {
+        switch (prfHash) {
+            case "SHA-256":
+            case "SHA256":
+                return "SHA256";
+            case "SHA-384":
+            case "SHA384":
+                return "SHA384";
+            case "SHA-512":
+            case "SHA512":
+                return "SHA512";
+            default:
+                return null;
+        }
+    }
+
     static byte[] doTLS12PRF(byte[] secret, byte[] labelBytes, byte[] seed, int outputLength,
             MessageDigest mdPRF, int mdPRFLen, int mdPRFBlockSize) throws DigestException {
 
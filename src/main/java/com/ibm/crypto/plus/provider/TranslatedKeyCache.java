@@ -0,0 +1,120 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms provided by IBM in the LICENSE file that accompanied
+ * this code, including the "Classpath" Exception described therein.
+ */
+
+package com.ibm.crypto.plus.provider;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.security.Key;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A bounded cache from keys of other providers to the keys of this provider
+ * they were translated to. Applications often hand the same foreign key to a
+ * signature or key agreement over and over, and the cache avoids creating a
+ * new native key each time.
+ *
+ * The foreign keys are weakly referenced, so an entry goes away together with
+ * the key it was made for. When the cache is full an arbitrary entry is evicted.
+ * Only public keys are meant to be cached, so that no private key material
+ * outlives the control of the application. Lookups do not lock, so callers
+ * may share a cache between threads, but they should still check for keys of
+ * this provider before consulting it.
+ */
+final class TranslatedKeyCache {
+
+    private static final String CACHE_SIZE = "openjceplus.translatedKeyCache.size";
+
+    // Maximum number of entries of each cache, 0 disables caching.
+    private static final int cacheSize;
+
+    static {
+        int size;
+        try {
+            size = Integer.parseInt(SystemAccessUtils.getSystemProperty(CACHE_SIZE, "128"));
+        } catch (NumberFormatException e) {
+            size = 0;
+        }
+        cacheSize = Math.max(size, 0);
+    }
+
+    private final ConcurrentHashMap<KeyReference, Key> translatedKeys = new ConcurrentHashMap<>();
+
+    private final ReferenceQueue<Key> clearedKeys = new ReferenceQueue<>();
+
+    /**
+     * Returns the key that the given key was translated to, or null.
+     */
+    Key get(Key key) {
+        if ((cacheSize == 0) || (key == null)) {
+            return null;
+        }
+        return translatedKeys.get(new KeyReference(key, null));
+    }
+
+    /**
+     * Records the key that the given key was translated to. The translated key
+     * must not refer to the original key, or the entry would never be removed.
+     */
+    void put(Key key, Key translatedKey) {
+        if ((cacheSize == 0) || (key == null) || (key == translatedKey)) {
+            return;
+        }
+        expungeClearedKeys();
+        KeyReference reference = new KeyReference(key, clearedKeys);
+        // Concurrent puts may briefly overshoot the size before evicting.
+        Iterator<KeyReference> iterator = translatedKeys.keySet().iterator();
+        while ((translatedKeys.size() >= cacheSize) && iterator.hasNext()
+                && !translatedKeys.containsKey(reference)) {
+            iterator.next();
+            iterator.remove();
+        }
+        translatedKeys.put(reference, translatedKey);
+    }
+
+    private void expungeClearedKeys() {
+        Reference<? extends Key> cleared;
+        while ((cleared = clearedKeys.poll()) != null) {
+            translatedKeys.remove(cleared);
+        }
+    }
+
+    /**
+     * A weak reference to a key that compares equal to a reference to an equal
+     * key. A cleared reference is only equal to itself, so that it can still be
+     * removed once its key is gone.
+     */
+    private static final class KeyReference extends WeakReference<Key> {
+
+        private final int hash;
+
+        KeyReference(Key key, ReferenceQueue<Key> queue) {
+            super(key, queue);
+            this.hash = key.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof KeyReference other) || (hash != other.hash)) {
+                return false;
+            }
+            Key key = get();
+            return (key != null) && key.equals(other.get());
+        }
+    }
+}
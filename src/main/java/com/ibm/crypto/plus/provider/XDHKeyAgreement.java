@@ -70,13 +70,21 @@ abstract class XDHKeyAgreement extends KeyAgreementSpi {
                     "object is not initialized correctly (private key is not received)");
 
         if (!(key instanceof XDHPublicKeyImpl)) {
-            try {
-                key = (XDHPublicKeyImpl) XDHKeyFactory.toXECKey(this.provider, this.alg, key);
-            } catch (ClassCastException cce) {
-                throw new InvalidKeyException("Translated key is not an instance of XDHPublicKeyImpl", cce);
-            } catch (Exception exception) {
-                throw new InvalidKeyException("Unable to translate key", exception);
+            // Public keys of other providers are translated once and then reused.
+            TranslatedKeyCache translatedKeys = provider.getTranslatedKeyCache(
+                    "KeyAgreement." + ((this.alg == null) ? "XDH" : this.alg));
+            Key translatedKey = translatedKeys.get(key);
+            if (translatedKey == null) {
+                try {
+                    translatedKey = (XDHPublicKeyImpl) XDHKeyFactory.toXECKey(this.provider, this.alg, key);
+                } catch (ClassCastException cce) {
+                    throw new InvalidKeyException("Translated key is not an instance of XDHPublicKeyImpl", cce);
+                } catch (Exception exception) {
+                    throw new InvalidKeyException("Unable to translate key", exception);
+                }
+                translatedKeys.put(key, translatedKey);
             }
+            key = translatedKey;
         }
 
         XDHPublicKeyImpl xdhPublicKeyImpl = (XDHPublicKeyImpl) key;
@@ -98,6 +106,8 @@ abstract class XDHKeyAgreement extends KeyAgreementSpi {
             throw new IllegalStateException("XDH can only be between two parties.");
         }
 
+        // The secret is computed here rather than when it is generated.
+        CryptoOperation event = CryptoOperation.start();
         try {
             String configAlgName = this.alg;
             
@@ -105,8 +115,18 @@ abstract class XDHKeyAgreement extends KeyAgreementSpi {
                 configAlgName = "XDH";
             }
 
-            this.secret = XECKey.computeECDHSecret(genCtx,
-                    ockXecKeyPub.getPKeyId(), ockXecKeyPriv.getPKeyId(), provider, configAlgName);
+            ockXecKeyPub.beginUse();
+            try {
+                ockXecKeyPriv.beginUse();
+                try {
+                    this.secret = XECKey.computeECDHSecret(genCtx, ockXecKeyPub.getPKeyId(),
+                            ockXecKeyPriv.getPKeyId(), provider, configAlgName);
+                } finally {
+                    ockXecKeyPriv.endUse();
+                }
+            } finally {
+                ockXecKeyPub.endUse();
+            }
         } catch (NativeException e) {
             //Validate the secret value for a small order point condition.
             byte orValue = (byte) 0;
@@ -122,6 +142,9 @@ abstract class XDHKeyAgreement extends KeyAgreementSpi {
         } catch (Exception e) {
             throw new InvalidKeyException("Failed to generate secret", e);
         }
+        if (event != null) {
+            event.end(provider, this, "generateSecret", xdhPublicKeyImpl, 0);
+        }
 
         return null;
     }
@@ -17,6 +17,7 @@ import java.security.ProviderException;
 import java.security.SecureRandom;
 import java.security.spec.AlgorithmParameterSpec;
 import java.security.spec.NamedParameterSpec;
+import java.util.function.Supplier;
 
 abstract class XDHKeyPairGenerator extends KeyPairGeneratorSpi {
 
@@ -124,24 +125,62 @@ abstract class XDHKeyPairGenerator extends KeyPairGeneratorSpi {
 
     @Override
     public KeyPair generateKeyPair() {
-        try {
-            String configAlgName = this.alg;
+        CryptoOperation event = CryptoOperation.start();
+        KeyPair keyPair = generateKeyPairImpl();
+        if (event != null) {
+            event.end(provider, this, "generateKeyPair", keyPair.getPublic(), 0);
+        }
+        return keyPair;
+    }
+
+    private KeyPair generateKeyPairImpl() {
+        String configAlgName = this.alg;
 
-            if (configAlgName == null) {
-                configAlgName = "XDH";
+        if (configAlgName == null) {
+            configAlgName = "XDH";
+        }
+
+        if (EphemeralKeyPairPool.isPooled(serviceCurve.name())) {
+            KeyPair keyPair = provider.getEphemeralKeyPairPool(
+                    configAlgName + "." + serviceCurve.name(),
+                    keyPairs(provider, serviceCurve, configAlgName)).take();
+            if (keyPair != null) {
+                return keyPair;
             }
-            
-            int keySize = CurveUtil.getCurveSize(serviceCurve);
-            XECKey xecKey = XECKey.generateKeyPair(this.serviceCurve.ordinal(), keySize, provider, configAlgName);
-            XDHPrivateKeyImpl privKey = new XDHPrivateKeyImpl(provider, xecKey);
-            XDHPublicKeyImpl pubKey = new XDHPublicKeyImpl(provider, xecKey, this.serviceCurve);
-            return new KeyPair(pubKey, privKey);
+        }
+
+        try {
+            return generateKeyPair(provider, serviceCurve, configAlgName);
         } catch (Exception e) {
             throw provider.providerException("Failure in generateKeyPair", e);
         }
 
     }
 
+    private static KeyPair generateKeyPair(OpenJCEPlusProvider provider, CurveUtil.CURVE curve,
+            String configAlgName) throws Exception {
+        int keySize = CurveUtil.getCurveSize(curve);
+        XECKey xecKey = XECKey.generateKeyPair(curve.ordinal(), keySize, provider, configAlgName);
+        XDHPrivateKeyImpl privKey = new XDHPrivateKeyImpl(provider, xecKey);
+        XDHPublicKeyImpl pubKey = new XDHPublicKeyImpl(provider, xecKey, curve);
+        return new KeyPair(pubKey, privKey);
+    }
+
+    /*
+     * Returns a generator of key pairs for a pool of key pairs. It does not
+     * refer to this instance, so the pool does not keep it alive.
+     */
+    private static Supplier<KeyPair> keyPairs(OpenJCEPlusProvider provider, CurveUtil.CURVE curve,
+            String configAlgName) {
+        return () -> {
+            try {
+                return generateKeyPair(provider, curve, configAlgName);
+            } catch (Exception e) {
+                throw provider.providerException("Failure in generateKeyPair", e);
+            }
+        };
+    }
+
     public static final class X25519 extends XDHKeyPairGenerator {
 
         public X25519(OpenJCEPlusProvider provider) {
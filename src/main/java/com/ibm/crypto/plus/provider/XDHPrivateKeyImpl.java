@@ -83,6 +83,7 @@ final class XDHPrivateKeyImpl extends PKCS8Key implements XECPrivateKey, Seriali
         if (xecKey == null)
             throw new InvalidKeyException("xecKey cannot be null");
         this.xecKey = xecKey;
+        this.xecKey.retain();
         this.provider = provider;
         try {
             setFieldsFromXeckey();
@@ -105,6 +106,7 @@ final class XDHPrivateKeyImpl extends PKCS8Key implements XECPrivateKey, Seriali
             // to fit with GSKit and sets params
             int curveSize = CurveUtil.getCurveSize(curve);
             this.xecKey = XECKey.createPrivateKey(alteredEncoded, curveSize, provider, configAlgName);
+            this.xecKey.retain();
         } catch (Exception exception) {
             throw new InvalidKeyException("Failed to create XEC private key", exception);
         }
@@ -150,6 +152,7 @@ final class XDHPrivateKeyImpl extends PKCS8Key implements XECPrivateKey, Seriali
                 if (ALLOW_KEYPAIR_GENERATION_IN_CONSTRUCTOR) {
                     int keySize = CurveUtil.getCurveSize(curve);
                     this.xecKey = XECKey.generateKeyPair(this.curve.ordinal(), keySize, provider, configAlgName);
+                    this.xecKey.retain();
                 } else {
                     throw new InvalidParameterException(
                         "Cannot create XDH private key without scalar parameter.");
@@ -159,6 +162,7 @@ final class XDHPrivateKeyImpl extends PKCS8Key implements XECPrivateKey, Seriali
                 byte[] der = buildOCKPrivateKeyBytes();
                 int encodingSize = CurveUtil.getDEREncodingSize(curve);
                 this.xecKey = XECKey.createPrivateKey(der, encodingSize, provider, configAlgName);
+                this.xecKey.retain();
             }
             setPKCS8KeyByte(k);
         } catch (Exception exception) {
@@ -546,6 +550,7 @@ final class XDHPrivateKeyImpl extends PKCS8Key implements XECPrivateKey, Seriali
                 Arrays.fill(k, (byte) 0x00);
             if (this.privKeyMaterial != null)
                 Arrays.fill(this.privKeyMaterial, (byte) 0x00);
+            this.xecKey.release();
             this.xecKey = null;
             this.params = null;
         }
@@ -84,6 +84,7 @@ final class XDHPublicKeyImpl extends X509Key implements XECPublicKey, Destroyabl
 
         this.provider = provider;
         this.xecKey = xecKey;
+        this.xecKey.retain();
         this.curve = curve;
         try {
             this.algid = CurveUtil.getAlgId(curve);
@@ -127,6 +128,7 @@ final class XDHPublicKeyImpl extends X509Key implements XECPublicKey, Destroyabl
 
             byte[] alteredEncoded = alterEncodedPublicKey(encoded); // Alters encoded to fit GSKit, and sets params
             this.xecKey = XECKey.createPublicKey(alteredEncoded, provider, configAlgName);
+            this.xecKey.retain();
         } catch (Exception exception) {
             throw new InvalidKeyException("Failed to create XEC public key", exception);
         }
@@ -168,6 +170,7 @@ final class XDHPublicKeyImpl extends X509Key implements XECPublicKey, Destroyabl
             if (u == null) {
                 int keySize = CurveUtil.getCurveSize(curve);
                 this.xecKey = XECKey.generateKeyPair(curve.ordinal(), keySize, provider, configAlgName);
+                this.xecKey.retain();
                 setFieldsFromXeckey();
             } else {
 
@@ -202,6 +205,7 @@ final class XDHPublicKeyImpl extends X509Key implements XECPublicKey, Destroyabl
                 checkKeySize();
 
                 this.xecKey = XECKey.createPublicKey(der, provider, configAlgName);
+                this.xecKey.retain();
             }
         } catch (InvalidKeyException ex) {
             throw ex;
@@ -471,6 +475,7 @@ final class XDHPublicKeyImpl extends X509Key implements XECPublicKey, Destroyabl
         if (!destroyed) {
             destroyed = true;
             setKey(new BitArray(0));
+            this.xecKey.release();
             this.xecKey = null;
             this.u = null;
             this.params = null;
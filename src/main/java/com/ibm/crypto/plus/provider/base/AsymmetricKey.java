@@ -17,4 +17,36 @@ public interface AsymmetricKey {
     public byte[] getPrivateKeyBytes() throws NativeException;
 
     public byte[] getPublicKeyBytes() throws NativeException;
+
+    /**
+     * Records that one more key object uses this native key. The native key
+     * is not freed by {@link #release()} while it has other users.
+     *
+     * @throws IllegalStateException if the native key has been destroyed
+     */
+    public void retain();
+
+    /**
+     * Records that a key object using this native key has been destroyed. Once
+     * its last user is destroyed, the native key is marked as destroyed and is
+     * freed right away, instead of when it becomes unreachable, as soon as the
+     * native operations in progress with it have ended.
+     */
+    public void release();
+
+    /**
+     * Records that a native operation with this native key is starting, so
+     * that the native key is not freed before the matching {@link #endUse()}.
+     * Every use of the native key, or of an identifier obtained from it, must
+     * be made between these two calls.
+     *
+     * @throws IllegalStateException if the native key has been destroyed
+     */
+    public void beginUse();
+
+    /**
+     * Records that a native operation started with {@link #beginUse()} has
+     * ended.
+     */
+    public void endUse();
 }
@@ -22,6 +22,8 @@ public final class DHKey implements AsymmetricKey {
     private OpenJCEPlusProvider provider;
     private NativeInterface nativeInterface;
     private final long dhKeyId;
+    // Frees the native key once the last key object using it is destroyed
+    private final NativeKeyLifetime lifetime;
     private PrimitiveWrapper.Long pkeyId = new PrimitiveWrapper.Long(0);
 
     private byte[] privateKeyBytes = null;
@@ -30,6 +32,15 @@ public final class DHKey implements AsymmetricKey {
     private final String badIdMsg = "DH Key Identifier is not valid";
     private static final String badIdMsg1 = "Public or Private Key Identifier is not valid";
     private static final String debPrefix = "DHKey";
+    private static final int FastJNIBufferSize = 16384;
+
+    // Buffer to receive the encodings of generated keys from native efficiently
+    private static final ThreadLocal<FastJNIBuffer> buffer = new ThreadLocal<FastJNIBuffer>() {
+        @Override
+        protected FastJNIBuffer initialValue() {
+            return FastJNIBuffer.create(FastJNIBufferSize);
+        }
+    };
 
     public static DHKey generateKeyPair(byte[] parameters, OpenJCEPlusProvider provider) throws NativeException {
         //final String methodName = "generateKeyPair(byte[]) ";
@@ -42,9 +53,26 @@ public final class DHKey implements AsymmetricKey {
             throw new IllegalArgumentException("provider is null");
         }
         NativeInterface nativeInterface = NativeCryptoSelector.selectBackend(provider, "KeyPairGenerator", "DiffieHellman");
-        long dhKeyId = nativeInterface.DHKEY_generate(parameters);
-        return new DHKey(nativeInterface, dhKeyId, parameters.clone(), unobtainedKeyBytes,
-                unobtainedKeyBytes, provider);
+
+        // The private and public key encodings each repeat the parameters and
+        // add a value no longer than the prime, and are returned one after the
+        // other so that neither has to be obtained with a further native call.
+        FastJNIBuffer buffer = DHKey.buffer.get();
+        if (buffer.capacity() < (4 * parameters.length + 256)) {
+            buffer = FastJNIBuffer.create(4 * parameters.length + 256);
+        }
+        int[] lengths = new int[2];
+        long dhKeyId = nativeInterface.DHKEY_generateWithEncodings(parameters, lengths,
+                buffer.pointer(), buffer.capacity());
+
+        byte[] privateKeyBytes = new byte[lengths[0]];
+        byte[] publicKeyBytes = new byte[lengths[1]];
+        buffer.get(0, privateKeyBytes, 0, lengths[0]);
+        buffer.get(lengths[0], publicKeyBytes, 0, lengths[1]);
+        buffer.clear(0, lengths[0]);
+
+        return new DHKey(nativeInterface, dhKeyId, parameters.clone(), privateKeyBytes,
+                publicKeyBytes, provider);
     }
 
     public static DHKey generateKeyPair(int numBits, OpenJCEPlusProvider provider) throws NativeException {
@@ -107,7 +135,8 @@ public final class DHKey implements AsymmetricKey {
         this.publicKeyBytes = publicKeyBytes;
         this.provider = provider;
 
-        this.provider.registerCleanable(this, cleanOCKResources(privateKeyBytes, dhKeyId, pkeyId, nativeInterface));
+        this.lifetime = new NativeKeyLifetime(this.provider.registerCleanable(this,
+                cleanOCKResources(privateKeyBytes, dhKeyId, pkeyId, nativeInterface)));
     }
 
     @Override
@@ -130,6 +159,26 @@ public final class DHKey implements AsymmetricKey {
         return pkeyId.getValue();
     }
 
+    @Override
+    public void retain() {
+        lifetime.retain();
+    }
+
+    @Override
+    public void release() {
+        lifetime.release();
+    }
+
+    @Override
+    public void beginUse() {
+        lifetime.beginUse();
+    }
+
+    @Override
+    public void endUse() {
+        lifetime.endUse();
+    }
+
     @Override
     public byte[] getPrivateKeyBytes() throws NativeException {
         //final String methodName = "getPrivateKeyBytes () :";
@@ -184,47 +233,67 @@ public final class DHKey implements AsymmetricKey {
     }
 
     private synchronized void obtainPKeyId() throws NativeException {
-        // Leave this duplicate check in here. If two threads are both trying
-        // to getPKeyId at the same time, we only want to call the native
-        // code one time.
-        if (pkeyId.getValue() == 0) {
-            if (!validId(dhKeyId)) {
-                throw new NativeException(badIdMsg);
+        lifetime.beginUse();
+        try {
+            // Leave this duplicate check in here. If two threads are both trying
+            // to getPKeyId at the same time, we only want to call the native
+            // code one time.
+            if (pkeyId.getValue() == 0) {
+                if (!validId(dhKeyId)) {
+                    throw new NativeException(badIdMsg);
+                }
+                this.pkeyId.setValue(this.nativeInterface.DHKEY_createPKey(dhKeyId));
             }
-            this.pkeyId.setValue(this.nativeInterface.DHKEY_createPKey(dhKeyId));
+        } finally {
+            lifetime.endUse();
         }
     }
 
     private synchronized void obtainPrivateKeyBytes() throws NativeException {
-        // Leave this duplicate check in here. If two threads are both trying
-        // to getPrivateKeyBytes at the same time, we only want to call the
-        // native code one time.
-        if (privateKeyBytes == unobtainedKeyBytes) {
-            if (!validId(dhKeyId)) {
-                throw new NativeException(badIdMsg);
+        lifetime.beginUse();
+        try {
+            // Leave this duplicate check in here. If two threads are both trying
+            // to getPrivateKeyBytes at the same time, we only want to call the
+            // native code one time.
+            if (privateKeyBytes == unobtainedKeyBytes) {
+                if (!validId(dhKeyId)) {
+                    throw new NativeException(badIdMsg);
+                }
+                this.privateKeyBytes = this.nativeInterface.DHKEY_getPrivateKeyBytes(dhKeyId);
             }
-            this.privateKeyBytes = this.nativeInterface.DHKEY_getPrivateKeyBytes(dhKeyId);
+        } finally {
+            lifetime.endUse();
         }
     }
 
     private synchronized void obtainPublicKeyBytes() throws NativeException {
-        // Leave this duplicate check in here. If two threads are both trying
-        // to getPublicKeyBytes at the same time, we only want to call the
-        // native code one time.
-        if (publicKeyBytes == unobtainedKeyBytes) {
-            this.publicKeyBytes = this.nativeInterface.DHKEY_getPublicKeyBytes(dhKeyId);
+        lifetime.beginUse();
+        try {
+            // Leave this duplicate check in here. If two threads are both trying
+            // to getPublicKeyBytes at the same time, we only want to call the
+            // native code one time.
+            if (publicKeyBytes == unobtainedKeyBytes) {
+                this.publicKeyBytes = this.nativeInterface.DHKEY_getPublicKeyBytes(dhKeyId);
+            }
+        } finally {
+            lifetime.endUse();
         }
     }
 
     private synchronized void obtainParameters() throws NativeException {
-        // Leave this duplicate check in here. If two threads are both trying
-        // to getParameters at the same time, we only want to call the
-        // native code one time.
-        if (parameters == null) {
-            if (!validId(dhKeyId)) {
-                throw new NativeException(badIdMsg);
+        lifetime.beginUse();
+        try {
+            // Leave this duplicate check in here. If two threads are both trying
+            // to getParameters at the same time, we only want to call the
+            // native code one time.
+            if (parameters == null) {
+                if (!validId(dhKeyId)) {
+                    throw new NativeException(badIdMsg);
+                }
+                this.parameters = this.nativeInterface.DHKEY_getParameters(dhKeyId);
             }
-            this.parameters = this.nativeInterface.DHKEY_getParameters(dhKeyId);
+        } finally {
+            lifetime.endUse();
         }
     }
 
@@ -22,6 +22,8 @@ public final class DSAKey implements AsymmetricKey {
     private OpenJCEPlusProvider provider;
     private NativeInterface nativeInterface;
     private final long dsaKeyId;
+    // Frees the native key once the last key object using it is destroyed
+    private final NativeKeyLifetime lifetime;
     private PrimitiveWrapper.Long pkeyId;
     private byte[] parameters;
     private byte[] privateKeyBytes;
@@ -135,7 +137,8 @@ public final class DSAKey implements AsymmetricKey {
         this.provider = provider;
         this.nativeInterface = nativeInterface;
 
-        this.provider.registerCleanable(this, cleanOCKResources(privateKeyBytes, dsaKeyId, pkeyId, nativeInterface));
+        this.lifetime = new NativeKeyLifetime(this.provider.registerCleanable(this,
+                cleanOCKResources(privateKeyBytes, dsaKeyId, pkeyId, nativeInterface)));
     }
 
     @Override
@@ -159,6 +162,26 @@ public final class DSAKey implements AsymmetricKey {
         return pkeyId.getValue();
     }
 
+    @Override
+    public void retain() {
+        lifetime.retain();
+    }
+
+    @Override
+    public void release() {
+        lifetime.release();
+    }
+
+    @Override
+    public void beginUse() {
+        lifetime.beginUse();
+    }
+
+    @Override
+    public void endUse() {
+        lifetime.endUse();
+    }
+
     public byte[] getParameters() throws NativeException {
         //final String methodName = "getParameters";
         if (parameters == null) {
@@ -190,61 +213,81 @@ public final class DSAKey implements AsymmetricKey {
     }
 
     private synchronized void obtainPKeyId() throws NativeException {
-        // Leave this duplicate check in here. If two threads are both trying
-        // to getPKeyId at the same time, we only want to call the native
-        // code one time.
-        //
-        if (pkeyId.getValue() == 0) {
-            if (!validId(dsaKeyId)) {
-                throw new NativeException(badIdMsg);
-            }
-            this.pkeyId.setValue(this.nativeInterface.DSAKEY_createPKey(dsaKeyId));
-            if (!validId(pkeyId.getValue())) {
-                throw new NativeException(badIdMsg);
+        lifetime.beginUse();
+        try {
+            // Leave this duplicate check in here. If two threads are both trying
+            // to getPKeyId at the same time, we only want to call the native
+            // code one time.
+            //
+            if (pkeyId.getValue() == 0) {
+                if (!validId(dsaKeyId)) {
+                    throw new NativeException(badIdMsg);
+                }
+                this.pkeyId.setValue(this.nativeInterface.DSAKEY_createPKey(dsaKeyId));
+                if (!validId(pkeyId.getValue())) {
+                    throw new NativeException(badIdMsg);
+                }
             }
-        }
 
+        } finally {
+            lifetime.endUse();
+        }
     }
 
     private synchronized void obtainParameters() throws NativeException {
-        // Leave this duplicate check in here. If two threads are both trying
-        // to getParameters at the same time, we only want to call the
-        // native code one time.
-        //
-        //final String methodName = "obtainParameters";
-        if (parameters == null) {
-            if (!validId(dsaKeyId)) {
-                throw new NativeException(badIdMsg);
+        lifetime.beginUse();
+        try {
+            // Leave this duplicate check in here. If two threads are both trying
+            // to getParameters at the same time, we only want to call the
+            // native code one time.
+            //
+            //final String methodName = "obtainParameters";
+            if (parameters == null) {
+                if (!validId(dsaKeyId)) {
+                    throw new NativeException(badIdMsg);
+                }
+                this.parameters = this.nativeInterface.DSAKEY_getParameters(dsaKeyId);
             }
-            this.parameters = this.nativeInterface.DSAKEY_getParameters(dsaKeyId);
+        } finally {
+            lifetime.endUse();
         }
     }
 
     private synchronized void obtainPrivateKeyBytes() throws NativeException {
-        // Leave this duplicate check in here. If two threads are both trying
-        // to getPrivateKeyBytes at the same time, we only want to call the
-        // native code one time.
-        //
-        //final String methodName = "obtainPrivateKeyBytes";
-        if (privateKeyBytes == unobtainedKeyBytes) {
-            if (!validId(dsaKeyId)) {
-                throw new NativeException(badIdMsg);
+        lifetime.beginUse();
+        try {
+            // Leave this duplicate check in here. If two threads are both trying
+            // to getPrivateKeyBytes at the same time, we only want to call the
+            // native code one time.
+            //
+            //final String methodName = "obtainPrivateKeyBytes";
+            if (privateKeyBytes == unobtainedKeyBytes) {
+                if (!validId(dsaKeyId)) {
+                    throw new NativeException(badIdMsg);
+                }
+                this.privateKeyBytes = this.nativeInterface.DSAKEY_getPrivateKeyBytes(dsaKeyId);
             }
-            this.privateKeyBytes = this.nativeInterface.DSAKEY_getPrivateKeyBytes(dsaKeyId);
+        } finally {
+            lifetime.endUse();
         }
     }
 
     private synchronized void obtainPublicKeyBytes() throws NativeException {
-        // Leave this duplicate check in here. If two threads are both trying
-        // to getPublicKeyBytes at the same time, we only want to call the
-        // native code one time.
-        //
-        //final String methodName = "obtainPublicKeyBytes";
-        if (publicKeyBytes == unobtainedKeyBytes) {
-            if (!validId(dsaKeyId)) {
-                throw new NativeException(badIdMsg);
+        lifetime.beginUse();
+        try {
+            // Leave this duplicate check in here. If two threads are both trying
+            // to getPublicKeyBytes at the same time, we only want to call the
+            // native code one time.
+            //
+            //final String methodName = "obtainPublicKeyBytes";
+            if (publicKeyBytes == unobtainedKeyBytes) {
+                if (!validId(dsaKeyId)) {
+                    throw new NativeException(badIdMsg);
+                }
+                this.publicKeyBytes = this.nativeInterface.DSAKEY_getPublicKeyBytes(dsaKeyId);
             }
-            this.publicKeyBytes = this.nativeInterface.DSAKEY_getPublicKeyBytes(dsaKeyId);
+        } finally {
+            lifetime.endUse();
         }
     }
 
@@ -11,7 +11,8 @@ package com.ibm.crypto.plus.provider.base;
 import com.ibm.crypto.plus.provider.OpenJCEPlusProvider;
 import com.ibm.crypto.plus.provider.PrimitiveWrapper;
 import com.ibm.crypto.plus.provider.SystemAccessUtils;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -19,40 +20,42 @@ public final class Digest implements Cloneable {
 
     /* ===========================================================================
        Digest caching mechanism
-       Cache native SHA* digest contexts so that the same contexts could be reused later after resetting.
+       Cache native digest contexts so that the same contexts could be reused later after resetting.
        */
 
-    // index corresponding the SHA algorithm it's using
+    // index corresponding the digest algorithm it's using
     // also used as a flag:
-    // 0 - 4: it is using one of {SHA1, SHA224, SHA256, SHA384, SHA512}
-    // -1   : Not initialized
-    // -2   : Not a SHA* digest algorithm
+    // 0 - 11: it is using one of the algorithms in pooledAlgos
+    // -1    : Not initialized
+    // -2    : Not a pooled digest algorithm
     private int algIndx = -1;
 
     private PrimitiveWrapper.Bool needsReinit = new PrimitiveWrapper.Bool(false);
 
     private boolean contextFromQueue = false;
 
-    // Size of {SHA256, SHA384, SHA512, SHA224, SHA1}
-    final static int[] digestLengths = {32, 48, 64, 28, 20};
+    // Pool that owns this digest's context, null if the algorithm is not pooled
+    private NativeContextPool pool = null;
+
+    // Algorithms whose contexts are cached, and their digest sizes
+    final static String[] pooledAlgos = {"SHA256", "SHA384", "SHA512", "SHA224", "SHA1",
+            "SHA512-224", "SHA512-256", "SHA3-224", "SHA3-256", "SHA3-384", "SHA3-512", "MD5"};
+    final static int[] digestLengths = {32, 48, 64, 28, 20, 28, 32, 28, 32, 48, 64, 16};
 
     //disable caching mechanism for windows OS
     final static private boolean isWindows = SystemAccessUtils.getSystemProperty("os.name").startsWith("Windows");
 
     final static private int numContexts;
 
-    final static int numShaAlgos = 5;
+    final static int numPooledAlgos = pooledAlgos.length;
     private static final String DIGEST_CONTEXT_CACHE_SIZE = "com.ibm.crypto.provider.DigestContextCacheSize";
 
-    private static boolean needsInit = true;
-
-    static private ConcurrentLinkedQueueLong contexts[];
-
-    static private int runtimeContextNum[];
-
-    class ConcurrentLinkedQueueLong extends ConcurrentLinkedQueue<Long> {
-        private static final long serialVersionUID = 196745693267521676L;
-    }
+    // Contexts created by the FIPS and non-FIPS backends cannot be shared, so
+    // each backend has its own set of pools. They are created on first use.
+    static private final AtomicReferenceArray<NativeContextPool> fipsContexts =
+            new AtomicReferenceArray<>(numPooledAlgos);
+    static private final AtomicReferenceArray<NativeContextPool> nonFipsContexts =
+            new AtomicReferenceArray<>(numPooledAlgos);
 
     static {
         // Configurable number of cached contexts
@@ -70,63 +73,45 @@ public final class Digest implements Cloneable {
         numContexts = num;
     }
 
-    void getContext() throws NativeException {
-        if (needsInit) {
-            synchronized (Digest.class) {
-                if (needsInit) {
-                    contexts = new ConcurrentLinkedQueueLong[numShaAlgos];
-                    runtimeContextNum = new int[numShaAlgos];
-
-                    for (int i = 0; i < numShaAlgos; i++) {
-                        contexts[i] = new ConcurrentLinkedQueueLong();
-                        runtimeContextNum[i] = 0;
-                    }
-                    needsInit = false;
-                }
-            }
+    private static NativeContextPool getPool(boolean isFIPS, int algIndx) {
+        AtomicReferenceArray<NativeContextPool> pools = isFIPS ? fipsContexts : nonFipsContexts;
+        NativeContextPool pool = pools.get(algIndx);
+        if (pool == null) {
+            pools.compareAndSet(algIndx, null, new NativeContextPool("Digest", numContexts));
+            pool = pools.get(algIndx);
         }
+        return pool;
+    }
 
+    void getContext() throws NativeException {
         if (this.digestId != 0) {
             return;
         }
 
         if (this.algIndx == -1) {
-            switch (this.digestAlgo) {
-                case "SHA256":
-                    this.algIndx = 0;
-                    break;
-                case "SHA384":
-                    this.algIndx = 1;
-                    break;
-                case "SHA512":
-                    this.algIndx = 2;
-                    break;
-                case "SHA224":
-                    this.algIndx = 3;
-                    break;
-                case "SHA1":
-                    this.algIndx = 4;
-                    break;
-                default:
-                    this.algIndx = -2;
-                    break;
+            this.algIndx = -2;
+            if (numContexts > 0) {
+                for (int i = 0; i < numPooledAlgos; i++) {
+                    if (pooledAlgos[i].equals(this.digestAlgo)) {
+                        this.algIndx = i;
+                        break;
+                    }
+                }
             }
         }
 
-        // Algorithm is not SHA*
+        // Algorithm is not pooled
         if (this.algIndx == -2) {
             this.digestId = this.nativeInterface.DIGEST_create(this.digestAlgo);
         } else {
-            Long context = contexts[this.algIndx].poll();
+            this.pool = getPool(this.provider.isFIPS(), this.algIndx);
+            long context = this.pool.poll();
 
-            if (context == null) {
+            if (context == 0) {
                 // Create new context
                 this.digestId = this.nativeInterface
                         .DIGEST_create(this.digestAlgo);
-                this.contextFromQueue = (runtimeContextNum[this.algIndx] < numContexts);
-                if (runtimeContextNum[this.algIndx] < numContexts) {
-                    runtimeContextNum[this.algIndx]++;
-                }
+                this.contextFromQueue = this.pool.reserve();
             } else {
                 this.digestId = context;
                 this.contextFromQueue = true;
@@ -139,6 +124,19 @@ public final class Digest implements Cloneable {
      * ===========================================================================
      */
 
+    /* ===========================================================================
+       Small updates are copied into a per-thread native buffer and passed to OCK
+       by address, avoiding the cost of pinning the caller's array for a few bytes.
+       */
+    private static final int FastJNIBufferSize = 512;
+
+    private static final ThreadLocal<FastJNIBuffer> updateBuffer = new ThreadLocal<FastJNIBuffer>() {
+        @Override
+        protected FastJNIBuffer initialValue() {
+            return FastJNIBuffer.create(FastJNIBufferSize);
+        }
+    };
+
     private int digestLength = 0;
     private final String badIdMsg = "Digest Identifier is not valid";
     private static final String debPrefix = "DIGEST";
@@ -167,6 +165,19 @@ public final class Digest implements Cloneable {
         return new Digest(digestAlgo, provider, configAlgName);
     }
 
+    /**
+     * Returns a digest using the given native backend, which the caller has
+     * already resolved for its service, instead of looking the backend up.
+     */
+    public static Digest getInstance(String digestAlgo, OpenJCEPlusProvider provider,
+            NativeInterface nativeInterface) throws NativeException {
+        if (digestAlgo == null || digestAlgo.isEmpty()) {
+            throw new IllegalArgumentException("digestAlgo is null/empty");
+        }
+
+        return new Digest(digestAlgo, provider, nativeInterface);
+    }
+
     private Digest(String digestAlgo, OpenJCEPlusProvider provider, String configType, String configAlgName) throws NativeException {
         if (provider == null) {
             throw new IllegalArgumentException("Provider cannot be null.");
@@ -180,23 +191,27 @@ public final class Digest implements Cloneable {
         //OCKDebug.Msg(debPrefix, methodName,  "digestAlgo :" + digestAlgo);
 
         this.provider.registerCleanable(this, cleanOCKResources(digestId, algIndx,
-            contextFromQueue, needsReinit, nativeInterface));
+            contextFromQueue, pool, needsReinit, nativeInterface));
     }
 
     private Digest(String digestAlgo, OpenJCEPlusProvider provider, String configAlgname) throws NativeException {
-        //final String methodName = "Digest(String)";
+        this(digestAlgo, provider, (provider == null) ? null
+                : NativeCryptoSelector.selectBackend(provider, "MessageDigest", configAlgname));
+    }
+
+    private Digest(String digestAlgo, OpenJCEPlusProvider provider, NativeInterface nativeInterface) throws NativeException {
         if (provider == null) {
             throw new IllegalArgumentException("Provider cannot be null.");
         }
 
         this.digestAlgo = digestAlgo;
         this.provider = provider;
-        this.nativeInterface = NativeCryptoSelector.selectBackend(provider, configType, configAlgname);
+        this.nativeInterface = nativeInterface;
         getContext();
         //OCKDebug.Msg(debPrefix, methodName,  "digestAlgo :" + digestAlgo);
 
         this.provider.registerCleanable(this, cleanOCKResources(digestId, algIndx,
-            contextFromQueue, needsReinit, nativeInterface));
+            contextFromQueue, pool, needsReinit, nativeInterface));
     }
 
     private Digest() {
@@ -234,10 +249,41 @@ public final class Digest implements Cloneable {
             throw new NativeException(badIdMsg);
         }
 
-        errorCode = this.nativeInterface.DIGEST_update(this.digestId, input, offset, length);
-        if (errorCode < 0) {
-            throwNativeException(errorCode);
+        if (length <= FastJNIBufferSize) {
+            FastJNIBuffer buffer = updateBuffer.get();
+            buffer.put(0, input, offset, length);
+            this.nativeInterface.DIGEST_updateFastJNI(this.digestId, buffer.pointer(), length);
+        } else {
+            errorCode = this.nativeInterface.DIGEST_update(this.digestId, input, offset, length);
+            if (errorCode < 0) {
+                throwNativeException(errorCode);
+            }
+        }
+        this.needsReinit.setValue(true);
+    }
+
+    /**
+     * Updates the digest with the remaining bytes of a direct buffer, reading
+     * them in place from native memory. On return the position of the buffer
+     * equals its limit.
+     */
+    public synchronized void update(ByteBuffer input) throws NativeException {
+        if (input == null || !input.isDirect()) {
+            throw new IllegalArgumentException("Input must be a direct buffer.");
+        }
+
+        int length = input.remaining();
+        if (length == 0) {
+            return;
+        }
+
+        if (!validId(this.digestId)) {
+            throw new NativeException(badIdMsg);
         }
+
+        long address = this.nativeInterface.getByteBufferPointer(input) + input.position();
+        this.nativeInterface.DIGEST_updateFastJNI(this.digestId, address, length);
+        input.position(input.limit());
         this.needsReinit.setValue(true);
     }
 
@@ -301,8 +347,8 @@ public final class Digest implements Cloneable {
         // to getDigestLength at the same time, we only want to call the
         // native code one time.
 
-        // if SHA* algorithms
-        if (this.algIndx >= 0 && this.algIndx < numShaAlgos) {
+        // if pooled algorithms
+        if (this.algIndx >= 0 && this.algIndx < numPooledAlgos) {
             this.digestLength = digestLengths[this.algIndx];
         } else {
             if (this.digestLength == 0) {
@@ -335,6 +381,7 @@ public final class Digest implements Cloneable {
         copy.digestAlgo = new String(this.digestAlgo);
         copy.needsReinit.setValue(this.needsReinit.getValue());
         copy.contextFromQueue = false;
+        copy.pool = this.pool;
         copy.provider = this.provider;
         copy.nativeInterface = this.nativeInterface;
 
@@ -354,7 +401,7 @@ public final class Digest implements Cloneable {
         }
 
         this.provider.registerCleanable(copy, cleanOCKResources(copy.digestId, copy.algIndx,
-            copy.contextFromQueue, copy.needsReinit, copy.nativeInterface));
+            copy.contextFromQueue, copy.pool, copy.needsReinit, copy.nativeInterface));
         return copy;
     }
 
@@ -383,13 +430,13 @@ public final class Digest implements Cloneable {
     }
 
     private Runnable cleanOCKResources(long digestId, int algIndx, boolean contextFromQueue,
-            PrimitiveWrapper.Bool needsReinit, NativeInterface nativeInterface) {
+            NativeContextPool pool, PrimitiveWrapper.Bool needsReinit, NativeInterface nativeInterface) {
         return () -> {
             try {
                 if (digestId == 0) {
                     throw new NativeException("Digest Identifier is not valid");
                 }
-                // not SHA* algorithm
+                // not a pooled algorithm
                 if (algIndx == -2) {
                     if (validId(digestId)) {
                         nativeInterface.DIGEST_delete(digestId);
@@ -400,7 +447,7 @@ public final class Digest implements Cloneable {
                         if (needsReinit.getValue()) {
                             nativeInterface.DIGEST_reset(digestId);
                         }
-                        Digest.contexts[algIndx].add(digestId);
+                        pool.offer(digestId);
                     } else {
                         nativeInterface.DIGEST_delete(digestId);
                     }
@@ -23,15 +23,46 @@ public final class ECKey implements AsymmetricKey {
     private static final boolean allowIncorrectKeysizes = Boolean.parseBoolean(
             SystemAccessUtils.getSystemProperty(ALLOW_INCORRECT_KEYSIZES, "false"));
 
+    private static final String SIGNING_KEY_POOL_SIZE = "openjceplus.ec.signingKeyPoolSize";
+
+    // Maximum number of native copies of a private key that are kept so that
+    // several threads can sign with the same key at once. A value of 0 disables
+    // the copies, in which case signatures with the same key are serialized.
+    private static final int signingKeyPoolSize;
+
+    static {
+        int size;
+        try {
+            size = Integer.parseInt(SystemAccessUtils.getSystemProperty(SIGNING_KEY_POOL_SIZE,
+                    String.valueOf(Runtime.getRuntime().availableProcessors())));
+        } catch (NumberFormatException e) {
+            size = 0;
+        }
+        signingKeyPoolSize = Math.max(size, 0);
+    }
+
     // The following is a special byte[] instance to indicate that the
     // private/public key bytes are available but not yet obtained.
     //
     static final byte[] unobtainedKeyBytes = new byte[0];
 
+    private static final int FastJNIBufferSize = 4096;
+
+    // Buffer to receive the encodings of generated keys from native efficiently
+    private static final ThreadLocal<FastJNIBuffer> buffer = new ThreadLocal<FastJNIBuffer>() {
+        @Override
+        protected FastJNIBuffer initialValue() {
+            return FastJNIBuffer.create(FastJNIBufferSize);
+        }
+    };
+
     private OpenJCEPlusProvider provider;
     private NativeInterface nativeInterface;
     private final long ecKeyId;
     private PrimitiveWrapper.Long pkeyId = new PrimitiveWrapper.Long(0);
+    // Native copies of the private key used for signing, created on the first
+    // signature, null if not available
+    private final NativeContextPool.Lazy signingKeys;
     private static final String badIdMsg = "EC Key Identifier is not valid";
 
     // Public Key
@@ -71,6 +102,9 @@ public final class ECKey implements AsymmetricKey {
 
     private static final String debPrefix = "ECKey";
 
+    // Frees the native key once the last key object using it is destroyed
+    private final NativeKeyLifetime lifetime;
+
     private ECKey(NativeInterface nativeInterface, long ecKeyId, byte[] parameterBytes,
             byte[] privateKeyBytes, byte[] publicKeyBytes, OpenJCEPlusProvider provider) {
         //final String methodName = "ECKey(long, byte[], byte[], byte[]) ";
@@ -81,11 +115,14 @@ public final class ECKey implements AsymmetricKey {
         this.publicKeyBytes = publicKeyBytes;
         this.provider = provider;
         this.nativeInterface = nativeInterface;
+        this.signingKeys = ((privateKeyBytes != null) && (signingKeyPoolSize > 0))
+                ? new NativeContextPool.Lazy("EC signing key", signingKeyPoolSize) : null;
         //OCKDebug.Msg (debPrefix, methodName, "privateKeyBytes :", privateKeyBytes); 
         //OCKDebug.Msg (debPrefix, methodName, "publicKeyBytes :", publicKeyBytes);  
         //OCKDebug.Msg (debPrefix, methodName, "parameterBytes :", parameterBytes);
 
-        this.provider.registerCleanable(this, cleanOCKResources(privateKeyBytes, ecKeyId, pkeyId, nativeInterface));
+        this.lifetime = new NativeKeyLifetime(this.provider.registerCleanable(this,
+                cleanOCKResources(privateKeyBytes, ecKeyId, pkeyId, signingKeys, nativeInterface)));
     }
 
     /* Custom Curve */
@@ -95,6 +132,7 @@ public final class ECKey implements AsymmetricKey {
         this.pkeyId.setValue(0);
         this.provider = provider;
         this.nativeInterface = nativeInterface;
+        this.signingKeys = null;
 
         this.ecSpec = ecSpec;
         // this.isNamedCurve = false;
@@ -105,7 +143,8 @@ public final class ECKey implements AsymmetricKey {
         // this.pubKeyAffineX = pubKeyAffineX;
         // this.pubKeyAffineY = pubKeyAffineY;
 
-        this.provider.registerCleanable(this, cleanOCKResources(privateKeyBytes, ecKeyId, pkeyId, nativeInterface));
+        this.lifetime = new NativeKeyLifetime(this.provider.registerCleanable(this,
+                cleanOCKResources(privateKeyBytes, ecKeyId, pkeyId, signingKeys, nativeInterface)));
     }
 
     // Note that the caller of this method must ensure the pointer ecKeyId is not used
@@ -129,26 +168,23 @@ public final class ECKey implements AsymmetricKey {
         }
 
         NativeInterface nativeInterface = NativeCryptoSelector.selectBackend(provider, "KeyPairGenerator", "EC");
+        FastJNIBuffer buffer = ECKey.buffer.get();
+        int[] lengths = new int[3];
         long ecKeyId;
         try {
-            ecKeyId = nativeInterface.ECKEY_generate(size);
+            ecKeyId = nativeInterface.ECKEY_generateWithEncodings(size, lengths,
+                    buffer.pointer(), buffer.capacity());
         } catch (NativeException oe) {
             if (oe.getMessage().contains("Incorrect key size") && allowIncorrectKeysizes) {
                 // If the flag is set and an incorrect key size was provided, default to 256.
-                ecKeyId = nativeInterface.ECKEY_generate(256);
+                ecKeyId = nativeInterface.ECKEY_generateWithEncodings(256, lengths,
+                        buffer.pointer(), buffer.capacity());
             } else {
                 throw oe;
             }
         }
-        
-        if (!validId(ecKeyId)) {
-            throw new NativeException(badIdMsg);
-        }
 
-        byte[] parameterBytes = getParametersBytes(ecKeyId, provider);
-        //OCKDebug.Msg (debPrefix, methodName,  "size=" + size + " ecKeyId=" + ecKeyId + " parameterBytes :",  parameterBytes);
-        return new ECKey(nativeInterface, ecKeyId, parameterBytes, unobtainedKeyBytes,
-                unobtainedKeyBytes, provider);
+        return fromEncodings(nativeInterface, ecKeyId, lengths, buffer, provider);
     }
 
 
@@ -163,16 +199,35 @@ public final class ECKey implements AsymmetricKey {
             throw new IllegalArgumentException("provider is null");
         }
 
-        NativeInterface nativeInterface = NativeCryptoSelector.selectBackend(provider, "KeyPairGenerator", "EC");;
-        long ecKeyId = nativeInterface.ECKEY_generate(soid);
+        NativeInterface nativeInterface = NativeCryptoSelector.selectBackend(provider, "KeyPairGenerator", "EC");
+        FastJNIBuffer buffer = ECKey.buffer.get();
+        int[] lengths = new int[3];
+        long ecKeyId = nativeInterface.ECKEY_generateWithEncodings(soid, lengths,
+                buffer.pointer(), buffer.capacity());
+        return fromEncodings(nativeInterface, ecKeyId, lengths, buffer, provider);
+    }
+
+    // Creates a generated key from the parameters, private key and public key
+    // encodings that ECKEY_generateWithEncodings left in the buffer, so that none
+    // of them has to be obtained with a further native call. The private key is
+    // cleared from the buffer once it has been copied.
+    private static ECKey fromEncodings(NativeInterface nativeInterface, long ecKeyId,
+            int[] lengths, FastJNIBuffer buffer, OpenJCEPlusProvider provider)
+            throws NativeException {
         if (!validId(ecKeyId)) {
             throw new NativeException(badIdMsg);
         }
-        byte[] parameterBytes = getParametersBytes(ecKeyId, provider);
-        //OCKDebug.Msg (debPrefix, methodName, "soid :" + soid + " ecKeyId :" + ecKeyId + "parameterBytes :",  parameterBytes);
-        return new ECKey(nativeInterface, ecKeyId, parameterBytes, unobtainedKeyBytes,
-                unobtainedKeyBytes, provider);
 
+        byte[] parameterBytes = new byte[lengths[0]];
+        byte[] privateKeyBytes = new byte[lengths[1]];
+        byte[] publicKeyBytes = new byte[lengths[2]];
+        buffer.get(0, parameterBytes, 0, lengths[0]);
+        buffer.get(lengths[0], privateKeyBytes, 0, lengths[1]);
+        buffer.get(lengths[0] + lengths[1], publicKeyBytes, 0, lengths[2]);
+        buffer.clear(lengths[0], lengths[1]);
+
+        return new ECKey(nativeInterface, ecKeyId, parameterBytes, privateKeyBytes,
+                publicKeyBytes, provider);
     }
 
     public static ECKey generateKeyPair(byte[] parameterBytes,
@@ -238,9 +293,29 @@ public final class ECKey implements AsymmetricKey {
         return pkeyId.getValue();
     }
 
+    @Override
+    public void retain() {
+        lifetime.retain();
+    }
+
+    @Override
+    public void release() {
+        lifetime.release();
+    }
+
+    @Override
+    public void beginUse() {
+        lifetime.beginUse();
+    }
+
+    @Override
+    public void endUse() {
+        lifetime.endUse();
+    }
+
     public byte[] getParameters() throws NativeException {
         //final String methodName = "getParameters :";
-        if (ecSpec == null) {
+        if ((parameterBytes == null) && (ecSpec == null)) {
             obtainParameters();
         }
         //OCKDebug.Msg (debPrefix, methodName,  parameterBytes);
@@ -273,55 +348,75 @@ public final class ECKey implements AsymmetricKey {
     }
 
     private synchronized void obtainPKeyId() throws NativeException {
-        // Leave this duplicate check in here. If two threads are both trying
-        // to getPKeyId at the same time, we only want to call the native
-        // code one time.
-        //
-        if (pkeyId.getValue() == 0) {
-            if (!validId(ecKeyId)) {
-                throw new NativeException(badIdMsg);
+        lifetime.beginUse();
+        try {
+            // Leave this duplicate check in here. If two threads are both trying
+            // to getPKeyId at the same time, we only want to call the native
+            // code one time.
+            //
+            if (pkeyId.getValue() == 0) {
+                if (!validId(ecKeyId)) {
+                    throw new NativeException(badIdMsg);
+                }
+                this.pkeyId.setValue(this.nativeInterface.ECKEY_createPKey(ecKeyId));
             }
-            this.pkeyId.setValue(this.nativeInterface.ECKEY_createPKey(ecKeyId));
+        } finally {
+            lifetime.endUse();
         }
     }
 
     private synchronized void obtainParameters() throws NativeException {
-        // Leave this duplicate check in here. If two threads are both trying
-        // to getParameters at the same time, we only want to call the
-        // native code one time.
-        //
-        if (ecSpec == null) {
-            if (!validId(ecKeyId)) {
-                throw new NativeException(badIdMsg);
+        lifetime.beginUse();
+        try {
+            // Leave this duplicate check in here. If two threads are both trying
+            // to getParameters at the same time, we only want to call the
+            // native code one time.
+            //
+            if ((parameterBytes == null) && (ecSpec == null)) {
+                if (!validId(ecKeyId)) {
+                    throw new NativeException(badIdMsg);
+                }
+                this.parameterBytes = this.nativeInterface.ECKEY_getParameters(ecKeyId);
             }
-            this.parameterBytes = this.nativeInterface.ECKEY_getParameters(ecKeyId);
+        } finally {
+            lifetime.endUse();
         }
     }
 
     private synchronized void obtainPrivateKeyBytes() throws NativeException {
-        // Leave this duplicate check in here. If two threads are both trying
-        // to getPrivateKeyBytes at the same time, we only want to call the
-        // native code one time.
-        //
-        if (privateKeyBytes == unobtainedKeyBytes) {
-            if (!validId(ecKeyId)) {
-                throw new NativeException(badIdMsg);
-            }
-            this.privateKeyBytes = this.nativeInterface.ECKEY_getPrivateKeyBytes(ecKeyId);
+        lifetime.beginUse();
+        try {
+            // Leave this duplicate check in here. If two threads are both trying
+            // to getPrivateKeyBytes at the same time, we only want to call the
+            // native code one time.
+            //
+            if (privateKeyBytes == unobtainedKeyBytes) {
+                if (!validId(ecKeyId)) {
+                    throw new NativeException(badIdMsg);
+                }
+                this.privateKeyBytes = this.nativeInterface.ECKEY_getPrivateKeyBytes(ecKeyId);
 
+            }
+        } finally {
+            lifetime.endUse();
         }
     }
 
     private synchronized void obtainPublicKeyBytes() throws NativeException {
-        // Leave this duplicate check in here. If two threads are both trying
-        // to getPublicKeyBytes at the same time, we only want to call the
-        // native code one time.
-        //
-        if (publicKeyBytes == unobtainedKeyBytes) {
-            if (!validId(ecKeyId)) {
-                throw new NativeException(badIdMsg);
+        lifetime.beginUse();
+        try {
+            // Leave this duplicate check in here. If two threads are both trying
+            // to getPublicKeyBytes at the same time, we only want to call the
+            // native code one time.
+            //
+            if (publicKeyBytes == unobtainedKeyBytes) {
+                if (!validId(ecKeyId)) {
+                    throw new NativeException(badIdMsg);
+                }
+                this.publicKeyBytes = this.nativeInterface.ECKEY_getPublicKeyBytes(ecKeyId);
             }
-            this.publicKeyBytes = this.nativeInterface.ECKEY_getPublicKeyBytes(ecKeyId);
+        } finally {
+            lifetime.endUse();
         }
     }
 
@@ -351,12 +446,15 @@ public final class ECKey implements AsymmetricKey {
         return new ECKey(nativeInterface, ecKeyId, paramBytes, privateKeyBytes.clone(), publicKeyBytes, provider);
     }
 
-    // There is a lock on ecPrivateKey to ensure that the underlying native pointer is not concurrently
-    // used by another ECDSA operation. This is needed as the method
-    // ECKEY.signDatawithECDSA is not synchronized and not thread safe.
+    // Each signature uses a native copy of the private key taken from the key's pool, so
+    // that threads signing with the same ECKey do not share a native pointer. A copy is
+    // created when the pool has none available, up to the pool capacity. If the copies are
+    // disabled or the pool is full, there is a lock on ecPrivateKey to ensure that the
+    // underlying native pointer is not concurrently used by another ECDSA operation. This is
+    // needed as the method ECKEY.signDatawithECDSA is not synchronized and not thread safe.
     // The method ECKey.signDatawithECDSA should NOT be synchronized for performance as that would create a global lock.
     public static byte[] signDatawithECDSA(byte[] digestBytes,
-            int digestBytesLen, ECKey ecPrivateKey, OpenJCEPlusProvider provider) throws NativeException {
+            int digestBytesLen, ECKey ecPrivateKey, NativeInterface nativeInterface) throws NativeException {
         //final String methodName = "signDatawithECDSA";
         if (digestBytes == null || digestBytesLen < 1) {
             throw new IllegalArgumentException("digest bytes is null");
@@ -368,20 +466,58 @@ public final class ECKey implements AsymmetricKey {
             digestActualBytes = digestBytes;
         }
 
-        if (!validId(ecPrivateKey.getEcKeyId())) {
-            throw new NativeException(badIdMsg);
+        ecPrivateKey.beginUse();
+        try {
+            if (!validId(ecPrivateKey.getEcKeyId())) {
+                throw new NativeException(badIdMsg);
+            }
+
+            long signingKeyId = ecPrivateKey.getSigningKey();
+            if (signingKeyId != 0) {
+                try {
+                    return nativeInterface.ECKEY_signDatawithECDSA(digestActualBytes,
+                            digestBytesLen, signingKeyId);
+                } finally {
+                    ecPrivateKey.signingKeys.get().offer(signingKeyId);
+                }
+            }
+
+            byte[] signedBytes;
+            synchronized (ecPrivateKey) {
+                //OCKDebug.Msg (debPrefix, methodName,  "digestBytesLen :" + digestBytesLen +  " digestActualBytes :", digestActualBytes);
+                signedBytes = nativeInterface.ECKEY_signDatawithECDSA(digestActualBytes,
+                        digestBytesLen, ecPrivateKey.getEcKeyId());
+            }
+            //OCKDebug.Msg (debPrefix, methodName,  " signedBytes :" + signedBytes);
+            return signedBytes;
+        } finally {
+            ecPrivateKey.endUse();
         }
+    }
 
-        NativeInterface nativeInterface = NativeCryptoSelector.selectBackend(provider, "Signature", "NONEwithECDSA");
+    // Takes a native copy of the private key from the pool, creating one if the pool
+    // still has room. The copy must be given back to the pool once the caller is done.
+    // Returns 0 if no copy can be used, in which case the key itself must be used.
+    private long getSigningKey() throws NativeException {
+        if (signingKeys == null) {
+            return 0;
+        }
 
-        byte[] signedBytes;
-        synchronized (ecPrivateKey) {
-            //OCKDebug.Msg (debPrefix, methodName,  "digestBytesLen :" + digestBytesLen +  " digestActualBytes :", digestActualBytes);
-            signedBytes = nativeInterface.ECKEY_signDatawithECDSA(digestActualBytes,
-                    digestBytesLen, ecPrivateKey.getEcKeyId());
+        NativeContextPool pool = signingKeys.get();
+        long signingKeyId = pool.poll();
+        if ((signingKeyId == 0) && pool.reserve()) {
+            try {
+                if (privateKeyBytes == unobtainedKeyBytes) {
+                    obtainPrivateKeyBytes();
+                }
+                signingKeyId = nativeInterface.ECKEY_createPrivateKey(privateKeyBytes);
+            } finally {
+                if (signingKeyId == 0) {
+                    pool.unreserve();
+                }
+            }
         }
-        //OCKDebug.Msg (debPrefix, methodName,  " signedBytes :" + signedBytes);
-        return signedBytes;
+        return signingKeyId;
     }
 
     // There is a lock on ecPublicKey to ensure that the underlying native
@@ -389,7 +525,7 @@ public final class ECKey implements AsymmetricKey {
     // ECKey.verifyDatawithECDSA is not synchronized and not thread safe.
     // The method ECKey.verifyDatawithECDSA should NOT be synchronized for performance as that would create a global lock.
     public static boolean verifyDatawithECDSA(byte[] digestBytes,
-            int digestBytesLen, byte[] sigBytes, int sigBytesLen, ECKey ecPublicKey, OpenJCEPlusProvider provider)
+            int digestBytesLen, byte[] sigBytes, int sigBytesLen, ECKey ecPublicKey, NativeInterface nativeInterface)
             throws NativeException {
         //final String methodName = "verifyDatawithECDSA";
         boolean verified = false;
@@ -416,20 +552,23 @@ public final class ECKey implements AsymmetricKey {
             sigActualBytes = sigBytes;
         }
 
-        if (!validId(ecPublicKey.getEcKeyId())) {
-            throw new NativeException(badIdMsg);
-        }
-        //OCKDebug.Msg (debPrefix, methodName, "diestBytesLen : " + digestBytesLen + " digestAcutalBytes : ", digestActualBytes);
-        //OCKDebug.Msg (debPrefix, methodName, " sigActualBytes : ", sigActualBytes);
-        NativeInterface nativeInterface = NativeCryptoSelector.selectBackend(provider, "Signature", "NONEwithECDSA");
-
-        synchronized (ecPublicKey) {
-            verified = nativeInterface.ECKEY_verifyDatawithECDSA(
-                    digestActualBytes, digestBytesLen, sigActualBytes, sigBytesLen,
-                    ecPublicKey.getEcKeyId());
+        ecPublicKey.beginUse();
+        try {
+            if (!validId(ecPublicKey.getEcKeyId())) {
+                throw new NativeException(badIdMsg);
+            }
+            //OCKDebug.Msg (debPrefix, methodName, "diestBytesLen : " + digestBytesLen + " digestAcutalBytes : ", digestActualBytes);
+            //OCKDebug.Msg (debPrefix, methodName, " sigActualBytes : ", sigActualBytes);
+            synchronized (ecPublicKey) {
+                verified = nativeInterface.ECKEY_verifyDatawithECDSA(
+                        digestActualBytes, digestBytesLen, sigActualBytes, sigBytesLen,
+                        ecPublicKey.getEcKeyId());
+            }
+            //OCKDebug.Msg (debPrefix, methodName,  verified);
+            return verified;
+        } finally {
+            ecPublicKey.endUse();
         }
-        //OCKDebug.Msg (debPrefix, methodName,  verified);
-        return verified;
     }
 
     public static ECKey createPublicKey(byte[] publicKeyBytes,
@@ -446,11 +585,16 @@ public final class ECKey implements AsymmetricKey {
         //OCKDebug.Msg (debPrefix, methodName,  "publicKeyBytes :",  publicKeyBytes);
         //OCKDebug.Msg (debPrefix, methodName,  "parameterBytes :", parameterBytes);
         NativeInterface nativeInterface = NativeCryptoSelector.selectBackend(provider, "KeyFactory", "EC");
+        if (PublicKeyCache.get(nativeInterface, "EC", publicKeyBytes, parameterBytes) instanceof ECKey cachedKey) {
+            return cachedKey;
+        }
 
         long ecKeyId = nativeInterface.ECKEY_createPublicKey(publicKeyBytes,
                 parameterBytes);
         //OCKDebug.Msg (debPrefix, methodName,  "ecKeyId :" + ecKeyId);
-        return new ECKey(nativeInterface, ecKeyId, null, null, publicKeyBytes.clone(), provider);
+        return PublicKeyCache.put(nativeInterface, "EC",
+                new ECKey(nativeInterface, ecKeyId, null, null, publicKeyBytes.clone(), provider),
+                publicKeyBytes, parameterBytes);
     }
 
     // There is a double lock on pubEcKeyId and privEcKeyId to ensure that the underlying native
@@ -481,7 +625,8 @@ public final class ECKey implements AsymmetricKey {
         return (id != 0L);
     }
 
-    private Runnable cleanOCKResources(byte[] privateKeyBytes, long ecKeyId, PrimitiveWrapper.Long pkeyId, NativeInterface nativeInterface) {
+    private Runnable cleanOCKResources(byte[] privateKeyBytes, long ecKeyId, PrimitiveWrapper.Long pkeyId,
+            NativeContextPool.Lazy signingKeys, NativeInterface nativeInterface) {
         return () -> {
             try {
                 if ((privateKeyBytes != null) && (privateKeyBytes != unobtainedKeyBytes)) {
@@ -494,6 +639,14 @@ public final class ECKey implements AsymmetricKey {
                 if (pkeyId.getValue() != 0) {
                     nativeInterface.PKEY_delete(pkeyId.getValue());
                 }
+
+                NativeContextPool pool = (signingKeys != null) ? signingKeys.getIfCreated() : null;
+                if (pool != null) {
+                    long signingKeyId;
+                    while ((signingKeyId = pool.remove()) != 0) {
+                        nativeInterface.ECKEY_delete(signingKeyId);
+                    }
+                }
             } catch (Exception e) {
                 if (OpenJCEPlusProvider.getDebug() != null) {
                     OpenJCEPlusProvider.getDebug().println("An error occurred while cleaning : " + e.getMessage());
@@ -9,13 +9,41 @@
 package com.ibm.crypto.plus.provider.base;
 
 import com.ibm.crypto.plus.provider.OpenJCEPlusProvider;
+import com.ibm.crypto.plus.provider.SystemAccessUtils;
+import java.util.Arrays;
 
 public final class ExtendedRandom {
 
+    private static final String BUFFER_SIZE = "openjceplus.securerandom.bufferSize";
+
+    // Largest request served from the output buffer.
+    private static final int MAX_BUFFERED_REQUEST = 256;
+
+    // Size of the buffer of output generated ahead by each instance, 0 if disabled.
+    // Small requests are copied out of the buffer, so that most of them do not need
+    // a native call. The native DRBG is not instantiated with prediction resistance,
+    // so output generated ahead is as good as output generated on request.
+    private static final int bufferSize;
+
+    static {
+        int size;
+        try {
+            size = Integer.parseInt(SystemAccessUtils.getSystemProperty(BUFFER_SIZE, "0"));
+        } catch (NumberFormatException e) {
+            size = 0;
+        }
+        bufferSize = Math.max(size, 0);
+    }
+
     private OpenJCEPlusProvider provider;
     private NativeInterface nativeInterface;
     final long ockPRNGContextId;
 
+    // Output generated ahead, null if buffering is disabled. The bytes before
+    // bufferOffset have been handed out and are zero.
+    private final byte[] buffer;
+    private int bufferOffset;
+
     public static ExtendedRandom getInstance(String algName, OpenJCEPlusProvider provider)
             throws NativeException {
         if ((algName == null) || algName.isEmpty()) {
@@ -33,8 +61,10 @@ public final class ExtendedRandom {
         this.provider = provider;
         this.nativeInterface = NativeCryptoSelector.selectBackend(provider, "SecureRandom", algName + "DRBG");
         this.ockPRNGContextId = this.nativeInterface.EXTRAND_create(algName);
+        this.buffer = (bufferSize > 0) ? new byte[bufferSize] : null;
+        this.bufferOffset = bufferSize;
 
-        this.provider.registerCleanable(this, cleanOCKResources(ockPRNGContextId, nativeInterface));
+        this.provider.registerCleanable(this, cleanOCKResources(ockPRNGContextId, buffer, nativeInterface));
     }
 
     public synchronized void nextBytes(byte[] bytes) throws NativeException {
@@ -43,7 +73,17 @@ public final class ExtendedRandom {
         }
 
         if (bytes.length > 0) {
-            this.nativeInterface.EXTRAND_nextBytes(ockPRNGContextId, bytes);
+            if ((buffer != null) && (bytes.length <= Math.min(MAX_BUFFERED_REQUEST, buffer.length))) {
+                if (bytes.length > (buffer.length - bufferOffset)) {
+                    this.nativeInterface.EXTRAND_nextBytes(ockPRNGContextId, buffer);
+                    bufferOffset = 0;
+                }
+                System.arraycopy(buffer, bufferOffset, bytes, 0, bytes.length);
+                Arrays.fill(buffer, bufferOffset, bufferOffset + bytes.length, (byte) 0x00);
+                bufferOffset += bytes.length;
+            } else {
+                this.nativeInterface.EXTRAND_nextBytes(ockPRNGContextId, bytes);
+            }
         }
     }
 
@@ -54,12 +94,21 @@ public final class ExtendedRandom {
 
         if (seed.length > 0) {
             this.nativeInterface.EXTRAND_setSeed(ockPRNGContextId, seed);
+
+            // Discard output generated before the reseed.
+            if (buffer != null) {
+                Arrays.fill(buffer, (byte) 0x00);
+                bufferOffset = buffer.length;
+            }
         }
     }
 
-    private Runnable cleanOCKResources(long ockPRNGContextId, NativeInterface nativeInterface) {
+    private Runnable cleanOCKResources(long ockPRNGContextId, byte[] buffer, NativeInterface nativeInterface) {
         return () -> {
             try {
+                if (buffer != null) {
+                    Arrays.fill(buffer, (byte) 0x00);
+                }
                 if (ockPRNGContextId != 0) {
                     nativeInterface.EXTRAND_delete(ockPRNGContextId);
                 }
@@ -33,6 +33,18 @@ class FastJNIBuffer {
         return b;
     }
 
+    public int capacity() {
+        return capacity;
+    }
+
+    // Copies the first length bytes of this buffer to the start of dst.
+    public void copyTo(FastJNIBuffer dst, int length) {
+        if (length > capacity || length > dst.capacity) {
+            throw new RuntimeException("Native array index out of bound.");
+        }
+        dst.byteBuffer.put(0, byteBuffer, 0, length);
+    }
+
     public void put(int index, byte[] src, int offset, int length) {
         if (index + length > capacity) {
             throw new RuntimeException("Native array index out of bound.");
@@ -42,6 +54,16 @@ class FastJNIBuffer {
         }
     }
 
+    // Overwrites length bytes of this buffer starting at index with zeros.
+    public void clear(int index, int length) {
+        if (index + length > capacity) {
+            throw new RuntimeException("Native array index out of bound.");
+        }
+        for (int i = index; i < index + length; i++) {
+            byteBuffer.put(i, (byte) 0);
+        }
+    }
+
     public void get(int index, byte[] dst, int offset, int length) {
         if (index + length > capacity) {
             throw new RuntimeException("Native array index out of bound.");
@@ -64,6 +64,9 @@ public final class GCMCipher {
         }
     };
 
+    // Buffer to pass batches of GCM records to and from native, created on demand
+    private static final ThreadLocal<FastJNIBuffer> batchBuffer = new ThreadLocal<FastJNIBuffer>();
+
     // Buffer to maintain GCM contexts should the platform not be capable of
     // caching the GCM contexts itself in a thread safe manner
     //
@@ -107,6 +110,8 @@ public final class GCMCipher {
     private static final int FastJNIInputBufferSize = 1024 * 2 * 2;
     private static final int FastJNIOutputBufferSize = 1024 * 2 * 2 + 16; //Add Tag length for encryption
     private static final int FastJNIParameterBufferSize = 1024;
+    private static final int MaxBatchBufferSize = 1024 * 1024;
+    private static final int BATCH_FIELDS = 9;
 
     // AES-GCM constants in Bytes
     private static final int AES_GCM_MIN_KEY_SIZE = 16;
@@ -117,8 +122,16 @@ public final class GCMCipher {
     private NativeInterface nativeInterface;
 
     public GCMCipher(OpenJCEPlusProvider provider) throws NativeException {
+        this(provider, NativeCryptoSelector.selectBackend(provider, "Cipher", "AES/GCM/NoPadding"));
+    }
+
+    /**
+     * Creates a cipher using the given native backend, which the caller has
+     * already resolved for its service, instead of looking the backend up.
+     */
+    public GCMCipher(OpenJCEPlusProvider provider, NativeInterface nativeInterface) {
         this.provider = provider;
-        this.nativeInterface = NativeCryptoSelector.selectBackend(provider, "Cipher", "AES/GCM/NoPadding");
+        this.nativeInterface = nativeInterface;
     }
 
     // it is not synchronized since there are no shared OCK data structures used in the OCK call
@@ -221,7 +234,7 @@ public final class GCMCipher {
 
             if (GCMHardwareFunctionPtr != -1) { // hardware supports fast GCM command
                 rc = useHardwareGCM(false, inputLen, iv.length, key.length, aadLen, tagLen, key,
-                        input, inputOffset, output, outputOffset, parameters, provider);
+                        input, inputOffset, output, outputOffset, parameters, nativeInterface);
             } else {
 
                 FastJNIBuffer outputBuffer = GCMCipher.outputBuffer.get();
@@ -355,7 +368,7 @@ public final class GCMCipher {
 
             if (GCMHardwareFunctionPtr != -1) { // hardware supports fast GCM command
                 rc = useHardwareGCM(true, inputLen, ivLen, keyLen, aadLen, tagLen, key, input,
-                        inputOffset, output, outputOffset, parameters, provider);
+                        inputOffset, output, outputOffset, parameters, nativeInterface);
             } else {
                 FastJNIBuffer outputBuffer = GCMCipher.outputBuffer.get();
                 FastJNIBuffer inputBuffer = GCMCipher.inputBuffer.get();
@@ -392,6 +405,285 @@ public final class GCMCipher {
         return outLen;
     }
 
+    /*
+     * Returns true if a one-shot operation with the given parameter lengths can
+     * be performed directly on the native memory of direct ByteBuffers. Only the
+     * IV, AAD, key and tag are staged through the parameter buffer, so there is
+     * no limit on the size of the input.
+     */
+    public static boolean isDirectBufferEligible(int keyLen, int ivLen, int aadLen, int tagLen) {
+        return !disableGCMAcceleration
+                && (ivLen + keyLen + aadLen + tagLen <= FastJNIParameterBufferSize);
+    }
+
+    // it is not synchronized since there are no shared OCK data structures used in the OCK call
+    // except ICC_CTX which is thread safe
+    //
+    // Both buffers must be direct. The remaining bytes of input are encrypted into output
+    // starting at its position, followed by the tag. Buffer positions are not modified.
+    public int doGCMFinal_Encrypt(byte[] key, byte[] iv, int tagLen, ByteBuffer input,
+            ByteBuffer output, byte[] aad) throws NativeException, ShortBufferException {
+        if ((key == null) || (key.length < AES_GCM_MIN_KEY_SIZE)) {
+            throw new IllegalArgumentException("key is the wrong size");
+        }
+
+        if ((iv == null) || (iv.length < AES_GCM_MIN_IV_SIZE)) {
+            throw new IllegalArgumentException("IV is the wrong size");
+        }
+
+        if (!input.isDirect() || !output.isDirect()) {
+            throw new IllegalArgumentException("Direct buffers required");
+        }
+
+        int keyLen = key.length;
+        int ivLen = iv.length;
+        int aadLen = (aad != null) ? aad.length : 0;
+        int inputLen = input.remaining();
+        int len = getOutputSizeLegacy(inputLen, true /* isEncrypt */, tagLen);
+        if (output.remaining() < len) {
+            throw new ShortBufferException(
+                    "Output buffer must be (at least) " + len + " bytes long");
+        }
+
+        long inputAddress = getDirectBufferAddress(input);
+        long outputAddress = getDirectBufferAddress(output);
+        if (isPartialOverlap(inputAddress, inputLen, outputAddress, len)) {
+            // copy 'input' out to avoid its content being
+            // overwritten prematurely.
+            input = copyDirect(input);
+            inputAddress = getDirectBufferAddress(input);
+        }
+
+        long gcmCtx = getGCMContext(true, keyLen, this.provider, this.nativeInterface);
+
+        FastJNIBuffer parameters = GCMCipher.parameterBuffer.get();
+        parameters.put(0, iv, 0, ivLen);
+        parameters.put(ivLen, aad, 0, aadLen);
+        parameters.put(ivLen + aadLen, key, 0, keyLen);
+
+        int rc = this.nativeInterface.do_GCM_encryptFastJNI(gcmCtx, keyLen, ivLen, 0,
+                inputLen, 0, aadLen, tagLen, parameters.pointer(), inputAddress, outputAddress);
+        if (rc != 0) {
+            throw new NativeException(ErrorCodes.get(rc));
+        }
+
+        // Copy Tag out of native parameter buffer, directly after the ciphertext
+        byte[] tag = new byte[tagLen];
+        parameters.get(keyLen + ivLen + aadLen, tag, 0, tagLen);
+        output.put(output.position() + inputLen, tag);
+
+        return len;
+    }
+
+    // it is not synchronized since there are no shared OCK data structures used in the OCK call
+    // except ICC_CTX which is thread safe
+    //
+    // Both buffers must be direct. The remaining bytes of input are the ciphertext followed
+    // by the tag. Buffer positions are not modified.
+    public int doGCMFinal_Decrypt(byte[] key, byte[] iv, int tagLen, ByteBuffer input,
+            ByteBuffer output, byte[] aad) throws NativeException, ShortBufferException,
+            AEADBadTagException {
+        if ((key == null) || (key.length < AES_GCM_MIN_KEY_SIZE)) {
+            throw new IllegalArgumentException("key is the wrong size");
+        }
+
+        if ((iv == null) || (iv.length < AES_GCM_MIN_IV_SIZE)) {
+            throw new IllegalArgumentException("IV is the wrong size");
+        }
+
+        if (!input.isDirect() || !output.isDirect()) {
+            throw new IllegalArgumentException("Direct buffers required");
+        }
+
+        int keyLen = key.length;
+        int ivLen = iv.length;
+        int aadLen = (aad != null) ? aad.length : 0;
+        int inputLen = input.remaining();
+        if (inputLen < tagLen) {
+            throw new AEADBadTagException("Input too short - need tag");
+        }
+        int len = getOutputSizeLegacy(inputLen, false /* isEncrypt */, tagLen);
+        if (output.remaining() < len) {
+            throw new ShortBufferException(
+                    "Output buffer must be (at least) " + len + " bytes long");
+        }
+
+        long inputAddress = getDirectBufferAddress(input);
+        long outputAddress = getDirectBufferAddress(output);
+        if (isPartialOverlap(inputAddress, inputLen, outputAddress, len)) {
+            // copy 'input' out to avoid its content being
+            // overwritten prematurely.
+            input = copyDirect(input);
+            inputAddress = getDirectBufferAddress(input);
+        }
+
+        long gcmCtx = getGCMContext(false, keyLen, this.provider, this.nativeInterface);
+
+        FastJNIBuffer parameters = GCMCipher.parameterBuffer.get();
+        parameters.put(0, iv, 0, ivLen);
+        parameters.put(ivLen, aad, 0, aadLen);
+        parameters.put(ivLen + aadLen, key, 0, keyLen);
+
+        // The tag immediately follows the ciphertext in the input buffer
+        int rc = this.nativeInterface.do_GCM_decryptFastJNI(gcmCtx, keyLen, ivLen, 0, len,
+                0, aadLen, tagLen, parameters.pointer(), inputAddress, outputAddress);
+        if (rc != 0) {
+            // Do not leave unauthenticated plaintext in the caller's buffer
+            output.put(output.position(), new byte[len]);
+            throw new NativeException(ErrorCodes.get(rc));
+        }
+
+        return len;
+    }
+
+    /*
+     * Encrypts or decrypts a batch of independent records, each with its own key,
+     * IV and AAD, in a single native call. The records are packed into one native
+     * buffer; consecutive records using the same key array share its copy. When
+     * encrypting, each output is the ciphertext followed by the tag; when
+     * decrypting, each input must end with the tag. If any record fails, no
+     * output is returned and a NativeException is thrown for the first failure.
+     */
+    public byte[][] doGCMBatch(boolean encrypting, byte[][] keys, byte[][] ivs, byte[][] aads,
+            byte[][] inputs, int tagLen) throws NativeException, AEADBadTagException {
+        int count = inputs.length;
+        if ((keys.length != count) || (ivs.length != count)
+                || ((aads != null) && (aads.length != count))) {
+            throw new IllegalArgumentException("The number of keys, IVs, AADs and inputs differ");
+        }
+
+        // Each record is described by the offsets and lengths of its key, IV,
+        // AAD, input and output in the data buffer.
+        int[] descriptors = new int[count * BATCH_FIELDS];
+        long dataLen = 0;
+        boolean[] keySizes = new boolean[3];
+        for (int i = 0; i < count; i++) {
+            byte[] key = keys[i];
+            byte[] iv = ivs[i];
+            byte[] aad = (aads == null) ? null : aads[i];
+            byte[] input = inputs[i];
+            if ((key == null) || (key.length == 0)) {
+                throw new IllegalArgumentException("key is null/empty");
+            }
+            if ((key.length != 16) && (key.length != 24) && (key.length != 32)) {
+                throw new IllegalArgumentException("key is the wrong size");
+            }
+            if (iv == null) {
+                throw new IllegalArgumentException("IV is null");
+            }
+            if (iv.length < AES_GCM_MIN_IV_SIZE) {
+                throw new IllegalArgumentException("IV is the wrong size");
+            }
+            if (input == null) {
+                throw new IllegalArgumentException("Input is null");
+            }
+            if (!encrypting && (input.length < tagLen)) {
+                throw new AEADBadTagException("Input too short - need tag");
+            }
+            keySizes[(key.length - 16) / 8] = true;
+
+            int d = i * BATCH_FIELDS;
+            if ((i > 0) && (key == keys[i - 1])) {
+                descriptors[d] = descriptors[d - BATCH_FIELDS];
+            } else {
+                descriptors[d] = (int) dataLen;
+                dataLen += key.length;
+            }
+            descriptors[d + 1] = key.length;
+            descriptors[d + 2] = (int) dataLen;
+            descriptors[d + 3] = iv.length;
+            dataLen += iv.length;
+            int aadLen = (aad == null) ? 0 : aad.length;
+            descriptors[d + 4] = (int) dataLen;
+            descriptors[d + 5] = aadLen;
+            dataLen += aadLen;
+            descriptors[d + 6] = (int) dataLen;
+            descriptors[d + 7] = encrypting ? input.length : (input.length - tagLen);
+            dataLen += input.length;
+            descriptors[d + 8] = (int) dataLen;
+            dataLen += getOutputSizeLegacy(input.length, encrypting, tagLen);
+            if (dataLen > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("The batch is too large");
+            }
+        }
+        if (count == 0) {
+            return new byte[0][];
+        }
+
+        FastJNIBuffer data = getBatchBuffer((int) dataLen);
+        for (int i = 0; i < count; i++) {
+            int d = i * BATCH_FIELDS;
+            if ((i == 0) || (keys[i] != keys[i - 1])) {
+                data.put(descriptors[d], keys[i], 0, keys[i].length);
+            }
+            data.put(descriptors[d + 2], ivs[i], 0, ivs[i].length);
+            if (aads != null) {
+                data.put(descriptors[d + 4], aads[i], 0, descriptors[d + 5]);
+            }
+            data.put(descriptors[d + 6], inputs[i], 0, inputs[i].length);
+        }
+
+        long gcmCtx16 = keySizes[0] ? getGCMContext(encrypting, 16, provider, nativeInterface) : 0;
+        long gcmCtx24 = keySizes[1] ? getGCMContext(encrypting, 24, provider, nativeInterface) : 0;
+        long gcmCtx32 = keySizes[2] ? getGCMContext(encrypting, 32, provider, nativeInterface) : 0;
+        int[] status = new int[count];
+        int failures = this.nativeInterface.do_GCM_batchFastJNI(gcmCtx16, gcmCtx24, gcmCtx32,
+                encrypting, count, tagLen, descriptors, status, data.pointer());
+        if (failures != 0) {
+            for (int i = 0; i < count; i++) {
+                if (status[i] != 0) {
+                    throw new NativeException(ErrorCodes.get(status[i]));
+                }
+            }
+        }
+
+        byte[][] outputs = new byte[count][];
+        for (int i = 0; i < count; i++) {
+            int d = i * BATCH_FIELDS;
+            outputs[i] = new byte[getOutputSizeLegacy(inputs[i].length, encrypting, tagLen)];
+            data.get(descriptors[d + 8], outputs[i], 0, outputs[i].length);
+        }
+        return outputs;
+    }
+
+    /*
+     * Returns a native buffer of at least the given capacity. Each thread keeps
+     * its buffer for reuse unless it would exceed MaxBatchBufferSize.
+     */
+    private static FastJNIBuffer getBatchBuffer(int capacity) {
+        FastJNIBuffer buffer = batchBuffer.get();
+        if ((buffer != null) && (buffer.capacity() >= capacity)) {
+            return buffer;
+        }
+        if (capacity > MaxBatchBufferSize) {
+            return FastJNIBuffer.create(capacity);
+        }
+        int size = Math.max(Integer.highestOneBit(capacity - 1) << 1, FastJNIInputBufferSize);
+        buffer = FastJNIBuffer.create(Math.min(size, MaxBatchBufferSize));
+        batchBuffer.set(buffer);
+        return buffer;
+    }
+
+    private long getDirectBufferAddress(ByteBuffer buffer) {
+        return this.nativeInterface.getByteBufferPointer(buffer) + buffer.position();
+    }
+
+    /*
+     * Operating in place is supported, any other overlap between the input and
+     * output regions is not.
+     */
+    private static boolean isPartialOverlap(long inputAddress, int inputLen, long outputAddress,
+            int outputLen) {
+        return (inputAddress != outputAddress) && (inputAddress < outputAddress + outputLen)
+                && (outputAddress < inputAddress + inputLen);
+    }
+
+    private static ByteBuffer copyDirect(ByteBuffer input) {
+        ByteBuffer copy = ByteBuffer.allocateDirect(input.remaining());
+        copy.put(0, input, input.position(), input.remaining());
+        return copy;
+    }
+
     public int do_GCM_FinalForUpdateDecrypt(byte[] key, byte[] iv,
             int tagLen, byte[] input, int inputOffset, int inputLen, byte[] output,
             int outputOffset, byte[] aad)
@@ -982,7 +1274,7 @@ public final class GCMCipher {
 
     static int useHardwareGCM(boolean isEncrypt, int inputLen, int ivLen, int keyLen, int aadLen,
             int tagLen, byte[] key, byte[] input, int inputOffset, byte[] output, int outputOffset,
-            FastJNIBuffer parameters, OpenJCEPlusProvider provider)
+            FastJNIBuffer parameters, NativeInterface nativeInterface)
             throws NativeException, IllegalStateException, ShortBufferException,
             IllegalBlockSizeException, BadPaddingException, AEADBadTagException {
         int rc = 0;
@@ -1002,7 +1294,6 @@ public final class GCMCipher {
         putLongtoByteArray(inputLen * 8, addedParams, TPCLOffset); // Add TPCL
         parameters.put(paramBlockOffset, addedParams, 0, addedParams.length);
 
-        NativeInterface nativeInterface = NativeCryptoSelector.selectBackend(provider, "Cipher", "AES/GCM/NoPadding");
         if (isEncrypt) { // encrypt
             rc = nativeInterface.do_GCM_encryptFastJNI_WithHardwareSupport(keyLen, ivLen, 0,
                     inputLen, 0, aadLen, tagLen, parameters.pointer(), input, inputOffset, output,
@@ -9,15 +9,18 @@
 package com.ibm.crypto.plus.provider.base;
 
 import com.ibm.crypto.plus.provider.OpenJCEPlusProvider;
-import java.util.Arrays;
 
 public final class HMAC {
 
     private OpenJCEPlusProvider provider;
     private NativeInterface nativeInterface;
     private final long hmacId;
-    private boolean needsReinit = false;
-    private byte[] reinitKey = null;
+    // The native context keeps the state derived from the key, so that the key
+    // is only processed once by initialize() and not sent again by update,
+    // doFinal or reset.
+    private boolean initialized = false;
+    // Whether data was added since the last MAC was started
+    private boolean needsReset = false;
     private int macLength = 0;
     private final String badIdMsg = "HMAC Identifier is not valid";
     private static final String debPrefix = "HAMC";
@@ -38,6 +41,19 @@ public final class HMAC {
         return new HMAC(digestAlgo, ockAlgo, provider);
     }
 
+    /**
+     * Returns an HMAC using the given native backend, which the caller has
+     * already resolved for its service, instead of looking the backend up.
+     */
+    public static HMAC getInstance(String digestAlgo, OpenJCEPlusProvider provider,
+            NativeInterface nativeInterface) throws NativeException {
+        if (provider == null) {
+            throw new IllegalArgumentException("provider is null");
+        }
+
+        return new HMAC(digestAlgo, provider, nativeInterface);
+    }
+
     static void throwNativeException(int errorCode) throws NativeException {
         switch (errorCode) {
             case -1:
@@ -52,16 +68,20 @@ public final class HMAC {
     }
 
     private HMAC(String digestAlgo, OpenJCEPlusProvider provider) throws NativeException {
+        this(digestAlgo, provider,
+                NativeCryptoSelector.selectBackend(provider, "Mac", "Hmac" + digestAlgo));
+    }
+
+    private HMAC(String digestAlgo, OpenJCEPlusProvider provider, NativeInterface nativeInterface)
+            throws NativeException {
         //final String methodName = "HMAC (String)";
         this.provider = provider;
-        String algo = "Hmac" + digestAlgo;
-
-        this.nativeInterface = NativeCryptoSelector.selectBackend(provider, "Mac", algo);
+        this.nativeInterface = nativeInterface;
 
         this.hmacId = this.nativeInterface.HMAC_create(digestAlgo);
         //OCKDebug.Msg (debPrefix, methodName,  "this.hmacId :" + this.hmacId + " digestAlgo :" + digestAlgo);
 
-        this.provider.registerCleanable(this, cleanOCKResources(hmacId, reinitKey, nativeInterface));
+        this.provider.registerCleanable(this, cleanOCKResources(hmacId, nativeInterface));
     }
 
     private HMAC(String digestAlgo, String ockAlgo, OpenJCEPlusProvider provider) throws NativeException {
@@ -74,7 +94,7 @@ public final class HMAC {
         this.hmacId = this.nativeInterface.HMAC_create(digestAlgo);
         //OCKDebug.Msg (debPrefix, methodName,  "this.hmacId :" + this.hmacId + " digestAlgo :" + digestAlgo);
 
-        this.provider.registerCleanable(this, cleanOCKResources(hmacId, reinitKey, nativeInterface));
+        this.provider.registerCleanable(this, cleanOCKResources(hmacId, nativeInterface));
     }
 
     public synchronized void initialize(byte[] key) throws NativeException {
@@ -87,13 +107,12 @@ public final class HMAC {
             throw new NativeException(badIdMsg);
         }
 
-        if (key != reinitKey) {
-            if (reinitKey != null) {
-                Arrays.fill(reinitKey, (byte) 0x00);
-            }
-            this.reinitKey = key.clone();
+        int result = this.nativeInterface.HMAC_init(hmacId, key, key.length);
+        if (result < 0) {
+            throwNativeException(result);
         }
-        needsReinit = true;
+        initialized = true;
+        needsReset = false;
     }
 
     public int getMacLength() throws NativeException {
@@ -108,7 +127,7 @@ public final class HMAC {
     public synchronized void update(byte[] input, int inputOffset, int inputLen)
             throws NativeException {
         //final String methodName = "update";
-        if (this.reinitKey == null) {
+        if (!initialized) {
             throw new IllegalStateException("HMAC not initialized");
         }
 
@@ -124,17 +143,16 @@ public final class HMAC {
         if (!validId(hmacId)) {
             throw new NativeException(badIdMsg);
         }
-        int result = this.nativeInterface.HMAC_update(hmacId, reinitKey,
-                reinitKey.length, input, inputOffset, inputLen, needsReinit);
+        int result = this.nativeInterface.HMAC_update(hmacId, input, inputOffset, inputLen);
         if (result < 0) {
             throwNativeException(result);
         }
-        this.needsReinit = false;
+        this.needsReset = true;
     }
 
     public synchronized byte[] doFinal() throws NativeException {
         //final String methodName = "doFinal";
-        if (reinitKey == null) {
+        if (!initialized) {
             throw new IllegalStateException("HMAC not initialized");
         }
 
@@ -144,20 +162,29 @@ public final class HMAC {
         }
         obtainMacLength();
         byte[] hmac = new byte[macLength];
-        int result = this.nativeInterface.HMAC_doFinal(hmacId, reinitKey,
-                reinitKey.length, hmac, needsReinit);
+        // The native context is left ready for the next MAC with the same key.
+        //
+        int result = this.nativeInterface.HMAC_doFinal(hmacId, hmac);
         if (result < 0) {
             throwNativeException(result);
         }
-        // Need to reset the object such that it can be re-used.
-        //
-        needsReinit = true;
+        needsReset = false;
         //OCKDebug.Msg (debPrefix, methodName,  "hmacBytes :", hmac);
         return hmac;
     }
 
     public synchronized void reset() throws NativeException {
-        needsReinit = true;
+        // Restore the state saved when the key was set, discarding any data.
+        if (needsReset) {
+            if (!validId(hmacId)) {
+                throw new NativeException(badIdMsg);
+            }
+            int result = this.nativeInterface.HMAC_reset(hmacId);
+            if (result < 0) {
+                throwNativeException(result);
+            }
+            needsReset = false;
+        }
     }
 
     private synchronized void obtainMacLength() throws NativeException {
@@ -180,16 +207,12 @@ public final class HMAC {
         return (id != 0L);
     }
 
-    private Runnable cleanOCKResources(long hmacId, byte[] reinitKey, NativeInterface nativeInterface) {
+    private Runnable cleanOCKResources(long hmacId, NativeInterface nativeInterface) {
         return () -> {
             try {
                 if (hmacId != 0) {
                     nativeInterface.HMAC_delete(hmacId);
                 }
-
-                if (reinitKey != null) {
-                    Arrays.fill(reinitKey, (byte) 0x00);
-                }
             } catch (Exception e) {
                 if (OpenJCEPlusProvider.getDebug() != null) {
                     OpenJCEPlusProvider.getDebug().println("An error occurred while cleaning : " + e.getMessage());
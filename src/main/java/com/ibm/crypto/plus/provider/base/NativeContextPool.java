@@ -0,0 +1,206 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms provided by IBM in the LICENSE file that accompanied
+ * this code, including the "Classpath" Exception described therein.
+ */
+
+package com.ibm.crypto.plus.provider.base;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bounded, lock-free pool of interchangeable native object identifiers, such
+ * as the digest contexts of one algorithm or the copies of one native key.
+ *
+ * <p>Identifiers are kept as primitive longs in an {@link AtomicLongArray}, with
+ * 0 marking an empty slot, so adding or removing a context never allocates. The
+ * slots are split into one stripe per available processor and each thread starts
+ * searching in the stripe selected by its id, so that threads running on
+ * different cores rarely touch the same slots.
+ *
+ * <p>The pool keeps track of how many contexts it owns. Only a context for which
+ * {@link #reserve()} returned true may be handed back with {@link #offer(long)},
+ * which guarantees that a free slot always exists for it.
+ *
+ * <p>Every pool reports how often it had an idle context ready to the
+ * {@link NativePoolStatistics} of its kind.
+ */
+final class NativeContextPool {
+
+    private final int capacity;
+    private final int stripeSize;
+    private final AtomicLongArray slots;
+
+    // number of contexts owned by this pool, whether idle or in use
+    private final AtomicInteger owned = new AtomicInteger();
+
+    // number of idle contexts currently stored in slots
+    private final AtomicInteger available = new AtomicInteger();
+
+    private final NativePoolStatistics.Usage usage;
+
+    NativeContextPool(String name, int capacity) {
+        this.usage = NativePoolStatistics.forPool(name);
+        this.capacity = Math.max(capacity, 0);
+        int stripes = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(),
+                this.capacity));
+        this.stripeSize = (this.capacity + stripes - 1) / stripes;
+        this.slots = new AtomicLongArray(stripes * stripeSize);
+    }
+
+    /**
+     * Removes an idle context from the pool.
+     *
+     * @return the context identifier, or 0 if the pool has no idle context
+     */
+    long poll() {
+        long context = take();
+        if (context != 0) {
+            usage.hits.increment();
+        } else {
+            usage.misses.increment();
+        }
+        return context;
+    }
+
+    /**
+     * Removes an idle context from the pool so that it can be deleted. Unlike
+     * {@link #poll()}, this is not counted as a use of the pool, and the pool
+     * no longer owns the context afterwards.
+     *
+     * @return the context identifier, or 0 if the pool has no idle context
+     */
+    long remove() {
+        long context = take();
+        if (context != 0) {
+            owned.decrementAndGet();
+        }
+        return context;
+    }
+
+    private long take() {
+        // Claim one of the idle contexts before looking for it. Every context
+        // counted in 'available' is already stored in a slot, so the search
+        // below always succeeds.
+        int count;
+        do {
+            count = available.get();
+            if (count == 0) {
+                return 0;
+            }
+        } while (!available.compareAndSet(count, count - 1));
+
+        int length = slots.length();
+        for (int index = startIndex();; index = (index + 1 == length) ? 0 : index + 1) {
+            long context = slots.get(index);
+            if ((context != 0) && slots.compareAndSet(index, context, 0)) {
+                usage.idle.decrement();
+                return context;
+            }
+        }
+    }
+
+    /**
+     * Returns a context previously reserved through {@link #reserve()} to the pool.
+     */
+    void offer(long context) {
+        // At most 'owned' slots are ever in use and 'owned' never exceeds the
+        // number of slots, so a free slot always exists.
+        int length = slots.length();
+        for (int index = startIndex();; index = (index + 1 == length) ? 0 : index + 1) {
+            if ((slots.get(index) == 0) && slots.compareAndSet(index, 0, context)) {
+                available.incrementAndGet();
+                usage.idle.increment();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Records that a newly created context will be owned by the pool.
+     *
+     * @return true if the pool has room for another context, false if the
+     *         context must be deleted by its user instead
+     */
+    boolean reserve() {
+        int count;
+        do {
+            count = owned.get();
+            if (count >= capacity) {
+                return false;
+            }
+        } while (!owned.compareAndSet(count, count + 1));
+        return true;
+    }
+
+    /**
+     * Cancels a reservation obtained from {@link #reserve()} when the context it
+     * was made for could not be created.
+     */
+    void unreserve() {
+        owned.decrementAndGet();
+    }
+
+    /**
+     * Returns the number of contexts currently owned by the pool, whether idle
+     * or in use. Contexts taken out through {@link #remove()} are not counted.
+     */
+    int getOwnedCount() {
+        return owned.get();
+    }
+
+    /**
+     * Returns the number of idle contexts in the pool.
+     */
+    int getAvailableCount() {
+        return available.get();
+    }
+
+    private int startIndex() {
+        return (int) ((Thread.currentThread().threadId() * stripeSize) % slots.length());
+    }
+
+    /**
+     * Holds a pool that is only created when it is first used, for objects
+     * such as keys that often never use theirs. A cleaner given the holder
+     * drains the pool only if it was created.
+     */
+    static final class Lazy {
+
+        private final String name;
+        private final int capacity;
+        private volatile NativeContextPool pool;
+
+        Lazy(String name, int capacity) {
+            this.name = name;
+            this.capacity = capacity;
+        }
+
+        /**
+         * Returns the pool, creating it if it does not exist yet.
+         */
+        NativeContextPool get() {
+            NativeContextPool result = pool;
+            if (result == null) {
+                synchronized (this) {
+                    result = pool;
+                    if (result == null) {
+                        result = new NativeContextPool(name, capacity);
+                        pool = result;
+                    }
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Returns the pool, or null if it was never used.
+         */
+        NativeContextPool getIfCreated() {
+            return pool;
+        }
+    }
+}
@@ -70,8 +70,27 @@ public class NativeCryptoSelector {
     }
     
     /**
-     * Determines which backend to use by querying the Provider service attribute.
-     * Retrieves the NativeProvider attribute from provider.getService(type, algorithm).
+     * Returns the type of the given backend implementation, or null if it is not
+     * one of the backends handed out by this class.
+     */
+    public static Backend getBackendType(NativeInterface nativeInterface) {
+        if (nativeInterface == null) {
+            return null;
+        }
+        if ((nativeInterface == ockBackend) || (nativeInterface == ockBackendFIPS)) {
+            return Backend.OCK;
+        }
+        if ((nativeInterface == opensslBackend) || (nativeInterface == opensslBackendFIPS)) {
+            return Backend.OPENSSL;
+        }
+        return null;
+    }
+
+    /**
+     * Determines which backend to use for the service of the given type and algorithm.
+     * The backend is resolved from the NativeProvider attribute of the service the
+     * first time it is requested and cached by the provider, so subsequent calls
+     * do not look the service up again.
      * 
      * @param provider the security provider
      * @param type the service type (e.g., "Cipher", "MessageDigest")
@@ -79,33 +98,38 @@ public class NativeCryptoSelector {
      * @return the Backend to use
      */
     public static NativeInterface selectBackend(OpenJCEPlusProvider provider, String type, String algorithm) {
-        Backend bked = Backend.OCK;
-        Provider.Service service = null;
+        if (provider == null || type == null || algorithm == null) {
+            throw new ConfigurationException("Provider, Type and Algorithm must not be null");
+        }
 
-        if (provider != null && type != null && algorithm != null) {
-            
-            if (debug != null) {
-                debug.println("Service - " + type + "\nAlg - " + algorithm);
-            }
+        return provider.getNativeInterface(type, algorithm);
+    }
 
-            service = provider.getService(type, algorithm);
+    /**
+     * Determines which backend to use by querying the Provider service attribute.
+     * Retrieves the NativeProvider attribute from the given service.
+     * 
+     * @param service the provider service
+     * @param isFIPS whether the provider of the service is FIPS
+     * @return the Backend to use
+     */
+    public static NativeInterface selectBackend(Provider.Service service, boolean isFIPS) {
+        if (service == null) {
+            throw new ConfigurationException("Service must not be null");
+        }
 
-            if (service != null) {
-                String nativeProviderValue = service.getAttribute("NativeProvider");
-                bked = selectBackendFromAttribute(nativeProviderValue);
-            } else {
-                // Service not found.
-                throw new ConfigurationException("Service not found for type " + type + " and algorithm " + algorithm);
-            }
-        } else {
-            throw new ConfigurationException("Provider, Type and Algorithm must not be null");
+        if (debug != null) {
+            debug.println("Service - " + service.getType() + "\nAlg - " + service.getAlgorithm());
         }
 
+        String nativeProviderValue = service.getAttribute("NativeProvider");
+        Backend bked = selectBackendFromAttribute(nativeProviderValue);
+
         if (debug != null) {
             debug.println("Selected Backend: " + bked);
         }
 
-        return getBackend(bked, provider.isFIPS());
+        return getBackend(bked, isFIPS);
     }
     
     /**
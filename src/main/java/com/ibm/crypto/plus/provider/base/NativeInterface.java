@@ -178,6 +178,10 @@ public interface NativeInterface {
             int tagLen, long parameterBuffer, long inputBuffer, long outputBuffer)
             throws NativeException;
 
+    public int do_GCM_batchFastJNI(long gcmCtx16, long gcmCtx24, long gcmCtx32,
+            boolean encrypt, int count, int tagLen, int[] descriptors, int[] status,
+            long dataBuffer) throws NativeException;
+
     public int do_GCM_encrypt(long gcmCtx, byte[] key, int keyLen,
             byte[] iv, int ivLen, byte[] input, int inOffset, int inLen, byte[] ciphertext,
             int ciphertextOffset, byte[] aad, int aadLen, byte[] tag, int tagLen)
@@ -289,6 +293,9 @@ public interface NativeInterface {
     public long DHKEY_generate(byte[] dhParameters)
             throws NativeException;
 
+    public long DHKEY_generateWithEncodings(byte[] dhParameters, int[] lengths,
+            long bufferPtr, int bufferLen) throws NativeException;
+
     public long DHKEY_createPrivateKey(byte[] privateKeyBytes)
             throws NativeException;
 
@@ -418,6 +425,12 @@ public interface NativeInterface {
     public boolean SIGNATUREEdDSA_verifyOneShot(long pkeyId,
             byte[] sigBytes, byte[] oneShot) throws NativeException;
 
+    public byte[] SIGNATUREEdDSA_signBuffer(long pkeyId, String prehashInstance,
+            long dataBuffer, int dataLength) throws NativeException;
+
+    public boolean SIGNATUREEdDSA_verifyBuffer(long pkeyId, String prehashInstance,
+            byte[] sigBytes, long dataBuffer, int dataLength) throws NativeException;
+
     // =========================================================================
     // RSAPSSSignature functions
     // =========================================================================
@@ -442,6 +455,9 @@ public interface NativeInterface {
     public void RSAPSS_releaseContext(long rsaPssId)
             throws NativeException;
 
+    public void RSAPSS_clearContext(long rsaPssId)
+            throws NativeException;
+
     public void RSAPSS_digestUpdate(long rsaPssId, byte[] input,
             int offset, int length) throws NativeException;
 
@@ -476,16 +492,21 @@ public interface NativeInterface {
 
     public long HMAC_create(String digestAlgo) throws NativeException;
 
-    public int HMAC_update(long hmacId, byte[] key, int keyLength,
-            byte[] input, int inputOffset, int inputLength, boolean needInit) throws NativeException;
+    public int HMAC_init(long hmacId, byte[] key, int keyLength) throws NativeException;
 
-    public int HMAC_doFinal(long hmacId, byte[] key, int keyLength,
-            byte[] hmac, boolean needInit) throws NativeException;
+    public int HMAC_update(long hmacId, byte[] input, int inputOffset, int inputLength) throws NativeException;
+
+    public int HMAC_doFinal(long hmacId, byte[] hmac) throws NativeException;
+
+    public int HMAC_reset(long hmacId) throws NativeException;
 
     public int HMAC_size(long hmacId) throws NativeException;
 
     public void HMAC_delete(long hmacId) throws NativeException;
 
+    public void TLS12_PRF(String digestAlgo, byte[] secret, byte[] label,
+            byte[] seed, byte[] output) throws NativeException;
+
     // =========================================================================
     // EC key functions
     // =========================================================================
@@ -498,6 +519,15 @@ public interface NativeInterface {
     public long XECKEY_generate(int option, long bufferPtr)
             throws NativeException;
 
+    public long ECKEY_generateWithEncodings(int numBits, int[] lengths,
+            long bufferPtr, int bufferLen) throws NativeException;
+
+    public long ECKEY_generateWithEncodings(String curveOid, int[] lengths,
+            long bufferPtr, int bufferLen) throws NativeException;
+
+    public long XECKEY_generateWithEncodings(int option, int[] lengths,
+            long bufferPtr, int bufferLen) throws NativeException;
+
     public byte[] ECKEY_generateParameters(int numBits)
             throws NativeException;
 
@@ -615,6 +645,9 @@ public interface NativeInterface {
     public byte[] KEM_decapsulate(long PKeyId, byte[] wrappedKey)
             throws NativeException;
 
+    public void KEM_encapsulateBatch(long PKeyId, int count, byte[] wrappedKeys, byte[] randomKeys)
+            throws NativeException;
+
     // =========================================================================
     // PQC Signture functions - for use with ML-DSA and ML-SLH
     // =========================================================================
@@ -623,4 +656,18 @@ public interface NativeInterface {
 
     public boolean PQC_SIGNATURE_verify(long PKeyId, byte[] sigBytes, byte[] data)
             throws NativeException;
+
+    // Streaming ML-DSA, where the message representative mu is computed
+    // incrementally and then signed with the external mu interface.
+    public long PQC_MU_create(long PKeyId, byte[] prefix) throws NativeException;
+
+    public void PQC_MU_update(long muId, byte[] input, int offset, int length)
+            throws NativeException;
+
+    public void PQC_MU_delete(long muId) throws NativeException;
+
+    public byte[] PQC_SIGNATURE_signMu(long PKeyId, long muId) throws NativeException;
+
+    public boolean PQC_SIGNATURE_verifyMu(long PKeyId, long muId, byte[] sigBytes)
+            throws NativeException;
 }
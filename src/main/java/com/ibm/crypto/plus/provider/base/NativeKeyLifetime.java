@@ -0,0 +1,131 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms provided by IBM in the LICENSE file that accompanied
+ * this code, including the "Classpath" Exception described therein.
+ */
+
+package com.ibm.crypto.plus.provider.base;
+
+import java.lang.ref.Cleaner;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the key objects using a native key and the native operations in
+ * progress with it, so that the native key can be freed as soon as the last
+ * key object is destroyed rather than when a cleaner thread finds it
+ * unreachable.
+ *
+ * <p>Destroying the last key object only marks the native key as destroyed, so
+ * that no new operation can start with it. The native key is freed when the
+ * operations that were already in progress have ended. A native key that is
+ * never retained, or that is still retained by a key object that is never
+ * destroyed, is freed by the cleaner as before.
+ */
+final class NativeKeyLifetime {
+
+    private static final String releasedMsg = "The native key has been released";
+
+    // The state packs the number of operations in progress in the low 31 bits,
+    // the number of key objects in the next 31 bits and the destroyed flag. It
+    // is FREED once the native key has been freed.
+    private static final long USE = 1L;
+    private static final long USES = (1L << 31) - 1;
+    private static final long USER = 1L << 31;
+    private static final long USERS = USES << 31;
+    private static final long DESTROYED = 1L << 62;
+    private static final long FREED = -1L;
+
+    private final Cleaner.Cleanable cleanable;
+
+    private final AtomicLong state = new AtomicLong();
+
+    NativeKeyLifetime(Cleaner.Cleanable cleanable) {
+        this.cleanable = cleanable;
+    }
+
+    /**
+     * Records that one more key object uses the native key.
+     *
+     * @throws IllegalStateException if the native key has been destroyed
+     */
+    void retain() {
+        for (;;) {
+            long current = state.get();
+            if ((current == FREED) || ((current & DESTROYED) != 0)) {
+                throw new IllegalStateException(releasedMsg);
+            }
+            if (state.compareAndSet(current, current + USER)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Records that a key object using the native key has been destroyed. When
+     * it was the last one, the native key is marked as destroyed and is freed
+     * once no operation is in progress with it.
+     */
+    void release() {
+        for (;;) {
+            long current = state.get();
+            if ((current == FREED) || ((current & USERS) == 0)) {
+                return;
+            }
+            long next = current - USER;
+            if ((next & USERS) == 0) {
+                next = ((next & USES) == 0) ? FREED : (next | DESTROYED);
+            }
+            if (state.compareAndSet(current, next)) {
+                if (next == FREED) {
+                    cleanable.clean();
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Records that a native operation with the native key is starting. It must
+     * be followed by {@link #endUse()} once the native key is no longer used,
+     * including when the operation fails.
+     *
+     * @throws IllegalStateException if the native key has been destroyed
+     */
+    void beginUse() {
+        for (;;) {
+            long current = state.get();
+            if ((current == FREED) || ((current & DESTROYED) != 0)) {
+                throw new IllegalStateException(releasedMsg);
+            }
+            if (state.compareAndSet(current, current + USE)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Records that a native operation started with {@link #beginUse()} has
+     * ended, and frees the native key if it was the last operation in progress
+     * with a destroyed native key.
+     */
+    void endUse() {
+        for (;;) {
+            long current = state.get();
+            if ((current == FREED) || ((current & USES) == 0)) {
+                return;
+            }
+            long next = current - USE;
+            if (((next & DESTROYED) != 0) && ((next & USES) == 0)) {
+                next = FREED;
+            }
+            if (state.compareAndSet(current, next)) {
+                if (next == FREED) {
+                    cleanable.clean();
+                }
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms provided by IBM in the LICENSE file that accompanied
+ * this code, including the "Classpath" Exception described therein.
+ */
+
+package com.ibm.crypto.plus.provider.base;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts how often the pools of native contexts and key copies had an idle
+ * object ready when one was needed. The counts of all the pools of a kind,
+ * such as the digest context pools of every algorithm or the signing key
+ * copies of every EC key, are added together under the name of that kind.
+ */
+public final class NativePoolStatistics {
+
+    private static final Map<String, Usage> usages = new ConcurrentHashMap<>();
+
+    private NativePoolStatistics() {
+    }
+
+    static Usage forPool(String name) {
+        return usages.computeIfAbsent(name, k -> new Usage());
+    }
+
+    /**
+     * Records that a pool of the given kind had an idle object ready. Used by
+     * the pools kept outside of this package.
+     */
+    public static void recordHit(String name) {
+        forPool(name).hits.increment();
+    }
+
+    /**
+     * Records that a pool of the given kind had no idle object ready.
+     */
+    public static void recordMiss(String name) {
+        forPool(name).misses.increment();
+    }
+
+    /**
+     * Adds the given number, which may be negative, to the number of idle
+     * objects held by the pools of the given kind.
+     */
+    public static void addIdle(String name, long count) {
+        forPool(name).idle.add(count);
+    }
+
+    /**
+     * Returns the names of the kinds of pools created so far.
+     */
+    public static Set<String> getPoolNames() {
+        return new TreeSet<>(usages.keySet());
+    }
+
+    /**
+     * Returns the number of times a pool of the given kind had an idle object
+     * ready.
+     */
+    public static long getHitCount(String name) {
+        Usage usage = usages.get(name);
+        return (usage == null) ? 0 : usage.hits.sum();
+    }
+
+    /**
+     * Returns the number of times a pool of the given kind had no idle object
+     * ready, so that a new one had to be created or the caller had to wait.
+     */
+    public static long getMissCount(String name) {
+        Usage usage = usages.get(name);
+        return (usage == null) ? 0 : usage.misses.sum();
+    }
+
+    /**
+     * Returns the number of idle objects held by the pools of the given kind.
+     */
+    public static long getIdleCount(String name) {
+        Usage usage = usages.get(name);
+        return (usage == null) ? 0 : usage.idle.sum();
+    }
+
+    static final class Usage {
+        final LongAdder hits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+        final LongAdder idle = new LongAdder();
+    }
+}
@@ -22,6 +22,17 @@ public final class OJPKEM {
         nativeInterface.KEM_encapsulate(ockPKeyId, encapsulatedKey, keyMaterial);
     }
 
+    /*
+     * Performs count encapsulations with the same key in a single native call.
+     * The encapsulated keys and the key material are stored one after the other
+     * in encapsulatedKeys and keyMaterial.
+     */
+    public static void KEM_encapsulateBatch(long ockPKeyId, int count, byte[] encapsulatedKeys,
+            byte[] keyMaterial, OpenJCEPlusProvider provider, String algName) throws NativeException {
+        NativeInterface nativeInterface = NativeCryptoSelector.selectBackend(provider, "KEM", algName);
+        nativeInterface.KEM_encapsulateBatch(ockPKeyId, count, encapsulatedKeys, keyMaterial);
+    }
+
     public static byte[] KEM_decapsulate(long ockPKeyId, byte[] encapsulatedKey, OpenJCEPlusProvider provider,
             String algName) throws NativeException {
         NativeInterface nativeInterface = NativeCryptoSelector.selectBackend(provider, "KEM", algName);
@@ -21,6 +21,8 @@ public final class PQCKey implements AsymmetricKey {
     private OpenJCEPlusProvider provider;
     private NativeInterface nativeInterface;
     private final long pkeyId;
+    // Frees the native key once the last key object using it is destroyed
+    private final NativeKeyLifetime lifetime;
     private String algName;
     private byte[] privateKeyBytes;
     private byte[] publicKeyBytes;
@@ -77,12 +79,18 @@ public final class PQCKey implements AsymmetricKey {
             throw new IllegalArgumentException("provider is null");
         }
         NativeInterface nativeInterface = NativeCryptoSelector.selectBackend(provider, configType, algName);
+        // Only decoded keys are cached, freshly generated keys are unlikely to be seen again.
+        boolean cacheable = "KeyFactory".equals(configType);
+        if (cacheable && (PublicKeyCache.get(nativeInterface, algName, publicKeyBytes) instanceof PQCKey cachedKey)) {
+            return cachedKey;
+        }
         long keyId = 0;
         String NoDashAlg = algName.replace('-', '_');
         keyId = nativeInterface.MLKEY_createPublicKey(NoDashAlg, publicKeyBytes);
 
         // OCKDebug.Msg (debPrefix, methodName, "mlkemKeyId :" + mlkemKeyId);
-        return new PQCKey(nativeInterface, keyId, null, publicKeyBytes.clone(), algName, provider);
+        PQCKey key = new PQCKey(nativeInterface, keyId, null, publicKeyBytes.clone(), algName, provider);
+        return cacheable ? PublicKeyCache.put(nativeInterface, algName, key, publicKeyBytes) : key;
     }
 
     private PQCKey(NativeInterface nativeInterface, long keyId, byte[] privateKeyBytes,
@@ -111,7 +119,8 @@ public final class PQCKey implements AsymmetricKey {
             this.publicKeyBytes = publicKeyBytes;
         }
 
-        this.provider.registerCleanable(this, cleanOCKResources(privateKeyBytes, pkeyId, this.nativeInterface));
+        this.lifetime = new NativeKeyLifetime(this.provider.registerCleanable(this,
+                cleanOCKResources(privateKeyBytes, pkeyId, this.nativeInterface)));
     }
 
     @Override
@@ -124,6 +133,26 @@ public final class PQCKey implements AsymmetricKey {
         return pkeyId;
     }
 
+    @Override
+    public void retain() {
+        lifetime.retain();
+    }
+
+    @Override
+    public void release() {
+        lifetime.release();
+    }
+
+    @Override
+    public void beginUse() {
+        lifetime.beginUse();
+    }
+
+    @Override
+    public void endUse() {
+        lifetime.endUse();
+    }
+
     @Override
     public byte[] getPrivateKeyBytes() throws NativeException {
         // final String methodName = "getPrivateKeyBytes :";
@@ -143,30 +172,40 @@ public final class PQCKey implements AsymmetricKey {
     }
 
     private synchronized void obtainPrivateKeyBytes() throws NativeException {
-        // Leave this duplicate check in here. If two threads are both trying
-        // to getPrivateKeyBytes at the same time, we only want to call the
-        // native code one time.
-        //
-        if (privateKeyBytes == unobtainedKeyBytes) {
-            if (!validId(pkeyId)) {
-                throw new NativeException(badIdMsg);
-            }
+        lifetime.beginUse();
+        try {
+            // Leave this duplicate check in here. If two threads are both trying
+            // to getPrivateKeyBytes at the same time, we only want to call the
+            // native code one time.
+            //
+            if (privateKeyBytes == unobtainedKeyBytes) {
+                if (!validId(pkeyId)) {
+                    throw new NativeException(badIdMsg);
+                }
         
-            System.out.println("getPrivKeyBytes - pkeyId :" + pkeyId);
-            this.privateKeyBytes = this.nativeInterface.MLKEY_getPrivateKeyBytes(pkeyId);
+                System.out.println("getPrivKeyBytes - pkeyId :" + pkeyId);
+                this.privateKeyBytes = this.nativeInterface.MLKEY_getPrivateKeyBytes(pkeyId);
+            }
+        } finally {
+            lifetime.endUse();
         }
     }
 
     private synchronized void obtainPublicKeyBytes() throws NativeException {
-        // Leave this duplicate check in here. If two threads are both trying
-        // to getPublicKeyBytes at the same time, we only want to call the
-        // native code one time.
-        //
-        if (publicKeyBytes == unobtainedKeyBytes) {
-            if (!validId(pkeyId)) {
-                throw new NativeException(badIdMsg);
+        lifetime.beginUse();
+        try {
+            // Leave this duplicate check in here. If two threads are both trying
+            // to getPublicKeyBytes at the same time, we only want to call the
+            // native code one time.
+            //
+            if (publicKeyBytes == unobtainedKeyBytes) {
+                if (!validId(pkeyId)) {
+                    throw new NativeException(badIdMsg);
+                }
+                this.publicKeyBytes = this.nativeInterface.MLKEY_getPublicKeyBytes(pkeyId);
             }
-            this.publicKeyBytes = this.nativeInterface.MLKEY_getPublicKeyBytes(pkeyId);
+        } finally {
+            lifetime.endUse();
         }
     }
 
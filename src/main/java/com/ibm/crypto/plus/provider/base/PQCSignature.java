@@ -19,6 +19,11 @@ import java.security.InvalidKeyException;
  * Since, Java supports the idea of update as part of it's Signature framework
  * We will just save the data in a buffer if an update operation is performed and 
  * do the doFinal as one large buffer.
+ *
+ * For ML-DSA a streaming mode is also available. The message representative
+ * mu of FIPS 204 is then computed incrementally in a native context as data is
+ * updated, and the signature is computed from mu (external mu). The memory
+ * used does not depend on the size of the message.
  */
 public final class PQCSignature {
 
@@ -26,6 +31,10 @@ public final class PQCSignature {
     private AsymmetricKey key = null;
     private boolean initialized = false;
     private OpenJCEPlusProvider provider = null;
+    // Bytes that precede the message in the computation of mu, null when not streaming
+    private byte[] muPrefix = null;
+    // Native context computing mu
+    private final MuContext mu = new MuContext();
 
     public static PQCSignature getInstance(OpenJCEPlusProvider provider)
             throws NativeException {
@@ -34,6 +43,8 @@ public final class PQCSignature {
 
     private PQCSignature(OpenJCEPlusProvider provider) throws NativeException {
         this.provider = provider;
+
+        this.provider.registerCleanable(this, cleanOCKResources(mu));
     }
 
     public void initialize(AsymmetricKey key, String algName)
@@ -43,9 +54,113 @@ public final class PQCSignature {
             throw new IllegalArgumentException("key is null");
         }
 
+        deleteMu();
         this.key = key;
         this.initialized = true;
         this.nativeInterface = NativeCryptoSelector.selectBackend(provider, "Signature", algName);
+        this.muPrefix = null;
+    }
+
+    /**
+     * Initializes the signature for streaming ML-DSA.
+     *
+     * @param muPrefix the bytes hashed into mu between tr and the message, as
+     *                 defined for the pure and the pre-hash variants in FIPS 204
+     */
+    public synchronized void initializeStreaming(AsymmetricKey key, String algName, byte[] muPrefix)
+            throws InvalidKeyException, NativeException {
+        if (muPrefix == null) {
+            throw new IllegalArgumentException("muPrefix is null");
+        }
+        initialize(key, algName);
+        this.muPrefix = muPrefix.clone();
+    }
+
+    public synchronized void update(byte[] input, int offset, int length) throws NativeException {
+        if (!this.initialized || (muPrefix == null)) {
+            throw new IllegalStateException("Signature not initialized for streaming");
+        }
+        if ((input == null) || (length < 0) || (offset < 0) || ((offset + length) > input.length)) {
+            throw new IllegalArgumentException("Bad input parameters to Signature update");
+        }
+
+        this.key.beginUse();
+        try {
+            ensureMu();
+            if (length > 0) {
+                this.nativeInterface.PQC_MU_update(mu.id, input, offset, length);
+            }
+        } finally {
+            this.key.endUse();
+        }
+    }
+
+    /**
+     * Signs the message given to update in streaming mode.
+     */
+    public synchronized byte[] sign() throws NativeException {
+        if (!this.initialized || (muPrefix == null)) {
+            throw new IllegalStateException("Signature not initialized for streaming");
+        }
+
+        this.key.beginUse();
+        try {
+            ensureMu();
+            try {
+                return this.nativeInterface.PQC_SIGNATURE_signMu(this.key.getPKeyId(), mu.id);
+            } finally {
+                deleteMu();
+            }
+        } finally {
+            this.key.endUse();
+        }
+    }
+
+    /**
+     * Verifies the message given to update in streaming mode.
+     */
+    public synchronized boolean verify(byte[] sigBytes) throws NativeException {
+        if (!this.initialized || (muPrefix == null)) {
+            throw new IllegalStateException("Signature not initialized for streaming");
+        }
+        if (null == sigBytes) {
+            throw new IllegalArgumentException("invalid signature");
+        }
+
+        this.key.beginUse();
+        try {
+            ensureMu();
+            try {
+                return this.nativeInterface.PQC_SIGNATURE_verifyMu(this.key.getPKeyId(),
+                        mu.id, sigBytes);
+            } finally {
+                deleteMu();
+            }
+        } finally {
+            this.key.endUse();
+        }
+    }
+
+    private void ensureMu() throws NativeException {
+        if (mu.id == 0) {
+            mu.id = this.nativeInterface.PQC_MU_create(this.key.getPKeyId(), muPrefix);
+            mu.nativeInterface = this.nativeInterface;
+        }
+    }
+
+    private void deleteMu() throws NativeException {
+        long id = mu.id;
+        if (id != 0) {
+            mu.id = 0;
+            mu.nativeInterface.PQC_MU_delete(id);
+        }
+    }
+
+    // Native context computing mu, 0 when no message is in progress, together with
+    // the backend that created it. Kept apart from the signature for the cleaner.
+    private static final class MuContext {
+        long id = 0;
+        NativeInterface nativeInterface = null;
     }
 
     public synchronized byte[] sign(byte[] data) throws NativeException {
@@ -60,7 +175,12 @@ public final class PQCSignature {
             throw new NativeException("No data to sign.");
         }
 
-        signature = this.nativeInterface.PQC_SIGNATURE_sign(this.key.getPKeyId(), data);
+        this.key.beginUse();
+        try {
+            signature = this.nativeInterface.PQC_SIGNATURE_sign(this.key.getPKeyId(), data);
+        } finally {
+            this.key.endUse();
+        }
 
         return signature;
     }
@@ -76,7 +196,12 @@ public final class PQCSignature {
         }
         boolean verified = false;
 
-        verified = this.nativeInterface.PQC_SIGNATURE_verify(this.key.getPKeyId(), sigBytes, data);
+        this.key.beginUse();
+        try {
+            verified = this.nativeInterface.PQC_SIGNATURE_verify(this.key.getPKeyId(), sigBytes, data);
+        } finally {
+            this.key.endUse();
+        }
 
         return verified;
     }
@@ -88,4 +213,20 @@ public final class PQCSignature {
         return (id != 0L);
     }
 
+    private static Runnable cleanOCKResources(MuContext mu) {
+        return () -> {
+            try {
+                if (mu.id != 0) {
+                    mu.nativeInterface.PQC_MU_delete(mu.id);
+                    mu.id = 0;
+                }
+            } catch (Exception e) {
+                if (OpenJCEPlusProvider.getDebug() != null) {
+                    OpenJCEPlusProvider.getDebug().println("An error occurred while cleaning : " + e.getMessage());
+                    e.printStackTrace();
+                }
+            }
+        };
+    }
+
 }
@@ -0,0 +1,233 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms provided by IBM in the LICENSE file that accompanied
+ * this code, including the "Classpath" Exception described therein.
+ */
+
+package com.ibm.crypto.plus.provider.base;
+
+import com.ibm.crypto.plus.provider.SystemAccessUtils;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A process wide, least recently used cache of native public keys, keyed by
+ * their encoding. The same public keys, such as those of intermediate
+ * certificate authorities or of a TLS peer, are decoded over and over, and the
+ * cache lets them share a single native key.
+ *
+ * <p>Cached keys are shared by all the key objects made from the same
+ * encoding, which is safe because public keys are never modified once created.
+ * The cache retains the keys it holds, so that destroying a key object never
+ * frees a cached native key; evicted keys are left to the cleaner. The cache
+ * is disabled unless the {@code openjceplus.publicKeyCache.size} system
+ * property is set to a positive number of entries when a provider is created.
+ *
+ * <p>Large caches are split in up to 16 segments, each holding the least
+ * recently used keys of its share of the encodings under its own lock, so that
+ * threads looking up different keys seldom wait for each other. Each segment
+ * holds at least {@value #MIN_SEGMENT_SIZE} keys, so smaller caches use a
+ * single segment and evict exactly the least recently used key.
+ */
+public final class PublicKeyCache {
+
+    private static final String CACHE_SIZE = "openjceplus.publicKeyCache.size";
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private static final int MIN_SEGMENT_SIZE = 64;
+
+    // Null while the cache is disabled.
+    private static volatile Segment[] segments;
+
+    private static int maximumSize;
+
+    private static final LongAdder hits = new LongAdder();
+
+    private static final LongAdder misses = new LongAdder();
+
+    private PublicKeyCache() {
+    }
+
+    /**
+     * Enables the cache with the size given by the
+     * {@code openjceplus.publicKeyCache.size} system property, if it is set and
+     * the cache is not enabled yet. Called when a provider is created.
+     */
+    public static synchronized void configure() {
+        if (segments != null) {
+            return;
+        }
+        int size;
+        try {
+            size = Integer.parseInt(SystemAccessUtils.getSystemProperty(CACHE_SIZE, "0"));
+        } catch (NumberFormatException e) {
+            size = 0;
+        }
+        if (size <= 0) {
+            return;
+        }
+        int count = 1;
+        while ((count < MAX_SEGMENTS) && ((size / (count * 2)) >= MIN_SEGMENT_SIZE)) {
+            count *= 2;
+        }
+        Segment[] newSegments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            // Spread the remainder over the first segments.
+            newSegments[i] = new Segment((size / count) + ((i < (size % count)) ? 1 : 0));
+        }
+        maximumSize = size;
+        segments = newSegments;
+    }
+
+    /**
+     * Returns the maximum number of cached keys, 0 if the cache is disabled.
+     */
+    public static synchronized int getMaximumSize() {
+        return (segments == null) ? 0 : maximumSize;
+    }
+
+    /**
+     * Returns the cached key made by the given native interface from the given
+     * encoding, or null if there is none or the cache is disabled.
+     */
+    static AsymmetricKey get(NativeInterface nativeInterface, String type, byte[]... encoding) {
+        Segment[] current = segments;
+        if (current == null) {
+            return null;
+        }
+        CacheKey cacheKey = new CacheKey(nativeInterface, type, encoding);
+        AsymmetricKey key = segmentFor(current, cacheKey).get(cacheKey);
+        if (key != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return key;
+    }
+
+    /**
+     * Adds a key to the cache, if enabled, and returns the key to use. If another
+     * thread cached a key for the same encoding in the meantime, that key is
+     * returned instead.
+     */
+    static <T extends AsymmetricKey> T put(NativeInterface nativeInterface, String type, T key,
+            byte[]... encoding) {
+        Segment[] current = segments;
+        if (current == null) {
+            return key;
+        }
+        byte[][] encodingCopy = new byte[encoding.length][];
+        for (int i = 0; i < encoding.length; i++) {
+            encodingCopy[i] = (encoding[i] == null) ? null : encoding[i].clone();
+        }
+        CacheKey cacheKey = new CacheKey(nativeInterface, type, encodingCopy);
+        return segmentFor(current, cacheKey).putIfAbsent(cacheKey, key);
+    }
+
+    private static Segment segmentFor(Segment[] current, CacheKey cacheKey) {
+        int hash = cacheKey.hashCode();
+        return current[(hash ^ (hash >>> 16)) & (current.length - 1)];
+    }
+
+    /**
+     * Returns the number of lookups that found a cached key.
+     */
+    public static long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that did not find a cached key.
+     */
+    public static long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of cached keys.
+     */
+    public static int size() {
+        Segment[] current = segments;
+        if (current == null) {
+            return 0;
+        }
+        int size = 0;
+        for (Segment segment : current) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    // The least recently used keys of a share of the encodings.
+    private static final class Segment {
+        private final Map<CacheKey, AsymmetricKey> keys;
+
+        Segment(int maximumSize) {
+            keys = new LinkedHashMap<>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<CacheKey, AsymmetricKey> eldest) {
+                    return size() > maximumSize;
+                }
+            };
+        }
+
+        synchronized AsymmetricKey get(CacheKey cacheKey) {
+            return keys.get(cacheKey);
+        }
+
+        synchronized <T extends AsymmetricKey> T putIfAbsent(CacheKey cacheKey, T key) {
+            AsymmetricKey cached = keys.putIfAbsent(cacheKey, key);
+            if (cached != null) {
+                @SuppressWarnings("unchecked")
+                T existing = (T) cached;
+                return existing;
+            }
+            key.retain();
+            return key;
+        }
+
+        synchronized int size() {
+            return keys.size();
+        }
+    }
+
+    private static final class CacheKey {
+        private final NativeInterface nativeInterface;
+        private final String type;
+        private final byte[][] encoding;
+        private final int hashCode;
+
+        CacheKey(NativeInterface nativeInterface, String type, byte[][] encoding) {
+            this.nativeInterface = nativeInterface;
+            this.type = type;
+            this.encoding = encoding;
+            this.hashCode = 31 * type.hashCode() + Arrays.deepHashCode(encoding);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CacheKey other)) {
+                return false;
+            }
+            // Keys of different backends must not be mixed.
+            return (nativeInterface == other.nativeInterface)
+                    && type.equals(other.type)
+                    && Arrays.deepEquals(encoding, other.encoding);
+        }
+    }
+}
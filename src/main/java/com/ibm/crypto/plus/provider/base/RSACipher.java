@@ -34,7 +34,10 @@ long. This limitation should never be hit in practice. (The typical RSA exponent
 
 /* Why the synchronization in this class was not done in the original release is not clear.
  *  As part of fixing the segmentation fault in WAS Commerce Server which runs with multiple threads, synchronization was added to
- *  encrypt/decrypt methods. If performance degradation due to synchronization becomes significant, we may have to revisit this decision.*/
+ *  encrypt/decrypt methods. If performance degradation due to synchronization becomes significant, we may have to revisit this decision.
+ *
+ *  The private key operations are not synchronized. They use a native copy of the private key taken from the pool kept by RSAKey,
+ *  so that threads sharing a key do not contend on its blinding state.*/
 
 
 public final class RSACipher {
@@ -77,15 +80,20 @@ public final class RSACipher {
             return 0;
         checkInputRange(input, inOffset, inLen);
         checkOutputRange(output, outOffset);
-        if (!validId(this.rsaKey.getRSAKeyId())) {
-            throw new NativeException(badIdMsg);
+        this.rsaKey.beginUse();
+        try {
+            if (!validId(this.rsaKey.getRSAKeyId())) {
+                throw new NativeException(badIdMsg);
+            }
+            return checkOutLen(this.nativeInterface.RSACIPHER_public_encrypt(
+                    this.rsaKey.getRSAKeyId(), padding.getId(), padding.getMessageDigest(),
+                    padding.getMGF1Digest(), input, inOffset, inLen, output, outOffset));
+        } finally {
+            this.rsaKey.endUse();
         }
-        return checkOutLen(this.nativeInterface.RSACIPHER_public_encrypt(
-                this.rsaKey.getRSAKeyId(), padding.getId(), padding.getMessageDigest(),
-                padding.getMGF1Digest(), input, inOffset, inLen, output, outOffset));
     }
 
-    public synchronized int privateEncrypt(RSAPadding padding, byte[] input, int inOffset,
+    public int privateEncrypt(RSAPadding padding, byte[] input, int inOffset,
             int inLen, byte[] output, int outOffset) throws BadPaddingException,
             IllegalBlockSizeException, ShortBufferException, NativeException {
         checkInitialized();
@@ -96,9 +104,13 @@ public final class RSACipher {
         if (!validId(this.rsaKey.getRSAKeyId())) {
             throw new NativeException(badIdMsg);
         }
-        return checkOutLen(this.nativeInterface.RSACIPHER_private_encrypt(
-                this.rsaKey.getRSAKeyId(), padding.getId(), input, inOffset, inLen, output,
-                outOffset, convertKey));
+        long keyId = this.rsaKey.acquirePrivateKeyCopy();
+        try {
+            return checkOutLen(this.nativeInterface.RSACIPHER_private_encrypt(keyId,
+                    padding.getId(), input, inOffset, inLen, output, outOffset, convertKey));
+        } finally {
+            this.rsaKey.releasePrivateKeyCopy(keyId);
+        }
     }
 
     public synchronized int publicDecrypt(RSAPadding padding, byte[] input, int inOffset, int inLen,
@@ -113,15 +125,20 @@ public final class RSACipher {
             throw new IllegalBlockSizeException(
                     "Input must be: " + getOutputSize() + " bytes long");
         }
-        if (!validId(this.rsaKey.getRSAKeyId())) {
-            throw new NativeException(badIdMsg);
+        this.rsaKey.beginUse();
+        try {
+            if (!validId(this.rsaKey.getRSAKeyId())) {
+                throw new NativeException(badIdMsg);
+            }
+            return checkOutLen(this.nativeInterface.RSACIPHER_public_decrypt(
+                    this.rsaKey.getRSAKeyId(), padding.getId(), input, inOffset, inLen, output,
+                    outOffset));
+        } finally {
+            this.rsaKey.endUse();
         }
-        return checkOutLen(this.nativeInterface.RSACIPHER_public_decrypt(
-                this.rsaKey.getRSAKeyId(), padding.getId(), input, inOffset, inLen, output,
-                outOffset));
     }
 
-    public synchronized int privateDecrypt(RSAPadding padding, byte[] input, int inOffset,
+    public int privateDecrypt(RSAPadding padding, byte[] input, int inOffset,
             int inLen, byte[] output, int outOffset) throws BadPaddingException,
             IllegalBlockSizeException, ShortBufferException, NativeException {
         checkInitialized();
@@ -136,9 +153,14 @@ public final class RSACipher {
         if (!validId(this.rsaKey.getRSAKeyId())) {
             throw new NativeException(badIdMsg);
         }
-        return checkOutLen(this.nativeInterface.RSACIPHER_private_decrypt(
-                this.rsaKey.getRSAKeyId(), padding.getId(), padding.getMessageDigest(),
-                padding.getMGF1Digest(), input, inOffset, inLen, output, outOffset, convertKey));
+        long keyId = this.rsaKey.acquirePrivateKeyCopy();
+        try {
+            return checkOutLen(this.nativeInterface.RSACIPHER_private_decrypt(keyId,
+                    padding.getId(), padding.getMessageDigest(), padding.getMGF1Digest(),
+                    input, inOffset, inLen, output, outOffset, convertKey));
+        } finally {
+            this.rsaKey.releasePrivateKeyCopy(keyId);
+        }
     }
 
     private void checkInputRange(byte[] input, int offset, int length) {
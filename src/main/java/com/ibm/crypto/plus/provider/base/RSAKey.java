@@ -9,11 +9,31 @@
 package com.ibm.crypto.plus.provider.base;
 
 import com.ibm.crypto.plus.provider.OpenJCEPlusProvider;
+import com.ibm.crypto.plus.provider.SystemAccessUtils;
 import java.math.BigInteger;
 import java.util.Arrays;
 
 public final class RSAKey implements AsymmetricKey {
 
+    private static final String PRIVATE_KEY_POOL_SIZE = "openjceplus.rsa.privateKeyPoolSize";
+
+    // Maximum number of native copies of a private key that are kept so that
+    // several threads can decrypt or sign with the same key at once. A value of 0
+    // disables the copies, in which case all private key operations use the key
+    // itself and are serialized by the blinding lock in the native library.
+    private static final int privateKeyPoolSize;
+
+    static {
+        int size;
+        try {
+            size = Integer.parseInt(SystemAccessUtils.getSystemProperty(PRIVATE_KEY_POOL_SIZE,
+                    String.valueOf(Runtime.getRuntime().availableProcessors())));
+        } catch (NumberFormatException e) {
+            size = 0;
+        }
+        privateKeyPoolSize = Math.max(size, 0);
+    }
+
     // The following is a special byte[] instance to indicate that the
     // private/public key bytes are available but not yet obtained.
     //
@@ -22,9 +42,14 @@ public final class RSAKey implements AsymmetricKey {
     private OpenJCEPlusProvider provider;
     private NativeInterface nativeInterface;
     private final long rsaKeyId;
+    // Frees the native key once the last key object using it is destroyed
+    private final NativeKeyLifetime lifetime;
     private byte[] privateKeyBytes;
     private byte[] publicKeyBytes;
     private int keySize;
+    // Native copies of the private key, created on the first private key
+    // operation, null if not available
+    private final NativeContextPool.Lazy privateKeys;
     private final static String badIdMsg = "RSA Key Identifier is not valid";
     private final static String debPrefix = "RSAKey";
 
@@ -74,9 +99,14 @@ public final class RSAKey implements AsymmetricKey {
         }
 
         NativeInterface nativeInterface = NativeCryptoSelector.selectBackend(provider, "KeyFactory", "RSA");
+        if (PublicKeyCache.get(nativeInterface, "RSA", publicKeyBytes) instanceof RSAKey cachedKey) {
+            return cachedKey;
+        }
         long rsaKeyId = nativeInterface.RSAKEY_createPublicKey(publicKeyBytes);
         //OCKDebug.Msg (debPrefix, methodName,  "rsaKeyId :" + rsaKeyId);
-        return new RSAKey(nativeInterface, rsaKeyId, null, publicKeyBytes.clone(), provider);
+        return PublicKeyCache.put(nativeInterface, "RSA",
+                new RSAKey(nativeInterface, rsaKeyId, null, publicKeyBytes.clone(), provider),
+                publicKeyBytes);
     }
 
     private RSAKey(NativeInterface nativeInterface, long rsaKeyId, byte[] privateKeyBytes,
@@ -87,8 +117,11 @@ public final class RSAKey implements AsymmetricKey {
         this.keySize = 0;
         this.provider = provider;
         this.nativeInterface = nativeInterface;
+        this.privateKeys = ((privateKeyBytes != null) && (privateKeyPoolSize > 0))
+                ? new NativeContextPool.Lazy("RSA private key", privateKeyPoolSize) : null;
 
-        this.provider.registerCleanable(this, cleanOCKResources(privateKeyBytes, rsaKeyId, nativeInterface));
+        this.lifetime = new NativeKeyLifetime(this.provider.registerCleanable(this,
+                cleanOCKResources(privateKeyBytes, rsaKeyId, privateKeys, nativeInterface)));
     }
 
     @Override
@@ -105,6 +138,26 @@ public final class RSAKey implements AsymmetricKey {
         return this.rsaKeyId;
     }
 
+    @Override
+    public void retain() {
+        lifetime.retain();
+    }
+
+    @Override
+    public void release() {
+        lifetime.release();
+    }
+
+    @Override
+    public void beginUse() {
+        lifetime.beginUse();
+    }
+
+    @Override
+    public void endUse() {
+        lifetime.endUse();
+    }
+
     public int getKeySize() throws NativeException {
         //final String methodName = "getKeySize";
         if (keySize == 0) {
@@ -135,41 +188,104 @@ public final class RSAKey implements AsymmetricKey {
     }
 
     private synchronized void obtainPrivateKeyBytes() throws NativeException {
-        // Leave this duplicate check in here. If two threads are both trying
-        // to getPrivateKeyBytes at the same time, we only want to call the
-        // native code one time.
-        //
-        if (privateKeyBytes == unobtainedKeyBytes) {
-            if (!validId(rsaKeyId)) {
-                throw new NativeException(badIdMsg);
+        lifetime.beginUse();
+        try {
+            // Leave this duplicate check in here. If two threads are both trying
+            // to getPrivateKeyBytes at the same time, we only want to call the
+            // native code one time.
+            //
+            if (privateKeyBytes == unobtainedKeyBytes) {
+                if (!validId(rsaKeyId)) {
+                    throw new NativeException(badIdMsg);
+                }
+                this.privateKeyBytes = this.nativeInterface.RSAKEY_getPrivateKeyBytes(rsaKeyId);
             }
-            this.privateKeyBytes = this.nativeInterface.RSAKEY_getPrivateKeyBytes(rsaKeyId);
+        } finally {
+            lifetime.endUse();
         }
     }
 
     private synchronized void obtainPublicKeyBytes() throws NativeException {
-        // Leave this duplicate check in here. If two threads are both trying
-        // to getPublicKeyBytes at the same time, we only want to call the
-        // native code one time.
-        //
-        if (publicKeyBytes == unobtainedKeyBytes) {
-            if (!validId(rsaKeyId)) {
-                throw new NativeException(badIdMsg);
+        lifetime.beginUse();
+        try {
+            // Leave this duplicate check in here. If two threads are both trying
+            // to getPublicKeyBytes at the same time, we only want to call the
+            // native code one time.
+            //
+            if (publicKeyBytes == unobtainedKeyBytes) {
+                if (!validId(rsaKeyId)) {
+                    throw new NativeException(badIdMsg);
+                }
+                this.publicKeyBytes = this.nativeInterface.RSAKEY_getPublicKeyBytes(rsaKeyId);
             }
-            this.publicKeyBytes = this.nativeInterface.RSAKEY_getPublicKeyBytes(rsaKeyId);
+        } finally {
+            lifetime.endUse();
         }
     }
 
     private synchronized void obtainKeySize() throws NativeException {
-        // Leave this duplicate check in here. If two threads are both trying
-        // to obtainKeySize at the same time, we only want to call the
-        // native code one time.
-        //
-        if (this.keySize == 0) {
-            if (!validId(rsaKeyId)) {
-                throw new NativeException(badIdMsg);
+        lifetime.beginUse();
+        try {
+            // Leave this duplicate check in here. If two threads are both trying
+            // to obtainKeySize at the same time, we only want to call the
+            // native code one time.
+            //
+            if (this.keySize == 0) {
+                if (!validId(rsaKeyId)) {
+                    throw new NativeException(badIdMsg);
+                }
+                this.keySize = this.nativeInterface.RSAKEY_size(rsaKeyId);
+            }
+        } finally {
+            lifetime.endUse();
+        }
+    }
+
+    // Takes a native copy of the private key from the pool, creating one if the pool
+    // still has room. The copy must be given back with releasePrivateKeyCopy once the
+    // caller is done. Returns the key itself if no copy can be used. The key is in use
+    // until the copy is given back, so that it is not freed while a copy is borrowed.
+    long acquirePrivateKeyCopy() throws NativeException {
+        lifetime.beginUse();
+        if (privateKeys == null) {
+            return rsaKeyId;
+        }
+
+        long copyId = 0;
+        boolean acquired = false;
+        try {
+            NativeContextPool pool = privateKeys.get();
+            copyId = pool.poll();
+            if ((copyId == 0) && pool.reserve()) {
+                try {
+                    if (privateKeyBytes == unobtainedKeyBytes) {
+                        obtainPrivateKeyBytes();
+                    }
+                    copyId = nativeInterface.RSAKEY_createPrivateKey(privateKeyBytes);
+                } finally {
+                    if (copyId == 0) {
+                        pool.unreserve();
+                    }
+                }
+            }
+            acquired = true;
+        } finally {
+            if (!acquired) {
+                lifetime.endUse();
             }
-            this.keySize = this.nativeInterface.RSAKEY_size(rsaKeyId);
+        }
+        return (copyId == 0) ? rsaKeyId : copyId;
+    }
+
+    // Gives back a key obtained from acquirePrivateKeyCopy. The copy is back in the
+    // pool before the key can be freed, so the pool is emptied when it is.
+    void releasePrivateKeyCopy(long copyId) {
+        try {
+            if (copyId != rsaKeyId) {
+                privateKeys.get().offer(copyId);
+            }
+        } finally {
+            lifetime.endUse();
         }
     }
 
@@ -180,7 +296,8 @@ public final class RSAKey implements AsymmetricKey {
         return (id != 0L);
     }
 
-    private Runnable cleanOCKResources(byte[] privateKeyBytes, long rsaKeyId, NativeInterface nativeInterface) {
+    private Runnable cleanOCKResources(byte[] privateKeyBytes, long rsaKeyId,
+            NativeContextPool.Lazy privateKeys, NativeInterface nativeInterface) {
         return () -> {
             try {
                 if ((privateKeyBytes != null) && (privateKeyBytes != unobtainedKeyBytes)) {
@@ -189,6 +306,13 @@ public final class RSAKey implements AsymmetricKey {
                 if (rsaKeyId != 0) {
                     nativeInterface.RSAKEY_delete(rsaKeyId);
                 }
+                NativeContextPool pool = (privateKeys != null) ? privateKeys.getIfCreated() : null;
+                if (pool != null) {
+                    long copyId;
+                    while ((copyId = pool.remove()) != 0) {
+                        nativeInterface.RSAKEY_delete(copyId);
+                    }
+                }
             } catch (Exception e) {
                 if (OpenJCEPlusProvider.getDebug() != null) {
                     OpenJCEPlusProvider.getDebug().println("An error occurred while cleaning : " + e.getMessage());
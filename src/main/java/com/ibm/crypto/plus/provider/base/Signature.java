@@ -26,6 +26,15 @@ public final class Signature {
         return new Signature(digestAlgo, provider, algName);
     }
 
+    /**
+     * Returns a signature using the given native backend, which the caller has
+     * already resolved for its service, for the signature and its digest.
+     */
+    public static Signature getInstance(String digestAlgo, OpenJCEPlusProvider provider,
+            NativeInterface nativeInterface) throws NativeException {
+        return new Signature(digestAlgo, provider, nativeInterface);
+    }
+
 
     private Signature(String digestAlgo, OpenJCEPlusProvider provider, String algName) throws NativeException {
         //Need to make sure that the backend for signature also used for the digest
@@ -34,6 +43,12 @@ public final class Signature {
         //OCKDebug.Msg (debPrefix, methodName, "digestAlgo :" + digestAlgo);
     }
 
+    private Signature(String digestAlgo, OpenJCEPlusProvider provider, NativeInterface nativeInterface)
+            throws NativeException {
+        this.nativeInterface = nativeInterface;
+        this.digest = Digest.getInstance(digestAlgo, provider, nativeInterface);
+    }
+
     public void update(byte[] input, int offset, int length) throws NativeException {
         if ((input == null) || (length < 0) || (offset < 0) || ((offset + length) > input.length)) {
             throw new IllegalArgumentException("Bad input parameters to Signature update");
@@ -64,23 +79,36 @@ public final class Signature {
             throw new IllegalStateException("Signature not initialized");
         }
 
-        //OCKDebug.Msg (debPrefix, "sign", "digestId :" + digest.getId() + " pkeyId :" + this.key.getPKeyId());
-        if ((this.digest == null) || !validId(this.digest.getId())
-                || !validId(this.key.getPKeyId())) {
-            throw new NativeException(badIdMsg);
-        }
-
-        byte[] signature = null;
+        this.key.beginUse();
         try {
-            signature = this.nativeInterface.SIGNATURE_sign(digest.getId(),
-                    this.key.getPKeyId(), this.convertKey);
+            //OCKDebug.Msg (debPrefix, "sign", "digestId :" + digest.getId() + " pkeyId :" + this.key.getPKeyId());
+            if ((this.digest == null) || !validId(this.digest.getId())
+                    || !validId(this.key.getPKeyId())) {
+                throw new NativeException(badIdMsg);
+            }
+
+            // RSA private key operations are made with a native copy of the key, so that
+            // threads signing with the same key do not contend on its blinding state.
+            RSAKey rsaKey = (this.key instanceof RSAKey) ? (RSAKey) this.key : null;
+            long pkeyId = (rsaKey != null) ? rsaKey.acquirePrivateKeyCopy() : this.key.getPKeyId();
+
+            byte[] signature = null;
+            try {
+                signature = this.nativeInterface.SIGNATURE_sign(digest.getId(),
+                        pkeyId, this.convertKey);
+            } finally {
+                if (rsaKey != null) {
+                    rsaKey.releasePrivateKeyCopy(pkeyId);
+                }
+                // Try to reset even if NativeException is thrown
+                this.digest.reset();
+            }
+
+            //OCKDebug.Msg (debPrefix, "sign",  "signature :" + signature);
+            return signature;
         } finally {
-            // Try to reset even if NativeException is thrown
-            this.digest.reset();
+            this.key.endUse();
         }
-
-        //OCKDebug.Msg (debPrefix, "sign",  "signature :" + signature);
-        return signature;
     }
 
     public synchronized boolean verify(byte[] sigBytes) throws NativeException {
@@ -93,26 +121,32 @@ public final class Signature {
         if (sigBytes == null) {
             throw new IllegalArgumentException("invalid signature");
         }
-        //OCKDebug.Msg (debPrefix, methodName,  "digestId :" + digest.getId() + " pkeyId :" + this.key.getPKeyId());
-        //OCKDebug.Msg (debPrefix, methodName,  " sigBytes :",  sigBytes);
-        if ((this.digest == null) || digest.getId() == 0L || this.key.getPKeyId() == 0L) {
-            throw new NativeException(badIdMsg);
-        }
 
-        boolean verified = false;
+        this.key.beginUse();
         try {
-            verified = this.nativeInterface.SIGNATURE_verify(digest.getId(),
-                    this.key.getPKeyId(), sigBytes);
+            //OCKDebug.Msg (debPrefix, methodName,  "digestId :" + digest.getId() + " pkeyId :" + this.key.getPKeyId());
+            //OCKDebug.Msg (debPrefix, methodName,  " sigBytes :",  sigBytes);
+            if ((this.digest == null) || digest.getId() == 0L || this.key.getPKeyId() == 0L) {
+                throw new NativeException(badIdMsg);
+            }
+
+            boolean verified = false;
+            try {
+                verified = this.nativeInterface.SIGNATURE_verify(digest.getId(),
+                        this.key.getPKeyId(), sigBytes);
+            } finally {
+                // Try to reset even if NativeException is thrown
+                this.digest.reset();
+            }
+
+            //        if (!verified) {
+            //            OCKDebug.Msg (debPrefix, methodName,  "Failed to verify Signature."); 
+            //        }
+
+            return verified;
         } finally {
-            // Try to reset even if NativeException is thrown
-            this.digest.reset();
+            this.key.endUse();
         }
-
-        //        if (!verified) {
-        //            OCKDebug.Msg (debPrefix, methodName,  "Failed to verify Signature."); 
-        //        }
-
-        return verified;
     }
 
     /* At some point we may enhance this function to do other validations */
@@ -52,13 +52,18 @@ public final class SignatureDSANONE {
             throw new IllegalArgumentException("invalid digest");
         }
 
-        if (!validId(this.key.getDSAKeyId())) {
-            throw new NativeException(badIdMsg);
+        this.key.beginUse();
+        try {
+            if (!validId(this.key.getDSAKeyId())) {
+                throw new NativeException(badIdMsg);
+            }
+            byte[] signature = this.nativeInterface.DSANONE_SIGNATURE_sign(digest,
+                    this.key.getDSAKeyId());
+            //OCKDebug.Msg(debPrefix, methodName, "signature :", signature);
+            return signature;
+        } finally {
+            this.key.endUse();
         }
-        byte[] signature = this.nativeInterface.DSANONE_SIGNATURE_sign(digest,
-                this.key.getDSAKeyId());
-        //OCKDebug.Msg(debPrefix, methodName, "signature :", signature);
-        return signature;
     }
 
     public synchronized boolean verify(byte[] digest, byte[] sigBytes) throws NativeException {
@@ -78,15 +83,20 @@ public final class SignatureDSANONE {
 
         //OCKDebug.Msg(debPrefix, methodName, "this.key.DSAKeyId :" + this.key.getDSAKeyId() + " digest :",   digest);
         //OCKDebug.Msg(debPrefix, methodName, "sigBytes :",  sigBytes);
-        if (!validId(this.key.getDSAKeyId())) {
-            throw new NativeException(badIdMsg);
+        this.key.beginUse();
+        try {
+            if (!validId(this.key.getDSAKeyId())) {
+                throw new NativeException(badIdMsg);
+            }
+            boolean verified = this.nativeInterface.DSANONE_SIGNATURE_verify(digest,
+                    this.key.getDSAKeyId(), sigBytes);
+            //        if (!verified) {
+            //            OCKDebug.Msg (debPrefix, methodName, "Failed to verify signature.");
+            //        }
+            return verified;
+        } finally {
+            this.key.endUse();
         }
-        boolean verified = this.nativeInterface.DSANONE_SIGNATURE_verify(digest,
-                this.key.getDSAKeyId(), sigBytes);
-        //        if (!verified) {
-        //            OCKDebug.Msg (debPrefix, methodName, "Failed to verify signature.");
-        //        }
-        return verified;
     }
 
     /* At some point we may enhance this function to do other validations */
@@ -9,14 +9,58 @@
 package com.ibm.crypto.plus.provider.base;
 
 import com.ibm.crypto.plus.provider.OpenJCEPlusProvider;
+import com.ibm.crypto.plus.provider.SystemAccessUtils;
 import java.security.InvalidKeyException;
 import java.security.SignatureException;
 
+/**
+ * EdDSA signatures of messages given in one or more updates.
+ *
+ * <p>EdDSA needs the whole message before it can sign or verify, so the
+ * message is accumulated in native memory up to the length set by
+ * openjceplus.eddsa.maxMessageLength. The prehash variants (Ed25519ph and
+ * Ed448ph) are selected on the native signature context, which hashes the
+ * accumulated message when it signs or verifies.
+ */
 public final class SignatureEdDSA {
 
+    // Initial size of the native buffer holding the message.
+    private static final int INITIAL_MESSAGE_CAPACITY = 1024;
+
+    // Message buffers larger than this are released once the signature
+    // operation completes instead of being kept for the next one.
+    private static final int RETAINED_MESSAGE_CAPACITY = 64 * 1024;
+
+    private static final String MAX_MESSAGE_LENGTH = "openjceplus.eddsa.maxMessageLength";
+
+    // Largest message that can be held, the same as for the Java byte array
+    // that held the message before.
+    private static final int DEFAULT_MAX_MESSAGE_LENGTH = Integer.MAX_VALUE - 8;
+
+    // Largest message that is accepted through update.
+    private static final int maxMessageLength;
+
+    static {
+        int length;
+        try {
+            length = Integer.parseInt(SystemAccessUtils.getSystemProperty(MAX_MESSAGE_LENGTH,
+                    String.valueOf(DEFAULT_MAX_MESSAGE_LENGTH)));
+        } catch (NumberFormatException e) {
+            length = DEFAULT_MAX_MESSAGE_LENGTH;
+        }
+        maxMessageLength = Math.min(Math.max(length, 0), DEFAULT_MAX_MESSAGE_LENGTH);
+    }
+
     private NativeInterface nativeInterface;
     private AsymmetricKey key = null;
     private boolean initialized = false;
+    private String algName;
+    // Name of the prehash instance (Ed25519ph or Ed448ph), null for pure EdDSA
+    private String prehashInstance = null;
+    // The message is accumulated in native memory rather than on the Java heap,
+    // since EdDSA needs the whole message before it can sign or verify.
+    private FastJNIBuffer message = null;
+    private int messageLength = 0;
     private final String badIdMsg = "Digest Identifier or PKey Identifier is not valid";
     private final static String debPrefix = "SIGNATURE";
 
@@ -31,6 +75,7 @@ public final class SignatureEdDSA {
     private SignatureEdDSA(OpenJCEPlusProvider provider, String algName) throws NativeException {
         //final String methodName = "SignatureEdDSA(String)";
         this.nativeInterface = NativeCryptoSelector.selectBackend(provider, "Signature", algName);
+        this.algName = algName;
     }
 
     public void initialize(AsymmetricKey key) throws InvalidKeyException, NativeException {
@@ -41,19 +86,139 @@ public final class SignatureEdDSA {
 
         this.key = key;
         this.initialized = true;
+        reset();
         //OCKDebug.Msg (debPrefix, methodName,  "this.key=" + key);
     }
 
+    /**
+     * Selects the prehash variant (Ed25519ph or Ed448ph) of the algorithm
+     * of the given key, or pure EdDSA.
+     */
+    public synchronized void setPrehash(boolean prehash, String keyAlgName) {
+        if (!prehash) {
+            this.prehashInstance = null;
+        } else if ("Ed25519".equalsIgnoreCase(keyAlgName)) {
+            this.prehashInstance = "Ed25519ph";
+        } else if ("Ed448".equalsIgnoreCase(keyAlgName)) {
+            this.prehashInstance = "Ed448ph";
+        } else {
+            throw new IllegalArgumentException("Prehash is not supported for " + keyAlgName);
+        }
+    }
+
+    public synchronized void update(byte[] input, int offset, int length) {
+        if ((input == null) || (length < 0) || (offset < 0) || ((offset + length) > input.length)) {
+            throw new IllegalArgumentException("Bad input parameters to SignatureEdDSA update");
+        }
+        if (length > (maxMessageLength - messageLength)) {
+            throw new IllegalStateException("Message is too long for " + algName
+                    + ", the limit is set by " + MAX_MESSAGE_LENGTH);
+        }
+
+        ensureCapacity(messageLength + length);
+        message.put(messageLength, input, offset, length);
+        messageLength += length;
+    }
+
+    /**
+     * Signs the message accumulated by update and resets the message.
+     */
+    public synchronized byte[] sign() throws NativeException {
+        if (!this.initialized) {
+            throw new IllegalStateException("SignatureEdDSA not initialized");
+        }
+
+        this.key.beginUse();
+        try {
+            if (!validId(this.key.getPKeyId())) {
+                throw new NativeException(badIdMsg);
+            }
+
+            try {
+                ensureCapacity(messageLength);
+                return this.nativeInterface.SIGNATUREEdDSA_signBuffer(this.key.getPKeyId(),
+                        prehashInstance, message.pointer(), messageLength);
+            } finally {
+                reset();
+            }
+        } finally {
+            this.key.endUse();
+        }
+    }
+
+    /**
+     * Verifies the message accumulated by update against the signature
+     * and resets the message.
+     */
+    public synchronized boolean verify(byte[] sigBytes) throws NativeException {
+        if (!this.initialized) {
+            throw new IllegalStateException("SignatureEdDSA not initialized");
+        }
+        if (sigBytes == null) {
+            throw new IllegalArgumentException("invalid signature");
+        }
+
+        this.key.beginUse();
+        try {
+            if (this.key.getPKeyId() == 0L) {
+                throw new NativeException(badIdMsg);
+            }
+
+            try {
+                ensureCapacity(messageLength);
+                return this.nativeInterface.SIGNATUREEdDSA_verifyBuffer(this.key.getPKeyId(),
+                        prehashInstance, sigBytes, message.pointer(), messageLength);
+            } finally {
+                reset();
+            }
+        } finally {
+            this.key.endUse();
+        }
+    }
+
+    /**
+     * Discards the message accumulated by update.
+     */
+    public synchronized void reset() {
+        messageLength = 0;
+        if ((message != null) && (message.capacity() > RETAINED_MESSAGE_CAPACITY)) {
+            message = null;
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        if ((message != null) && (message.capacity() >= required)) {
+            return;
+        }
+
+        int capacity = (message == null) ? INITIAL_MESSAGE_CAPACITY : message.capacity();
+        while (capacity < required) {
+            capacity = (capacity > (maxMessageLength / 2)) ? maxMessageLength : (capacity * 2);
+        }
+
+        FastJNIBuffer larger = FastJNIBuffer.create(capacity);
+        if (message != null) {
+            message.copyTo(larger, messageLength);
+        }
+        message = larger;
+    }
+
     public synchronized byte[] sign(byte[] oneShotData) throws NativeException, SignatureException {
         if (!this.initialized) {
             throw new IllegalStateException("SignatureEdDSA not initialized");
         }
-        if (!validId(this.key.getPKeyId())) {
-            throw new NativeException(badIdMsg);
+
+        this.key.beginUse();
+        try {
+            if (!validId(this.key.getPKeyId())) {
+                throw new NativeException(badIdMsg);
+            }
+            byte[] signature = this.nativeInterface.SIGNATUREEdDSA_signOneShot(
+                    this.key.getPKeyId(), oneShotData);
+            return signature;
+        } finally {
+            this.key.endUse();
         }
-        byte[] signature = this.nativeInterface.SIGNATUREEdDSA_signOneShot(
-                this.key.getPKeyId(), oneShotData);
-        return signature;
     }
 
     public synchronized boolean verify(byte[] sigBytes, byte[] dataBytes) throws NativeException {
@@ -66,12 +231,18 @@ public final class SignatureEdDSA {
         if (sigBytes == null) {
             throw new IllegalArgumentException("invalid signature");
         }
-        if (this.key.getPKeyId() == 0L) {
-            throw new NativeException(badIdMsg);
+
+        this.key.beginUse();
+        try {
+            if (this.key.getPKeyId() == 0L) {
+                throw new NativeException(badIdMsg);
+            }
+            boolean verified = this.nativeInterface.SIGNATUREEdDSA_verifyOneShot(
+                    this.key.getPKeyId(), sigBytes, dataBytes);
+            return verified;
+        } finally {
+            this.key.endUse();
         }
-        boolean verified = this.nativeInterface.SIGNATUREEdDSA_verifyOneShot(
-                this.key.getPKeyId(), sigBytes, dataBytes);
-        return verified;
     }
 
     /* At some point we may enhance this function to do other validations */
@@ -9,10 +9,12 @@
 package com.ibm.crypto.plus.provider.base;
 
 import com.ibm.crypto.plus.provider.OpenJCEPlusProvider;
-import com.ibm.crypto.plus.provider.PrimitiveWrapper;
+import com.ibm.crypto.plus.provider.SystemAccessUtils;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.InvalidParameterException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class SignatureRSAPSS {
 
@@ -20,9 +22,98 @@ public final class SignatureRSAPSS {
         INITSIGN, INITVERIFY
     }
 
+    /* ===========================================================================
+       RSA-PSS context caching mechanism
+       A native RSA-PSS context only depends on the message digest and the MGF1
+       digest; the key and the salt length are set each time it is initialized.
+       Contexts are therefore pooled by digest and MGF1 digest, and a context
+       whose signature is no longer used goes back to its pool once the key it
+       was initialized with has been cleared from it. Setting the same
+       parameters again keeps the current context.
+       */
+    private static final String CONTEXT_POOL_SIZE = "openjceplus.rsapss.contextPoolSize";
+
+    // Maximum number of contexts in each pool, 0 disables pooling.
+    private static final int contextPoolSize;
+
+    // Contexts created by the FIPS and non-FIPS backends cannot be shared, so the
+    // pools are keyed by backend as well as by digests.
+    private static final Map<String, NativeContextPool> contextPools = new ConcurrentHashMap<>();
+
+    static {
+        int size;
+        try {
+            size = Integer.parseInt(SystemAccessUtils.getSystemProperty(CONTEXT_POOL_SIZE, "256"));
+        } catch (NumberFormatException e) {
+            size = 0;
+        }
+        contextPoolSize = Math.max(size, 0);
+    }
+
+    // The native context in use and where it came from. This is shared with the
+    // cleaner, which must not refer to the signature itself.
+    private static final class Context {
+        long id;
+        // The pool that owns the context, null if it is owned by this signature
+        NativeContextPool pool;
+        String digestAlgo;
+        String mgf1Algo;
+    }
+
+    private NativeContextPool getPool(String digestAlgoOCK, String mgf1SpecAlgoOCK) {
+        if (contextPoolSize == 0) {
+            return null;
+        }
+        String poolKey = (provider.isFIPS() ? "FIPS:" : ":") + digestAlgoOCK + ':' + mgf1SpecAlgoOCK;
+        return contextPools.computeIfAbsent(poolKey,
+                k -> new NativeContextPool("RSASSA-PSS", contextPoolSize));
+    }
+
+    private void acquireContext(String digestAlgoOCK, String mgf1SpecAlgoOCK) throws NativeException {
+        NativeContextPool pool = getPool(digestAlgoOCK, mgf1SpecAlgoOCK);
+        long id = (pool == null) ? 0 : pool.poll();
+        if (id == 0) {
+            id = this.nativeInterface.RSAPSS_createContext(digestAlgoOCK, mgf1SpecAlgoOCK);
+            if ((pool != null) && !pool.reserve()) {
+                pool = null;
+            }
+        }
+        context.id = id;
+        context.pool = pool;
+        context.digestAlgo = digestAlgoOCK;
+        context.mgf1Algo = mgf1SpecAlgoOCK;
+    }
+
+    private static void releaseContext(Context context, NativeInterface nativeInterface)
+            throws NativeException {
+        long id = context.id;
+        if (id != 0) {
+            context.id = 0;
+            if (context.pool != null) {
+                // A pooled context must not keep the previous key, nor a digest
+                // context bound to it. A context that cannot be cleared is
+                // deleted and its place in the pool is given up.
+                try {
+                    nativeInterface.RSAPSS_clearContext(id);
+                } catch (NativeException | RuntimeException e) {
+                    context.pool.unreserve();
+                    nativeInterface.RSAPSS_releaseContext(id);
+                    throw e;
+                }
+                context.pool.offer(id);
+            } else {
+                nativeInterface.RSAPSS_releaseContext(id);
+            }
+        }
+    }
+
+    /* end RSA-PSS context caching mechanism
+     * ===========================================================================
+     */
+
     private OpenJCEPlusProvider provider;
     private NativeInterface nativeInterface;
-    private PrimitiveWrapper.Long rsaPssId = new PrimitiveWrapper.Long(0);
+    private final Context context = new Context();
     private AsymmetricKey key = null;
     private boolean initialized = false;
     private boolean convert = false;
@@ -54,21 +145,12 @@ public final class SignatureRSAPSS {
         this.provider = provider;
         this.nativeInterface = NativeCryptoSelector.selectBackend(provider, "Signature", "RSAPSS");
 
-        this.provider.registerCleanable(this, cleanOCKResources(rsaPssId, nativeInterface));
+        this.provider.registerCleanable(this, cleanOCKResources(context, nativeInterface));
     }
 
     public synchronized void setParameter(String digestAlgo, int saltlen, int trailerField,
             String mgfAlgo, String mgf1SpecAlgo) throws InvalidAlgorithmParameterException {
 
-        try {
-            if (rsaPssId.getValue() != 0) { // release existing context before allocating a new one
-                this.nativeInterface.RSAPSS_releaseContext(rsaPssId.getValue());
-                rsaPssId.setValue(0);;
-            }
-        } catch (NativeException e) {
-            throw new InvalidParameterException("Unable to set the digestAlgoOCK: releaseContext");
-        }
-
         if (0 != configureParameter(digestAlgo, saltlen, trailerField, mgfAlgo, mgf1SpecAlgo)) {
             throw new InvalidParameterException(
                     "Unable to set the digestAlgoOCK: configureParameters");
@@ -153,27 +235,37 @@ public final class SignatureRSAPSS {
 
         int ret = 0;
         try {
-            this.rsaPssId.setValue(this.nativeInterface.RSAPSS_createContext(digestAlgoOCK,
-                    mgf1SpecAlgoOCK));
+            // Keep the current context if it was made for the same digests,
+            // otherwise exchange it for one that was.
+            if ((context.id == 0) || !digestAlgoOCK.equals(context.digestAlgo)
+                    || !mgf1SpecAlgoOCK.equals(context.mgf1Algo)) {
+                releaseContext(context, this.nativeInterface);
+                acquireContext(digestAlgoOCK, mgf1SpecAlgoOCK);
+            }
             // If already initialized, re-init with new context and parameters
-            if (this.initialized && this.rsaPssId.getValue() != 0) {
-                if (this.initOp == InitOp.INITSIGN) {
-                    this.nativeInterface.RSAPSS_signInit(rsaPssId.getValue(),
-                            this.key.getPKeyId(), this.saltlen, this.convert);
-                } else {
-                    this.nativeInterface.RSAPSS_verifyInit(rsaPssId.getValue(),
-                            this.key.getPKeyId(), this.saltlen);
+            if (this.initialized && context.id != 0) {
+                this.key.beginUse();
+                try {
+                    if (this.initOp == InitOp.INITSIGN) {
+                        this.nativeInterface.RSAPSS_signInit(context.id,
+                                this.key.getPKeyId(), this.saltlen, this.convert);
+                    } else {
+                        this.nativeInterface.RSAPSS_verifyInit(context.id,
+                                this.key.getPKeyId(), this.saltlen);
+                    }
+                } finally {
+                    this.key.endUse();
                 }
             }
         } catch (NativeException e) {
             ret = 1;
         }
 
-        return (this.rsaPssId.getValue() != 0 && ret == 0) ? 0 : 1;
+        return (context.id != 0 && ret == 0) ? 0 : 1;
     }
 
     public synchronized void update(byte[] input, int offset, int length) throws NativeException {
-        this.nativeInterface.RSAPSS_digestUpdate(this.rsaPssId.getValue(), input, offset, length);
+        this.nativeInterface.RSAPSS_digestUpdate(context.id, input, offset, length);
     }
 
     public synchronized void initialize(AsymmetricKey key, InitOp initOp, boolean convert)
@@ -182,7 +274,7 @@ public final class SignatureRSAPSS {
             throw new IllegalArgumentException("key is null");
         }
         this.initialized = false; // Set false to verify successful init.
-        if (rsaPssId.getValue() == 0) { // if context wasn't created by setParameters, create it now
+        if (context.id == 0) { // if context wasn't created by setParameters, create it now
             if (0 != configureParameter(digestAlgo, saltlen, trailerField, mgfAlgo, mgf1SpecAlgo)) {
                 throw new InvalidParameterException(
                         "Unable to set the digestAlgoOCK: configureParameters");
@@ -191,13 +283,18 @@ public final class SignatureRSAPSS {
         this.key = key;
         this.initOp = initOp;
         this.convert = convert;
-        if (rsaPssId.getValue() != 0) {
-            if (initOp == InitOp.INITSIGN) {
-                this.nativeInterface.RSAPSS_signInit(rsaPssId.getValue(),
-                        this.key.getPKeyId(), this.saltlen, convert);
-            } else {
-                this.nativeInterface.RSAPSS_verifyInit(rsaPssId.getValue(),
-                        this.key.getPKeyId(), this.saltlen);
+        if (context.id != 0) {
+            this.key.beginUse();
+            try {
+                if (initOp == InitOp.INITSIGN) {
+                    this.nativeInterface.RSAPSS_signInit(context.id,
+                            this.key.getPKeyId(), this.saltlen, convert);
+                } else {
+                    this.nativeInterface.RSAPSS_verifyInit(context.id,
+                            this.key.getPKeyId(), this.saltlen);
+                }
+            } finally {
+                this.key.endUse();
             }
         } else {
             throw new NativeException("RSS-PSS context was not created correctly");
@@ -210,17 +307,22 @@ public final class SignatureRSAPSS {
         if (!this.initialized) {
             throw new IllegalStateException("SignatureRSAPSS not initialized");
         }
-        if (rsaPssId.getValue() != 0) {
-            byte[] signature = null;
+        if (context.id != 0) {
+            this.key.beginUse();
             try {
-                signature = new byte[this.nativeInterface.RSAPSS_getSigLen(this.rsaPssId.getValue())];
-                this.nativeInterface.RSAPSS_signFinal(this.rsaPssId.getValue(), signature,
-                        signature.length);
-                return signature;
-            } catch (NativeException e) {
-                // Try to reset if NativeException is thrown
-                this.nativeInterface.RSAPSS_resetDigest(this.rsaPssId.getValue());
-                throw e;
+                byte[] signature = null;
+                try {
+                    signature = new byte[this.nativeInterface.RSAPSS_getSigLen(context.id)];
+                    this.nativeInterface.RSAPSS_signFinal(context.id, signature,
+                            signature.length);
+                    return signature;
+                } catch (NativeException e) {
+                    // Try to reset if NativeException is thrown
+                    this.nativeInterface.RSAPSS_resetDigest(context.id);
+                    throw e;
+                }
+            } finally {
+                this.key.endUse();
             }
         } else {
             throw new NativeException("RSS-PSS context was not created correctly");
@@ -237,28 +339,31 @@ public final class SignatureRSAPSS {
         if (sigBytes == null) {
             throw new IllegalArgumentException("invalid signature");
         }
-        if (rsaPssId.getValue() != 0) {
-            boolean verified = false;
+        if (context.id != 0) {
+            this.key.beginUse();
             try {
-                verified = this.nativeInterface.RSAPSS_verifyFinal(
-                        this.rsaPssId.getValue(), sigBytes, sigBytes.length);
-            } catch (NativeException e) {
-                // Try to reset if NativeException is thrown
-                this.nativeInterface.RSAPSS_resetDigest(this.rsaPssId.getValue());
-                throw e;
+                boolean verified = false;
+                try {
+                    verified = this.nativeInterface.RSAPSS_verifyFinal(
+                            context.id, sigBytes, sigBytes.length);
+                } catch (NativeException e) {
+                    // Try to reset if NativeException is thrown
+                    this.nativeInterface.RSAPSS_resetDigest(context.id);
+                    throw e;
+                }
+                return verified;
+            } finally {
+                this.key.endUse();
             }
-            return verified;
         } else {
             throw new NativeException("RSS-PSS context was not created correctly");
         }
     }
 
-    private Runnable cleanOCKResources(PrimitiveWrapper.Long rsaPssId, NativeInterface nativeInterface) {
+    private static Runnable cleanOCKResources(Context context, NativeInterface nativeInterface) {
         return () -> {
             try {
-                if (rsaPssId.getValue() != 0) {
-                    nativeInterface.RSAPSS_releaseContext(rsaPssId.getValue());
-                }
+                releaseContext(context, nativeInterface);
             } catch (Exception e) {
                 if (OpenJCEPlusProvider.getDebug() != null) {
                     OpenJCEPlusProvider.getDebug().println("An error occurred while cleaning : " + e.getMessage());
@@ -68,13 +68,18 @@ public final class SignatureRSASSL {
         }
 
         //OCKDebug.Msg (debPrefix, methodName,  "RSAKeyId=" + this.key.getRSAKeyId() + " digest :",  digest);
-        if (!validId(this.key.getRSAKeyId())) {
-            throw new NativeException(badIdMsg);
+        this.key.beginUse();
+        try {
+            if (!validId(this.key.getRSAKeyId())) {
+                throw new NativeException(badIdMsg);
+            }
+            byte[] signature = this.nativeInterface.RSASSL_SIGNATURE_sign(digest,
+                    this.key.getRSAKeyId());
+            //OCKDebug.Msg (debPrefix, methodName,  "signature :", signature);
+            return signature;
+        } finally {
+            this.key.endUse();
         }
-        byte[] signature = this.nativeInterface.RSASSL_SIGNATURE_sign(digest,
-                this.key.getRSAKeyId());
-        //OCKDebug.Msg (debPrefix, methodName,  "signature :", signature);
-        return signature;
     }
 
     public synchronized boolean verify(byte[] digest, byte[] sigBytes) throws NativeException {
@@ -95,13 +100,18 @@ public final class SignatureRSASSL {
         //OCKDebug.Msg(debPrefix, methodName, "RSAKeyId :" + this.key.getRSAKeyId() + " digest", digest);
         //OCKDebug.Msg(debPrefix, methodName, "sigBytes :",  sigBytes);
 
-        boolean verified = this.nativeInterface.RSASSL_SIGNATURE_verify(digest,
-                this.key.getRSAKeyId(), sigBytes, convertKey);
-        if (!validId(this.key.getRSAKeyId())) {
-            throw new NativeException(badIdMsg);
+        this.key.beginUse();
+        try {
+            boolean verified = this.nativeInterface.RSASSL_SIGNATURE_verify(digest,
+                    this.key.getRSAKeyId(), sigBytes, convertKey);
+            if (!validId(this.key.getRSAKeyId())) {
+                throw new NativeException(badIdMsg);
+            }
+            //OCKDebug.Msg(debPrefix, methodName, "verified=" + verified);
+            return verified;
+        } finally {
+            this.key.endUse();
         }
-        //OCKDebug.Msg(debPrefix, methodName, "verified=" + verified);
-        return verified;
     }
 
     /* At some point we may enhance this function to do other validations */
@@ -0,0 +1,49 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms provided by IBM in the LICENSE file that accompanied
+ * this code, including the "Classpath" Exception described therein.
+ */
+
+package com.ibm.crypto.plus.provider.base;
+
+import com.ibm.crypto.plus.provider.OpenJCEPlusProvider;
+
+public final class TlsPrf {
+
+    private static final byte[] B0 = new byte[0];
+
+    private TlsPrf() {
+    }
+
+    /**
+     * Computes outputLength bytes of the TLS 1.2 PRF (RFC 5246) of the given
+     * secret, label and seed with a single native call.
+     *
+     * @param digestAlgo the native name of the PRF hash, such as "SHA256"
+     * @param secret the secret, null for an empty secret
+     */
+    public static byte[] doTLS12PRF(OpenJCEPlusProvider provider, String digestAlgo, byte[] secret,
+            byte[] label, byte[] seed, int outputLength) throws NativeException {
+        if (provider == null) {
+            throw new IllegalArgumentException("provider is null");
+        }
+
+        if ((digestAlgo == null) || digestAlgo.isEmpty()) {
+            throw new IllegalArgumentException("digestAlgo is null/empty");
+        }
+
+        if ((label == null) || (seed == null) || (outputLength < 0)) {
+            throw new IllegalArgumentException("The PRF parameters are invalid");
+        }
+
+        NativeInterface nativeInterface = NativeCryptoSelector.selectBackend(provider, "KeyGenerator", "SunTls12Prf");
+
+        byte[] output = new byte[outputLength];
+        if (outputLength > 0) {
+            nativeInterface.TLS12_PRF(digestAlgo, (secret == null) ? B0 : secret, label, seed, output);
+        }
+        return output;
+    }
+}
@@ -19,6 +19,8 @@ public final class XECKey implements AsymmetricKey {
     private OpenJCEPlusProvider provider;
     private NativeInterface nativeInterface;
     private final long xecKeyId;
+    // Frees the native key once the last key object using it is destroyed
+    private final NativeKeyLifetime lifetime;
     private byte[] privateKeyBytes;
     private byte[] publicKeyBytes;
     private static final String badIdMsg = "XEC Key Identifier is not valid";
@@ -40,7 +42,8 @@ public final class XECKey implements AsymmetricKey {
         this.publicKeyBytes = publicKeyBytes;
         this.provider = provider;
         this.nativeInterface = nativeInterface;
-        this.provider.registerCleanable(this, cleanOCKResources(privateKeyBytes, xecKeyId, nativeInterface));
+        this.lifetime = new NativeKeyLifetime(this.provider.registerCleanable(this,
+                cleanOCKResources(privateKeyBytes, xecKeyId, nativeInterface)));
     }
 
 
@@ -54,15 +57,21 @@ public final class XECKey implements AsymmetricKey {
         }
 
         NativeInterface nativeInterface = NativeCryptoSelector.selectBackend(provider, "KeyPairGenerator", configAlgName);
-        long xecKeyId = nativeInterface.XECKEY_generate(curveNum,
-                buffer.pointer());
+        // The public key is followed by the DER encoded private key, so that
+        // neither has to be obtained with a further native call.
+        int[] lengths = new int[2];
+        long xecKeyId = nativeInterface.XECKEY_generateWithEncodings(curveNum, lengths,
+                buffer.pointer(), buffer.capacity());
         if (!validId(xecKeyId))
             throw new NativeException(badIdMsg);
 
         byte[] publicKeyBytes = new byte[pub_size];
+        byte[] privateKeyBytes = new byte[lengths[1]];
         buffer.get(0, publicKeyBytes, 0, pub_size);
+        buffer.get(lengths[0], privateKeyBytes, 0, lengths[1]);
+        buffer.clear(lengths[0], lengths[1]);
 
-        return new XECKey(nativeInterface, xecKeyId, unobtainedKeyBytes, publicKeyBytes, provider);
+        return new XECKey(nativeInterface, xecKeyId, privateKeyBytes, publicKeyBytes, provider);
     }
 
     public static byte[] computeECDHSecret(long genCtx, long pubId,
@@ -86,14 +95,19 @@ public final class XECKey implements AsymmetricKey {
     }
 
     private synchronized void obtainPrivateKeyBytes() throws NativeException {
-        // Leave this duplicate check in here. If two threads are both trying
-        // to getPrivateKeyBytes at the same time, we only want to call the
-        // native code one time.
-        //
-        if (privateKeyBytes == unobtainedKeyBytes) {
-            if (!validId(xecKeyId))
-                throw new NativeException(badIdMsg);
-            this.privateKeyBytes = this.nativeInterface.XECKEY_getPrivateKeyBytes(xecKeyId); // Returns DER encoded bytes
+        lifetime.beginUse();
+        try {
+            // Leave this duplicate check in here. If two threads are both trying
+            // to getPrivateKeyBytes at the same time, we only want to call the
+            // native code one time.
+            //
+            if (privateKeyBytes == unobtainedKeyBytes) {
+                if (!validId(xecKeyId))
+                    throw new NativeException(badIdMsg);
+                this.privateKeyBytes = this.nativeInterface.XECKEY_getPrivateKeyBytes(xecKeyId); // Returns DER encoded bytes
+            }
+        } finally {
+            lifetime.endUse();
         }
     }
 
@@ -148,8 +162,13 @@ public final class XECKey implements AsymmetricKey {
         }
 
         NativeInterface nativeInterface = NativeCryptoSelector.selectBackend(provider, "KeyFactory", configAlgName);
+        if (PublicKeyCache.get(nativeInterface, "XEC", publicKeyBytes) instanceof XECKey cachedKey) {
+            return cachedKey;
+        }
         long xecKeyId = nativeInterface.XECKEY_createPublicKey(publicKeyBytes);
-        return new XECKey(nativeInterface, xecKeyId, null, publicKeyBytes.clone(), provider);
+        return PublicKeyCache.put(nativeInterface, "XEC",
+                new XECKey(nativeInterface, xecKeyId, null, publicKeyBytes.clone(), provider),
+                publicKeyBytes);
     }
 
     public String getAlgorithm() {
@@ -161,6 +180,26 @@ public final class XECKey implements AsymmetricKey {
         return xecKeyId;
     }
 
+    @Override
+    public void retain() {
+        lifetime.retain();
+    }
+
+    @Override
+    public void release() {
+        lifetime.release();
+    }
+
+    @Override
+    public void beginUse() {
+        lifetime.beginUse();
+    }
+
+    @Override
+    public void endUse() {
+        lifetime.endUse();
+    }
+
     private Runnable cleanOCKResources(byte[] privateKeyBytes, long xecKeyId, NativeInterface nativeInterface) {
         return () -> {
             try {
@@ -526,6 +526,13 @@ public abstract class NativeOCKAdapter implements NativeInterface {
             ciphertextOffset, ciphertextLen, plainOffset, aadLen, tagLen, parameterBuffer, inputBuffer, outputBuffer);
     }
 
+    @Override
+    public int do_GCM_batchFastJNI(long gcmCtx16, long gcmCtx24, long gcmCtx32, boolean encrypt, int count,
+            int tagLen, int[] descriptors, int[] status, long dataBuffer) throws OCKException {
+        return NativeOCKImplementation.do_GCM_batchFastJNI(ockContext.getId(), gcmCtx16, gcmCtx24, gcmCtx32,
+            encrypt, count, tagLen, descriptors, status, dataBuffer);
+    }
+
     @Override
     public int do_GCM_encrypt(long gcmCtx, byte[] key, int keyLen, byte[] iv, int ivLen, byte[] input, int inOffset,
             int inLen, byte[] ciphertext, int ciphertextOffset, byte[] aad, int aadLen, byte[] tag, int tagLen)
@@ -701,6 +708,13 @@ public abstract class NativeOCKAdapter implements NativeInterface {
         return NativeOCKImplementation.DHKEY_generate(ockContext.getId(), dhParameters);
     }
 
+    @Override
+    public long DHKEY_generateWithEncodings(byte[] dhParameters, int[] lengths, long bufferPtr,
+            int bufferLen) throws OCKException {
+        return NativeOCKImplementation.DHKEY_generateWithEncodings(ockContext.getId(),
+                dhParameters, lengths, bufferPtr, bufferLen);
+    }
+
     @Override
     public long DHKEY_createPrivateKey(byte[] privateKeyBytes) throws OCKException {
         return NativeOCKImplementation.DHKEY_createPrivateKey(ockContext.getId(), privateKeyBytes);
@@ -908,6 +922,20 @@ public abstract class NativeOCKAdapter implements NativeInterface {
         return NativeOCKImplementation.SIGNATUREEdDSA_verifyOneShot(ockContext.getId(), pkeyId, sigBytes, oneShot);
     }
 
+    @Override
+    public byte[] SIGNATUREEdDSA_signBuffer(long pkeyId, String prehashInstance, long dataBuffer,
+            int dataLength) throws OCKException {
+        return NativeOCKImplementation.SIGNATUREEdDSA_signBuffer(ockContext.getId(), pkeyId,
+                prehashInstance, dataBuffer, dataLength);
+    }
+
+    @Override
+    public boolean SIGNATUREEdDSA_verifyBuffer(long pkeyId, String prehashInstance, byte[] sigBytes,
+            long dataBuffer, int dataLength) throws OCKException {
+        return NativeOCKImplementation.SIGNATUREEdDSA_verifyBuffer(ockContext.getId(), pkeyId,
+                prehashInstance, sigBytes, dataBuffer, dataLength);
+    }
+
     @Override
     public int RSAPSS_signInit(long rsaPssId, long pkeyId, int saltlen, boolean convert) throws OCKException {
         return NativeOCKImplementation.RSAPSS_signInit(ockContext.getId(), rsaPssId, pkeyId, saltlen, convert);
@@ -943,6 +971,11 @@ public abstract class NativeOCKAdapter implements NativeInterface {
         NativeOCKImplementation.RSAPSS_releaseContext(ockContext.getId(), rsaPssId);
     }
 
+    @Override
+    public void RSAPSS_clearContext(long rsaPssId) throws OCKException {
+        NativeOCKImplementation.RSAPSS_clearContext(ockContext.getId(), rsaPssId);
+    }
+
     @Override
     public void RSAPSS_digestUpdate(long rsaPssId, byte[] input, int offset, int length) throws OCKException {
         NativeOCKImplementation.RSAPSS_digestUpdate(ockContext.getId(), rsaPssId, input, offset, length);
@@ -985,15 +1018,23 @@ public abstract class NativeOCKAdapter implements NativeInterface {
     }
 
     @Override
-    public int HMAC_update(long hmacId, byte[] key, int keyLength, byte[] input, int inputOffset, int inputLength,
-            boolean needInit) throws OCKException {
-        return NativeOCKImplementation.HMAC_update(ockContext.getId(), hmacId, key, keyLength,
-            input, inputOffset, inputLength, needInit);
+    public int HMAC_init(long hmacId, byte[] key, int keyLength) throws OCKException {
+        return NativeOCKImplementation.HMAC_init(ockContext.getId(), hmacId, key, keyLength);
+    }
+
+    @Override
+    public int HMAC_update(long hmacId, byte[] input, int inputOffset, int inputLength) throws OCKException {
+        return NativeOCKImplementation.HMAC_update(ockContext.getId(), hmacId, input, inputOffset, inputLength);
+    }
+
+    @Override
+    public int HMAC_doFinal(long hmacId, byte[] hmac) throws OCKException {
+        return NativeOCKImplementation.HMAC_doFinal(ockContext.getId(), hmacId, hmac);
     }
 
     @Override
-    public int HMAC_doFinal(long hmacId, byte[] key, int keyLength, byte[] hmac, boolean needInit) throws OCKException {
-        return NativeOCKImplementation.HMAC_doFinal(ockContext.getId(), hmacId, key, keyLength, hmac, needInit);
+    public int HMAC_reset(long hmacId) throws OCKException {
+        return NativeOCKImplementation.HMAC_reset(ockContext.getId(), hmacId);
     }
 
     @Override
@@ -1006,6 +1047,12 @@ public abstract class NativeOCKAdapter implements NativeInterface {
         NativeOCKImplementation.HMAC_delete(ockContext.getId(), hmacId);
     }
 
+    @Override
+    public void TLS12_PRF(String digestAlgo, byte[] secret, byte[] label, byte[] seed, byte[] output)
+            throws OCKException {
+        NativeOCKImplementation.TLS12_PRF(ockContext.getId(), digestAlgo, secret, label, seed, output);
+    }
+
     @Override
     public long ECKEY_generate(int numBits) throws OCKException {
         return NativeOCKImplementation.ECKEY_generate(ockContext.getId(), numBits);
@@ -1021,6 +1068,27 @@ public abstract class NativeOCKAdapter implements NativeInterface {
         return NativeOCKImplementation.XECKEY_generate(ockContext.getId(), option, bufferPtr);
     }
 
+    @Override
+    public long ECKEY_generateWithEncodings(int numBits, int[] lengths, long bufferPtr,
+            int bufferLen) throws OCKException {
+        return NativeOCKImplementation.ECKEY_generateWithEncodings(ockContext.getId(), numBits,
+                lengths, bufferPtr, bufferLen);
+    }
+
+    @Override
+    public long ECKEY_generateWithEncodings(String curveOid, int[] lengths, long bufferPtr,
+            int bufferLen) throws OCKException {
+        return NativeOCKImplementation.ECKEY_generateWithEncodings(ockContext.getId(), curveOid,
+                lengths, bufferPtr, bufferLen);
+    }
+
+    @Override
+    public long XECKEY_generateWithEncodings(int option, int[] lengths, long bufferPtr,
+            int bufferLen) throws OCKException {
+        return NativeOCKImplementation.XECKEY_generateWithEncodings(ockContext.getId(), option,
+                lengths, bufferPtr, bufferLen);
+    }
+
     @Override
     public byte[] ECKEY_generateParameters(int numBits) throws OCKException {
         return NativeOCKImplementation.ECKEY_generateParameters(ockContext.getId(), numBits);
@@ -1217,6 +1285,12 @@ public abstract class NativeOCKAdapter implements NativeInterface {
         return NativeOCKImplementation.KEM_decapsulate(ockContext.getId(), PKeyId, wrappedKey);
     }
 
+    @Override
+    public void KEM_encapsulateBatch(long PKeyId, int count, byte[] wrappedKeys, byte[] randomKeys)
+            throws OCKException {
+        NativeOCKImplementation.KEM_encapsulateBatch(ockContext.getId(), PKeyId, count, wrappedKeys, randomKeys);
+    }
+
     @Override
     public byte[] PQC_SIGNATURE_sign(long PKeyId, byte[] data)
             throws OCKException {
@@ -1228,4 +1302,31 @@ public abstract class NativeOCKAdapter implements NativeInterface {
             throws OCKException {
         return NativeOCKImplementation.PQC_SIGNATURE_verify(ockContext.getId(), PKeyId, sigBytes, data);
     }
+
+    @Override
+    public long PQC_MU_create(long PKeyId, byte[] prefix) throws OCKException {
+        return NativeOCKImplementation.PQC_MU_create(ockContext.getId(), PKeyId, prefix);
+    }
+
+    @Override
+    public void PQC_MU_update(long muId, byte[] input, int offset, int length)
+            throws OCKException {
+        NativeOCKImplementation.PQC_MU_update(ockContext.getId(), muId, input, offset, length);
+    }
+
+    @Override
+    public void PQC_MU_delete(long muId) throws OCKException {
+        NativeOCKImplementation.PQC_MU_delete(ockContext.getId(), muId);
+    }
+
+    @Override
+    public byte[] PQC_SIGNATURE_signMu(long PKeyId, long muId) throws OCKException {
+        return NativeOCKImplementation.PQC_SIGNATURE_signMu(ockContext.getId(), PKeyId, muId);
+    }
+
+    @Override
+    public boolean PQC_SIGNATURE_verifyMu(long PKeyId, long muId, byte[] sigBytes)
+            throws OCKException {
+        return NativeOCKImplementation.PQC_SIGNATURE_verifyMu(ockContext.getId(), PKeyId, muId, sigBytes);
+    }
 }
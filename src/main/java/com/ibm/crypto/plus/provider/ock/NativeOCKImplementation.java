@@ -356,6 +356,10 @@ final class NativeOCKImplementation {
             int tagLen, long parameterBuffer, long inputBuffer, long outputBuffer)
             throws OCKException;
 
+    static public native int do_GCM_batchFastJNI(long ockContextId, long gcmCtx16, long gcmCtx24,
+            long gcmCtx32, boolean encrypt, int count, int tagLen, int[] descriptors, int[] status,
+            long dataBuffer) throws OCKException;
+
     static public native int do_GCM_encrypt(long ockContextId, long gcmCtx, byte[] key, int keyLen,
             byte[] iv, int ivLen, byte[] input, int inOffset, int inLen, byte[] ciphertext,
             int ciphertextOffset, byte[] aad, int aadLen, byte[] tag, int tagLen)
@@ -467,6 +471,9 @@ final class NativeOCKImplementation {
     static public native long DHKEY_generate(long ockContextId, byte[] dhParameters)
             throws OCKException;
 
+    static public native long DHKEY_generateWithEncodings(long ockContextId, byte[] dhParameters,
+            int[] lengths, long bufferPtr, int bufferLen) throws OCKException;
+
     static public native long DHKEY_createPrivateKey(long ockContextId, byte[] privateKeyBytes)
             throws OCKException;
 
@@ -596,6 +603,13 @@ final class NativeOCKImplementation {
     static public native boolean SIGNATUREEdDSA_verifyOneShot(long ockContextId, long pkeyId,
             byte[] sigBytes, byte[] oneShot) throws OCKException;
 
+    static public native byte[] SIGNATUREEdDSA_signBuffer(long ockContextId, long pkeyId,
+            String prehashInstance, long dataBuffer, int dataLength) throws OCKException;
+
+    static public native boolean SIGNATUREEdDSA_verifyBuffer(long ockContextId, long pkeyId,
+            String prehashInstance, byte[] sigBytes, long dataBuffer, int dataLength)
+            throws OCKException;
+
     // =========================================================================
     // RSAPSSSignature functions
     // =========================================================================
@@ -620,6 +634,9 @@ final class NativeOCKImplementation {
     static public native void RSAPSS_releaseContext(long ockContextId, long rsaPssId)
             throws OCKException;
 
+    static public native void RSAPSS_clearContext(long ockContextId, long rsaPssId)
+            throws OCKException;
+
     static public native void RSAPSS_digestUpdate(long ockContextId, long rsaPssId, byte[] input,
             int offset, int length) throws OCKException;
 
@@ -654,16 +671,24 @@ final class NativeOCKImplementation {
 
     static public native long HMAC_create(long ockContextId, String digestAlgo) throws OCKException;
 
-    static public native int HMAC_update(long ockContextId, long hmacId, byte[] key, int keyLength,
-            byte[] input, int inputOffset, int inputLength, boolean needInit) throws OCKException;
+    static public native int HMAC_init(long ockContextId, long hmacId, byte[] key, int keyLength)
+            throws OCKException;
+
+    static public native int HMAC_update(long ockContextId, long hmacId, byte[] input,
+            int inputOffset, int inputLength) throws OCKException;
+
+    static public native int HMAC_doFinal(long ockContextId, long hmacId, byte[] hmac)
+            throws OCKException;
 
-    static public native int HMAC_doFinal(long ockContextId, long hmacId, byte[] key, int keyLength,
-            byte[] hmac, boolean needInit) throws OCKException;
+    static public native int HMAC_reset(long ockContextId, long hmacId) throws OCKException;
 
     static public native int HMAC_size(long ockContextId, long hmacId) throws OCKException;
 
     static public native void HMAC_delete(long ockContextId, long hmacId) throws OCKException;
 
+    static public native void TLS12_PRF(long ockContextId, String digestAlgo, byte[] secret,
+            byte[] label, byte[] seed, byte[] output) throws OCKException;
+
     // =========================================================================
     // EC key functions
     // =========================================================================
@@ -676,6 +701,15 @@ final class NativeOCKImplementation {
     static public native long XECKEY_generate(long ockContextId, int option, long bufferPtr)
             throws OCKException;
 
+    static public native long ECKEY_generateWithEncodings(long ockContextId, int numBits,
+            int[] lengths, long bufferPtr, int bufferLen) throws OCKException;
+
+    static public native long ECKEY_generateWithEncodings(long ockContextId, String curveOid,
+            int[] lengths, long bufferPtr, int bufferLen) throws OCKException;
+
+    static public native long XECKEY_generateWithEncodings(long ockContextId, int option,
+            int[] lengths, long bufferPtr, int bufferLen) throws OCKException;
+
     static public native byte[] ECKEY_generateParameters(long ockContextId, int numBits)
             throws OCKException;
 
@@ -793,6 +827,9 @@ final class NativeOCKImplementation {
     static public native byte[] KEM_decapsulate(long ockContextId, long ockPKeyId, byte[] wrappedKey)
             throws OCKException;
 
+    static public native void KEM_encapsulateBatch(long ockContextId, long ockPKeyId, int count,
+            byte[] wrappedKeys, byte[] randomKeys) throws OCKException;
+
     // =========================================================================
     // PQC Signture functions - for use with ML-DSA and ML-SLH
     // =========================================================================
@@ -801,4 +838,18 @@ final class NativeOCKImplementation {
 
     static public native boolean PQC_SIGNATURE_verify(long ockContextId, long ockPKeyId, byte[] sigBytes, byte[] data) 
             throws OCKException;
+
+    static public native long PQC_MU_create(long ockContextId, long ockPKeyId, byte[] prefix)
+            throws OCKException;
+
+    static public native void PQC_MU_update(long ockContextId, long muId, byte[] input, int offset,
+            int length) throws OCKException;
+
+    static public native void PQC_MU_delete(long ockContextId, long muId) throws OCKException;
+
+    static public native byte[] PQC_SIGNATURE_signMu(long ockContextId, long ockPKeyId, long muId)
+            throws OCKException;
+
+    static public native boolean PQC_SIGNATURE_verifyMu(long ockContextId, long ockPKeyId, long muId,
+            byte[] sigBytes) throws OCKException;
 }
@@ -8,6 +8,8 @@
 
 module openjceplus {
     requires java.logging;
+    requires static java.management;
+    requires static jdk.jfr;
     requires jdk.unsupported;
 
     exports ibm.security.internal.spec;
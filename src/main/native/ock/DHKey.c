@@ -333,6 +333,109 @@ Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_DHKEY_1generate__J
     return dhKeyId;
 }
 
+//============================================================================
+/*
+ * Class:     com_ibm_crypto_plus_provider_ock_NativeOCKImplementation
+ * Method:    DHKEY_generateWithEncodings
+ * Signature: (J[B[IJI)J
+ */
+JNIEXPORT jlong JNICALL
+Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_DHKEY_1generateWithEncodings(
+    JNIEnv *env, jclass thisObj, jlong ockContextId, jbyteArray parmBytes,
+    jintArray lengths, jlong bufferPtr, jint bufferLen) {
+    static const char *functionName =
+        "NativeInterface.DHKEY_generateWithEncodings";
+
+    ICC_CTX       *ockCtx  = (ICC_CTX *)((intptr_t)ockContextId);
+    ICC_DH        *ockDH   = NULL;
+    ICC_EVP_PKEY  *ockPKey = NULL;
+    unsigned char *buffer  = (unsigned char *)((intptr_t)bufferPtr);
+    unsigned char *pBytes  = NULL;
+    jlong          dhKeyId = 0;
+    jint           sizes[2];
+
+    if (debug) {
+        gslogFunctionEntry(functionName);
+    }
+
+    if ((lengths == NULL) || ((*env)->GetArrayLength(env, lengths) < 2) ||
+        (buffer == NULL) || (bufferLen <= 0)) {
+        throwOCKException(env, 0,
+                          "The specified input parameters are incorrect.");
+        goto cleanup;
+    }
+
+    dhKeyId =
+        Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_DHKEY_1generate__J_3B(
+            env, thisObj, ockContextId, parmBytes);
+    if ((dhKeyId == 0) || (*env)->ExceptionCheck(env)) {
+        goto cleanup;
+    }
+    ockDH = (ICC_DH *)((intptr_t)dhKeyId);
+
+    // The encodings are taken from a temporary EVP_PKEY, as in
+    // DHKEY_getPrivateKeyBytes and DHKEY_getPublicKeyBytes.
+    ockPKey = ICC_EVP_PKEY_new(ockCtx);
+    if (ockPKey == NULL) {
+        ockCheckStatus(ockCtx);
+        throwOCKException(env, 0, "ICC_EVP_PKEY_new failed");
+        goto cleanup;
+    }
+    if (ICC_EVP_PKEY_set1_DH(ockCtx, ockPKey, ockDH) != ICC_OSSL_SUCCESS) {
+        ockCheckStatus(ockCtx);
+        throwOCKException(env, 0, "ICC_EVP_PKEY_set1_DH failed");
+        goto cleanup;
+    }
+
+    sizes[0] = ICC_i2d_PrivateKey(ockCtx, ockPKey, NULL);
+    sizes[1] = ICC_i2d_PUBKEY(ockCtx, ockPKey, NULL);
+    if ((sizes[0] <= 0) || (sizes[1] <= 0)) {
+        ockCheckStatus(ockCtx);
+        throwOCKException(env, 0, "Getting the DH key encoding sizes failed");
+        goto cleanup;
+    }
+    if ((sizes[0] + sizes[1]) > bufferLen) {
+        throwOCKException(env, 0,
+                          "The buffer is too small for the DH key encodings");
+        goto cleanup;
+    }
+
+    // Each call advances pBytes past the encoding it writes.
+    pBytes = buffer;
+    if ((ICC_i2d_PrivateKey(ockCtx, ockPKey, &pBytes) != sizes[0]) ||
+        (ICC_i2d_PUBKEY(ockCtx, ockPKey, &pBytes) != sizes[1])) {
+        ockCheckStatus(ockCtx);
+        memset(buffer, 0, bufferLen);
+        throwOCKException(env, 0, "Getting the DH key encodings failed");
+        goto cleanup;
+    }
+#ifdef DEBUG_DH_DETAIL
+    if (debug) {
+        gslogMessage("DETAIL_DH encoding sizes %d %d", (int)sizes[0],
+                     (int)sizes[1]);
+    }
+#endif
+
+    (*env)->SetIntArrayRegion(env, lengths, 0, 2, sizes);
+    ockDH = NULL;
+
+cleanup:
+    if (ockPKey != NULL) {
+        ICC_EVP_PKEY_free(ockCtx, ockPKey);
+    }
+
+    if (ockDH != NULL) {
+        ICC_DH_free(ockCtx, ockDH);
+        dhKeyId = 0;
+    }
+
+    if (debug) {
+        gslogFunctionExit(functionName);
+    }
+
+    return dhKeyId;
+}
+
 //============================================================================
 /*
  * Class:     com_ibm_crypto_plus_provider_ock_NativeOCKImplementation
@@ -9,6 +9,7 @@
 #include <jni.h>
 #include <stdio.h>
 #include <stdlib.h>
+#include <string.h>
 #include <jcc_a.h>
 #include <icc.h>
 
@@ -1051,6 +1052,233 @@ Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_ECKEY_1generate__J
     return ecKeyId;
 }
 
+// helper function for ECKEY_generateWithEncodings
+//
+// Writes the parameters, private key and public key encodings of the
+// generated key one after the other into buffer and their lengths into
+// lengths. On failure the key is freed, an exception is thrown and 0 is
+// returned.
+static jlong getECKeyEncodings(JNIEnv *env, ICC_CTX *ockCtx, jlong ecKeyId,
+                               jintArray lengths, unsigned char *buffer,
+                               jint bufferLen) {
+    ICC_EC_KEY    *ockECKey = (ICC_EC_KEY *)((intptr_t)ecKeyId);
+    unsigned char *pBytes   = buffer;
+    jint           sizes[3];
+
+    if ((ockECKey == NULL) || (*env)->ExceptionCheck(env)) {
+        // The exception thrown by the generation is left pending.
+        if (ockECKey != NULL) {
+            ICC_EC_KEY_free(ockCtx, ockECKey);
+        }
+        return 0;
+    }
+
+    sizes[0] = ICC_i2d_ECParameters(ockCtx, ockECKey, NULL);
+    sizes[1] = ICC_i2d_ECPrivateKey(ockCtx, ockECKey, NULL);
+    sizes[2] = ICC_i2o_ECPublicKey(ockCtx, ockECKey, NULL);
+    if ((sizes[0] <= 0) || (sizes[1] <= 0) || (sizes[2] <= 0)) {
+        ockCheckStatus(ockCtx);
+        throwOCKException(env, 0, "Getting the EC key encoding sizes failed");
+        goto cleanup;
+    }
+    if ((sizes[0] + sizes[1] + sizes[2]) > bufferLen) {
+        throwOCKException(env, 0,
+                          "The buffer is too small for the EC key encodings");
+        goto cleanup;
+    }
+
+    // Each call advances pBytes past the encoding it writes.
+    if ((ICC_i2d_ECParameters(ockCtx, ockECKey, &pBytes) != sizes[0]) ||
+        (ICC_i2d_ECPrivateKey(ockCtx, ockECKey, &pBytes) != sizes[1]) ||
+        (ICC_i2o_ECPublicKey(ockCtx, ockECKey, &pBytes) != sizes[2])) {
+        ockCheckStatus(ockCtx);
+        memset(buffer, 0, bufferLen);
+        throwOCKException(env, 0, "Getting the EC key encodings failed");
+        goto cleanup;
+    }
+#ifdef DEBUG_EC_DETAIL
+    if (debug) {
+        gslogMessage("DETAIL_EC encoding sizes %d %d %d", (int)sizes[0],
+                     (int)sizes[1], (int)sizes[2]);
+    }
+#endif
+
+    (*env)->SetIntArrayRegion(env, lengths, 0, 3, sizes);
+    return ecKeyId;
+
+cleanup:
+    ICC_EC_KEY_free(ockCtx, ockECKey);
+    return 0;
+}
+
+// helper function for ECKEY_generateWithEncodings
+static int checkEncodingsBuffer(JNIEnv *env, jintArray lengths, jint count,
+                                jlong bufferPtr, jint bufferLen) {
+    if ((lengths == NULL) || ((*env)->GetArrayLength(env, lengths) < count) ||
+        ((unsigned char *)((intptr_t)bufferPtr) == NULL) || (bufferLen <= 0)) {
+        throwOCKException(env, 0,
+                          "The specified input parameters are incorrect.");
+        return 0;
+    }
+    return 1;
+}
+
+//============================================================================
+/*
+ * Class:     com_ibm_crypto_plus_provider_ock_NativeOCKImplementation
+ * Method:    ECKEY_generateWithEncodings
+ * Signature: (JI[IJI)J
+ */
+JNIEXPORT jlong JNICALL
+Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_ECKEY_1generateWithEncodings__JI_3IJI(
+    JNIEnv *env, jclass thisObj, jlong ockContextId, jint numBits,
+    jintArray lengths, jlong bufferPtr, jint bufferLen) {
+    static const char *functionName =
+        "NativeInterface.ECKEY_generateWithEncodings(size)";
+
+    ICC_CTX *ockCtx  = (ICC_CTX *)((intptr_t)ockContextId);
+    jlong    ecKeyId = 0;
+
+    if (debug) {
+        gslogFunctionEntry(functionName);
+    }
+
+    if (checkEncodingsBuffer(env, lengths, 3, bufferPtr, bufferLen)) {
+        ecKeyId =
+            Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_ECKEY_1generate__JI(
+                env, thisObj, ockContextId, numBits);
+        ecKeyId = getECKeyEncodings(env, ockCtx, ecKeyId, lengths,
+                                    (unsigned char *)((intptr_t)bufferPtr),
+                                    bufferLen);
+    }
+
+    if (debug) {
+        gslogFunctionExit(functionName);
+    }
+
+    return ecKeyId;
+}
+
+//============================================================================
+/*
+ * Class:     com_ibm_crypto_plus_provider_ock_NativeOCKImplementation
+ * Method:    ECKEY_generateWithEncodings
+ * Signature: (JLjava/lang/String;[IJI)J
+ */
+JNIEXPORT jlong JNICALL
+Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_ECKEY_1generateWithEncodings__JLjava_lang_String_2_3IJI(
+    JNIEnv *env, jclass thisObj, jlong ockContextId, jstring soid,
+    jintArray lengths, jlong bufferPtr, jint bufferLen) {
+    static const char *functionName =
+        "NativeInterface.ECKEY_generateWithEncodings(soid)";
+
+    ICC_CTX *ockCtx  = (ICC_CTX *)((intptr_t)ockContextId);
+    jlong    ecKeyId = 0;
+
+    if (debug) {
+        gslogFunctionEntry(functionName);
+    }
+
+    if (checkEncodingsBuffer(env, lengths, 3, bufferPtr, bufferLen)) {
+        ecKeyId =
+            Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_ECKEY_1generate__JLjava_lang_String_2(
+                env, thisObj, ockContextId, soid);
+        ecKeyId = getECKeyEncodings(env, ockCtx, ecKeyId, lengths,
+                                    (unsigned char *)((intptr_t)bufferPtr),
+                                    bufferLen);
+    }
+
+    if (debug) {
+        gslogFunctionExit(functionName);
+    }
+
+    return ecKeyId;
+}
+
+//============================================================================
+/*
+ * Class:     com_ibm_crypto_plus_provider_ock_NativeOCKImplementation
+ * Method:    XECKEY_generateWithEncodings
+ * Signature: (JI[IJI)J
+ */
+JNIEXPORT jlong JNICALL
+Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_XECKEY_1generateWithEncodings(
+    JNIEnv *env, jclass thisObj, jlong ockContextId, jint option,
+    jintArray lengths, jlong bufferPtr, jint bufferLen) {
+    static const char *functionName =
+        "NativeInterface.XECKEY_generateWithEncodings";
+
+    ICC_CTX       *ockCtx   = (ICC_CTX *)((intptr_t)ockContextId);
+    ICC_EVP_PKEY  *key      = NULL;
+    unsigned char *buffer   = (unsigned char *)((intptr_t)bufferPtr);
+    unsigned char *pBytes   = NULL;
+    size_t         pubSize  = 0;
+    jlong          xecKeyId = 0;
+    jint           sizes[2];
+
+    if (debug) {
+        gslogFunctionEntry(functionName);
+    }
+
+    if (!checkEncodingsBuffer(env, lengths, 2, bufferPtr, bufferLen)) {
+        goto cleanup;
+    }
+
+    // The public key is written at the start of the buffer.
+    xecKeyId =
+        Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_XECKEY_1generate(
+            env, thisObj, ockContextId, option, bufferPtr);
+    if ((xecKeyId == -1) || (*env)->ExceptionCheck(env)) {
+        xecKeyId = 0;
+        goto cleanup;
+    }
+    key = (ICC_EVP_PKEY *)((intptr_t)xecKeyId);
+
+    if (getOption(option) == NID_ffdh) {
+        sizes[0] = ICC_i2d_PUBKEY(ockCtx, key, NULL);
+    } else if (ICC_EVP_PKEY_get_raw_public_key(ockCtx, key, NULL, &pubSize) ==
+               ICC_OSSL_SUCCESS) {
+        sizes[0] = (jint)pubSize;
+    } else {
+        sizes[0] = 0;
+    }
+    sizes[1] = ICC_i2d_PrivateKey(ockCtx, key, NULL);
+    if ((sizes[0] <= 0) || (sizes[1] <= 0)) {
+        ockCheckStatus(ockCtx);
+        throwOCKException(env, 0, "Getting the XEC key encoding sizes failed");
+        goto cleanup;
+    }
+    if ((sizes[0] + sizes[1]) > bufferLen) {
+        throwOCKException(env, 0,
+                          "The buffer is too small for the XEC key encodings");
+        goto cleanup;
+    }
+
+    // The DER encoded private key follows the public key.
+    pBytes = buffer + sizes[0];
+    if (ICC_i2d_PrivateKey(ockCtx, key, &pBytes) != sizes[1]) {
+        ockCheckStatus(ockCtx);
+        memset(buffer, 0, bufferLen);
+        throwOCKException(env, 0, "ICC_i2d_PrivateKey failed");
+        goto cleanup;
+    }
+
+    (*env)->SetIntArrayRegion(env, lengths, 0, 2, sizes);
+    key = NULL;
+
+cleanup:
+    if (key != NULL) {
+        ICC_EVP_PKEY_free(ockCtx, key);
+        xecKeyId = 0;
+    }
+
+    if (debug) {
+        gslogFunctionExit(functionName);
+    }
+
+    return xecKeyId;
+}
+
 //============================================================================
 /*
  * Class:     com_ibm_crypto_plus_provider_ock_NativeOCKImplementation
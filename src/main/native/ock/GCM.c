@@ -1538,6 +1538,116 @@ Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_do_1GCM_1encryptFa
     return (jint)ret;
 }
 
+/*
+ *  * Class:     com_ibm_crypto_plus_provider_ock_NativeOCKImplementation
+ *  * Method:    do_GCM_batchFastJNI
+ *  *
+ *  * Encrypts or decrypts count independent records in one call. Each record
+ *  * is described by GCM_BATCH_FIELDS ints giving the offsets and lengths of
+ *  * its key, IV, AAD, input and output within dataBuffer. When encrypting,
+ *  * the tag is written right after the ciphertext; when decrypting, it is
+ *  * read right after the ciphertext. The result of each record is stored in
+ *  * status and the number of failed records is returned.
+ *  */
+#define GCM_BATCH_FIELDS 9
+
+JNIEXPORT jint JNICALL
+Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_do_1GCM_1batchFastJNI(
+    JNIEnv* env, jclass unusedClass, jlong ockContextId, jlong gcmCtx16Id,
+    jlong gcmCtx24Id, jlong gcmCtx32Id, jboolean encrypt, jint count,
+    jint tagLen, jintArray descriptors, jintArray status, jlong dataBuffer) {
+    ICC_CTX*           ockCtx       = (ICC_CTX*)((intptr_t)ockContextId);
+    unsigned char*     data         = (unsigned char*)dataBuffer;
+    jint*              descNative   = NULL;
+    jint*              statusNative = NULL;
+    ICC_AES_GCM_CTX*   gcmCtx       = NULL;
+    int                failures     = 0;
+    int                i            = 0;
+    static const char* functionName = "NativeInterface.do_GCM_batchFastJNI";
+
+    if (debug) {
+        gslogFunctionEntry(functionName);
+    }
+
+    if ((count <= 0) ||
+        ((*env)->GetArrayLength(env, descriptors) < count * GCM_BATCH_FIELDS) ||
+        ((*env)->GetArrayLength(env, status) < count)) {
+        throwOCKException(env, 0, "The specified batch parameters are incorrect.");
+        if (debug) {
+            gslogFunctionExit(functionName);
+        }
+        return count;
+    }
+
+    descNative = (*env)->GetIntArrayElements(env, descriptors, NULL);
+    if (descNative == NULL) {
+        throwOCKException(env, 0, "NULL from GetIntArrayElements");
+        if (debug) {
+            gslogFunctionExit(functionName);
+        }
+        return count;
+    }
+    statusNative = (*env)->GetIntArrayElements(env, status, NULL);
+    if (statusNative == NULL) {
+        (*env)->ReleaseIntArrayElements(env, descriptors, descNative, JNI_ABORT);
+        throwOCKException(env, 0, "NULL from GetIntArrayElements");
+        if (debug) {
+            gslogFunctionExit(functionName);
+        }
+        return count;
+    }
+
+    for (i = 0; i < count; i++) {
+        jint* d      = descNative + (i * GCM_BATCH_FIELDS);
+        int   keyLen = d[1];
+        int   ret    = 0;
+
+        // The contexts are kept by key size, as GCM contexts can't be shared
+        // between key sizes.
+        switch (keyLen) {
+            case 16:
+                gcmCtx = (ICC_AES_GCM_CTX*)((intptr_t)gcmCtx16Id);
+                break;
+            case 24:
+                gcmCtx = (ICC_AES_GCM_CTX*)((intptr_t)gcmCtx24Id);
+                break;
+            case 32:
+                gcmCtx = (ICC_AES_GCM_CTX*)((intptr_t)gcmCtx32Id);
+                break;
+            default:
+                gcmCtx = NULL;
+                break;
+        }
+
+        if (gcmCtx == NULL) {
+            ret = ICC_AES_GCM_CTX_NEW_FAILED;
+        } else if (encrypt) {
+            ret = GCM_encrypt_core(env, ockCtx, gcmCtx, data + d[0], keyLen,
+                                   data + d[2], d[3], data + d[4], d[5],
+                                   data + d[8] + d[7], tagLen, data, d[7], d[6],
+                                   data, d[8]);
+        } else {
+            ret = GCM_decrypt_core(env, ockCtx, gcmCtx, data + d[0], keyLen,
+                                   data + d[2], d[3], data, d[6], d[7], data,
+                                   d[8], data + d[4], d[5], tagLen);
+        }
+
+        statusNative[i] = ret;
+        if (ret != 0) {
+            failures++;
+        }
+    }
+
+    (*env)->ReleaseIntArrayElements(env, descriptors, descNative, JNI_ABORT);
+    (*env)->ReleaseIntArrayElements(env, status, statusNative, 0);
+
+    if (debug) {
+        gslogFunctionExit(functionName);
+    }
+
+    return (jint)failures;
+}
+
 /*
  * Class:     com_ibm_crypto_plus_provider_ock_NativeOCKImplementation
  * Method:    do_GCM_encrypt
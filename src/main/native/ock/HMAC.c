@@ -191,12 +191,53 @@ int HMAC_init_internal(ICC_CTX *ockCtx, OCKHMAC *ockHMAC,
 }
 
 /*
- * This is a local function used in HMAC.c
- * It is called by method HMAC_update and HMAC_doFinal when an object have not
- * been initialized.
+ * Restores the state saved by ICC_HMAC_Init when the key was set. Passing a
+ * NULL key makes ICC reuse the inner and outer pad states computed from the
+ * key, so a new MAC can be started without processing the key again.
  */
-int HMAC_init(JNIEnv *env, jclass thisObj, jlong ockContextId, jlong hmacId,
-              jbyteArray key, jint keySize) {
+int HMAC_reset_internal(ICC_CTX *ockCtx, OCKHMAC *ockHMAC) {
+    int                rc           = ICC_OSSL_SUCCESS;
+    static const char *functionName = "NativeInterface.HMAC_reset_internal";
+
+    if (debug) {
+        gslogFunctionEntry(functionName);
+    }
+
+    if ((ockHMAC == NULL) || (ockHMAC->hmacCtx == NULL) ||
+        (ockHMAC->md == NULL)) {
+        if (debug) {
+            gslogFunctionExit(functionName);
+        }
+        return FAIL_HMAC_INTERNAL_INIT;
+    }
+    rc = ICC_HMAC_Init(ockCtx, ockHMAC->hmacCtx, NULL, 0, ockHMAC->md);
+    if (ICC_OSSL_SUCCESS != rc) {
+        ockCheckStatus(ockCtx);
+#ifdef DEBUG_HMAC_DETAIL
+        if (debug) {
+            gslogMessage("DETAIL_HMAC ICC_HMAC_Init reset rc %d", rc);
+        }
+#endif
+        if (debug) {
+            gslogFunctionExit(functionName);
+        }
+        return FAIL_HMAC_INTERNAL_INIT;
+    }
+    if (debug) {
+        gslogFunctionExit(functionName);
+    }
+    return HMAC_INTERNAL_SUCCESS;
+}
+
+/*
+ * Class:     com_ibm_crypto_plus_provider_ock_NativeOCKImplementation
+ * Method:    HMAC_init
+ * Signature: (JJ[BI)I
+ */
+JNIEXPORT jint JNICALL
+Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_HMAC_1init(
+    JNIEnv *env, jclass thisObj, jlong ockContextId, jlong hmacId,
+    jbyteArray key, jint keySize) {
     static const char *functionName = "NativeInterface.HMAC_init";
 
     ICC_CTX       *ockCtx    = (ICC_CTX *)((intptr_t)ockContextId);
@@ -220,7 +261,7 @@ int HMAC_init(JNIEnv *env, jclass thisObj, jlong ockContextId, jlong hmacId,
             gslogFunctionExit(functionName);
         }
         return FAIL_HMAC_INTERNAL_INIT;
-    } else if (key == NULL) {
+    } else if ((key == NULL) || (keySize <= 0)) {
         throwOCKException(env, 0, "The specified Key bytes are incorrect.");
         if (debug) {
             gslogFunctionExit(functionName);
@@ -245,7 +286,7 @@ int HMAC_init(JNIEnv *env, jclass thisObj, jlong ockContextId, jlong hmacId,
     result = HMAC_init_internal(ockCtx, ockHMAC, keyNative, keySize);
 
     if (keyNative != NULL) {
-        (*env)->ReleasePrimitiveArrayCritical(env, key, keyNative, 0);
+        (*env)->ReleasePrimitiveArrayCritical(env, key, keyNative, JNI_ABORT);
     }
 
     if (debug) {
@@ -256,9 +297,7 @@ int HMAC_init(JNIEnv *env, jclass thisObj, jlong ockContextId, jlong hmacId,
 
 /* update internal */
 JNIEXPORT int HMAC_update_internal(ICC_CTX *ockCtx, OCKHMAC *ockHMAC,
-                                   unsigned char *keyNative, int keySize,
-                                   unsigned char *inputNative, int inputLen,
-                                   bool needInit) {
+                                   unsigned char *inputNative, int inputLen) {
     int                result       = HMAC_INTERNAL_SUCCESS;
     int                rc           = ICC_OSSL_SUCCESS;
     static const char *functionName = "NativeInterface.HAMC_update_internal";
@@ -267,21 +306,12 @@ JNIEXPORT int HMAC_update_internal(ICC_CTX *ockCtx, OCKHMAC *ockHMAC,
         gslogFunctionEntry(functionName);
     }
 
-    if ((ockHMAC == NULL) || (keyNative == NULL) || (inputNative == NULL)) {
+    if ((ockHMAC == NULL) || (inputNative == NULL)) {
         if (debug) {
             gslogFunctionExit(functionName);
         }
         return FAIL_HMAC_INTERNAL_UPDATE;
     }
-    if (needInit == JNI_TRUE) {
-        result = HMAC_init_internal(ockCtx, ockHMAC, keyNative, keySize);
-        if (HMAC_INTERNAL_SUCCESS != result) {
-            if (debug) {
-                gslogFunctionExit(functionName);
-            }
-            return result;
-        }
-    }
 
 #ifdef DEBUG_HMAC_DATA
     if (debug) {
@@ -328,19 +358,17 @@ JNIEXPORT int HMAC_update_internal(ICC_CTX *ockCtx, OCKHMAC *ockHMAC,
 /*
  * Class:     com_ibm_crypto_plus_provider_ock_NativeOCKImplementation
  * Method:    HMAC_update
- * Signature: (JJ[BII)V
+ * Signature: (JJ[BII)I
  */
 JNIEXPORT jint JNICALL
 Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_HMAC_1update(
     JNIEnv *env, jclass thisObj, jlong ockContextId, jlong hmacId,
-    jbyteArray key, jint keyLength, jbyteArray input, jint inputOffset,
-    jint inputLen, jboolean needInit) {
+    jbyteArray input, jint inputOffset, jint inputLen) {
     static const char *functionName = "NativeInterface.HMAC_update";
 
     ICC_CTX       *ockCtx      = (ICC_CTX *)((intptr_t)ockContextId);
     OCKHMAC       *ockHMAC     = (OCKHMAC *)((intptr_t)hmacId);
     unsigned char *inputNative = NULL;
-    unsigned char *keyNative   = NULL;
     jboolean       isCopy      = 0;
     int            result      = HMAC_INTERNAL_SUCCESS;
 
@@ -348,8 +376,7 @@ Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_HMAC_1update(
         gslogFunctionEntry(functionName);
     }
 
-    if ((ockHMAC == NULL) || (key == NULL) || (keyLength <= 0) ||
-        (input == NULL)) {
+    if ((ockHMAC == NULL) || (input == NULL)) {
         throwOCKException(env, 0, "The specified parameters are incorrect.");
         if (debug) {
             gslogFunctionExit(functionName);
@@ -364,30 +391,18 @@ Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_HMAC_1update(
 #endif
     inputNative = (unsigned char *)((*env)->GetPrimitiveArrayCritical(
         env, input, &isCopy));
-    keyNative =
-        (unsigned char *)((*env)->GetPrimitiveArrayCritical(env, key, &isCopy));
-    if (NULL == inputNative || NULL == keyNative) {
+    if (NULL == inputNative) {
 #ifdef DEBUG_HMAC_DETAIL
         if (debug) {
-            if (NULL == inputNative) {
-                gslogMessage("DETAIL_HMAC FAILURE to allocate inputNative");
-            }
-            if (NULL == keyNative) {
-                gslogMessage("DETAIL_HMAC FAILURE to allocate keyNative");
-            }
+            gslogMessage("DETAIL_HMAC FAILURE to allocate inputNative");
         }
 #endif
         throwOCKException(env, 0, "GetPrimitiveArrayCritical failed");
     } else {
-        result =
-            HMAC_update_internal(ockCtx, ockHMAC, keyNative, keyLength,
-                                 inputNative + inputOffset, inputLen, needInit);
-    }
-    if (inputNative != NULL) {
-        (*env)->ReleasePrimitiveArrayCritical(env, input, inputNative, 0);
-    }
-    if (NULL != keyNative) {
-        (*env)->ReleasePrimitiveArrayCritical(env, key, keyNative, 0);
+        result = HMAC_update_internal(ockCtx, ockHMAC,
+                                      inputNative + inputOffset, inputLen);
+        (*env)->ReleasePrimitiveArrayCritical(env, input, inputNative,
+                                              JNI_ABORT);
     }
 
     if (debug) {
@@ -396,9 +411,12 @@ Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_HMAC_1update(
     return result;
 }
 
+/*
+ * Finishes the MAC and restores the keyed state, so that the context is
+ * ready for the next MAC with the same key.
+ */
 JNIEXPORT int HMAC_doFinal_internal(ICC_CTX *ockCtx, OCKHMAC *ockHMAC,
-                                    unsigned char *keyNative, int keySize,
-                                    unsigned char *hmac, bool needInit) {
+                                    unsigned char *hmac) {
     static const char *functionName = "NativeInterface.HMAC_doFinal_internal";
 
     unsigned int hmacLen = 0;
@@ -409,21 +427,12 @@ JNIEXPORT int HMAC_doFinal_internal(ICC_CTX *ockCtx, OCKHMAC *ockHMAC,
         gslogFunctionEntry(functionName);
     }
 
-    if ((ockHMAC == NULL) || (keyNative == NULL) || (hmac == NULL)) {
+    if ((ockHMAC == NULL) || (hmac == NULL)) {
         if (debug) {
             gslogFunctionExit(functionName);
         }
         return FAIL_HMAC_INTERNAL_DOFINAL;
     }
-    if (needInit == JNI_TRUE) {
-        result = HMAC_init_internal(ockCtx, ockHMAC, keyNative, keySize);
-        if (HMAC_INTERNAL_SUCCESS != result) {
-            if (debug) {
-                gslogFunctionExit(functionName);
-            }
-            return result;
-        }
-    }
     if (ockHMAC->hmacCtx == NULL) {
         result = FAIL_HMAC_INTERNAL_DOFINAL;
     } else {
@@ -438,6 +447,8 @@ JNIEXPORT int HMAC_doFinal_internal(ICC_CTX *ockCtx, OCKHMAC *ockHMAC,
                              rc);
             }
 #endif
+        } else {
+            result = HMAC_reset_internal(ockCtx, ockHMAC);
         }
     }
     if (debug) {
@@ -448,19 +459,17 @@ JNIEXPORT int HMAC_doFinal_internal(ICC_CTX *ockCtx, OCKHMAC *ockHMAC,
 /*
  * Class:     com_ibm_crypto_plus_provider_ock_NativeOCKImplementation
  * Method:    HMAC_doFinal
- * Signature: (JJ)[B
+ * Signature: (JJ[B)I
  */
 JNIEXPORT jint JNICALL
 Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_HMAC_1doFinal(
     JNIEnv *env, jclass thisObj, jlong ockContextId, jlong hmacId,
-    jbyteArray key, jint keyLength, jbyteArray hmac, jboolean needInit) {
+    jbyteArray hmac) {
     static const char *functionName = "NativeInterface.HMAC_doFinal";
 
     ICC_CTX *ockCtx  = (ICC_CTX *)((intptr_t)ockContextId);
     OCKHMAC *ockHMAC = (OCKHMAC *)((intptr_t)hmacId);
 
-    unsigned char *keyNative = NULL;
-
     jboolean       isCopy     = 0;
     unsigned char *hmacNative = NULL;
 
@@ -470,28 +479,13 @@ Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_HMAC_1doFinal(
         gslogFunctionEntry(functionName);
     }
 
-    if ((ockHMAC == NULL) || (key == NULL) || (keyLength <= 0) ||
-        (hmac == NULL)) {
+    if ((ockHMAC == NULL) || (hmac == NULL)) {
         throwOCKException(env, 0, "The specified parameters are incorrect.");
         if (debug) {
             gslogFunctionExit(functionName);
         }
         return FAIL_HMAC_INTERNAL_DOFINAL;
     }
-    keyNative =
-        (unsigned char *)((*env)->GetPrimitiveArrayCritical(env, key, &isCopy));
-    if (NULL == keyNative) {
-#ifdef DEBUG_HMAC_DETAIL
-        if (debug) {
-            gslogMessage("DETAIL_HMAC FAILURE to allocate keyNative");
-        }
-#endif
-        throwOCKException(env, 0, "NULL from GetPrimitiveArrayCritical!");
-        if (debug) {
-            gslogFunctionExit(functionName);
-        }
-        return FAIL_HMAC_INTERNAL_DOFINAL;
-    }
 
     hmacNative = (unsigned char *)((*env)->GetPrimitiveArrayCritical(env, hmac,
                                                                      &isCopy));
@@ -503,13 +497,7 @@ Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_HMAC_1doFinal(
 #endif
         throwOCKException(env, 0, "NULL from GetPrimitiveArrayCritical");
     } else {
-        result = HMAC_doFinal_internal(ockCtx, ockHMAC, keyNative, keyLength,
-                                       hmacNative, needInit);
-    }
-    if (keyNative != NULL) {
-        (*env)->ReleasePrimitiveArrayCritical(env, key, keyNative, 0);
-    }
-    if (hmacNative != NULL) {
+        result = HMAC_doFinal_internal(ockCtx, ockHMAC, hmacNative);
         (*env)->ReleasePrimitiveArrayCritical(env, hmac, hmacNative, 0);
     }
 
@@ -520,6 +508,41 @@ Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_HMAC_1doFinal(
     return result;
 }
 
+/*
+ * Class:     com_ibm_crypto_plus_provider_ock_NativeOCKImplementation
+ * Method:    HMAC_reset
+ * Signature: (JJ)I
+ */
+JNIEXPORT jint JNICALL
+Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_HMAC_1reset(
+    JNIEnv *env, jclass thisObj, jlong ockContextId, jlong hmacId) {
+    static const char *functionName = "NativeInterface.HMAC_reset";
+
+    ICC_CTX *ockCtx  = (ICC_CTX *)((intptr_t)ockContextId);
+    OCKHMAC *ockHMAC = (OCKHMAC *)((intptr_t)hmacId);
+    int      result  = HMAC_INTERNAL_SUCCESS;
+
+    if (debug) {
+        gslogFunctionEntry(functionName);
+    }
+
+    if (ockHMAC == NULL) {
+        throwOCKException(env, 0,
+                          "The specified HMAC Key identifier is incorrect.");
+        if (debug) {
+            gslogFunctionExit(functionName);
+        }
+        return FAIL_HMAC_INTERNAL_INIT;
+    }
+
+    result = HMAC_reset_internal(ockCtx, ockHMAC);
+
+    if (debug) {
+        gslogFunctionExit(functionName);
+    }
+    return result;
+}
+
 //============================================================================
 /*
  * Class:     com_ibm_crypto_plus_provider_ock_NativeOCKImplementation
@@ -612,3 +635,204 @@ Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_HMAC_1delete(
         gslogFunctionExit(functionName);
     }
 }
+
+//============================================================================
+/*
+ * Computes the TLS 1.2 PRF (RFC 5246, section 5) in one call:
+ *
+ *   P_hash(secret, label + seed) = HMAC_hash(secret, A(1) + label + seed) +
+ *                                  HMAC_hash(secret, A(2) + label + seed) + ...
+ *   A(0) = label + seed
+ *   A(i) = HMAC_hash(secret, A(i-1))
+ *
+ * The output array is filled with the first output.length bytes of P_hash.
+ *
+ * Class:     com_ibm_crypto_plus_provider_ock_NativeOCKImplementation
+ * Method:    TLS12_PRF
+ * Signature: (JLjava/lang/String;[B[B[B[B)V
+ */
+JNIEXPORT void JNICALL
+Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_TLS12_1PRF(
+    JNIEnv *env, jclass thisObj, jlong ockContextId, jstring digestAlgo,
+    jbyteArray secret, jbyteArray label, jbyteArray seed, jbyteArray output) {
+    static const char *functionName = "NativeInterface.TLS12_PRF";
+
+    ICC_CTX          *ockCtx          = (ICC_CTX *)((intptr_t)ockContextId);
+    ICC_HMAC_CTX     *hmacCtx         = NULL;
+    const ICC_EVP_MD *md              = NULL;
+    const char       *digestAlgoChars = NULL;
+    unsigned char    *secretNative    = NULL;
+    unsigned char    *labelNative     = NULL;
+    unsigned char    *seedNative      = NULL;
+    unsigned char    *outputNative    = NULL;
+    jboolean          isCopy          = 0;
+    unsigned char     aBytes[64];
+    unsigned char     block[64];
+    unsigned int      hmacLen         = 0;
+    int               mdSize          = 0;
+    int               secretLen       = 0;
+    int               labelLen        = 0;
+    int               seedLen         = 0;
+    int               outputLen       = 0;
+    int               offset          = 0;
+    int               count           = 0;
+    int               first           = 1;
+    int               rc              = ICC_OSSL_SUCCESS;
+    const char       *errorMsg        = NULL;
+
+    if (debug) {
+        gslogFunctionEntry(functionName);
+    }
+
+    if ((digestAlgo == NULL) || (secret == NULL) || (label == NULL) ||
+        (seed == NULL) || (output == NULL)) {
+        throwOCKException(env, 0, "The specified parameters are incorrect.");
+        if (debug) {
+            gslogFunctionExit(functionName);
+        }
+        return;
+    }
+
+    if (!(digestAlgoChars = (*env)->GetStringUTFChars(env, digestAlgo, NULL))) {
+        throwOCKException(env, 0, "GetStringUTFChars() failed");
+        if (debug) {
+            gslogFunctionExit(functionName);
+        }
+        return;
+    }
+    md = ICC_EVP_get_digestbyname(ockCtx, digestAlgoChars);
+    (*env)->ReleaseStringUTFChars(env, digestAlgo, digestAlgoChars);
+    if (NULL == md) {
+        ockCheckStatus(ockCtx);
+        throwOCKException(env, 0, "ICC_EVP_get_digestbyname failed");
+        if (debug) {
+            gslogFunctionExit(functionName);
+        }
+        return;
+    }
+
+    mdSize = ICC_EVP_MD_size(ockCtx, md);
+    if ((mdSize <= 0) || (mdSize > (int)sizeof(aBytes))) {
+        throwOCKException(env, 0, "Unsupported PRF digest size");
+        if (debug) {
+            gslogFunctionExit(functionName);
+        }
+        return;
+    }
+
+    hmacCtx = ICC_HMAC_CTX_new(ockCtx);
+    if (NULL == hmacCtx) {
+        ockCheckStatus(ockCtx);
+        throwOCKException(env, 0, "ICC_HMAC_CTX_new failed");
+        if (debug) {
+            gslogFunctionExit(functionName);
+        }
+        return;
+    }
+
+    secretLen = (*env)->GetArrayLength(env, secret);
+    labelLen  = (*env)->GetArrayLength(env, label);
+    seedLen   = (*env)->GetArrayLength(env, seed);
+    outputLen = (*env)->GetArrayLength(env, output);
+
+    secretNative = (unsigned char *)((*env)->GetPrimitiveArrayCritical(
+        env, secret, &isCopy));
+    labelNative = (unsigned char *)((*env)->GetPrimitiveArrayCritical(
+        env, label, &isCopy));
+    seedNative = (unsigned char *)((*env)->GetPrimitiveArrayCritical(
+        env, seed, &isCopy));
+    outputNative = (unsigned char *)((*env)->GetPrimitiveArrayCritical(
+        env, output, &isCopy));
+
+    if ((NULL == secretNative) || (NULL == labelNative) ||
+        (NULL == seedNative) || (NULL == outputNative)) {
+        errorMsg = "NULL from GetPrimitiveArrayCritical!";
+    } else {
+        // The secret is processed once. Every HMAC below starts again from the
+        // inner and outer pad states it left, by passing a NULL key.
+        rc = ICC_HMAC_Init(ockCtx, hmacCtx, secretNative, secretLen, md);
+        if (ICC_OSSL_SUCCESS != rc) {
+            ockCheckStatus(ockCtx);
+            errorMsg = "TLS PRF HMAC computation failed";
+        }
+        while ((offset < outputLen) && (NULL == errorMsg)) {
+            // A(i) = HMAC_hash(secret, A(i-1))
+            if (!first) {
+                rc = ICC_HMAC_Init(ockCtx, hmacCtx, NULL, 0, md);
+            }
+            if (ICC_OSSL_SUCCESS == rc) {
+                if (first) {
+                    rc = ICC_HMAC_Update(ockCtx, hmacCtx, labelNative,
+                                         labelLen);
+                    if (ICC_OSSL_SUCCESS == rc) {
+                        rc = ICC_HMAC_Update(ockCtx, hmacCtx, seedNative,
+                                             seedLen);
+                    }
+                    first = 0;
+                } else {
+                    rc = ICC_HMAC_Update(ockCtx, hmacCtx, aBytes, mdSize);
+                }
+            }
+            if (ICC_OSSL_SUCCESS == rc) {
+                rc = ICC_HMAC_Final(ockCtx, hmacCtx, aBytes, &hmacLen);
+            }
+
+            // HMAC_hash(secret, A(i) + label + seed)
+            if (ICC_OSSL_SUCCESS == rc) {
+                rc = ICC_HMAC_Init(ockCtx, hmacCtx, NULL, 0, md);
+            }
+            if (ICC_OSSL_SUCCESS == rc) {
+                rc = ICC_HMAC_Update(ockCtx, hmacCtx, aBytes, mdSize);
+            }
+            if (ICC_OSSL_SUCCESS == rc) {
+                rc = ICC_HMAC_Update(ockCtx, hmacCtx, labelNative, labelLen);
+            }
+            if (ICC_OSSL_SUCCESS == rc) {
+                rc = ICC_HMAC_Update(ockCtx, hmacCtx, seedNative, seedLen);
+            }
+            if (ICC_OSSL_SUCCESS == rc) {
+                rc = ICC_HMAC_Final(ockCtx, hmacCtx, block, &hmacLen);
+            }
+
+            if (ICC_OSSL_SUCCESS != rc) {
+                ockCheckStatus(ockCtx);
+                errorMsg = "TLS PRF HMAC computation failed";
+            } else {
+                count = outputLen - offset;
+                if (count > mdSize) {
+                    count = mdSize;
+                }
+                memcpy(outputNative + offset, block, count);
+                offset += count;
+            }
+        }
+    }
+
+    memset(aBytes, 0, sizeof(aBytes));
+    memset(block, 0, sizeof(block));
+
+    if (NULL != outputNative) {
+        (*env)->ReleasePrimitiveArrayCritical(env, output, outputNative, 0);
+    }
+    if (NULL != seedNative) {
+        (*env)->ReleasePrimitiveArrayCritical(env, seed, seedNative,
+                                              JNI_ABORT);
+    }
+    if (NULL != labelNative) {
+        (*env)->ReleasePrimitiveArrayCritical(env, label, labelNative,
+                                              JNI_ABORT);
+    }
+    if (NULL != secretNative) {
+        (*env)->ReleasePrimitiveArrayCritical(env, secret, secretNative,
+                                              JNI_ABORT);
+    }
+    ICC_HMAC_CTX_free(ockCtx, hmacCtx);
+
+    if (NULL != errorMsg) {
+        throwOCKException(env, 0, errorMsg);
+    }
+
+    if (debug) {
+        gslogFunctionExit(functionName);
+    }
+}
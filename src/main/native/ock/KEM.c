@@ -217,3 +217,97 @@ Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_KEM_1decapsulate(
 
     return retRndKeyBytes;
 }
+
+//============================================================================
+/*
+ * Class:     com_ibm_crypto_plus_provider_ock_NativeOCKImplementation
+ * Method:    KEM_encapsulateBatch
+ * Signature: (JJI[B[B)V
+ *
+ * Performs count encapsulations with the same public key, writing the
+ * encapsulated keys and the shared secrets one after the other into
+ * wrappedKeys and randomKeys.
+ */
+JNIEXPORT void JNICALL
+Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_KEM_1encapsulateBatch(
+    JNIEnv *env, jclass thisObj, jlong ockContextId, jlong ockPKeyId,
+    jint count, jbyteArray wrappedKeys, jbyteArray randomKeys) {
+    ICC_CTX          *ockCtx          = (ICC_CTX *)((intptr_t)ockContextId);
+    ICC_EVP_PKEY_CTX *evp_pk          = NULL;
+    ICC_EVP_PKEY     *pa              = (ICC_EVP_PKEY *)((intptr_t)ockPKeyId);
+    size_t            wrappedkeylen   = 0;
+    size_t            genkeylen       = 0;
+    unsigned char    *wrappedKeyLocal = NULL;
+    unsigned char    *genkeylocal     = NULL;
+    int               rc              = -1;
+    jint              i               = 0;
+
+    if (count <= 0) {
+        throwOCKException(env, 0, "The batch size is not valid");
+        return;
+    }
+
+    evp_pk = ICC_EVP_PKEY_CTX_new_from_pkey(ockCtx, NULL, pa, NULL);
+    if (!evp_pk) {
+        throwOCKException(env, 0, "ICC_EVP_PKEY_CTX_new_from_pkey failed");
+        return;
+    }
+
+    rc = ICC_EVP_PKEY_encapsulate_init(ockCtx, evp_pk, NULL);
+    if (rc != ICC_OSSL_SUCCESS) {
+        throwOCKException(env, 0, "ICC_EVP_PKEY_encapsulate_init failed");
+        goto cleanup;
+    }
+
+    rc = ICC_EVP_PKEY_encapsulate(ockCtx, evp_pk, NULL, &wrappedkeylen, NULL,
+                                  &genkeylen);
+    if (rc != ICC_OSSL_SUCCESS) {
+        throwOCKException(env, 0,
+                          "ICC_EVP_PKEY_encapsulate failed getting lengths");
+        goto cleanup;
+    }
+
+    if (((jsize)(wrappedkeylen * count) != (*env)->GetArrayLength(env, wrappedKeys)) ||
+        ((jsize)(genkeylen * count) != (*env)->GetArrayLength(env, randomKeys))) {
+        throwOCKException(env, 0, "The output buffers have the wrong length");
+        goto cleanup;
+    }
+
+    wrappedKeyLocal = (unsigned char *)malloc(wrappedkeylen * count);
+    genkeylocal     = (unsigned char *)malloc(genkeylen * count);
+    if ((wrappedKeyLocal == NULL) || (genkeylocal == NULL)) {
+        throwOCKException(env, 0, "malloc failed");
+        goto cleanup;
+    }
+
+    for (i = 0; i < count; i++) {
+        size_t wrappedlen = wrappedkeylen;
+        size_t genlen     = genkeylen;
+
+        rc = ICC_EVP_PKEY_encapsulate(ockCtx, evp_pk,
+                                      wrappedKeyLocal + (i * wrappedkeylen),
+                                      &wrappedlen,
+                                      genkeylocal + (i * genkeylen), &genlen);
+        if (rc != ICC_OSSL_SUCCESS) {
+            throwOCKException(env, 0, "ICC_EVP_PKEY_encapsulate failed");
+            goto cleanup;
+        }
+    }
+
+    // Copy the results into the Java arrays without pinning them while the
+    // encapsulations run.
+    (*env)->SetByteArrayRegion(env, wrappedKeys, 0, (jsize)(wrappedkeylen * count),
+                               (jbyte *)wrappedKeyLocal);
+    (*env)->SetByteArrayRegion(env, randomKeys, 0, (jsize)(genkeylen * count),
+                               (jbyte *)genkeylocal);
+
+cleanup:
+    if (wrappedKeyLocal != NULL) {
+        free(wrappedKeyLocal);
+    }
+    if (genkeylocal != NULL) {
+        memset(genkeylocal, 0, genkeylen * count);
+        free(genkeylocal);
+    }
+    ICC_EVP_PKEY_CTX_free(ockCtx, evp_pk);
+}
@@ -649,6 +649,58 @@ Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_RSAPSS_1releaseCon
     }
 }
 
+//============================================================================
+/*
+ * Class:     com_ibm_crypto_plus_provider_ock_NativeOCKImplementation
+ * Method:    RSAPSS_clearContext
+ * Signature: (JJ)V
+ *
+ * Drops the key a context was initialized with, together with the key context
+ * that the digest context holds for it, so that the context can be pooled.
+ */
+
+JNIEXPORT void JNICALL
+Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_RSAPSS_1clearContext(
+    JNIEnv *env, jclass thisObj, jlong ockContextId, jlong ockRsaPssId) {
+    static const char *functionName = "NativeInterface.RSAPSS_clearContext";
+
+    ICC_CTX   *ockCtx    = (ICC_CTX *)((intptr_t)ockContextId);
+    OCKRsaPss *ockRsaPss = (OCKRsaPss *)((intptr_t)ockRsaPssId);
+    int        rc        = ICC_OSSL_SUCCESS;
+
+    if (debug) {
+        gslogFunctionEntry(functionName);
+    }
+    if (ockRsaPss == NULL) {
+        throwOCKException(env, 0, "OCKRsaPss context is not valid");
+        if (debug) {
+            gslogFunctionExit(functionName);
+        }
+        return;
+    }
+
+    // The key context is owned by the digest context and is freed with it.
+    ockRsaPss->evpPkeyCtx = NULL;
+    ockRsaPss->ockPKey    = NULL;
+
+    if ((ockRsaPss->ockDigest != NULL) &&
+        (ockRsaPss->ockDigest->mdCtx != NULL)) {
+        rc = ICC_EVP_MD_CTX_cleanup(ockCtx, ockRsaPss->ockDigest->mdCtx);
+        ICC_EVP_MD_CTX_init(ockCtx, ockRsaPss->ockDigest->mdCtx);
+        if (ICC_OSSL_SUCCESS != rc) {
+#ifdef DEBUG_RSAPSS_DETAIL
+            gslogMessage("DETAIL_RSAPSS FAILURE ICC_EVP_MD_CTX_cleanup failed");
+#endif
+            ockCheckStatus(ockCtx);
+            throwOCKException(env, 0, "ICC_EVP_MD_CTX_cleanup failed");
+        }
+    }
+
+    if (debug) {
+        gslogFunctionExit(functionName);
+    }
+}
+
 //============================================================================
 /*
  * Class:     com_ibm_crypto_plus_provider_ock_NativeOCKImplementation
@@ -284,3 +284,232 @@ Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_SIGNATUREEdDSA_1ve
 
     return verified;
 }
+
+/*
+ * Selects the prehash instance (Ed25519ph or Ed448ph) on the signature
+ * context. Nothing is done for pure EdDSA, where the instance is NULL.
+ * Returns 0 and throws an exception on failure.
+ */
+static int setEdDSAInstance(JNIEnv *env, ICC_CTX *ockCtx,
+                            ICC_EVP_PKEY_CTX *pctx, jstring prehashInstance) {
+    const char *instanceChars = NULL;
+    int         rc            = 0;
+
+    if (prehashInstance == NULL) {
+        return 1;
+    }
+    instanceChars = (*env)->GetStringUTFChars(env, prehashInstance, NULL);
+    if (instanceChars == NULL) {
+        throwOCKException(env, 0, "GetStringUTFChars() failed");
+        return 0;
+    }
+#ifdef __MVS__
+#pragma convert("ISO8859-1")
+#endif
+    rc = ICC_EVP_PKEY_CTX_ctrl_str(ockCtx, pctx, "instance", instanceChars);
+#ifdef __MVS__
+#pragma convert(pop)
+#endif
+    (*env)->ReleaseStringUTFChars(env, prehashInstance, instanceChars);
+    if (rc <= 0) {
+#ifdef DEBUG_SIGNATURE_EDDSA_DETAIL
+        if (debug) {
+            gslogMessage(
+                "DETAIL_SIGNATURE_EDDSA FAILURE ICC_EVP_PKEY_CTX_ctrl_str "
+                "(instance) rc=%d",
+                rc);
+        }
+#endif
+        ockCheckStatus(ockCtx);
+        throwOCKException(env, 0,
+                          "ICC_EVP_PKEY_CTX_ctrl_str() failed to set instance");
+        return 0;
+    }
+    return 1;
+}
+
+/*
+ * Class:     com_ibm_crypto_plus_provider_ock_NativeOCKImplementation
+ * Method:    SIGNATUREEdDSA_signBuffer
+ * Signature: (JJLjava/lang/String;JI)[B
+ */
+JNIEXPORT jbyteArray JNICALL
+Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_SIGNATUREEdDSA_1signBuffer(
+    JNIEnv *env, jclass thisObj, jlong ockContextId, jlong ockPKeyId,
+    jstring prehashInstance, jlong dataBuffer, jint dataLength) {
+    static const char *functionName   = "SIGNATUREEdDSA_signBuffer";
+    ICC_CTX           *ockCtx         = (ICC_CTX *)((intptr_t)ockContextId);
+    ICC_EVP_PKEY      *pkey           = (ICC_EVP_PKEY *)((intptr_t)ockPKeyId);
+    unsigned char     *data           = (unsigned char *)((intptr_t)dataBuffer);
+    ICC_EVP_PKEY_CTX  *pctx           = NULL;
+    ICC_EVP_MD_CTX    *md_ctx         = NULL;
+    unsigned char     *sigBytesLocal  = NULL;
+    jbyteArray         sigBytes       = NULL;
+    jbyteArray         retSigBytes    = NULL;
+    size_t             outLen         = 0;
+    int                rc             = ICC_OSSL_SUCCESS;
+
+    if (debug) {
+        gslogFunctionEntry(functionName);
+    }
+    if ((pkey == NULL) || (data == NULL) || (dataLength < 0)) {
+        throwOCKException(
+            env, 0,
+            "EdDSA signature failed. The input arguments are incorrect.");
+        if (debug) {
+            gslogFunctionExit(functionName);
+        }
+        return retSigBytes;
+    }
+#ifdef DEBUG_SIGNATURE_EDDSA_DETAIL
+    if (debug) {
+        gslogMessage("DETAIL_SIGNATURE_EDDSA dataLength=%d", (int)dataLength);
+    }
+#endif
+    md_ctx = ICC_EVP_MD_CTX_new(ockCtx);
+    if (NULL == md_ctx) {
+        ockCheckStatus(ockCtx);
+        throwOCKException(env, 0, "ICC_EVP_MD_CTX_new failed");
+        goto cleanup;
+    }
+    rc = ICC_EVP_DigestSignInit(ockCtx, md_ctx, &(pctx), NULL, NULL, pkey);
+    if (ICC_OSSL_SUCCESS != rc) {
+        ockCheckStatus(ockCtx);
+        throwOCKException(env, 0, "ICC_EVP_DigestSignInit failed");
+        goto cleanup;
+    }
+    if (!setEdDSAInstance(env, ockCtx, pctx, prehashInstance)) {
+        goto cleanup;
+    }
+    rc = ICC_EVP_DigestSign(ockCtx, md_ctx, NULL, &outLen, data,
+                            (size_t)dataLength);
+    if (ICC_OSSL_SUCCESS != rc) {
+        ockCheckStatus(ockCtx);
+        throwOCKException(env, 0, "ICC_EVP_DigestSign failed");
+        goto cleanup;
+    }
+    sigBytesLocal = malloc(outLen);
+    if (sigBytesLocal == NULL) {
+        throwOCKException(env, 0, "malloc failed");
+        goto cleanup;
+    }
+    rc = ICC_EVP_DigestSign(ockCtx, md_ctx, sigBytesLocal, &outLen, data,
+                            (size_t)dataLength);
+    if (ICC_OSSL_SUCCESS != rc) {
+        ockCheckStatus(ockCtx);
+        throwOCKException(env, 0, "ICC_EVP_DigestSign failed");
+        goto cleanup;
+    }
+    sigBytes = (*env)->NewByteArray(env, (jsize)outLen);
+    if (sigBytes == NULL) {
+        throwOCKException(env, 0, "NewByteArray failed");
+        goto cleanup;
+    }
+    (*env)->SetByteArrayRegion(env, sigBytes, 0, (jsize)outLen,
+                               (const jbyte *)sigBytesLocal);
+    retSigBytes = sigBytes;
+
+cleanup:
+    if (md_ctx != NULL) {
+        ICC_EVP_MD_CTX_free(ockCtx, md_ctx);
+        md_ctx = NULL;
+    }
+
+    FREE_N_NULL(sigBytesLocal);
+
+    if ((sigBytes != NULL) && (retSigBytes == NULL)) {
+        (*env)->DeleteLocalRef(env, sigBytes);
+    }
+
+    if (debug) {
+        gslogFunctionExit(functionName);
+    }
+    return retSigBytes;
+}
+
+/*
+ * Class:     com_ibm_crypto_plus_provider_ock_NativeOCKImplementation
+ * Method:    SIGNATUREEdDSA_verifyBuffer
+ * Signature: (JJLjava/lang/String;[BJI)Z
+ */
+JNIEXPORT jboolean JNICALL
+Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_SIGNATUREEdDSA_1verifyBuffer(
+    JNIEnv *env, jclass thisObj, jlong ockContextId, jlong ockPKeyId,
+    jstring prehashInstance, jbyteArray sigBytes, jlong dataBuffer,
+    jint dataLength) {
+    static const char *functionName   = "SIGNATUREEdDSA_verifyBuffer";
+    ICC_CTX           *ockCtx         = (ICC_CTX *)((intptr_t)ockContextId);
+    ICC_EVP_PKEY      *pkey           = (ICC_EVP_PKEY *)((intptr_t)ockPKeyId);
+    unsigned char     *data           = (unsigned char *)((intptr_t)dataBuffer);
+    ICC_EVP_PKEY_CTX  *pctx           = NULL;
+    ICC_EVP_MD_CTX    *md_ctx         = NULL;
+    unsigned char     *sigBytesNative = NULL;
+    jboolean           isCopy         = 0;
+    jboolean           verified       = 0;
+    jint               size           = 0;
+    int                rc             = ICC_OSSL_SUCCESS;
+
+    if (debug) {
+        gslogFunctionEntry(functionName);
+    }
+    if ((pkey == NULL) || (sigBytes == NULL) || (data == NULL) ||
+        (dataLength < 0)) {
+        throwOCKException(env, 0,
+                          "EdDSA signature verify failed. The input "
+                          "arguments are incorrect.");
+        if (debug) {
+            gslogFunctionExit(functionName);
+        }
+        return verified;
+    }
+    md_ctx = ICC_EVP_MD_CTX_new(ockCtx);
+    if (NULL == md_ctx) {
+        ockCheckStatus(ockCtx);
+        throwOCKException(env, 0, "ICC_EVP_MD_CTX_new failed");
+        goto cleanup;
+    }
+    rc = ICC_EVP_DigestVerifyInit(ockCtx, md_ctx, &(pctx), NULL, NULL, pkey);
+    if (ICC_OSSL_SUCCESS != rc) {
+        ockCheckStatus(ockCtx);
+        throwOCKException(env, 0, "ICC_EVP_DigestVerifyInit failed");
+        goto cleanup;
+    }
+    if (!setEdDSAInstance(env, ockCtx, pctx, prehashInstance)) {
+        goto cleanup;
+    }
+    sigBytesNative = (unsigned char *)((*env)->GetPrimitiveArrayCritical(
+        env, sigBytes, &isCopy));
+    if (sigBytesNative == NULL) {
+        throwOCKException(env, 0, "GetPrimitiveArrayCritical failed");
+        goto cleanup;
+    }
+    size = (*env)->GetArrayLength(env, sigBytes);
+    rc   = ICC_EVP_DigestVerify(ockCtx, md_ctx, sigBytesNative, (size_t)size,
+                                data, (size_t)dataLength);
+    if (ICC_OSSL_SUCCESS == rc) {
+        verified = 1;
+    } else {
+#ifdef DEBUG_SIGNATURE_EDDSA_DETAIL
+        if (debug) {
+            gslogMessage("DETAIL_SIGNATURE_EDDSA FAILURE ICC_EVP_DigestVerify");
+        }
+#endif
+        ockCheckStatus(ockCtx);
+    }
+
+cleanup:
+    if (sigBytesNative != NULL) {
+        (*env)->ReleasePrimitiveArrayCritical(env, sigBytes, sigBytesNative,
+                                              0);
+    }
+
+    if (md_ctx != NULL) {
+        ICC_EVP_MD_CTX_free(ockCtx, md_ctx);
+        md_ctx = NULL;
+    }
+
+    if (debug) {
+        gslogFunctionExit(functionName);
+    }
+    return verified;
+}
@@ -230,3 +230,360 @@ Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_PQC_1SIGNATURE_1ve
 
     return verified;
 }
+
+/* Length of tr and of the message representative mu in FIPS 204 */
+#define MLDSA_TR_LEN 64
+#define MLDSA_MU_LEN 64
+
+/*
+ * Class:     com_ibm_crypto_plus_provider_ock_NativeOCKImplementation
+ * Method:    PQC_MU_create
+ * Signature: (JJ[B)J
+ *
+ * Starts the computation of mu = SHAKE256(tr || prefix || M, 64) as defined
+ * in FIPS 204, where tr = SHAKE256(pk, 64). The message M is added with
+ * PQC_MU_update.
+ */
+JNIEXPORT jlong JNICALL
+Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_PQC_1MU_1create(
+    JNIEnv *env, jclass thisObj, jlong ockContextId, jlong ockPKeyId,
+    jbyteArray prefix) {
+    static const char *functionName = "PQC_MU_create";
+    ICC_CTX           *ockCtx       = (ICC_CTX *)((intptr_t)ockContextId);
+    ICC_EVP_PKEY      *ockPKey      = (ICC_EVP_PKEY *)((intptr_t)ockPKeyId);
+    const ICC_EVP_MD  *shake        = NULL;
+    ICC_EVP_MD_CTX    *trCtx        = NULL;
+    ICC_EVP_MD_CTX    *muCtx        = NULL;
+    unsigned char     *pubKeyBytes  = NULL;
+    unsigned char     *pBytes       = NULL;
+    unsigned char      tr[MLDSA_TR_LEN];
+    jbyte             *prefixNative = NULL;
+    jint               prefixLen    = 0;
+    int                pubKeyLen    = 0;
+    jlong              muId         = 0;
+
+    if (debug) {
+        gslogFunctionEntry(functionName);
+    }
+    if ((ockPKey == NULL) || (prefix == NULL)) {
+        throwOCKException(env, 0,
+                          "ML-DSA mu creation failed. The input arguments "
+                          "are incorrect.");
+        goto cleanup;
+    }
+
+#ifdef __MVS__
+#pragma convert("ISO8859-1")
+#endif
+    shake = ICC_EVP_get_digestbyname(ockCtx, "SHAKE256");
+#ifdef __MVS__
+#pragma convert(pop)
+#endif
+    if (shake == NULL) {
+        ockCheckStatus(ockCtx);
+        throwOCKException(env, 0, "ICC_EVP_get_digestbyname failed");
+        goto cleanup;
+    }
+
+    /* tr is derived from the encoded public key, which is also available
+     * from a private key. */
+    pubKeyLen = ICC_i2d_PublicKey(ockCtx, ockPKey, NULL);
+    if (pubKeyLen <= 0) {
+        ockCheckStatus(ockCtx);
+        throwOCKException(env, 0, "ICC_i2d_PublicKey failed");
+        goto cleanup;
+    }
+    pubKeyBytes = (unsigned char *)malloc(pubKeyLen);
+    if (pubKeyBytes == NULL) {
+        throwOCKException(env, 0, "malloc failed");
+        goto cleanup;
+    }
+    pBytes    = pubKeyBytes;
+    pubKeyLen = ICC_i2d_PublicKey(ockCtx, ockPKey, &pBytes);
+    if (pubKeyLen <= 0) {
+        ockCheckStatus(ockCtx);
+        throwOCKException(env, 0, "ICC_i2d_PublicKey failed");
+        goto cleanup;
+    }
+
+    trCtx = ICC_EVP_MD_CTX_new(ockCtx);
+    if ((trCtx == NULL) ||
+        (ICC_OSSL_SUCCESS != ICC_EVP_DigestInit(ockCtx, trCtx, shake)) ||
+        (ICC_OSSL_SUCCESS !=
+         ICC_EVP_DigestUpdate(ockCtx, trCtx, pubKeyBytes, pubKeyLen)) ||
+        (ICC_OSSL_SUCCESS !=
+         ICC_EVP_DigestFinalXOF(ockCtx, trCtx, tr, MLDSA_TR_LEN))) {
+        ockCheckStatus(ockCtx);
+        throwOCKException(env, 0, "Computing ML-DSA tr failed");
+        goto cleanup;
+    }
+
+    prefixLen = (*env)->GetArrayLength(env, prefix);
+    prefixNative = (*env)->GetByteArrayElements(env, prefix, NULL);
+    if (prefixNative == NULL) {
+        throwOCKException(env, 0, "GetByteArrayElements failed");
+        goto cleanup;
+    }
+
+    muCtx = ICC_EVP_MD_CTX_new(ockCtx);
+    if ((muCtx == NULL) ||
+        (ICC_OSSL_SUCCESS != ICC_EVP_DigestInit(ockCtx, muCtx, shake)) ||
+        (ICC_OSSL_SUCCESS !=
+         ICC_EVP_DigestUpdate(ockCtx, muCtx, tr, MLDSA_TR_LEN)) ||
+        (ICC_OSSL_SUCCESS != ICC_EVP_DigestUpdate(ockCtx, muCtx,
+                                                  (unsigned char *)prefixNative,
+                                                  prefixLen))) {
+        ockCheckStatus(ockCtx);
+        throwOCKException(env, 0, "Initializing ML-DSA mu failed");
+        goto cleanup;
+    }
+    muId  = (jlong)((intptr_t)muCtx);
+    muCtx = NULL;
+
+cleanup:
+    if (prefixNative != NULL) {
+        (*env)->ReleaseByteArrayElements(env, prefix, prefixNative, JNI_ABORT);
+    }
+    if (muCtx != NULL) {
+        ICC_EVP_MD_CTX_free(ockCtx, muCtx);
+    }
+    if (trCtx != NULL) {
+        ICC_EVP_MD_CTX_free(ockCtx, trCtx);
+    }
+    FREE_N_NULL(pubKeyBytes);
+    if (debug) {
+        gslogFunctionExit(functionName);
+    }
+    return muId;
+}
+
+/*
+ * Class:     com_ibm_crypto_plus_provider_ock_NativeOCKImplementation
+ * Method:    PQC_MU_update
+ * Signature: (JJ[BII)V
+ */
+JNIEXPORT void JNICALL
+Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_PQC_1MU_1update(
+    JNIEnv *env, jclass thisObj, jlong ockContextId, jlong muId,
+    jbyteArray input, jint offset, jint length) {
+    ICC_CTX        *ockCtx      = (ICC_CTX *)((intptr_t)ockContextId);
+    ICC_EVP_MD_CTX *muCtx       = (ICC_EVP_MD_CTX *)((intptr_t)muId);
+    unsigned char  *inputNative = NULL;
+    int             rc          = ICC_OSSL_SUCCESS;
+
+    if ((muCtx == NULL) || (input == NULL) || (offset < 0) || (length < 0)) {
+        throwOCKException(env, 0,
+                          "ML-DSA mu update failed. The input arguments are "
+                          "incorrect.");
+        return;
+    }
+
+    inputNative = (unsigned char *)((*env)->GetPrimitiveArrayCritical(
+        env, input, NULL));
+    if (inputNative == NULL) {
+        throwOCKException(env, 0, "GetPrimitiveArrayCritical failed");
+        return;
+    }
+    rc = ICC_EVP_DigestUpdate(ockCtx, muCtx, inputNative + offset, length);
+    (*env)->ReleasePrimitiveArrayCritical(env, input, inputNative, JNI_ABORT);
+    if (ICC_OSSL_SUCCESS != rc) {
+        ockCheckStatus(ockCtx);
+        throwOCKException(env, 0, "ICC_EVP_DigestUpdate failed");
+    }
+}
+
+/*
+ * Class:     com_ibm_crypto_plus_provider_ock_NativeOCKImplementation
+ * Method:    PQC_MU_delete
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL
+Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_PQC_1MU_1delete(
+    JNIEnv *env, jclass thisObj, jlong ockContextId, jlong muId) {
+    ICC_CTX        *ockCtx = (ICC_CTX *)((intptr_t)ockContextId);
+    ICC_EVP_MD_CTX *muCtx  = (ICC_EVP_MD_CTX *)((intptr_t)muId);
+
+    if (muCtx != NULL) {
+        ICC_EVP_MD_CTX_free(ockCtx, muCtx);
+    }
+}
+
+/*
+ * Finishes mu and prepares a signature context that takes mu instead of
+ * the message. Returns NULL and throws an exception on failure.
+ */
+static ICC_EVP_PKEY_CTX *initMuContext(JNIEnv *env, ICC_CTX *ockCtx,
+                                       ICC_EVP_PKEY *ockPKey,
+                                       ICC_EVP_MD_CTX *muCtx, int sign,
+                                       unsigned char *mu) {
+    ICC_EVP_PKEY_CTX *pctx = NULL;
+    int               rc   = ICC_OSSL_SUCCESS;
+
+    if (ICC_OSSL_SUCCESS !=
+        ICC_EVP_DigestFinalXOF(ockCtx, muCtx, mu, MLDSA_MU_LEN)) {
+        ockCheckStatus(ockCtx);
+        throwOCKException(env, 0, "ICC_EVP_DigestFinalXOF failed");
+        return NULL;
+    }
+
+    pctx = ICC_EVP_PKEY_CTX_new(ockCtx, ockPKey, NULL);
+    if (pctx == NULL) {
+        ockCheckStatus(ockCtx);
+        throwOCKException(env, 0, "ICC_EVP_PKEY_CTX_new failed");
+        return NULL;
+    }
+    rc = sign ? ICC_EVP_PKEY_sign_init(ockCtx, pctx)
+              : ICC_EVP_PKEY_verify_init(ockCtx, pctx);
+    if (ICC_OSSL_SUCCESS != rc) {
+        ockCheckStatus(ockCtx);
+        ICC_EVP_PKEY_CTX_free(ockCtx, pctx);
+        throwOCKException(env, 0, "ICC_EVP_PKEY init failed");
+        return NULL;
+    }
+#ifdef __MVS__
+#pragma convert("ISO8859-1")
+#endif
+    rc = ICC_EVP_PKEY_CTX_ctrl_str(ockCtx, pctx, "mu", "1");
+#ifdef __MVS__
+#pragma convert(pop)
+#endif
+    if (rc <= 0) {
+        ockCheckStatus(ockCtx);
+        ICC_EVP_PKEY_CTX_free(ockCtx, pctx);
+        throwOCKException(env, 0,
+                          "ICC_EVP_PKEY_CTX_ctrl_str() failed to set mu");
+        return NULL;
+    }
+    return pctx;
+}
+
+/*
+ * Class:     com_ibm_crypto_plus_provider_ock_NativeOCKImplementation
+ * Method:    PQC_SIGNATURE_signMu
+ * Signature: (JJJ)[B
+ */
+JNIEXPORT jbyteArray JNICALL
+Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_PQC_1SIGNATURE_1signMu(
+    JNIEnv *env, jclass thisObj, jlong ockContextId, jlong ockPKeyId,
+    jlong muId) {
+    static const char *functionName  = "PQC_SIGNATURE_signMu";
+    ICC_CTX           *ockCtx        = (ICC_CTX *)((intptr_t)ockContextId);
+    ICC_EVP_PKEY      *ockPKey       = (ICC_EVP_PKEY *)((intptr_t)ockPKeyId);
+    ICC_EVP_MD_CTX    *muCtx         = (ICC_EVP_MD_CTX *)((intptr_t)muId);
+    ICC_EVP_PKEY_CTX  *pctx          = NULL;
+    unsigned char      mu[MLDSA_MU_LEN];
+    unsigned char     *sigBytesLocal = NULL;
+    size_t             sigLen        = 0;
+    jbyteArray         sigBytes      = NULL;
+
+    if (debug) {
+        gslogFunctionEntry(functionName);
+    }
+    if ((ockPKey == NULL) || (muCtx == NULL)) {
+        throwOCKException(env, 0,
+                          "Signature sign failed. The specified Signature "
+                          "input parameters are incorrect.");
+        goto cleanup;
+    }
+
+    pctx = initMuContext(env, ockCtx, ockPKey, muCtx, 1, mu);
+    if (pctx == NULL) {
+        goto cleanup;
+    }
+    if ((ICC_OSSL_SUCCESS !=
+         ICC_EVP_PKEY_sign(ockCtx, pctx, NULL, &sigLen, mu, MLDSA_MU_LEN)) ||
+        (sigLen <= 0)) {
+        ockCheckStatus(ockCtx);
+        throwOCKException(env, 0, "Getting signature size failed");
+        goto cleanup;
+    }
+    sigBytesLocal = (unsigned char *)malloc(sigLen);
+    if (sigBytesLocal == NULL) {
+        throwOCKException(env, 0, "malloc failed");
+        goto cleanup;
+    }
+    if (ICC_OSSL_SUCCESS != ICC_EVP_PKEY_sign(ockCtx, pctx, sigBytesLocal,
+                                              &sigLen, mu, MLDSA_MU_LEN)) {
+        ockCheckStatus(ockCtx);
+        throwOCKException(env, 0, "ICC_EVP_PKEY_sign failed");
+        goto cleanup;
+    }
+    sigBytes = (*env)->NewByteArray(env, (jsize)sigLen);
+    if (sigBytes == NULL) {
+        throwOCKException(env, 0, "NewByteArray failed");
+        goto cleanup;
+    }
+    (*env)->SetByteArrayRegion(env, sigBytes, 0, (jsize)sigLen,
+                               (const jbyte *)sigBytesLocal);
+
+cleanup:
+    if (pctx != NULL) {
+        ICC_EVP_PKEY_CTX_free(ockCtx, pctx);
+    }
+    FREE_N_NULL(sigBytesLocal);
+    if (debug) {
+        gslogFunctionExit(functionName);
+    }
+    return sigBytes;
+}
+
+/*
+ * Class:     com_ibm_crypto_plus_provider_ock_NativeOCKImplementation
+ * Method:    PQC_SIGNATURE_verifyMu
+ * Signature: (JJJ[B)Z
+ */
+JNIEXPORT jboolean JNICALL
+Java_com_ibm_crypto_plus_provider_ock_NativeOCKImplementation_PQC_1SIGNATURE_1verifyMu(
+    JNIEnv *env, jclass thisObj, jlong ockContextId, jlong ockPKeyId,
+    jlong muId, jbyteArray sigBytes) {
+    static const char *functionName = "PQC_SIGNATURE_verifyMu";
+    ICC_CTX           *ockCtx       = (ICC_CTX *)((intptr_t)ockContextId);
+    ICC_EVP_PKEY      *ockPKey      = (ICC_EVP_PKEY *)((intptr_t)ockPKeyId);
+    ICC_EVP_MD_CTX    *muCtx        = (ICC_EVP_MD_CTX *)((intptr_t)muId);
+    ICC_EVP_PKEY_CTX  *pctx         = NULL;
+    unsigned char      mu[MLDSA_MU_LEN];
+    unsigned char     *sigNative    = NULL;
+    jboolean           verified     = 0;
+
+    if (debug) {
+        gslogFunctionEntry(functionName);
+    }
+    if ((ockPKey == NULL) || (muCtx == NULL) || (sigBytes == NULL)) {
+        throwOCKException(
+            env, 0,
+            "Verify failed. The specified input parameters are incorrect.");
+        goto cleanup;
+    }
+
+    pctx = initMuContext(env, ockCtx, ockPKey, muCtx, 0, mu);
+    if (pctx == NULL) {
+        goto cleanup;
+    }
+    sigNative = (unsigned char *)((*env)->GetPrimitiveArrayCritical(
+        env, sigBytes, NULL));
+    if (sigNative == NULL) {
+        throwOCKException(env, 0, "GetPrimitiveArrayCritical failed");
+        goto cleanup;
+    }
+    if (ICC_OSSL_SUCCESS ==
+        ICC_EVP_PKEY_verify(ockCtx, pctx, sigNative,
+                            (*env)->GetArrayLength(env, sigBytes), mu,
+                            MLDSA_MU_LEN)) {
+        verified = 1;
+    } else {
+        ockCheckStatus(ockCtx);
+    }
+
+cleanup:
+    if (sigNative != NULL) {
+        (*env)->ReleasePrimitiveArrayCritical(env, sigBytes, sigNative,
+                                              JNI_ABORT);
+    }
+    if (pctx != NULL) {
+        ICC_EVP_PKEY_CTX_free(ockCtx, pctx);
+    }
+    if (debug) {
+        gslogFunctionExit(functionName);
+    }
+    return verified;
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms provided by IBM in the LICENSE file that accompanied
+ * this code, including the "Classpath" Exception described therein.
+ */
+
+package ibm.jceplus.jmh;
+
+import com.ibm.crypto.plus.provider.AESGCMBatch;
+import java.security.SecureRandom;
+import java.security.Security;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+
+/**
+ * Compares protecting many small independent messages with one batch call
+ * against a loop over a Cipher. Each benchmark invocation processes the
+ * whole batch.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 4, time = 30, timeUnit = TimeUnit.SECONDS)
+public class AESGCMBatchBenchmark extends JMHBase {
+
+    @Param({"16", "128"})
+    private int records;
+
+    @Param({"64", "256"})
+    private int payloadSize;
+
+    @Param({"OpenJCEPlus", "OpenJCEPlusFIPS"})
+    private String provider;
+
+    private AESGCMBatch batch;
+    private Cipher cipher;
+    private SecretKey[] keys;
+    private byte[][] ivs;
+    private byte[][] aads;
+    private byte[][] plaintexts;
+    private byte[][] ciphertexts;
+
+    @Setup
+    public void setup() throws Exception {
+        super.setup(provider);
+        SecureRandom random = new SecureRandom();
+        keys = new SecretKey[records];
+        ivs = new byte[records][12];
+        aads = new byte[records][13];
+        plaintexts = new byte[records][payloadSize];
+        for (int i = 0; i < records; i++) {
+            byte[] key = new byte[16];
+            random.nextBytes(key);
+            keys[i] = new SecretKeySpec(key, "AES");
+            random.nextBytes(ivs[i]);
+            random.nextBytes(aads[i]);
+            random.nextBytes(plaintexts[i]);
+        }
+        batch = new AESGCMBatch(Security.getProvider(provider));
+        cipher = Cipher.getInstance("AES/GCM/NoPadding", provider);
+        ciphertexts = batch.encrypt(keys, ivs, aads, plaintexts);
+    }
+
+    @Benchmark
+    public byte[][] batchEncryption() throws Exception {
+        return batch.encrypt(keys, ivs, aads, plaintexts);
+    }
+
+    @Benchmark
+    public byte[][] batchDecryption() throws Exception {
+        return batch.decrypt(keys, ivs, aads, ciphertexts);
+    }
+
+    @Benchmark
+    public byte[][] loopEncryption() throws Exception {
+        // Every record has its own key, so consecutive initializations never
+        // repeat the previous key and IV.
+        byte[][] output = new byte[records][];
+        for (int i = 0; i < records; i++) {
+            cipher.init(Cipher.ENCRYPT_MODE, keys[i], new GCMParameterSpec(128, ivs[i]));
+            cipher.updateAAD(aads[i]);
+            output[i] = cipher.doFinal(plaintexts[i]);
+        }
+        return output;
+    }
+
+    @Benchmark
+    public byte[][] loopDecryption() throws Exception {
+        byte[][] output = new byte[records][];
+        for (int i = 0; i < records; i++) {
+            cipher.init(Cipher.DECRYPT_MODE, keys[i], new GCMParameterSpec(128, ivs[i]));
+            cipher.updateAAD(aads[i]);
+            output[i] = cipher.doFinal(ciphertexts[i]);
+        }
+        return output;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        String testSimpleName = AESGCMBatchBenchmark.class.getSimpleName();
+        Options opt = optionsBuild(testSimpleName, testSimpleName);
+
+        new Runner(opt).run();
+    }
+}
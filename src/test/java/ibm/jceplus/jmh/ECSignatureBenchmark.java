@@ -102,6 +102,18 @@ public class ECSignatureBenchmark extends JMHBase {
         return signatureInstance.sign();
     }
 
+    /**
+     * Signs with the key pair shared by all benchmark threads, each thread using
+     * its own Signature object. Run with -Djmh.threads=N to measure how signing
+     * with a single private key scales across cores.
+     */
+    @Benchmark
+    public byte[] signSharedKey(SignerState signer) throws Exception {
+        signer.signature.initSign(ecKeyPair.getPrivate());
+        signer.signature.update(payload);
+        return signer.signature.sign();
+    }
+
     @Benchmark
     public boolean verify() throws Exception {
         verifierInstance.initVerify(ecKeyPair.getPublic());
@@ -109,6 +121,16 @@ public class ECSignatureBenchmark extends JMHBase {
         return verifierInstance.verify(signature);
     }
 
+    @State(Scope.Thread)
+    public static class SignerState {
+        private Signature signature;
+
+        @Setup
+        public void setup(ECSignatureBenchmark benchmark) throws Exception {
+            signature = Signature.getInstance(benchmark.algorithm, benchmark.provider);
+        }
+    }
+
     public static void main(String[] args) throws RunnerException {
         String testSimpleName = ECSignatureBenchmark.class.getSimpleName();
         Options opt = optionsBuild(testSimpleName, testSimpleName);
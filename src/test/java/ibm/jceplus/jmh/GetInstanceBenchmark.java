@@ -0,0 +1,80 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms provided by IBM in the LICENSE file that accompanied
+ * this code, including the "Classpath" Exception described therein.
+ */
+
+package ibm.jceplus.jmh;
+
+import java.security.MessageDigest;
+import java.security.Signature;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+
+/**
+ * Measures the cost of obtaining engine instances, which includes the service
+ * lookup and the construction of the implementation class by the provider.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 4, time = 30, timeUnit = TimeUnit.SECONDS)
+public class GetInstanceBenchmark extends JMHBase {
+
+    @Param({"OpenJCEPlus", "OpenJCEPlusFIPS", "SUN"})
+    private String provider;
+
+    @Setup
+    public void setup() throws Exception {
+        super.setup(provider);
+    }
+
+    @Benchmark
+    public MessageDigest messageDigestSHA256() throws Exception {
+        return MessageDigest.getInstance("SHA-256", provider);
+    }
+
+    @Benchmark
+    public Mac macHmacSHA256() throws Exception {
+        return Mac.getInstance("HmacSHA256", jceProvider());
+    }
+
+    @Benchmark
+    public Cipher cipherAESGCM() throws Exception {
+        return Cipher.getInstance("AES/GCM/NoPadding", jceProvider());
+    }
+
+    @Benchmark
+    public Signature signatureSHA256withECDSA() throws Exception {
+        return Signature.getInstance("SHA256withECDSA", provider.equals("SUN") ? "SunEC" : provider);
+    }
+
+    // The SUN provider only supplies message digests, use SunJCE for the JCE engines.
+    private String jceProvider() {
+        return provider.equals("SUN") ? "SunJCE" : provider;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        String testSimpleName = GetInstanceBenchmark.class.getSimpleName();
+        Options opt = optionsBuild(testSimpleName, testSimpleName);
+
+        new Runner(opt).run();
+    }
+}
@@ -95,6 +95,12 @@ abstract public class JMHBase {
         if (allowedProv != null) {
             jvmArgs.add("-Djmh.allowedProviders=" + allowedProv);
         }
+        // Pass the provider tuning properties on to the benchmark JVM.
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith("openjceplus.")) {
+                jvmArgs.add("-D" + name + "=" + System.getProperty(name));
+            }
+        }
         optionsBuilder.jvmArgsAppend(jvmArgs.toArray(new String[0]));
         optionsBuilder.forks(1);
         optionsBuilder.output(projectHomeDir + "/target/jmh-results/" + logFileWithThreads + ".txt");
@@ -8,8 +8,11 @@
 
 package ibm.jceplus.jmh;
 
+import com.ibm.crypto.plus.provider.MLKEMBatchEncapsulator;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
+import java.security.Provider;
+import java.security.Security;
 import java.util.concurrent.TimeUnit;
 import javax.crypto.KEM;
 import javax.crypto.SecretKey;
@@ -17,6 +20,7 @@ import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
@@ -34,6 +38,8 @@ import org.openjdk.jmh.runner.options.Options;
 @Measurement(iterations = 4, time = 30, timeUnit = TimeUnit.SECONDS)
 public class MLKEMBenchmark extends JMHBase {
 
+    private static final int BATCH_SIZE = 16;
+
     @Param({"ML-KEM-512", "ML-KEM-768", "ML-KEM-1024"})
     private String transformation;
 
@@ -46,6 +52,8 @@ public class MLKEMBenchmark extends JMHBase {
     private KEM.Encapsulator encapsulator;
     private KEM.Encapsulated encapsulated;
     private KEM.Decapsulator decapsulator;
+    // Only available with OpenJCEPlus, null otherwise
+    private MLKEMBatchEncapsulator batchEncapsulator;
 
     @Setup
     public void setup() throws Exception {
@@ -59,6 +67,11 @@ public class MLKEMBenchmark extends JMHBase {
         encapsulator = myKEM.newEncapsulator(keyPair.getPublic());
         encapsulated = encapsulator.encapsulate(0, 31, "AES");
         decapsulator = myKEM.newDecapsulator(keyPair.getPrivate());
+
+        Provider jceProvider = Security.getProvider(provider);
+        if (jceProvider.getClass().getName().startsWith("com.ibm.crypto.plus.provider.")) {
+            batchEncapsulator = new MLKEMBatchEncapsulator(jceProvider, keyPair.getPublic());
+        }
     }
 
     @Benchmark
@@ -67,6 +80,27 @@ public class MLKEMBenchmark extends JMHBase {
         return encapsulated.key();
     }
 
+    @Benchmark
+    public SecretKey newEncapsulatorAndEncapsulation() throws Exception {
+        KEM.Encapsulator newEncapsulator = myKEM.newEncapsulator(keyPair.getPublic());
+        return newEncapsulator.encapsulate(0, 31, "AES").key();
+    }
+
+    // Scored per encapsulation. Providers without a batch interface loop over
+    // the reused encapsulator.
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public KEM.Encapsulated[] batchEncapsulation() throws Exception {
+        if (batchEncapsulator != null) {
+            return batchEncapsulator.encapsulate(BATCH_SIZE, 0, 31, "AES");
+        }
+        KEM.Encapsulated[] batch = new KEM.Encapsulated[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch[i] = encapsulator.encapsulate(0, 31, "AES");
+        }
+        return batch;
+    }
+
     @Benchmark
     public SecretKey decapsulation() throws Exception {
         return decapsulator.decapsulate(encapsulated.encapsulation(), 0, 31, "AES");
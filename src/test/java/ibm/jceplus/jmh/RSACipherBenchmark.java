@@ -34,7 +34,7 @@ import org.openjdk.jmh.runner.options.Options;
 @Measurement(iterations = 4, time = 30, timeUnit = TimeUnit.SECONDS)
 public class RSACipherBenchmark extends AsymmetricCipherBase {
 
-    @Param({"2048"})
+    @Param({"2048", "3072"})
     private int keySize;
 
     @Param({"OpenJCEPlus", "OpenJCEPlusFIPS", "SunJCE"})
@@ -148,6 +148,31 @@ public class RSACipherBenchmark extends AsymmetricCipherBase {
         return decryptCipher.doFinal(ciphertext);
     }
 
+    /**
+     * Decrypts with the private key shared by all benchmark threads, each thread
+     * using its own Cipher object. Run with -Djmh.threads=N to measure how private
+     * key operations with a single RSA key scale across cores.
+     */
+    @Benchmark
+    public byte[] decryptSharedKey(DecrypterState decrypter) throws Exception {
+        return decrypter.cipher.doFinal(ciphertext);
+    }
+
+    @State(Scope.Thread)
+    public static class DecrypterState {
+        private Cipher cipher;
+
+        @Setup
+        public void setup(RSACipherBenchmark benchmark) throws Exception {
+            cipher = Cipher.getInstance("RSA/ECB/" + benchmark.padding, benchmark.provider);
+            if (benchmark.oaepSpec != null) {
+                cipher.init(Cipher.DECRYPT_MODE, benchmark.privateKey, benchmark.oaepSpec);
+            } else {
+                cipher.init(Cipher.DECRYPT_MODE, benchmark.privateKey);
+            }
+        }
+    }
+
     public static void main(String[] args) throws RunnerException {
         String testSimpleName = RSACipherBenchmark.class.getSimpleName();
         Options opt = optionsBuild(testSimpleName, testSimpleName);
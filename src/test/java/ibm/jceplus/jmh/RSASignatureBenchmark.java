@@ -111,6 +111,18 @@ public class RSASignatureBenchmark extends JMHBase {
         return rsaSha512SignatureInstance.sign();
     }
 
+    /**
+     * Signs with the key pair shared by all benchmark threads, each thread using
+     * its own Signature object. Run with -Djmh.threads=N to measure how private
+     * key operations with a single RSA key scale across cores.
+     */
+    @Benchmark
+    public byte[] rsaSha256SignSharedKey(SignerState signer) throws Exception {
+        signer.signature.initSign(rsaKeyPair.getPrivate());
+        signer.signature.update(payload);
+        return signer.signature.sign();
+    }
+
     @Benchmark
     public boolean rsaSha256Verify() throws Exception {
         rsaSha256VerifierInstance.initVerify(rsaKeyPair.getPublic());
@@ -132,6 +144,16 @@ public class RSASignatureBenchmark extends JMHBase {
         return rsaSha512VerifierInstance.verify(rsaSha512signature);
     }
 
+    @State(Scope.Thread)
+    public static class SignerState {
+        private Signature signature;
+
+        @Setup
+        public void setup(RSASignatureBenchmark benchmark) throws Exception {
+            signature = Signature.getInstance("SHA256withRSA", benchmark.provider);
+        }
+    }
+
     public static void main(String[] args) throws RunnerException {
         String testSimpleName = RSASignatureBenchmark.class.getSimpleName();
         Options opt = optionsBuild(testSimpleName, testSimpleName);
@@ -31,7 +31,12 @@ import org.openjdk.jmh.runner.options.Options;
 @Measurement(iterations = 4, time = 30, timeUnit = TimeUnit.SECONDS)
 public class RandomBenchmark extends JMHBase {
 
-    @Param({"16", "2048", "32768"})
+    /**
+     * Request sizes from typical nonces and IVs up to bulk output. Run with
+     * -Dopenjceplus.securerandom.bufferSize=4096 to measure the buffered path
+     * taken by small requests.
+     */
+    @Param({"8", "16", "32", "256", "2048", "32768", "65536"})
     private int payloadSize;
 
     private byte[] payload;
@@ -0,0 +1,120 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms provided by IBM in the LICENSE file that accompanied
+ * this code, including the "Classpath" Exception described therein.
+ */
+
+package ibm.jceplus.junit.base;
+
+import com.ibm.crypto.plus.provider.AESGCMBatch;
+import java.security.InvalidAlgorithmParameterException;
+import java.security.SecureRandom;
+import java.security.Security;
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BaseTestAESGCMBatch extends BaseTestJunit5 {
+
+    private static final int RECORDS = 40;
+
+    private final SecureRandom random = new SecureRandom();
+
+    private SecretKey[] keys;
+    private byte[][] ivs;
+    private byte[][] aads;
+    private byte[][] plaintexts;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        // Mix key sizes, shared keys, empty messages and missing AADs.
+        SecretKey shared = newKey(16);
+        keys = new SecretKey[RECORDS];
+        ivs = new byte[RECORDS][];
+        aads = new byte[RECORDS][];
+        plaintexts = new byte[RECORDS][];
+        for (int i = 0; i < RECORDS; i++) {
+            keys[i] = (i < RECORDS / 2) ? shared : newKey(16 + 8 * (i % 3));
+            ivs[i] = randomBytes(12);
+            aads[i] = (i % 4 == 0) ? null : randomBytes(i % 20);
+            plaintexts[i] = randomBytes(i * 7);
+        }
+    }
+
+    @Test
+    public void testBatchMatchesCipher() throws Exception {
+        AESGCMBatch batch = new AESGCMBatch(Security.getProvider(getProviderName()));
+        byte[][] ciphertexts = batch.encrypt(keys, ivs, aads, plaintexts);
+        assertEquals(RECORDS, ciphertexts.length);
+
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding", getProviderName());
+        for (int i = 0; i < RECORDS; i++) {
+            cipher.init(Cipher.DECRYPT_MODE, keys[i], new GCMParameterSpec(128, ivs[i]));
+            if (aads[i] != null) {
+                cipher.updateAAD(aads[i]);
+            }
+            assertArrayEquals(plaintexts[i], cipher.doFinal(ciphertexts[i]), "record " + i);
+        }
+
+        byte[][] decrypted = batch.decrypt(keys, ivs, aads, ciphertexts);
+        for (int i = 0; i < RECORDS; i++) {
+            assertArrayEquals(plaintexts[i], decrypted[i], "record " + i);
+        }
+    }
+
+    @Test
+    public void testBatchShortTag() throws Exception {
+        AESGCMBatch batch = new AESGCMBatch(Security.getProvider(getProviderName()), 96);
+        byte[][] ciphertexts = batch.encrypt(keys, ivs, aads, plaintexts);
+        for (int i = 0; i < RECORDS; i++) {
+            assertEquals(plaintexts[i].length + 12, ciphertexts[i].length);
+        }
+        byte[][] decrypted = batch.decrypt(keys, ivs, aads, ciphertexts);
+        for (int i = 0; i < RECORDS; i++) {
+            assertArrayEquals(plaintexts[i], decrypted[i], "record " + i);
+        }
+    }
+
+    @Test
+    public void testBatchTamperedRecord() throws Exception {
+        AESGCMBatch batch = new AESGCMBatch(Security.getProvider(getProviderName()));
+        byte[][] ciphertexts = batch.encrypt(keys, ivs, aads, plaintexts);
+        ciphertexts[RECORDS - 1][0] ^= 1;
+        assertThrows(AEADBadTagException.class,
+                () -> batch.decrypt(keys, ivs, aads, ciphertexts));
+
+        ciphertexts[RECORDS - 1] = new byte[15];
+        assertThrows(AEADBadTagException.class,
+                () -> batch.decrypt(keys, ivs, aads, ciphertexts));
+    }
+
+    @Test
+    public void testBatchRepeatedIV() throws Exception {
+        AESGCMBatch batch = new AESGCMBatch(Security.getProvider(getProviderName()));
+        // The same key and IV in two records must be rejected, even when the
+        // key is given as different objects.
+        keys[1] = new SecretKeySpec(keys[0].getEncoded(), "AES");
+        ivs[1] = ivs[0].clone();
+        assertThrows(InvalidAlgorithmParameterException.class,
+                () -> batch.encrypt(keys, ivs, aads, plaintexts));
+    }
+
+    private SecretKey newKey(int size) {
+        return new SecretKeySpec(randomBytes(size), "AES");
+    }
+
+    private byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright IBM Corp. 2023, 2025
+ * Copyright IBM Corp. 2023, 2026
  *
  * This code is free software; you can redistribute it and/or modify it
  * under the terms provided by IBM in the LICENSE file that accompanied
@@ -30,6 +30,7 @@ import java.security.NoSuchProviderException;
 import java.security.SecureRandom;
 import java.util.Arrays;
 import java.util.Base64;
+import javax.crypto.AEADBadTagException;
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
@@ -42,6 +43,9 @@ import javax.crypto.spec.SecretKeySpec;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -1294,6 +1298,46 @@ public class BaseTestAESGCMUpdate extends BaseTestJunit5 {
         return plaintext;
     }
 
+    @Test
+    public void testStreamingDecrypt21() throws Exception {
+        SecretKey key = new SecretKeySpec(new byte[32], "AES");
+        byte[] iv = new byte[GCM_IV_LENGTH];
+        (new SecureRandom()).nextBytes(iv);
+        GCMParameterSpec ivSpec = new GCMParameterSpec(GCM_TAG_LENGTH * Byte.SIZE, iv);
+        byte[] plainText = new byte[1024 * 1024 + 5];
+        (new SecureRandom()).nextBytes(plainText);
+
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding", getProviderName());
+        cipher.init(Cipher.ENCRYPT_MODE, key, ivSpec);
+        byte[] cipherText = cipher.doFinal(plainText);
+
+        // Decryption returns plaintext from update, holding back no more than
+        // a block and the tag, so the memory used does not grow with the input.
+        int chunk = 4096;
+        cipher.init(Cipher.DECRYPT_MODE, key, ivSpec);
+        byte[] decrypted = new byte[plainText.length];
+        int decryptedLen = 0;
+        for (int offset = 0; offset < cipherText.length; offset += chunk) {
+            byte[] part = cipher.update(cipherText, offset, Math.min(chunk, cipherText.length - offset));
+            assertTrue(part.length <= chunk + 2 * GCM_TAG_LENGTH);
+            System.arraycopy(part, 0, decrypted, decryptedLen, part.length);
+            decryptedLen += part.length;
+        }
+        assertTrue(decryptedLen >= plainText.length - 2 * GCM_TAG_LENGTH);
+        byte[] last = cipher.doFinal();
+        System.arraycopy(last, 0, decrypted, decryptedLen, last.length);
+        assertEquals(plainText.length, decryptedLen + last.length);
+        assertArrayEquals(plainText, decrypted);
+
+        // A bad tag is only reported by doFinal.
+        cipherText[cipherText.length - 1] ^= 1;
+        cipher.init(Cipher.DECRYPT_MODE, key, ivSpec);
+        for (int offset = 0; offset < cipherText.length; offset += chunk) {
+            cipher.update(cipherText, offset, Math.min(chunk, cipherText.length - offset));
+        }
+        assertThrows(AEADBadTagException.class, () -> cipher.doFinal());
+    }
+
     private byte[] encrypt(Cipher cpl)
             throws ShortBufferException, IllegalBlockSizeException, BadPaddingException {
         byte[] part71 = new byte[cpl.getOutputSize(plainText128.length)];
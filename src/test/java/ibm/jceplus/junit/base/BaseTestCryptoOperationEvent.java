@@ -0,0 +1,155 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms provided by IBM in the LICENSE file that accompanied
+ * this code, including the "Classpath" Exception described therein.
+ */
+
+package ibm.jceplus.junit.base;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.Signature;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BaseTestCryptoOperationEvent extends BaseTestJunit5 {
+
+    private static final String EVENT_NAME = "com.ibm.crypto.plus.CryptoOperation";
+
+    @Test
+    public void testDigestEvent() throws Exception {
+        List<RecordedEvent> events = record(() -> {
+            MessageDigest md = MessageDigest.getInstance("SHA-256", getProviderName());
+            md.update(new byte[100]);
+            md.update(new byte[28]);
+            md.digest();
+        });
+
+        RecordedEvent event = find(events, "digest");
+        assertEquals("MessageDigest", event.getString("type"));
+        assertEquals("SHA-256", event.getString("algorithm"));
+        assertEquals(128, event.getLong("inputLength"));
+    }
+
+    @Test
+    public void testSignatureEvents() throws Exception {
+        List<RecordedEvent> events = record(() -> {
+            KeyPairGenerator kpg = KeyPairGenerator.getInstance("EC", getProviderName());
+            kpg.initialize(256);
+            KeyPair keyPair = kpg.generateKeyPair();
+            byte[] data = new byte[64];
+
+            Signature signer = Signature.getInstance("SHA256withECDSA", getProviderName());
+            signer.initSign(keyPair.getPrivate());
+            signer.update(data);
+            byte[] sigBytes = signer.sign();
+
+            Signature verifier = Signature.getInstance("SHA256withECDSA", getProviderName());
+            verifier.initVerify(keyPair.getPublic());
+            verifier.update(data);
+            assertTrue(verifier.verify(sigBytes));
+        });
+
+        assertEquals(256, find(events, "generateKeyPair").getInt("keySize"));
+        RecordedEvent sign = find(events, "sign");
+        assertEquals("SHA256withECDSA", sign.getString("algorithm"));
+        assertEquals(256, sign.getInt("keySize"));
+        assertEquals(64, sign.getLong("inputLength"));
+        assertEquals(64, find(events, "verify").getLong("inputLength"));
+    }
+
+    @Test
+    public void testCipherEvent() throws Exception {
+        List<RecordedEvent> events = record(() -> {
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding", getProviderName());
+            cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(new byte[16], "AES"),
+                    new GCMParameterSpec(128, new byte[12]));
+            cipher.update(new byte[100]);
+            cipher.update(new byte[50]);
+            cipher.doFinal(new byte[6]);
+        });
+
+        RecordedEvent event = find(events, "encrypt");
+        assertEquals(128, event.getInt("keySize"));
+        assertEquals(156, event.getLong("inputLength"));
+    }
+
+    /*
+     * Operations run as usual and record nothing when the event is disabled.
+     */
+    @Test
+    public void testDisabledEvent() throws Exception {
+        List<RecordedEvent> events = record(false, () -> {
+            MessageDigest md = MessageDigest.getInstance("SHA-256", getProviderName());
+            md.update(new byte[128]);
+            md.digest();
+        });
+
+        assertTrue(events.isEmpty(), events.size() + " events recorded");
+    }
+
+    private interface Operations {
+        void run() throws Exception;
+    }
+
+    private static List<RecordedEvent> record(Operations operations) throws Exception {
+        return record(true, operations);
+    }
+
+    /*
+     * Returns the events recorded on this thread while running the operations,
+     * leaving out those of tests running at the same time.
+     */
+    private static List<RecordedEvent> record(boolean enabled, Operations operations)
+            throws Exception {
+        Path file = Files.createTempFile("openjceplus", ".jfr");
+        try (Recording recording = new Recording()) {
+            if (enabled) {
+                recording.enable(EVENT_NAME).withThreshold(Duration.ZERO);
+            } else {
+                recording.disable(EVENT_NAME);
+            }
+            recording.start();
+            operations.run();
+            recording.stop();
+            recording.dump(file);
+
+            long threadId = Thread.currentThread().threadId();
+            List<RecordedEvent> events = new ArrayList<>();
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                if (event.getEventType().getName().equals(EVENT_NAME)
+                        && (event.getThread() != null)
+                        && (event.getThread().getJavaThreadId() == threadId)) {
+                    events.add(event);
+                }
+            }
+            return events;
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String operation) {
+        for (RecordedEvent event : events) {
+            if (operation.equals(event.getString("operation"))) {
+                return event;
+            }
+        }
+        throw new AssertionError("No " + operation + " event recorded");
+    }
+}
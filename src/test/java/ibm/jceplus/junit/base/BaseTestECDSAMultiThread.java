@@ -0,0 +1,31 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms provided by IBM in the LICENSE file that accompanied
+ * this code, including the "Classpath" Exception described therein.
+ */
+
+package ibm.jceplus.junit.base;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+public class BaseTestECDSAMultiThread extends BaseTestJunit5 {
+
+    /*
+     * Many threads sign with the same private key at the same time, each
+     * using its own Signature object.
+     */
+    @ParameterizedTest
+    @CsvSource({"SHA256withECDSA, 256", "SHA384withECDSA, 384", "SHA512withECDSA, 521"})
+    protected void testParallelSign(String algo, int keySize) throws Exception {
+        KeyPairGenerator kpg = KeyPairGenerator.getInstance("EC", getProviderName());
+        kpg.initialize(keySize);
+        KeyPair kp = kpg.generateKeyPair();
+
+        BaseUtils.assertParallelSignVerify(getProviderName(), algo, kp);
+    }
+}
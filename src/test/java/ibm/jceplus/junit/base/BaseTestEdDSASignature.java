@@ -1,5 +1,5 @@
 /*
- * Copyright IBM Corp. 2023, 2024
+ * Copyright IBM Corp. 2023, 2026
  *
  * This code is free software; you can redistribute it and/or modify it
  * under the terms provided by IBM in the LICENSE file that accompanied
@@ -31,6 +31,7 @@ import java.security.spec.X509EncodedKeySpec;
 import java.util.Arrays;
 import java.util.HexFormat;
 import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -237,14 +238,19 @@ public class BaseTestEdDSASignature extends BaseTestJunit5Signature {
                         + "76b3a97625d79f1ce240e7c576750d295528286f719b413de9ada3e8eb78ed57"
                         + "3603ce30d8bb761785dc30dbc320869e1a00");
 
+        // Ed25519ph
+        runSignTest("Ed25519", new EdDSAParameterSpec(true),
+                "833fe62409237b9d62ec77587520911e9a759cec1d19755b7da901b96dca3d42",
+                "ec172b93ad5e563bf4932c70e1245034c35467ef2efd4d64ebf819683467e2bf", "616263",
+                "98a70222f0b8121aa9d30f813d683f809e462b469c7ff87639499bb94e6dae41"
+                        + "31f85042463c2a355a2003d062adf5aaa10b8c61e636062aaad11c2a26083406");
+
         // Ed25519ctx
         byte[] context = HexFormat.of().parseHex("666f6f");
         runUnsupportedAlgorithmParameterSpecTest("Ed25519", new EdDSAParameterSpec(false, context));
-        // Ed25519ph
-        runUnsupportedAlgorithmParameterSpecTest("Ed25519", new EdDSAParameterSpec(true));
-        // Ed448ph
+        runUnsupportedAlgorithmParameterSpecTest("Ed25519", new EdDSAParameterSpec(true, context));
+        // Ed448ctx
         runUnsupportedAlgorithmParameterSpecTest("Ed448", new EdDSAParameterSpec(false, context));
-        runUnsupportedAlgorithmParameterSpecTest("Ed448", new EdDSAParameterSpec(true));
         runUnsupportedAlgorithmParameterSpecTest("Ed448", new EdDSAParameterSpec(true, context));
 
     }
@@ -292,12 +298,102 @@ public class BaseTestEdDSASignature extends BaseTestJunit5Signature {
             fail("Expected InvalidAlgorithmParameterException for unsupported signature algorithm is NOT thrown");
         } catch (InvalidAlgorithmParameterException e) {
             assertEquals(
-                    "The EdDSA signature only supports the default mode (Ed25519 or Ed448),"
-                            + " where the EdDSAParameterSpec context is null and prehash is set to false",
+                    "The EdDSA signature only supports the default mode (Ed25519 or Ed448)"
+                            + " and the prehash mode (Ed25519ph or Ed448ph),"
+                            + " where the EdDSAParameterSpec context is null",
                     e.getMessage());
         }
     }
 
+    @Test
+    public void testRunChunkedUpdateEdDSATests() throws Exception {
+        runChunkedUpdateTest("Ed25519", null);
+        runChunkedUpdateTest("Ed448", null);
+        runChunkedUpdateTest("Ed25519", new EdDSAParameterSpec(true));
+        runChunkedUpdateTest("Ed448", new EdDSAParameterSpec(true));
+    }
+
+    /*
+     * Signs a message much larger than the initial message buffer, both in small
+     * chunks and in a single update. EdDSA signatures are deterministic, so both
+     * signatures must be the same.
+     */
+    private void runChunkedUpdateTest(String algorithm, AlgorithmParameterSpec params)
+            throws Exception {
+        byte[] message = new byte[(3 * 1024 * 1024) + 17];
+        for (int i = 0; i < message.length; i++) {
+            message[i] = (byte) i;
+        }
+
+        KeyPairGenerator kpg = KeyPairGenerator.getInstance(algorithm, getProviderName());
+        KeyPair kp = kpg.generateKeyPair();
+
+        Signature sig = Signature.getInstance(algorithm, getProviderName());
+        if (params != null) {
+            sig.setParameter(params);
+        }
+        sig.initSign(kp.getPrivate());
+        int chunkSize = 1000;
+        for (int offset = 0; offset < message.length; offset += chunkSize) {
+            sig.update(message, offset, Math.min(chunkSize, message.length - offset));
+        }
+        byte[] chunkedSig = sig.sign();
+
+        sig.update(message);
+        byte[] oneShotSig = sig.sign();
+        assertTrue(Arrays.equals(chunkedSig, oneShotSig), "Chunked signature differs");
+
+        sig.initVerify(kp.getPublic());
+        for (int offset = 0; offset < message.length; offset += chunkSize) {
+            sig.update(message, offset, Math.min(chunkSize, message.length - offset));
+        }
+        assertTrue(sig.verify(chunkedSig), "Signature verification failed");
+    }
+
+    @Test
+    public void testPrehashMatchesSunEC() throws Exception {
+        runPrehashMatchesSunECTest("Ed25519");
+        runPrehashMatchesSunECTest("Ed448");
+    }
+
+    /*
+     * The prehash variants of messages given in several updates. Their
+     * signatures, which are deterministic, must be those of the SunEC provider for the same
+     * key and message.
+     */
+    private void runPrehashMatchesSunECTest(String algorithm) throws Exception {
+        byte[] message = new byte[100000];
+        for (int i = 0; i < message.length; i++) {
+            message[i] = (byte) (i * 7);
+        }
+        EdDSAParameterSpec prehash = new EdDSAParameterSpec(true);
+
+        KeyPair kp = KeyPairGenerator.getInstance(algorithm, getProviderName()).generateKeyPair();
+        PrivateKey sunPrivKey = KeyFactory.getInstance(algorithm, "SunEC")
+                .generatePrivate(new PKCS8EncodedKeySpec(kp.getPrivate().getEncoded()));
+
+        Signature sig = Signature.getInstance(algorithm, getProviderName());
+        sig.setParameter(prehash);
+        sig.initSign(kp.getPrivate());
+        int chunkSize = 333;
+        for (int offset = 0; offset < message.length; offset += chunkSize) {
+            sig.update(message, offset, Math.min(chunkSize, message.length - offset));
+        }
+        byte[] computedSig = sig.sign();
+
+        Signature sunSig = Signature.getInstance(algorithm, "SunEC");
+        sunSig.setParameter(prehash);
+        sunSig.initSign(sunPrivKey);
+        sunSig.update(message);
+        byte[] expectedSig = sunSig.sign();
+        assertArrayEquals(expectedSig, computedSig, "Prehash signature differs from SunEC");
+
+        sig.initVerify(kp.getPublic());
+        sig.update(message, 0, 1);
+        sig.update(message, 1, message.length - 1);
+        assertTrue(sig.verify(expectedSig), "Signature verification failed");
+    }
+
     @Test
     public void testRunBasicEdDSATests() throws Exception {
         runBasicTest("EdDSA", null);
@@ -1,5 +1,5 @@
 /*
- * Copyright IBM Corp. 2023, 2025
+ * Copyright IBM Corp. 2023, 2026
  *
  * This code is free software; you can redistribute it and/or modify it
  * under the terms provided by IBM in the LICENSE file that accompanied
@@ -13,11 +13,13 @@ import java.security.KeyPairGenerator;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.Signature;
+import java.security.spec.EdDSAParameterSpec;
 import java.security.spec.NamedParameterSpec;
 import java.util.stream.Stream;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class BaseTestEdDSASignatureInterop extends BaseTestJunit5Interop {
@@ -46,6 +48,60 @@ public class BaseTestEdDSASignatureInterop extends BaseTestJunit5Interop {
                 Arguments.of("Ed25519", null, getInteropProviderName(), getProviderName()));
     }
 
+    @ParameterizedTest
+    @MethodSource("testEdDSAPrehashArguments")
+    public void testEdDSAPrehash(String KeyPairAlg, String provider1, String provider2)
+            throws Exception {
+        KeyPair keyPair = generateKeyPair(KeyPairAlg, provider1);
+        EdDSAParameterSpec prehash = new EdDSAParameterSpec(true);
+
+        Signature signing = Signature.getInstance(EDDSA_ALG_NAME, provider1);
+        signing.setParameter(prehash);
+        signing.initSign(keyPair.getPrivate());
+        signing.update(origMsg);
+        byte[] signedBytes = signing.sign();
+
+        Signature verify = Signature.getInstance(EDDSA_ALG_NAME, provider2);
+        verify.setParameter(prehash);
+        verify.initVerify(keyPair.getPublic());
+        verify.update(origMsg);
+        assertTrue(verify.verify(signedBytes), "Prehash signature verification failed.");
+    }
+
+    private Stream<Arguments> testEdDSAPrehashArguments() {
+        return Stream.of(
+                Arguments.of("Ed25519", getProviderName(), getInteropProviderName()),
+                Arguments.of("Ed25519", getInteropProviderName(), getProviderName()),
+                Arguments.of("Ed448", getProviderName(), getInteropProviderName()),
+                Arguments.of("Ed448", getInteropProviderName(), getProviderName()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("testEdDSAReusedForeignKeyArguments")
+    public void testEdDSAReusedForeignKey(String KeyPairAlg) throws Exception {
+        KeyPair keyPair = generateKeyPair(KeyPairAlg, getInteropProviderName());
+        KeyPair otherKeyPair = generateKeyPair(KeyPairAlg, getInteropProviderName());
+        byte[] signedMsg = doSign(origMsg, keyPair.getPrivate(), getInteropProviderName());
+
+        // The translation of the foreign public key is reused after the first initialization.
+        Signature verify = Signature.getInstance(EDDSA_ALG_NAME, getProviderName());
+        for (int i = 0; i < 3; i++) {
+            verify.initVerify(keyPair.getPublic());
+            verify.update(origMsg);
+            assertTrue(verify.verify(signedMsg), "Signature verification failed.");
+
+            verify.initVerify(otherKeyPair.getPublic());
+            verify.update(origMsg);
+            assertFalse(verify.verify(signedMsg), "Signature verified with the wrong key.");
+        }
+    }
+
+    private Stream<Arguments> testEdDSAReusedForeignKeyArguments() {
+        return Stream.of(
+                Arguments.of("Ed25519"),
+                Arguments.of("Ed448"));
+    }
+
     private KeyPair generateKeyPair(String alg, String providerName) throws Exception {
         KeyPairGenerator xecKeyPairGen = KeyPairGenerator.getInstance(alg, providerName);
         xecKeyPairGen.initialize(new NamedParameterSpec(alg));
@@ -0,0 +1,164 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms provided by IBM in the LICENSE file that accompanied
+ * this code, including the "Classpath" Exception described therein.
+ */
+
+package ibm.jceplus.junit.base;
+
+import com.ibm.crypto.plus.provider.base.NativePoolStatistics;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.SecureRandom;
+import java.security.Signature;
+import java.security.spec.ECGenParameterSpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * The pools are shared by all the tests of a provider, so each test uses its
+ * own curve where the state of the pool matters. The statistics of the pools
+ * of all curves are added together.
+ */
+public class BaseTestEphemeralKeyPairPool extends BaseTestJunit5 {
+
+    private static final String POOL_NAME = "Ephemeral key pair";
+
+    private static final int POOL_SIZE = 4;
+
+    private static final byte[] MESSAGE = "Ephemeral key pairs are generated ahead of time".getBytes();
+
+    private boolean enabled;
+
+    @BeforeEach
+    public void enablePool() throws Exception {
+        if (!enabled) {
+            BaseUtils.enableEphemeralKeyPool(getProviderName(), POOL_SIZE);
+            enabled = true;
+        }
+    }
+
+    @Test
+    public void testTakeAndRefill() throws Exception {
+        KeyPairGenerator generator = newGenerator("secp256r1");
+        checkKeyPair(takeFromPool(generator));
+
+        // The key pair taken is replaced in the background.
+        long idle = NativePoolStatistics.getIdleCount(POOL_NAME);
+        checkKeyPair(takeFromPool(generator));
+        awaitIdle(idle);
+    }
+
+    @Test
+    public void testEmptyPoolFallback() throws Exception {
+        // No key pair of this curve has been generated ahead of time yet.
+        long misses = NativePoolStatistics.getMissCount(POOL_NAME);
+        checkKeyPair(newGenerator("secp384r1").generateKeyPair());
+        assertEquals(misses + 1, NativePoolStatistics.getMissCount(POOL_NAME));
+    }
+
+    @Test
+    public void testSuppliedRandomSkipsPool() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC", getProviderName());
+        generator.initialize(new ECGenParameterSpec("secp256r1"), new SecureRandom());
+
+        long hits = NativePoolStatistics.getHitCount(POOL_NAME);
+        long misses = NativePoolStatistics.getMissCount(POOL_NAME);
+        checkKeyPair(generator.generateKeyPair());
+        assertEquals(hits, NativePoolStatistics.getHitCount(POOL_NAME));
+        assertEquals(misses, NativePoolStatistics.getMissCount(POOL_NAME));
+    }
+
+    @Test
+    public void testKeyPairsHandedOutOnce() throws Exception {
+        int threads = 8;
+        int keyPairsPerThread = 25;
+        takeFromPool(newGenerator("secp256r1"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                Callable<List<String>> generate = () -> {
+                    KeyPairGenerator generator = newGenerator("secp256r1");
+                    List<String> encodings = new ArrayList<>();
+                    start.await();
+                    for (int j = 0; j < keyPairsPerThread; j++) {
+                        encodings.add(Base64.getEncoder()
+                                .encodeToString(generator.generateKeyPair().getPrivate().getEncoded()));
+                    }
+                    return encodings;
+                };
+                results.add(executor.submit(generate));
+            }
+            start.countDown();
+
+            Set<String> privateKeys = new HashSet<>();
+            for (Future<List<String>> result : results) {
+                privateKeys.addAll(result.get());
+            }
+            assertEquals(threads * keyPairsPerThread, privateKeys.size(), "Key pair handed out twice");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private KeyPairGenerator newGenerator(String curve) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC", getProviderName());
+        generator.initialize(new ECGenParameterSpec(curve));
+        return generator;
+    }
+
+    private void checkKeyPair(KeyPair keyPair) throws Exception {
+        Signature signer = Signature.getInstance("SHA256withECDSA", getProviderName());
+        signer.initSign(keyPair.getPrivate());
+        signer.update(MESSAGE);
+        byte[] signature = signer.sign();
+
+        Signature verifier = Signature.getInstance("SHA256withECDSA", getProviderName());
+        verifier.initVerify(keyPair.getPublic());
+        verifier.update(MESSAGE);
+        assertTrue(verifier.verify(signature), "Signature verification failed");
+    }
+
+    /*
+     * Generates key pairs until one comes from the pool, which the first key
+     * pair starts filling when it creates the pool.
+     */
+    private static KeyPair takeFromPool(KeyPairGenerator generator) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        for (;;) {
+            long hits = NativePoolStatistics.getHitCount(POOL_NAME);
+            KeyPair keyPair = generator.generateKeyPair();
+            if (NativePoolStatistics.getHitCount(POOL_NAME) > hits) {
+                return keyPair;
+            }
+            assertTrue(System.nanoTime() < deadline, "No key pair taken from the pool");
+            Thread.sleep(10);
+        }
+    }
+
+    private static void awaitIdle(long count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (NativePoolStatistics.getIdleCount(POOL_NAME) < count) {
+            assertTrue(System.nanoTime() < deadline, "Pool not refilled");
+            Thread.sleep(10);
+        }
+    }
+}
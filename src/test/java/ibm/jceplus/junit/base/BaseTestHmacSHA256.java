@@ -1,5 +1,5 @@
 /*
- * Copyright IBM Corp. 2023, 2024
+ * Copyright IBM Corp. 2023, 2026
  *
  * This code is free software; you can redistribute it and/or modify it
  * under the terms provided by IBM in the LICENSE file that accompanied
@@ -409,6 +409,44 @@ public class BaseTestHmacSHA256 extends BaseTestJunit5 {
         assertTrue(Arrays.equals(digest2, digest_4), "Mac digest did not equal expected");
     }
 
+    @Test
+    public void test_reuse_matches_fresh_instance() throws Exception {
+        SecretKeySpec key = new SecretKeySpec(key_2, "HmacSHA256");
+        Mac mac = Mac.getInstance("HmacSHA256", getProviderName());
+        mac.init(key);
+        mac.update(data_3);
+        mac.doFinal();
+
+        // The instance is not initialized again after doFinal.
+        mac.update(data_2, 0, 10);
+        mac.update(data_2, 10, data_2.length - 10);
+        byte[] digest = mac.doFinal();
+        byte[] digest2 = mac.doFinal(data_1);
+
+        assertTrue(Arrays.equals(digest, freshMac(key, data_2)), "Mac digest did not equal fresh instance");
+        assertTrue(Arrays.equals(digest2, freshMac(key, data_1)), "Mac digest did not equal fresh instance");
+    }
+
+    @Test
+    public void test_reset_mid_message_matches_fresh_instance() throws Exception {
+        SecretKeySpec key = new SecretKeySpec(key_2, "HmacSHA256");
+        Mac mac = Mac.getInstance("HmacSHA256", getProviderName());
+        mac.init(key);
+        mac.update(data_3, 0, data_3.length / 2);
+        mac.reset();
+        mac.update(data_2);
+        byte[] digest = mac.doFinal();
+
+        assertTrue(Arrays.equals(digest, freshMac(key, data_2)), "Mac digest did not equal fresh instance");
+        assertTrue(Arrays.equals(digest, digest_2), "Mac digest did not equal expected");
+    }
+
+    private byte[] freshMac(SecretKeySpec key, byte[] data) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256", getProviderName());
+        mac.init(key);
+        return mac.doFinal(data);
+    }
+
     @Test
     public void test_mac_length() throws Exception {
         Mac mac = Mac.getInstance("HmacSHA256", getProviderName());
@@ -8,20 +8,26 @@
 
 package ibm.jceplus.junit.base;
 
+import com.ibm.crypto.plus.provider.MLKEMBatchEncapsulator;
 import java.security.InvalidKeyException;
 import java.security.KeyFactory;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.PrivateKey;
 import java.security.PublicKey;
+import java.security.Security;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
 import javax.crypto.KEM;
 import javax.crypto.SecretKey;
+import javax.security.auth.Destroyable;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -367,6 +373,48 @@ public class BaseTestKEM extends BaseTestJunit5 {
             "Generic ML-KEM should work with " + keyAlgorithm + " keys - secrets do not match");
     }
 
+    @ParameterizedTest
+    @CsvSource({"ML-KEM-512", "ML-KEM-768", "ML-KEM-1024"})
+    public void testKEMBatch(String Algorithm) throws Exception {
+        KeyPair pqcKeyPair = generateKeyPair(Algorithm);
+
+        MLKEMBatchEncapsulator encr = new MLKEMBatchEncapsulator(
+                Security.getProvider(getProviderName()), pqcKeyPair.getPublic());
+        KEM.Encapsulated[] batch = encr.encapsulate(5, 0, 32, "AES");
+        assertEquals(5, batch.length);
+
+        KEM.Decapsulator decr = KEM.getInstance(Algorithm, getProviderName())
+                .newDecapsulator(pqcKeyPair.getPrivate());
+        for (int i = 0; i < batch.length; i++) {
+            assertEquals(encr.encapsulationSize(), batch[i].encapsulation().length);
+            SecretKey keyD = decr.decapsulate(batch[i].encapsulation(), 0, 32, "AES");
+            assertArrayEquals(batch[i].key().getEncoded(), keyD.getEncoded(), "Secrets do NOT match");
+            if (i > 0) {
+                assertFalse(Arrays.equals(batch[i - 1].encapsulation(), batch[i].encapsulation()),
+                        "Encapsulations should differ");
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"ML-KEM-512", "ML-KEM-768", "ML-KEM-1024"})
+    public void testKEMEncapsulatorDestroyedKey(String Algorithm) throws Exception {
+        KeyPair pqcKeyPair = generateKeyPair(Algorithm);
+
+        KEM.Encapsulator encr = KEM.getInstance(Algorithm, getProviderName())
+                .newEncapsulator(pqcKeyPair.getPublic());
+        MLKEMBatchEncapsulator batchEncr = new MLKEMBatchEncapsulator(
+                Security.getProvider(getProviderName()), pqcKeyPair.getPublic());
+        encr.encapsulate();
+        batchEncr.encapsulate(2, 0, 32, "AES");
+
+        // An encapsulator must not use the native key once it has been freed.
+        pqcKeyPair.getPrivate().destroy();
+        ((Destroyable) pqcKeyPair.getPublic()).destroy();
+        assertThrows(IllegalStateException.class, () -> encr.encapsulate());
+        assertThrows(IllegalStateException.class, () -> batchEncr.encapsulate(2, 0, 32, "AES"));
+    }
+
     protected KeyPair generateKeyPair(String Algorithm) throws Exception {
         pqcKeyPairGen = KeyPairGenerator.getInstance(Algorithm, getProviderName());
 
@@ -0,0 +1,104 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms provided by IBM in the LICENSE file that accompanied
+ * this code, including the "Classpath" Exception described therein.
+ */
+
+package ibm.jceplus.junit.base;
+
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * RSA and EC public keys only create their native key when first used by an
+ * operation. Invalid EC points must still be rejected when the key is decoded,
+ * and threads using a new key for the first time at once must share a single
+ * native key.
+ */
+public class BaseTestLazyPublicKey extends BaseTestJunit5 {
+
+    private static final byte[] MESSAGE = "Public keys create their native key on first use".getBytes();
+
+    private static final int THREADS = 16;
+
+    @Test
+    public void testPointNotOnCurve() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC", getProviderName());
+        generator.initialize(256);
+        ECPublicKey publicKey = (ECPublicKey) generator.generateKeyPair().getPublic();
+        KeyFactory keyFactory = KeyFactory.getInstance("EC", getProviderName());
+
+        // The last byte of the encoding is the last byte of the y coordinate.
+        byte[] encoded = publicKey.getEncoded();
+        encoded[encoded.length - 1] ^= 1;
+        assertThrows(InvalidKeySpecException.class,
+                () -> keyFactory.generatePublic(new X509EncodedKeySpec(encoded)));
+
+        ECPoint w = publicKey.getW();
+        ECPoint offCurve = new ECPoint(w.getAffineX(), w.getAffineY().flipBit(0));
+        assertThrows(InvalidKeySpecException.class,
+                () -> keyFactory.generatePublic(new ECPublicKeySpec(offCurve, publicKey.getParams())));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"EC, 256, SHA256withECDSA", "RSA, 2048, SHA256withRSA"})
+    public void testConcurrentFirstUse(String keyAlgorithm, int keySize, String sigAlgorithm)
+            throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance(keyAlgorithm, getProviderName());
+        generator.initialize(keySize);
+        KeyPair keyPair = generator.generateKeyPair();
+
+        Signature signer = Signature.getInstance(sigAlgorithm, getProviderName());
+        signer.initSign(keyPair.getPrivate());
+        signer.update(MESSAGE);
+        byte[] signature = signer.sign();
+
+        // A decoded key has no native key until it is used.
+        PublicKey publicKey = KeyFactory.getInstance(keyAlgorithm, getProviderName())
+                .generatePublic(new X509EncodedKeySpec(keyPair.getPublic().getEncoded()));
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                Callable<Boolean> verify = () -> {
+                    Signature verifier = Signature.getInstance(sigAlgorithm, getProviderName());
+                    start.await();
+                    verifier.initVerify(publicKey);
+                    verifier.update(MESSAGE);
+                    return verifier.verify(signature);
+                };
+                results.add(executor.submit(verify));
+            }
+            start.countDown();
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get(), "Signature verification failed");
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms provided by IBM in the LICENSE file that accompanied
+ * this code, including the "Classpath" Exception described therein.
+ */
+
+package ibm.jceplus.junit.base;
+
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.X509EncodedKeySpec;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * Signatures computed with -Dopenjceplus.mldsa.streaming=true go through the
+ * external mu interface, and must verify in the default mode and with other
+ * providers, and the other way round. HashML-DSA always computes mu as the
+ * message is updated, and is checked against the interop provider.
+ */
+public class BaseTestMLDSAStreaming extends BaseTestJunit5Interop {
+
+    private static final String MLDSA_STREAMING = "openjceplus.mldsa.streaming";
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private static final byte[] message = new byte[(64 * 1024) + 7];
+
+    static {
+        for (int i = 0; i < message.length; i++) {
+            message[i] = (byte) i;
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"ML-DSA-44", "ML-DSA-65", "ML-DSA-87"})
+    public void testStreamingToDefault(String algorithm) throws Exception {
+        KeyPair keyPair = generateKeyPair(algorithm);
+
+        byte[] signature = sign(getInstance(algorithm, getProviderName(), true), keyPair.getPrivate());
+
+        assertTrue(verify(getInstance(algorithm, getProviderName(), false), keyPair.getPublic(), signature),
+                "Streaming signature did not verify in the default mode");
+        assertTrue(verify(getInstance(algorithm, getProviderName(), true), keyPair.getPublic(), signature),
+                "Streaming signature did not verify in the streaming mode");
+        assertFalse(verifyChanged(getInstance(algorithm, getProviderName(), true), keyPair.getPublic(), signature),
+                "Streaming signature of a different message verified");
+    }
+
+    @ParameterizedTest
+    @CsvSource({"ML-DSA-44", "ML-DSA-65", "ML-DSA-87"})
+    public void testDefaultToStreaming(String algorithm) throws Exception {
+        KeyPair keyPair = generateKeyPair(algorithm);
+
+        byte[] signature = sign(getInstance(algorithm, getProviderName(), false), keyPair.getPrivate());
+
+        assertTrue(verify(getInstance(algorithm, getProviderName(), true), keyPair.getPublic(), signature),
+                "Default signature did not verify in the streaming mode");
+        assertFalse(verifyChanged(getInstance(algorithm, getProviderName(), false), keyPair.getPublic(), signature),
+                "Default signature of a different message verified");
+    }
+
+    @ParameterizedTest
+    @CsvSource({"ML-DSA-44", "ML-DSA-65", "ML-DSA-87"})
+    public void testStreamingInterop(String algorithm) throws Exception {
+        KeyPair keyPair = generateKeyPair(algorithm);
+        PublicKey interopPublicKey = KeyFactory.getInstance(algorithm, getInteropProviderName2())
+                .generatePublic(new X509EncodedKeySpec(keyPair.getPublic().getEncoded()));
+
+        byte[] signature = sign(getInstance(algorithm, getProviderName(), true), keyPair.getPrivate());
+        assertTrue(verify(Signature.getInstance(algorithm, getInteropProviderName2()), interopPublicKey, signature),
+                "Streaming signature did not verify with " + getInteropProviderName2());
+
+        KeyPair interopKeyPair = KeyPairGenerator.getInstance(algorithm, getInteropProviderName2()).generateKeyPair();
+        PublicKey publicKey = KeyFactory.getInstance(algorithm, getProviderName())
+                .generatePublic(new X509EncodedKeySpec(interopKeyPair.getPublic().getEncoded()));
+
+        byte[] interopSignature = sign(Signature.getInstance(algorithm, getInteropProviderName2()),
+                interopKeyPair.getPrivate());
+        assertTrue(verify(getInstance(algorithm, getProviderName(), true), publicKey, interopSignature),
+                getInteropProviderName2() + " signature did not verify in the streaming mode");
+    }
+
+    @ParameterizedTest
+    @CsvSource({"HashML-DSA-44-with-SHA512, ML-DSA-44", "HashML-DSA-65-with-SHA512, ML-DSA-65",
+            "HashML-DSA-87-with-SHA512, ML-DSA-87"})
+    public void testHashMLDSAInterop(String sigAlgorithm, String keyAlgorithm) throws Exception {
+        KeyPair keyPair = generateKeyPair(keyAlgorithm);
+        PublicKey interopPublicKey = KeyFactory.getInstance(keyAlgorithm, getInteropProviderName())
+                .generatePublic(new X509EncodedKeySpec(keyPair.getPublic().getEncoded()));
+
+        byte[] signature = sign(Signature.getInstance(sigAlgorithm, getProviderName()), keyPair.getPrivate());
+        assertTrue(verify(Signature.getInstance("HASH-ML-DSA", getInteropProviderName()), interopPublicKey, signature),
+                sigAlgorithm + " signature did not verify with " + getInteropProviderName());
+
+        KeyPair interopKeyPair = KeyPairGenerator.getInstance(keyAlgorithm, getInteropProviderName())
+                .generateKeyPair();
+        PublicKey publicKey = KeyFactory.getInstance(keyAlgorithm, getProviderName())
+                .generatePublic(new X509EncodedKeySpec(interopKeyPair.getPublic().getEncoded()));
+
+        byte[] interopSignature = sign(Signature.getInstance("HASH-ML-DSA", getInteropProviderName()),
+                interopKeyPair.getPrivate());
+        assertTrue(verify(Signature.getInstance(sigAlgorithm, getProviderName()), publicKey, interopSignature),
+                getInteropProviderName() + " signature did not verify with " + sigAlgorithm);
+        assertFalse(verifyChanged(Signature.getInstance(sigAlgorithm, getProviderName()), publicKey,
+                interopSignature), getInteropProviderName() + " signature of a different message verified");
+    }
+
+    // The streaming mode is chosen when the signature object is created.
+    private Signature getInstance(String algorithm, String provider, boolean streaming) throws Exception {
+        System.setProperty(MLDSA_STREAMING, Boolean.toString(streaming));
+        try {
+            return Signature.getInstance(algorithm, provider);
+        } finally {
+            System.clearProperty(MLDSA_STREAMING);
+        }
+    }
+
+    private static byte[] sign(Signature signature, PrivateKey privateKey) throws Exception {
+        signature.initSign(privateKey);
+        update(signature, message);
+        return signature.sign();
+    }
+
+    private static boolean verify(Signature signature, PublicKey publicKey, byte[] signed) throws Exception {
+        signature.initVerify(publicKey);
+        update(signature, message);
+        return signature.verify(signed);
+    }
+
+    private static boolean verifyChanged(Signature signature, PublicKey publicKey, byte[] signed)
+            throws Exception {
+        byte[] changed = message.clone();
+        changed[changed.length - 1] ^= 1;
+        signature.initVerify(publicKey);
+        update(signature, changed);
+        return signature.verify(signed);
+    }
+
+    private static void update(Signature signature, byte[] data) throws Exception {
+        for (int offset = 0; offset < data.length; offset += CHUNK_SIZE) {
+            signature.update(data, offset, Math.min(CHUNK_SIZE, data.length - offset));
+        }
+    }
+
+    private KeyPair generateKeyPair(String algorithm) throws Exception {
+        return KeyPairGenerator.getInstance(algorithm, getProviderName()).generateKeyPair();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms provided by IBM in the LICENSE file that accompanied
+ * this code, including the "Classpath" Exception described therein.
+ */
+
+package ibm.jceplus.junit.base;
+
+import com.ibm.crypto.plus.provider.NativeResourceCounters;
+import java.security.InvalidKeyException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.ProviderException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.security.auth.Destroyable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BaseTestNativeKeyRelease extends BaseTestJunit5 {
+
+    private static final byte[] MESSAGE = "Destroyed keys release their native keys".getBytes();
+
+    @BeforeEach
+    public void enableStatistics() throws Exception {
+        BaseUtils.enableNativeResourceStatistics(getProviderName());
+    }
+
+    @Test
+    public void testDestroyKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC", getProviderName());
+        generator.initialize(256);
+        KeyPair keyPair = generator.generateKeyPair();
+
+        Signature signer = Signature.getInstance("SHA256withECDSA", getProviderName());
+        signer.initSign(keyPair.getPrivate());
+        signer.update(MESSAGE);
+        byte[] signature = signer.sign();
+
+        // The public key shares the native key of the private key, and must
+        // remain usable once the private key is destroyed.
+        keyPair.getPrivate().destroy();
+        assertTrue(keyPair.getPrivate().isDestroyed());
+
+        Signature verifier = Signature.getInstance("SHA256withECDSA", getProviderName());
+        verifier.initVerify(keyPair.getPublic());
+        verifier.update(MESSAGE);
+        assertTrue(verifier.verify(signature));
+
+        long released = NativeResourceCounters.getExplicitReleaseCount();
+        ((Destroyable) keyPair.getPublic()).destroy();
+        assertTrue(NativeResourceCounters.getExplicitReleaseCount() > released);
+    }
+
+    @Test
+    public void testCounters() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA", getProviderName());
+        generator.initialize(2048);
+        long registered = NativeResourceCounters.getRegisteredCount();
+        KeyPair keyPair = generator.generateKeyPair();
+        assertTrue(NativeResourceCounters.getRegisteredCount() > registered);
+        assertTrue(NativeResourceCounters.getLiveCount() > 0);
+        assertTrue(NativeResourceCounters.getLiveCounts().containsKey("RSAKey"));
+
+        long released = NativeResourceCounters.getExplicitReleaseCount();
+        keyPair.getPrivate().destroy();
+        ((Destroyable) keyPair.getPublic()).destroy();
+        assertTrue(NativeResourceCounters.getExplicitReleaseCount() > released);
+    }
+
+    @Test
+    public void testDestroyKeyInUse() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC", getProviderName());
+        generator.initialize(256);
+
+        for (int round = 0; round < 20; round++) {
+            KeyPair keyPair = generator.generateKeyPair();
+            PublicKey copy = KeyFactory.getInstance("EC", getProviderName())
+                    .generatePublic(new X509EncodedKeySpec(keyPair.getPublic().getEncoded()));
+
+            // Sign in another thread while the key pair is destroyed. Every signing
+            // either succeeds with the intact key or fails cleanly, and the native key
+            // is not freed while a signing is still using it.
+            CountDownLatch started = new CountDownLatch(1);
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            Future<List<byte[]>> signing = executor.submit(() -> {
+                List<byte[]> signatures = new ArrayList<>();
+                Signature signer = Signature.getInstance("SHA256withECDSA", getProviderName());
+                for (int i = 0; i < 200; i++) {
+                    try {
+                        signer.initSign(keyPair.getPrivate());
+                        signer.update(MESSAGE);
+                        signatures.add(signer.sign());
+                    } catch (InvalidKeyException | SignatureException | ProviderException
+                            | IllegalStateException e) {
+                        // The key was destroyed before this signing started.
+                    }
+                    started.countDown();
+                }
+                return signatures;
+            });
+
+            started.await();
+            keyPair.getPrivate().destroy();
+            ((Destroyable) keyPair.getPublic()).destroy();
+            List<byte[]> signatures = signing.get(1, TimeUnit.MINUTES);
+            executor.shutdown();
+
+            assertFalse(signatures.isEmpty());
+            Signature verifier = Signature.getInstance("SHA256withECDSA", getProviderName());
+            for (byte[] signature : signatures) {
+                verifier.initVerify(copy);
+                verifier.update(MESSAGE);
+                assertTrue(verifier.verify(signature));
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms provided by IBM in the LICENSE file that accompanied
+ * this code, including the "Classpath" Exception described therein.
+ */
+
+package ibm.jceplus.junit.base;
+
+import com.ibm.crypto.plus.provider.NativeResourceCounters;
+import com.ibm.crypto.plus.provider.base.NativePoolStatistics;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import javax.security.auth.Destroyable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BaseTestNativeResourceStatistics extends BaseTestJunit5 {
+
+    @BeforeEach
+    public void enableStatistics() throws Exception {
+        BaseUtils.enableNativeResourceStatistics(getProviderName());
+    }
+
+    /*
+     * The live count of the keys goes up as they are created and back down as
+     * they are destroyed. Cleaner threads releasing earlier keys can only make
+     * it go down further.
+     */
+    @Test
+    public void testLiveCount() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC", getProviderName());
+        generator.initialize(256);
+        KeyPair[] keyPairs = new KeyPair[10];
+        for (int i = 0; i < keyPairs.length; i++) {
+            keyPairs[i] = generator.generateKeyPair();
+        }
+        long live = liveCount("ECKey");
+        assertTrue(live >= keyPairs.length, "Live count " + live + " of ECKey");
+
+        long released = NativeResourceCounters.getExplicitReleaseCount();
+        for (KeyPair keyPair : keyPairs) {
+            keyPair.getPrivate().destroy();
+            ((Destroyable) keyPair.getPublic()).destroy();
+        }
+        assertTrue(liveCount("ECKey") <= live - keyPairs.length,
+                "Live count " + liveCount("ECKey") + " of ECKey after destroying the keys");
+        assertTrue(NativeResourceCounters.getExplicitReleaseCount() >= released + keyPairs.length);
+    }
+
+    @Test
+    public void testDigestPoolStatistics() throws Exception {
+        long requests = NativePoolStatistics.getHitCount("Digest")
+                + NativePoolStatistics.getMissCount("Digest");
+        for (int i = 0; i < 10; i++) {
+            MessageDigest md = MessageDigest.getInstance("SHA-256", getProviderName());
+            md.update(new byte[i]);
+            md.digest();
+        }
+        assertTrue(NativePoolStatistics.getPoolNames().contains("Digest"));
+        assertTrue(NativePoolStatistics.getHitCount("Digest")
+                + NativePoolStatistics.getMissCount("Digest") > requests);
+    }
+
+    @Test
+    public void testCleanerThreads() throws Exception {
+        MessageDigest.getInstance("SHA-256", getProviderName());
+        assertTrue(NativeResourceCounters.getCleanerThreadCount() > 0);
+        assertTrue(NativeResourceCounters.getCleanerTime() >= 0);
+    }
+
+    private static long liveCount(String type) {
+        return NativeResourceCounters.getLiveCounts().getOrDefault(type, 0L);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright IBM Corp. 2025
+ * Copyright IBM Corp. 2025, 2026
  *
  * This code is free software; you can redistribute it and/or modify it
  * under the terms provided by IBM in the LICENSE file that accompanied
@@ -13,10 +13,13 @@ import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.PrivateKey;
 import java.security.PublicKey;
+import java.security.Signature;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class BaseTestPQCSignature extends BaseTestJunit5Signature {
 
@@ -49,6 +52,53 @@ public class BaseTestPQCSignature extends BaseTestJunit5Signature {
         doSignVerify(Algorithm, origMsg, keyFactory.generatePrivate(privateKeySpec), keyFactory.generatePublic(publicKeySpec));
     }
 
+    @ParameterizedTest
+    @CsvSource({"HashML-DSA-44-with-SHA512, ML-DSA-44", "HashML-DSA-65-with-SHA512, ML-DSA-65",
+            "HashML-DSA-87-with-SHA512, ML-DSA-87", "2.16.840.1.101.3.4.3.32, ML-DSA-44"})
+    public void testHashMLDSASignature(String sigAlgorithm, String keyAlgorithm) throws Exception {
+
+        KeyPair keyPair = generateKeyPair(keyAlgorithm);
+        doSignVerify(sigAlgorithm, origMsg, keyPair.getPrivate(), keyPair.getPublic());
+    }
+
+    /*
+     * The message is given in many small updates, which are hashed as they
+     * arrive. The signature must not verify with the pure ML-DSA algorithm or
+     * with a different message.
+     */
+    @ParameterizedTest
+    @CsvSource({"HashML-DSA-44-with-SHA512, ML-DSA-44", "HashML-DSA-87-with-SHA512, ML-DSA-87"})
+    public void testHashMLDSAChunkedUpdate(String sigAlgorithm, String keyAlgorithm) throws Exception {
+        byte[] message = new byte[(1024 * 1024) + 3];
+        for (int i = 0; i < message.length; i++) {
+            message[i] = (byte) i;
+        }
+        KeyPair keyPair = generateKeyPair(keyAlgorithm);
+
+        Signature signing = Signature.getInstance(sigAlgorithm, getProviderName());
+        signing.initSign(keyPair.getPrivate());
+        int chunkSize = 4096;
+        for (int offset = 0; offset < message.length; offset += chunkSize) {
+            signing.update(message, offset, Math.min(chunkSize, message.length - offset));
+        }
+        byte[] signedBytes = signing.sign();
+
+        Signature verifying = Signature.getInstance(sigAlgorithm, getProviderName());
+        verifying.initVerify(keyPair.getPublic());
+        verifying.update(message);
+        assertTrue(verifying.verify(signedBytes), "Signature verification failed");
+
+        message[0] ^= 1;
+        verifying.update(message);
+        assertFalse(verifying.verify(signedBytes), "Signature of a different message verified");
+        message[0] ^= 1;
+
+        Signature pure = Signature.getInstance(keyAlgorithm, getProviderName());
+        pure.initVerify(keyPair.getPublic());
+        pure.update(message);
+        assertFalse(pure.verify(signedBytes), "HashML-DSA signature verified as ML-DSA");
+    }
+
     protected KeyPair generateKeyPair(String Algorithm) throws Exception {
         KeyPairGenerator pqcKeyPairGen = KeyPairGenerator.getInstance(Algorithm, getProviderName());
 
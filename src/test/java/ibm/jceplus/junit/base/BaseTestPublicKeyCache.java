@@ -0,0 +1,122 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms provided by IBM in the LICENSE file that accompanied
+ * this code, including the "Classpath" Exception described therein.
+ */
+
+package ibm.jceplus.junit.base;
+
+import com.ibm.crypto.plus.provider.base.PublicKeyCache;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.X509EncodedKeySpec;
+import javax.security.auth.Destroyable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/*
+ * Decoded public keys look up their native key in the cache when they are
+ * first used, so each test decodes a new key object to make a lookup.
+ */
+public class BaseTestPublicKeyCache extends BaseTestJunit5 {
+
+    private static final int CACHE_SIZE = 8;
+
+    private static final byte[] MESSAGE = "Equal public keys share a native key".getBytes();
+
+    private KeyPairGenerator generator;
+
+    @BeforeEach
+    public void enableCache() throws Exception {
+        BaseUtils.enablePublicKeyCache(getProviderName(), CACHE_SIZE);
+        generator = KeyPairGenerator.getInstance("EC", getProviderName());
+        generator.initialize(256);
+    }
+
+    @Test
+    public void testHitAndMiss() throws Exception {
+        byte[] encoded = generator.generateKeyPair().getPublic().getEncoded();
+
+        assertFalse(isCached(decode(encoded)), "New key found in the cache");
+        assertTrue(isCached(decode(encoded)), "Key not found in the cache");
+        assertTrue(isCached(decode(encoded)), "Key not found in the cache");
+    }
+
+    /*
+     * Equal keys share the native key of the cache, which stays usable when
+     * one of the keys is destroyed.
+     */
+    @Test
+    public void testSharedNativeKey() throws Exception {
+        KeyPair keyPair = generator.generateKeyPair();
+        Signature signer = Signature.getInstance("SHA256withECDSA", getProviderName());
+        signer.initSign(keyPair.getPrivate());
+        signer.update(MESSAGE);
+        byte[] signature = signer.sign();
+        byte[] encoded = keyPair.getPublic().getEncoded();
+
+        PublicKey first = decode(encoded);
+        PublicKey second = decode(encoded);
+        assertFalse(isCached(first), "New key found in the cache");
+        int size = PublicKeyCache.size();
+        assertTrue(isCached(second), "Equal key not found in the cache");
+        assertEquals(size, PublicKeyCache.size());
+
+        ((Destroyable) first).destroy();
+        assertTrue(verify(second, signature), "Signature verification failed");
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() throws Exception {
+        int maximumSize = PublicKeyCache.getMaximumSize();
+        // Larger caches are split into segments, which only evict keys of
+        // their own share of the encodings.
+        assumeTrue(maximumSize <= 64, "Cache of " + maximumSize + " keys");
+
+        byte[][] encoded = new byte[maximumSize + 1][];
+        for (int i = 0; i < encoded.length; i++) {
+            encoded[i] = generator.generateKeyPair().getPublic().getEncoded();
+        }
+        for (int i = 0; i < maximumSize; i++) {
+            assertFalse(isCached(decode(encoded[i])), "New key found in the cache");
+        }
+        assertEquals(maximumSize, PublicKeyCache.size());
+
+        // The first key becomes the most recently used, so that adding one more
+        // key evicts the second one.
+        assertTrue(isCached(decode(encoded[0])), "Key not found in the cache");
+        assertFalse(isCached(decode(encoded[maximumSize])), "New key found in the cache");
+        assertEquals(maximumSize, PublicKeyCache.size());
+
+        assertTrue(isCached(decode(encoded[0])), "Recently used key was evicted");
+        assertFalse(isCached(decode(encoded[1])), "Least recently used key was not evicted");
+    }
+
+    private PublicKey decode(byte[] encoded) throws Exception {
+        return KeyFactory.getInstance("EC", getProviderName())
+                .generatePublic(new X509EncodedKeySpec(encoded));
+    }
+
+    // Uses the key for the first time, which looks up its native key.
+    private boolean isCached(PublicKey publicKey) throws Exception {
+        long hits = PublicKeyCache.getHitCount();
+        Signature.getInstance("SHA256withECDSA", getProviderName()).initVerify(publicKey);
+        return PublicKeyCache.getHitCount() > hits;
+    }
+
+    private boolean verify(PublicKey publicKey, byte[] signature) throws Exception {
+        Signature verifier = Signature.getInstance("SHA256withECDSA", getProviderName());
+        verifier.initVerify(publicKey);
+        verifier.update(MESSAGE);
+        return verifier.verify(signature);
+    }
+}
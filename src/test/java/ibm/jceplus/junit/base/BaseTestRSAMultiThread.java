@@ -0,0 +1,83 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms provided by IBM in the LICENSE file that accompanied
+ * this code, including the "Classpath" Exception described therein.
+ */
+
+package ibm.jceplus.junit.base;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.crypto.Cipher;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public class BaseTestRSAMultiThread extends BaseTestJunit5 {
+
+    /*
+     * Many threads sign with the same private key at the same time, each
+     * using its own Signature object.
+     */
+    @ParameterizedTest
+    @CsvSource({"SHA256withRSA, 2048", "SHA384withRSA, 3072", "SHA512withRSA, 4096"})
+    protected void testParallelSign(String algo, int keySize) throws Exception {
+        BaseUtils.assertParallelSignVerify(getProviderName(), algo, generateKeyPair(keySize));
+    }
+
+    /*
+     * Many threads decrypt with the same private key at the same time, each
+     * using its own Cipher object.
+     */
+    @ParameterizedTest
+    @CsvSource({"RSA/ECB/OAEPWithSHA-256AndMGF1Padding, 2048",
+            "RSA/ECB/OAEPWithSHA-256AndMGF1Padding, 3072"})
+    protected void testParallelDecrypt(String transformation, int keySize) throws Exception {
+        KeyPair kp = generateKeyPair(keySize);
+
+        Cipher encrypter = Cipher.getInstance(transformation, getProviderName());
+        encrypter.init(Cipher.ENCRYPT_MODE, kp.getPublic());
+        List<byte[]> ciphertexts = new ArrayList<>();
+        for (int i = 0; i < BaseUtils.PARALLEL_TASKS; i++) {
+            ciphertexts.add(encrypter.doFinal(("message " + i).getBytes()));
+        }
+
+        ExecutorService executor = null;
+        try {
+            executor = Executors.newFixedThreadPool(BaseUtils.PARALLEL_THREADS);
+            List<Future<byte[]>> futures = new ArrayList<>();
+            for (int i = 0; i < BaseUtils.PARALLEL_TASKS; i++) {
+                final byte[] ciphertext = ciphertexts.get(i);
+                Callable<byte[]> task = () -> {
+                    Cipher decrypter = Cipher.getInstance(transformation, getProviderName());
+                    decrypter.init(Cipher.DECRYPT_MODE, kp.getPrivate());
+                    return decrypter.doFinal(ciphertext);
+                };
+                futures.add(executor.submit(task));
+            }
+
+            for (int i = 0; i < BaseUtils.PARALLEL_TASKS; i++) {
+                assertArrayEquals(("message " + i).getBytes(), futures.get(i).get(),
+                        "Decryption " + i + " did not match");
+            }
+        } finally {
+            if (executor != null) {
+                executor.shutdown();
+            }
+        }
+    }
+
+    private KeyPair generateKeyPair(int keySize) throws Exception {
+        KeyPairGenerator kpg = KeyPairGenerator.getInstance("RSA", getProviderName());
+        kpg.initialize(keySize);
+        return kpg.generateKeyPair();
+    }
+}
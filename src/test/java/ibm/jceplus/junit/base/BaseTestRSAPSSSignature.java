@@ -1,5 +1,5 @@
 /*
- * Copyright IBM Corp. 2023, 2024
+ * Copyright IBM Corp. 2023, 2026
  *
  * This code is free software; you can redistribute it and/or modify it
  * under the terms provided by IBM in the LICENSE file that accompanied
@@ -54,6 +54,7 @@ import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import sun.security.x509.X500Name;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class BaseTestRSAPSSSignature extends BaseTestJunit5Signature {
@@ -344,6 +345,78 @@ public class BaseTestRSAPSSSignature extends BaseTestJunit5Signature {
         }
     }
 
+    /**
+     * Set the same and different parameters over and over on the same
+     * signature, as done by TLS for each handshake signature.
+     * @throws Exception
+     */
+    @Test
+    public void testRSASignatureRepeatedParameters() throws Exception {
+        KeyPairGenerator keyGen = KeyPairGenerator.getInstance("RSA", getProviderName());
+        keyGen.initialize(2048);
+        KeyPair keyPair = keyGen.genKeyPair();
+        PSSParameterSpec specSHA512 = new PSSParameterSpec("SHA-512", "MGF1",
+                MGF1ParameterSpec.SHA512, 64, 1);
+        PSSParameterSpec[] specs = {specSHA256Salt20, specSHA256Salt20, specSHA256Salt40,
+                specSHA512, specSHA256Salt20};
+
+        Signature signer = Signature.getInstance(IBM_ALG, getProviderName());
+        Signature verifier = Signature.getInstance(IBM_ALG, getProviderName());
+        for (PSSParameterSpec spec : specs) {
+            signer.setParameter(spec);
+            signer.initSign(keyPair.getPrivate());
+            signer.update(content1);
+            byte[] sigBytes = signer.sign();
+
+            verifier.setParameter(spec);
+            verifier.initVerify(keyPair.getPublic());
+            verifier.update(content1);
+            assertTrue(verifier.verify(sigBytes), "Signature verification failed");
+        }
+    }
+
+    /**
+     * A native context that goes back to the pool when the parameters of a
+     * signature change is reused by the next signature with the same digests,
+     * which must sign with its own key and not with the key of the previous one.
+     * @throws Exception
+     */
+    @Test
+    public void testRSASignaturePooledContextNewKey() throws Exception {
+        KeyPairGenerator keyGen = KeyPairGenerator.getInstance("RSA", getProviderName());
+        keyGen.initialize(2048);
+        KeyPair keyPairA = keyGen.genKeyPair();
+        KeyPair keyPairB = keyGen.genKeyPair();
+        PSSParameterSpec specSHA384 = new PSSParameterSpec("SHA-384", "MGF1",
+                MGF1ParameterSpec.SHA384, 48, 1);
+
+        for (int i = 0; i < 10; i++) {
+            Signature signerA = Signature.getInstance(IBM_ALG, getProviderName());
+            signerA.setParameter(specSHA384);
+            signerA.initSign(keyPairA.getPrivate());
+            signerA.update(content1);
+            signerA.sign();
+            // Hands the SHA-384 context back to the pool.
+            signerA.setParameter(specSHA256Salt20);
+
+            Signature signerB = Signature.getInstance(IBM_ALG, getProviderName());
+            signerB.setParameter(specSHA384);
+            signerB.initSign(keyPairB.getPrivate());
+            signerB.update(content1);
+            byte[] sigBytes = signerB.sign();
+
+            Signature verifier = Signature.getInstance(IBM_ALG, getProviderName());
+            verifier.setParameter(specSHA384);
+            verifier.initVerify(keyPairB.getPublic());
+            verifier.update(content1);
+            assertTrue(verifier.verify(sigBytes), "Signature verification failed");
+
+            verifier.initVerify(keyPairA.getPublic());
+            verifier.update(content1);
+            assertFalse(verifier.verify(sigBytes), "Signature made with the previous key");
+        }
+    }
+
     /**
      * SHA256
      * @throws Exception
@@ -0,0 +1,65 @@
+/*
+ * Copyright IBM Corp. 2026
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms provided by IBM in the LICENSE file that accompanied
+ * this code, including the "Classpath" Exception described therein.
+ */
+
+package ibm.jceplus.junit.base;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import sun.security.internal.spec.TlsPrfParameterSpec;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public class BaseTestTls12Prf extends BaseTestJunit5 {
+
+    private static final String LABEL = "test label";
+
+    /*
+     * Compares the TLS 1.2 PRF, which the provider computes natively for these
+     * hashes, with the one of the SunJCE provider. The secret lengths cover an
+     * empty secret and one longer than the HMAC block, and the output lengths
+     * cover a part of one PRF block as well as several blocks.
+     */
+    @ParameterizedTest
+    @CsvSource({"SHA-256, 32, 64", "SHA-384, 48, 128", "SHA-512, 64, 128"})
+    public void testTls12PrfMatchesSunJCE(String prfHash, int prfHashLength, int prfBlockSize)
+            throws Exception {
+        int[] secretLengths = {0, 1, 48, prfBlockSize + 1};
+        int[] outputLengths = {12, prfHashLength, prfHashLength + 1, 104, 257};
+        byte[] seed = new byte[64];
+        for (int i = 0; i < seed.length; i++) {
+            seed[i] = (byte) (i * 3);
+        }
+
+        for (int secretLength : secretLengths) {
+            SecretKey secret = null;
+            if (secretLength > 0) {
+                byte[] secretBytes = new byte[secretLength];
+                for (int i = 0; i < secretLength; i++) {
+                    secretBytes[i] = (byte) (i + secretLength);
+                }
+                secret = new SecretKeySpec(secretBytes, "TlsMasterSecret");
+            }
+            for (int outputLength : outputLengths) {
+                TlsPrfParameterSpec spec = new TlsPrfParameterSpec(secret, LABEL, seed,
+                        outputLength, prfHash, prfHashLength, prfBlockSize);
+                assertArrayEquals(generate("SunJCE", spec), generate(getProviderName(), spec),
+                        "PRF output differs for " + prfHash + ", secret length " + secretLength
+                                + " and output length " + outputLength);
+            }
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    private static byte[] generate(String provider, TlsPrfParameterSpec spec) throws Exception {
+        KeyGenerator generator = KeyGenerator.getInstance("SunTls12Prf", provider);
+        generator.init(spec);
+        return generator.generateKey().getEncoded();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright IBM Corp. 2023, 2024
+ * Copyright IBM Corp. 2023, 2026
  *
  * This code is free software; you can redistribute it and/or modify it
  * under the terms provided by IBM in the LICENSE file that accompanied
@@ -8,6 +8,7 @@
 
 package ibm.jceplus.junit.base;
 
+import java.security.KeyAgreement;
 import java.security.KeyFactory;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
@@ -18,10 +19,18 @@ import java.security.spec.EncodedKeySpec;
 import java.security.spec.NamedParameterSpec;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.jupiter.api.Test;
 import sun.security.util.InternalPrivateKey;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 public class BaseTestXDHInterop extends BaseTestJunit5Interop {
 
@@ -112,6 +121,70 @@ public class BaseTestXDHInterop extends BaseTestJunit5Interop {
         buildOpenJCEPlusKeys("X25519", kp.getPublic().getEncoded(), kp.getPrivate().getEncoded(), getProviderName());
     }
 
+    @Test
+    public void testTranslatedPublicKeyReuse() throws Exception {
+        KeyPair own = generateKeyPair("X25519", getProviderName());
+        KeyPair foreign = generateKeyPair("X25519", getInteropProviderName());
+        KeyPair otherForeign = generateKeyPair("X25519", getInteropProviderName());
+
+        byte[] expected = agree(foreign.getPrivate(), own.getPublic(), getInteropProviderName());
+        byte[] otherExpected = agree(otherForeign.getPrivate(), own.getPublic(),
+                getInteropProviderName());
+        assertFalse(Arrays.equals(expected, otherExpected));
+
+        // The same foreign public key, and one decoded again from its encoding,
+        // must keep agreeing on the same secret while alternating with another.
+        KeyFactory keyFactory = KeyFactory.getInstance("XDH", getInteropProviderName());
+        PublicKey decoded = keyFactory.generatePublic(
+                new X509EncodedKeySpec(foreign.getPublic().getEncoded()));
+        for (int i = 0; i < 10; i++) {
+            assertArrayEquals(expected, agree(own.getPrivate(), foreign.getPublic(), getProviderName()));
+            assertArrayEquals(otherExpected,
+                    agree(own.getPrivate(), otherForeign.getPublic(), getProviderName()));
+            assertArrayEquals(expected, agree(own.getPrivate(), decoded, getProviderName()));
+        }
+    }
+
+    @Test
+    public void testTranslatedPublicKeyConcurrentUse() throws Exception {
+        KeyPair foreign = generateKeyPair("X25519", getInteropProviderName());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                Callable<Void> task = () -> {
+                    for (int j = 0; j < 25; j++) {
+                        KeyPair own = generateKeyPair("X25519", getProviderName());
+                        assertArrayEquals(
+                                agree(foreign.getPrivate(), own.getPublic(), getInteropProviderName()),
+                                agree(own.getPrivate(), foreign.getPublic(), getProviderName()));
+                    }
+                    return null;
+                };
+                futures.add(executor.submit(task));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static KeyPair generateKeyPair(String curve, String provider) throws Exception {
+        KeyPairGenerator kpg = KeyPairGenerator.getInstance("XDH", provider);
+        kpg.initialize(new NamedParameterSpec(curve));
+        return kpg.generateKeyPair();
+    }
+
+    private static byte[] agree(PrivateKey privateKey, PublicKey publicKey, String provider)
+            throws Exception {
+        KeyAgreement keyAgreement = KeyAgreement.getInstance("XDH", provider);
+        keyAgreement.init(privateKey);
+        keyAgreement.doPhase(publicKey, true);
+        return keyAgreement.generateSecret();
+    }
+
     void buildOpenJCEPlusKeys(String idString, byte[] publicKeyBytes, byte[] privateKeyBytes,
             String provider) throws Exception {
         //final String methodName = "buildOpenJCEPlusKeys" + "_" + idString;
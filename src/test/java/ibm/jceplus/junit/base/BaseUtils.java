@@ -1,5 +1,5 @@
 /*
- * Copyright IBM Corp. 2023, 2024
+ * Copyright IBM Corp. 2023, 2026
  *
  * This code is free software; you can redistribute it and/or modify it
  * under the terms provided by IBM in the LICENSE file that accompanied
@@ -8,10 +8,20 @@
 
 package ibm.jceplus.junit.base;
 
+import com.ibm.crypto.plus.provider.NativeResourceCounters;
+import com.ibm.crypto.plus.provider.base.PublicKeyCache;
+import java.security.KeyPair;
 import java.security.Provider;
+import java.security.Signature;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 abstract public class BaseUtils {
 
@@ -86,6 +96,96 @@ abstract public class BaseUtils {
     }
 
 
+    /**
+     * Starts counting the objects holding native resources, by creating a new
+     * instance of the named provider with the
+     * openjceplus.nativeResources.monitor system property set. Objects created
+     * before are not counted.
+     */
+    public static void enableNativeResourceStatistics(String providerName) throws Exception {
+        if (!NativeResourceCounters.isEnabled()) {
+            createProviderWithProperty(providerName, "openjceplus.nativeResources.monitor", "true");
+        }
+    }
+
+
+    /**
+     * Enables the public key cache with the given size, by creating a new
+     * instance of the named provider with the openjceplus.publicKeyCache.size
+     * system property set. The cache keeps its size if it is already enabled.
+     */
+    public static void enablePublicKeyCache(String providerName, int size) throws Exception {
+        if (PublicKeyCache.getMaximumSize() == 0) {
+            createProviderWithProperty(providerName, "openjceplus.publicKeyCache.size",
+                    String.valueOf(size));
+        }
+    }
+
+
+    /**
+     * Enables the pools of ephemeral key pairs with the given size and the
+     * default algorithms, by creating a new instance of the named provider with
+     * the openjceplus.ephemeralKeyPool.size system property set. The pools keep
+     * their size if they are already enabled.
+     */
+    public static void enableEphemeralKeyPool(String providerName, int size) throws Exception {
+        createProviderWithProperty(providerName, "openjceplus.ephemeralKeyPool.size",
+                String.valueOf(size));
+    }
+
+
+    // Number of tasks, and of threads running them, of the multi-thread tests.
+    static final int PARALLEL_TASKS = 100;
+    static final int PARALLEL_THREADS = 20;
+
+    /**
+     * Signs different messages with the same private key from many threads at
+     * the same time, each using its own Signature object, and checks that every
+     * signature verifies with the public key.
+     */
+    public static void assertParallelSignVerify(String providerName, String algorithm,
+            KeyPair keyPair) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(PARALLEL_THREADS);
+        try {
+            List<Future<byte[]>> futures = new ArrayList<>();
+            for (int i = 0; i < PARALLEL_TASKS; i++) {
+                final byte[] message = ("message " + i).getBytes();
+                Callable<byte[]> task = () -> {
+                    Signature signer = Signature.getInstance(algorithm, providerName);
+                    signer.initSign(keyPair.getPrivate());
+                    signer.update(message);
+                    return signer.sign();
+                };
+                futures.add(executor.submit(task));
+            }
+
+            Signature verifier = Signature.getInstance(algorithm, providerName);
+            for (int i = 0; i < PARALLEL_TASKS; i++) {
+                verifier.initVerify(keyPair.getPublic());
+                verifier.update(("message " + i).getBytes());
+                assertTrue(verifier.verify(futures.get(i).get()), "Signature " + i + " did not verify");
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+
+    private static void createProviderWithProperty(String providerName, String property,
+            String value) throws Exception {
+        String previous = System.setProperty(property, value);
+        try {
+            java.security.Security.getProvider(providerName).getClass().getDeclaredConstructor().newInstance();
+        } finally {
+            if (previous == null) {
+                System.clearProperty(property);
+            } else {
+                System.setProperty(property, previous);
+            }
+        }
+    }
+
+
     public static Provider loadProviderBC() throws Exception {
         return loadProvider(PROVIDER_BC, "org.bouncycastle.jce.provider.BouncyCastleProvider");
     }
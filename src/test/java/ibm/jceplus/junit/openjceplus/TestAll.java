@@ -17,6 +17,7 @@ import org.junit.platform.suite.api.Suite;
     TestAESCCMParameters.class,
     TestAESGCM_ExtIV.class,
     TestAESGCM_IntIV.class,
+    TestAESGCMBatch.class,
     TestAESGCMBufferIV.class,
     TestAESGCMUpdate.class,
     TestAESGCMUpdateInteropBC.class,
@@ -24,6 +25,7 @@ import org.junit.platform.suite.api.Suite;
     TestAliases.class,
     TestAttributes.class,
     TestByteArrayOutputDelay.class,
+    TestCryptoOperationEvent.class,
     TestDeterministic.class,
     TestDH.class,
     TestDHInteropSunJCE.class,
@@ -44,6 +46,7 @@ import org.junit.platform.suite.api.Suite;
     TestECKeyPairGenerator.class,
     TestEdDSASignature.class,
     TestEdDSASignatureInterop.class,
+    TestEphemeralKeyPairPool.class,
     TestHKDF.class,
     TestHKDFInterop.class,
     TestHmacSHA1.class,
@@ -62,6 +65,10 @@ import org.junit.platform.suite.api.Suite;
     TestIsAssignableFromOrder.class,
     TestKeyEncodings.class,
     TestKeySerialization.class,
+    TestLazyPublicKey.class,
+    TestMLDSAStreaming.class,
+    TestNativeKeyRelease.class,
+    TestNativeResourceStatistics.class,
     TestOAEPOrderCheck.class,
     TestPBEKeyFactory.class,
     TestPBEKeyFactoryInterop.class,
@@ -76,6 +83,7 @@ import org.junit.platform.suite.api.Suite;
     TestPQCKeys.class,
     TestPQCKeystore.class,
     TestPQCSignatures.class,
+    TestPublicKeyCache.class,
     TestPublicMethodsToMakeNonPublic.class,
     TestResetByteBuffer.class,
     TestRSACipherInterop.class,
@@ -92,6 +100,7 @@ import org.junit.platform.suite.api.Suite;
     TestRSASignatureInteropSunRsaSign.class,
     TestRSATypeCheckDefault.class,
     TestRSATypeCheckEnabled.class,
+    TestTls12Prf.class,
     TestXDH.class,
     TestXDHInterop.class,
     TestXDHInteropBC.class,
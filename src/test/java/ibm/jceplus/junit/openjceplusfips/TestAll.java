@@ -17,11 +17,13 @@ import org.junit.platform.suite.api.Suite;
     TestAESCCMParameters.class,
     TestAESGCM_ExtIV.class,
     TestAESGCM_IntIV.class,
+    TestAESGCMBatch.class,
     TestAESGCMBufferIV.class,
     TestAESGCMUpdate.class,
     TestAESKeyWrap.class,
     TestAliases.class,
     TestAttributes.class,
+    TestCryptoOperationEvent.class,
     TestDeterministic.class,
     TestDH.class,
     TestDHInteropSunJCE.class,
@@ -37,6 +39,7 @@ import org.junit.platform.suite.api.Suite;
     TestECKeyImport.class,
     TestECKeyImportInteropSunEC.class,
     TestECKeyPairGenerator.class,
+    TestEphemeralKeyPairPool.class,
     TestFIPSVerifyOnlyTest.class,
     TestHKDF.class,
     TestHKDFInterop.class,
@@ -53,8 +56,12 @@ import org.junit.platform.suite.api.Suite;
     TestInvalidArrayIndex.class,
     TestKeyEncodings.class,
     TestKeySerialization.class,
+    TestLazyPublicKey.class,
+    TestNativeKeyRelease.class,
+    TestNativeResourceStatistics.class,
     TestPBKDF2.class,
     TestPBKDF2Interop.class,
+    TestPublicKeyCache.class,
     TestPublicMethodsToMakeNonPublic.class,
     TestResetByteBuffer.class,
     TestRSACipherInterop.class,
@@ -70,6 +77,7 @@ import org.junit.platform.suite.api.Suite;
     TestRSASignatureInteropSunRsaSign.class,
     TestRSASignatureWithSpecificSize.class,
     TestRSATypeCheckDefault.class,
+    TestTls12Prf.class,
 })
 
 @Suite
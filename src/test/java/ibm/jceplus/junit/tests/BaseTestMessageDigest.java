@@ -8,6 +8,7 @@
 
 package ibm.jceplus.junit.tests;
 
+import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import java.util.Arrays;
 import org.junit.jupiter.api.Test;
@@ -130,4 +131,30 @@ abstract public class BaseTestMessageDigest extends BaseTest {
             assertEquals("Input buffer too short", e.getMessage());
         }
     }
+
+    /**
+     * Ensure updates from direct and heap buffers, small and large, produce
+     * the same digest as updates from an array.
+     */
+    @Test
+    public void testByteBufferUpdate() throws Exception {
+        MessageDigest md = MessageDigest.getInstance(getAlgorithm(), getProviderName());
+        for (int size : new int[] {1, 56, 512, 513, 8192}) {
+            byte[] bytes = new byte[size];
+            for (int i = 0; i < size; i++) {
+                bytes[i] = (byte) i;
+            }
+            byte[] expected = md.digest(bytes);
+
+            ByteBuffer direct = ByteBuffer.allocateDirect(size + 2);
+            direct.put((byte) 0xFF).put(bytes).put((byte) 0xFF);
+            direct.position(1).limit(size + 1);
+            md.update(direct);
+            assertEquals(size + 1, direct.position());
+            assertArrayEquals(expected, md.digest(), "Digest of direct buffer did not match");
+
+            md.update(ByteBuffer.wrap(bytes));
+            assertArrayEquals(expected, md.digest(), "Digest of heap buffer did not match");
+        }
+    }
 }
@@ -24,6 +24,9 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.params.Parameter;
 import org.junit.jupiter.params.ParameterizedClass;
 import org.junit.jupiter.params.provider.MethodSource;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @Tag(Tags.OPENJCEPLUS_NAME)
@@ -97,6 +100,72 @@ public class TestAESGCMWithByteBuffer extends BaseTest {
         assertTrue(true);
     }
 
+    @Test
+    public void testAESGCMDirectByteBufferDoFinal() throws Exception {
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding", getProviderName());
+        int tagLen = 128; // in bits
+        byte[] keyBytes = new byte[32];
+        random.nextBytes(keyBytes);
+        byte[] iv = new byte[12];
+        byte[] aad = new byte[20];
+        random.nextBytes(aad);
+        SecretKey key = new SecretKeySpec(keyBytes, "AES");
+
+        // Sizes on both sides of the internal native staging buffer size
+        for (int size : new int[] {0, 1, 200, dataSize, 3 * dataSize + 5}) {
+            random.nextBytes(iv);
+            GCMParameterSpec spec = new GCMParameterSpec(tagLen, iv);
+            byte[] plain = new byte[size];
+            random.nextBytes(plain);
+
+            cipher.init(Cipher.ENCRYPT_MODE, key, spec);
+            cipher.updateAAD(aad);
+            byte[] expected = cipher.doFinal(plain);
+
+            // direct to direct
+            ByteBuffer in = ByteBuffer.allocateDirect(size);
+            in.put(plain).flip();
+            ByteBuffer out = ByteBuffer.allocateDirect(expected.length + 7);
+            out.position(7);
+            // re-initializing with the previous key and iv is rejected, so go through another iv
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(tagLen, new byte[12]));
+            cipher.init(Cipher.ENCRYPT_MODE, key, spec);
+            cipher.updateAAD(aad);
+            assertEquals(expected.length, cipher.doFinal(in, out));
+            assertEquals(0, in.remaining());
+            assertEquals(out.capacity(), out.position());
+            byte[] actual = new byte[expected.length];
+            out.position(7);
+            out.get(actual);
+            assertArrayEquals(expected, actual);
+
+            // in place decryption using a duplicate of the same direct buffer
+            ByteBuffer buf = ByteBuffer.allocateDirect(expected.length);
+            buf.put(expected).flip();
+            ByteBuffer dst = buf.duplicate();
+            cipher.init(Cipher.DECRYPT_MODE, key, spec);
+            cipher.updateAAD(aad);
+            assertEquals(size, cipher.doFinal(buf, dst));
+            byte[] decrypted = new byte[size];
+            dst.flip();
+            dst.get(decrypted);
+            assertArrayEquals(plain, decrypted);
+
+            // a corrupted tag must fail and leave no plaintext behind
+            in = ByteBuffer.allocateDirect(expected.length);
+            expected[expected.length - 1] ^= 1;
+            in.put(expected).flip();
+            ByteBuffer failedOut = ByteBuffer.allocateDirect(Math.max(size, 1));
+            cipher.init(Cipher.DECRYPT_MODE, key, spec);
+            cipher.updateAAD(aad);
+            final ByteBuffer failedIn = in;
+            assertThrows(AEADBadTagException.class, () -> cipher.doFinal(failedIn, failedOut));
+            for (int i = 0; i < size; i++) {
+                assertEquals(0, failedOut.get(i));
+            }
+        }
+    }
+
     //    private enum VariantTest {
     //        HEAP_HEAP, HEAP_DIRECT, DIRECT_HEAP, DIRECT_DIRECT
     //    };